@@ -0,0 +1,44 @@
+/**
+ * [Source.Bench] BenchExecutor.java
+ */
+package net.otchitta.utilities.rdb;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 計測実行クラスです。
+ * <p>
+ * 全ての計測をGCプロファイラ付で実行し、処理量と割当量を出力します。
+ * 引数はJMHのコマンドライン引数をそのまま指定できます。
+ * </p>
+ * <pre>
+ * BenchExecutor RecordDataBench.invokeList -p rowSize=100000 -p typeMix=NVARCHAR
+ * </pre>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class BenchExecutor {
+	// ===================================================================
+	// 実行メソッド定義
+	// ===================================================================
+	/**
+	 * 計測処理を実行します。
+	 * 
+	 * @param commands コマンドライン引数
+	 * @throws CommandLineOptionException 引数が不正な場合
+	 * @throws RunnerException 計測処理に失敗した場合
+	 */
+	public static void main(String[] commands) throws CommandLineOptionException, RunnerException {
+		var choose = new CommandLineOptions(commands);
+		var values = new OptionsBuilder().parent(choose).addProfiler(GCProfiler.class);
+		if (choose.getIncludes().isEmpty()) values.include("net\\.otchitta\\.utilities\\.rdb\\..*Bench");
+		new Runner(values.build()).run();
+	}
+}
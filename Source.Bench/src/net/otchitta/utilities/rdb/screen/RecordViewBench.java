@@ -0,0 +1,115 @@
+/**
+ * [Source.Bench] RecordViewBench.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.otchitta.utilities.rdb.source.RecordDataModel;
+import net.otchitta.utilities.rdb.source.ResultDataModel;
+
+/**
+ * 要素画面計測クラスです。
+ * <p>
+ * 画面モデルへ要素情報を追加する処理を計測します。
+ * 一回の計測単位は要素情報一件の追加です。
+ * 格納先は計測単位の一括分毎に計測外で破棄し、反復中に格納先が際限なく増えないようにします。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RecordViewBench {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 要素個数(事前生成) */
+	private static final int RECORD_SIZE = 4_096;
+	/** 一括個数(格納先の破棄間隔) */
+	private static final int BATCH_SIZE = 65_536;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 列個数 */
+	@Param({"8", "32"})
+	public int columnSize;
+	/** 型構成 */
+	@Param({"INT,BIGINT,NVARCHAR,DATETIME2", "NVARCHAR"})
+	public String typeMix;
+	/** 要素一覧 */
+	private RecordDataModel[] recordList;
+	/** 画面モデル */
+	private RecordViewModel viewModel;
+
+	// ===================================================================
+	// 準備メソッド定義
+	// ===================================================================
+	/**
+	 * 要素一覧を準備します。
+	 * 
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial() throws SQLException {
+		var source = ResultDataModel.createData(String.format("jdbc:synthetic:rows=%d;columns=%s;count=%d", Integer.valueOf(RECORD_SIZE), this.typeMix, Integer.valueOf(this.columnSize)), "SELECT");
+		this.recordList = new RecordDataModel[source.getRecordSize()];
+		for (var index = 0; index < this.recordList.length; index ++) {
+			this.recordList[index] = source.getRecordData(index);
+		}
+		this.viewModel = new RecordViewModel();
+	}
+	/**
+	 * 格納先を破棄します。
+	 */
+	@Setup(Level.Invocation)
+	public void setupInvocation() {
+		this.viewModel.removeRecordList();
+	}
+	/**
+	 * 画面モデルを解放します。
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		this.viewModel.removeRecordList();
+	}
+
+	// ===================================================================
+	// 計測メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を一括個数分追加します。
+	 * 
+	 * @see RecordViewModel#registRecordData(RecordDataModel)
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void registRecordData() {
+		for (var index = 0; index < BATCH_SIZE; index ++) {
+			this.viewModel.registRecordData(this.recordList[index & (RECORD_SIZE - 1)]);
+		}
+	}
+}
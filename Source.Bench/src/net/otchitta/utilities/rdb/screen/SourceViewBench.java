@@ -0,0 +1,120 @@
+/**
+ * [Source.Bench] SourceViewBench.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.awt.Component;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.otchitta.utilities.rdb.source.ResultDataModel;
+import net.otchitta.utilities.rdb.source.SourceTextModel;
+
+/**
+ * 要素描画計測クラスです。
+ * <p>
+ * 一覧画面が要素毎に描画情報を準備する処理を計測します。
+ * 一回の計測単位は一要素の描画準備です。
+ * 表示文字を保持する場合({@code cacheFlag=true})、{@code gc.alloc.rate.norm}は0となります。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SourceViewBench {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 要素個数(事前生成) */
+	private static final int RECORD_SIZE = 4_096;
+	/** 選択間隔(行数) */
+	private static final int SELECT_SIZE = 16;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 列個数 */
+	@Param({"8"})
+	public int columnSize;
+	/** 型構成 */
+	@Param({"INT,BIGINT,NVARCHAR,DATETIME2", "TINYINT,INT,BIGINT", "DECIMAL,FLOAT,DATETIME2"})
+	public String typeMix;
+	/** 保持状態 */
+	@Param({"true", "false"})
+	public boolean cacheFlag;
+	/** 画面情報 */
+	private JTable screen;
+	/** 行番号 */
+	private int record;
+	/** 列番号 */
+	private int column;
+
+	// ===================================================================
+	// 準備メソッド定義
+	// ===================================================================
+	/**
+	 * 画面情報を準備します。
+	 * 
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial() throws SQLException {
+		SourceTextModel.setCacheFlag(this.cacheFlag);
+		var source = ResultDataModel.createData(String.format("jdbc:synthetic:rows=%d;columns=%s;count=%d", Integer.valueOf(RECORD_SIZE), this.typeMix, Integer.valueOf(this.columnSize)), "SELECT");
+		var records = new RecordViewModel();
+		var columns = new ColumnViewModel();
+		columns.setColumnList(source.getColumnList());
+		for (var index = 0; index < source.getRecordSize(); index ++) {
+			var choose = source.getRecordData(index);
+			if (this.cacheFlag) choose.createText();
+			records.registRecordData(choose);
+		}
+		this.screen = new JTable(records, columns);
+		for (var index = 0; index < RECORD_SIZE; index += SELECT_SIZE) {
+			this.screen.addRowSelectionInterval(index, index);
+		}
+		this.record = 0;
+		this.column = 0;
+	}
+
+	// ===================================================================
+	// 計測メソッド定義
+	// ===================================================================
+	/**
+	 * 一要素の描画情報を準備します。
+	 * 
+	 * @return 描画情報
+	 * @see SourceViewFrame#getTableCellRendererComponent(JTable, Object, boolean, boolean, int, int)
+	 */
+	@Benchmark
+	public Component prepareRenderer() {
+		var choose = this.screen.prepareRenderer(this.screen.getCellRenderer(this.record, this.column), this.record, this.column);
+		if (++ this.column == this.columnSize) {
+			this.column = 0;
+			this.record = (this.record + 1) & (RECORD_SIZE - 1);
+		}
+		return choose;
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * [Source.Bench] RecordDataBench.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 要素読込計測クラスです。
+ * <p>
+ * 結果セットから要素情報を生成する処理を計測します。
+ * 一回の計測単位は結果セット一件分の読込です。
+ * 結果セットは{@code jdbc:synthetic:}の合成接続で生成し、値の生成負荷も計測に含みます。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordDataBench {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 要素個数 */
+	@Param({"10000", "100000"})
+	public int rowSize;
+	/** 列個数 */
+	@Param({"8", "32"})
+	public int columnSize;
+	/** 型構成 */
+	@Param({"INT,BIGINT,NVARCHAR,DATETIME2", "NVARCHAR", "TINYINT,INT,BIGINT", "DECIMAL,FLOAT,DATETIME2"})
+	public String typeMix;
+	/** 接続引数 */
+	private String parameter;
+	/** 接続情報 */
+	private Connection connection;
+	/** 実行情報 */
+	private Statement statement;
+	/** 結果情報 */
+	private ResultSet resultSet;
+
+	// ===================================================================
+	// 準備メソッド定義
+	// ===================================================================
+	/**
+	 * 合成接続を準備します。
+	 * 
+	 * @throws SQLException 接続処理に失敗した場合
+	 */
+	@Setup(Level.Trial)
+	public void setupTrial() throws SQLException {
+		this.parameter = String.format("jdbc:synthetic:rows=%d;columns=%s;count=%d", Integer.valueOf(this.rowSize), this.typeMix, Integer.valueOf(this.columnSize));
+		this.connection = DriverManager.getConnection(this.parameter);
+		this.statement = this.connection.createStatement();
+	}
+	/**
+	 * 結果セットを準備します。
+	 * 
+	 * @throws SQLException 実行処理に失敗した場合
+	 */
+	@Setup(Level.Invocation)
+	public void setupInvocation() throws SQLException {
+		this.resultSet = this.statement.executeQuery("SELECT");
+	}
+	/**
+	 * 合成接続を解放します。
+	 * 
+	 * @throws SQLException 解放処理に失敗した場合
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws SQLException {
+		this.statement.close();
+		this.connection.close();
+	}
+
+	// ===================================================================
+	// 計測メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を一行ずつ生成します。
+	 * 
+	 * @param hole 消費処理
+	 * @throws SQLException 読込処理に失敗した場合
+	 * @see RecordDataModel#createData(ResultSet, RecordPlanModel)
+	 */
+	@Benchmark
+	public void createData(Blackhole hole) throws SQLException {
+		var reader = RecordPlanModel.createData(this.resultSet.getMetaData());
+		while (this.resultSet.next()) {
+			hole.consume(RecordDataModel.createData(this.resultSet, reader));
+		}
+	}
+	/**
+	 * 要素情報をまとめて生成します。
+	 * 
+	 * @param hole 消費処理
+	 * @throws SQLException 読込処理に失敗した場合
+	 * @see RecordDataModel#invokeList(ResultSet, java.util.function.Consumer)
+	 */
+	@Benchmark
+	public void invokeList(Blackhole hole) throws SQLException {
+		RecordDataModel.invokeList(this.resultSet, hole::consume);
+	}
+	/**
+	 * 要素情報を生成します。
+	 * 
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 * @see ColumnDataModel#createList(java.sql.ResultSetMetaData)
+	 */
+	@Benchmark
+	public ColumnDataModel[] createList() throws SQLException {
+		return ColumnDataModel.createList(this.resultSet.getMetaData());
+	}
+	/**
+	 * 接続から通知までを実行します。
+	 * 
+	 * @param hole 消費処理
+	 * @throws SQLException 実行処理に失敗した場合
+	 * @see ResultDataModel#invokeList(String, String, java.util.function.IntFunction)
+	 */
+	@Benchmark
+	public void invokeResult(Blackhole hole) throws SQLException {
+		ResultDataModel.invokeList(this.parameter, "SELECT", offset -> new ActionDataModel() {
+			@Override
+			public void updateColumnList(ColumnListModel columnList) {
+				hole.consume(columnList);
+			}
+			@Override
+			public void invokeUpdateSize(int updateSize) {
+				hole.consume(updateSize);
+			}
+			@Override
+			public void registRecordData(RecordDataModel recordData) {
+				hole.consume(recordData);
+			}
+			@Override
+			public void registRecordList(RecordDataModel[] recordList) {
+				hole.consume(recordList);
+			}
+			@Override
+			public void updateRecordList(Exception resultData) {
+				throw new IllegalStateException(resultData);
+			}
+		});
+	}
+}
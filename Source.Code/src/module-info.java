@@ -11,5 +11,15 @@
 module net.otchitta.utilities.rdb {
 	// 依存モジュール
 	requires java.desktop;
+	requires java.management;
 	requires java.sql;
+	requires jdk.jfr;
+	// 公開パッケージ(監視用)
+	exports net.otchitta.utilities.rdb.screen to java.management;
+	exports net.otchitta.utilities.rdb.source to java.management;
+	// 提供サービス
+	provides java.sql.Driver with
+		net.otchitta.utilities.rdb.driver.SyntheticDriverModel,
+		net.otchitta.utilities.rdb.driver.CaptureDriverModel,
+		net.otchitta.utilities.rdb.driver.ReplayDriverModel;
 }
@@ -0,0 +1,289 @@
+/**
+ * [Source.Code] ConsoleExecutor.java
+ */
+package net.otchitta.utilities.rdb;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.otchitta.utilities.rdb.source.ActionDataModel;
+import net.otchitta.utilities.rdb.source.ColumnListModel;
+import net.otchitta.utilities.rdb.source.ExportDataModel;
+import net.otchitta.utilities.rdb.source.ExportFileModel;
+import net.otchitta.utilities.rdb.source.ExportListModel;
+import net.otchitta.utilities.rdb.source.InvokeDataModel;
+import net.otchitta.utilities.rdb.source.PhaseDataModel;
+import net.otchitta.utilities.rdb.source.RecordDataModel;
+import net.otchitta.utilities.rdb.source.ResultDataModel;
+import net.otchitta.utilities.rdb.source.ScriptDataModel;
+
+/**
+ * 端末実行クラスです。
+ * <p>
+ * 画面を生成せずに実行構文を実行し、抽出結果をファイルまたは標準出力へ順次書込みます。
+ * {@code --file}の構文ファイルは行単独の{@code GO}で一括構文毎に分割して順番に実行し、
+ * {@code GO}を含まない場合と{@code --sql}の実行構文は1個の一括構文として実行します。
+ * {@code ;}では分割しません。
+ * 終了時に構文毎の処理時間・処理件数・毎秒件数を標準エラーへ出力します。
+ * </p>
+ * <pre>
+ * --connection 接続引数 (--sql 実行構文 | --file 構文ファイル)
+ *     [--output 出力先(既定値:標準出力)] [--format csv|tsv|jsonl] [--timeout 秒数]
+ *     [--phase none|summary|detail(既定値:summary)]
+ * </pre>
+ * <p>
+ * 工程情報は{@code summary}の場合は通知単位毎に集計し、{@code detail}の場合は行毎に計測し、{@code none}の場合は出力しません。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class ConsoleExecutor {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 標準出力 */
+	private static final String STDOUT = "-";
+	/** 使用方法 */
+	private static final String USAGE_TEXT = String.join(System.lineSeparator(),
+		"usage: --connection <jdbc-url> (--sql <text> | --file <path>)",
+		"       [--output <path>|-] [--format csv|tsv|jsonl] [--timeout <seconds>]",
+		"       [--phase none|summary|detail]");
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 端末実行を生成します。
+	 */
+	private ConsoleExecutor() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 引数一覧を解析します。
+	 * 
+	 * @param commands コマンドライン引数
+	 * @return 引数一覧(名称毎)
+	 */
+	private static Map<String, String> parseList(String[] commands) {
+		var result = new HashMap<String, String>();
+		for (var index = 0; index < commands.length; index ++) {
+			var choose = commands[index];
+			if (!choose.startsWith("--") || commands.length <= index + 1) {
+				throw new IllegalArgumentException(String.format("invalid argument.(argument=%s)", choose));
+			}
+			result.put(choose.substring(2), commands[++ index]);
+		}
+		if (!result.containsKey("connection")) throw new IllegalArgumentException("--connection must be specified.");
+		if (result.containsKey("sql") == result.containsKey("file")) throw new IllegalArgumentException("either --sql or --file must be specified.");
+		return result;
+	}
+	/**
+	 * 経過時間を文字列へ変換します。
+	 * 
+	 * @param elapsed 経過時間(ナノ秒)
+	 * @param length 処理件数
+	 * @return 表現文字列
+	 */
+	private static String formatTime(long elapsed, long length) {
+		var seconds = Math.max(1L, elapsed) / 1_000_000_000.0;
+		return String.format("time=%,dms rows=%,d rate=%,.0f rows/s",
+			Long.valueOf(elapsed / 1_000_000L), Long.valueOf(length), Double.valueOf(length / seconds));
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 実行構文を実行します。
+	 * 
+	 * @param commands コマンドライン引数
+	 * @param console 結果出力先
+	 * @return 終了コード(正常終了の場合は0)
+	 */
+	public static int invokeList(String[] commands, PrintStream console) {
+		Map<String, String> params;
+		String invokeText;
+		int timeout;
+		String phase;
+		try {
+			params = parseList(commands);
+			invokeText = params.containsKey("sql")? params.get("sql"): Files.readString(Path.of(params.get("file")), StandardCharsets.UTF_8);
+			timeout = Integer.parseInt(params.getOrDefault("timeout", "0"));
+			if (timeout < 0) throw new IllegalArgumentException("--timeout must be zero or positive.");
+			phase = params.getOrDefault("phase", "summary");
+			if (!List.of("none", "summary", "detail").contains(phase)) throw new IllegalArgumentException(String.format("invalid phase.(phase=%s)", phase));
+		} catch (IOException | RuntimeException errors) {
+			console.println(errors.getMessage());
+			console.println(USAGE_TEXT);
+			return 2;
+		}
+		var target = params.getOrDefault("output", STDOUT);
+		var format = params.containsKey("format")? params.get("format"): STDOUT.equals(target)? "csv": ExportListModel.chooseCode(Path.of(target));
+		var invoke = new InvokeDataModel();
+		invoke.setQueryTimeout(timeout);
+		var phases = new ArrayList<PhaseDataModel>();
+		if (!"none".equals(phase)) invoke.registListen(phases::add);
+		invoke.setPhaseDetail("detail".equals(phase));
+		var result = 0;
+		var before = System.nanoTime();
+		var total = 0L;
+		try (var writer = STDOUT.equals(target)? new ExportFileModel(System.out): new ExportFileModel(Path.of(target))) {
+			var action = new ActionData(ExportListModel.createData(format), writer);
+			var values = params.containsKey("file")? ScriptDataModel.splitText(invokeText): List.of(invokeText);
+			for (var index = 0; index < values.size(); index ++) {
+				var cache1 = System.nanoTime();
+				action.resetData();
+				ResultDataModel.invokeList(params.get("connection"), values.get(index), invoke, offset -> action);
+				action.finishData();
+				var cache2 = System.nanoTime() - cache1;
+				total += action.recordSize;
+				console.printf("[%03d] %s updated=%,d%n", Integer.valueOf(index + 1), formatTime(cache2, action.recordSize), Long.valueOf(action.updateSize));
+				for (var choose : phases) {
+					console.printf("[%03d] %s%n", Integer.valueOf(index + 1), choose);
+				}
+				phases.clear();
+				if (action.errorData != null) {
+					console.printf("[%03d] %s%n", Integer.valueOf(index + 1), action.errorData);
+					result = 1;
+					break;
+				}
+			}
+		} catch (Exception errors) {
+			console.println(errors);
+			result = 1;
+		}
+		console.printf("[all] %s%n", formatTime(System.nanoTime() - before, total));
+		return result;
+	}
+
+	/**
+	 * 出力処理クラスです。
+	 * <p>
+	 * 結果セット毎に見出を書込み、要素情報を読込んだ順に出力領域へ書込みます。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class ActionData implements ActionDataModel {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 出力形式 */
+		private final ExportDataModel exportData;
+		/** 出力領域 */
+		private final ExportFileModel writer;
+		/** 見出状態 */
+		private boolean headFlag;
+		/** 要素件数 */
+		private long recordSize;
+		/** 更新件数 */
+		private long updateSize;
+		/** 例外情報 */
+		private Exception errorData;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 出力処理を生成します。
+		 * 
+		 * @param exportData 出力形式
+		 * @param writer 出力領域
+		 */
+		private ActionData(ExportDataModel exportData, ExportFileModel writer) {
+			super();
+			this.exportData = exportData;
+			this.writer = writer;
+			this.headFlag = false;
+			resetData();
+		}
+
+		// ===================================================================
+		// 公開メソッド定義
+		// ===================================================================
+		/**
+		 * 集計情報を初期化します。
+		 */
+		public void resetData() {
+			this.recordSize = 0L;
+			this.updateSize = 0L;
+			this.errorData = null;
+		}
+		/**
+		 * 結果セットの出力を終了します。
+		 * 
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		public void finishData() throws IOException {
+			if (this.headFlag) this.exportData.writeTail(this.writer);
+			this.headFlag = false;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param columnList 要素一覧
+		 */
+		@Override
+		public void updateColumnList(ColumnListModel columnList) {
+			try {
+				finishData();
+				this.exportData.writeHead(this.writer, columnList);
+				this.headFlag = true;
+			} catch (IOException errors) {
+				throw new UncheckedIOException(errors);
+			}
+		}
+		/**
+		 * 処理件数を実行します。
+		 * 
+		 * @param updateSize 処理件数
+		 */
+		@Override
+		public void invokeUpdateSize(int updateSize) {
+			this.updateSize += updateSize;
+		}
+		/**
+		 * 要素情報を登録します。
+		 * 
+		 * @param recordData 要素情報
+		 */
+		@Override
+		public void registRecordData(RecordDataModel recordData) {
+			try {
+				this.exportData.writeData(this.writer, recordData);
+				this.recordSize ++;
+			} catch (IOException errors) {
+				throw new UncheckedIOException(errors);
+			}
+		}
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param resultData 例外情報
+		 */
+		@Override
+		public void updateRecordList(Exception resultData) {
+			this.errorData = resultData;
+		}
+	}
+}
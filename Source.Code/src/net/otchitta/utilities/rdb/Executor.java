@@ -5,23 +5,30 @@ package net.otchitta.utilities.rdb;
 
 import java.awt.BorderLayout;
 import java.awt.Font;
+import java.awt.GridLayout;
 import java.util.Locale;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
 import javax.swing.JSplitPane;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.UIManager;
 import javax.swing.WindowConstants;
 import javax.swing.event.ChangeListener;
 
 import net.otchitta.utilities.rdb.screen.ResultViewFrame;
+import net.otchitta.utilities.rdb.source.SourceMonitorModel;
 
 /**
  * 実行処理クラスです。
@@ -38,27 +45,112 @@ public final class Executor {
 	 * 入力領域を生成します。
 	 * 
 	 * @param action 実行処理
+	 * @param browse 閲覧処理
+	 * @param export 出力処理
+	 * @param reload 読込処理
+	 * @param cancel 停止処理
 	 * @param finish 終了処理
+	 * @param parallel 並列設定
+	 * @param timeout 制限設定
+	 * @param storage 保持設定
+	 * @param reusing 再利用設定
+	 * @param measure 計測設定
 	 * @return 入力領域
 	 */
-	private static JComponent createSourceView(BiConsumer<String, String> action, Consumer<ChangeListener> finish) {
+	private static JComponent createSourceView(BiConsumer<String, String> action, BiConsumer<String, String> browse, BiConsumer<String, String> export, Runnable reload, Runnable cancel, Consumer<ChangeListener> finish, IntConsumer parallel, IntConsumer timeout, Consumer<Boolean> storage, Consumer<Boolean> reusing, Consumer<Boolean> measure) {
 		// 内部変数設定
 		var value1 = new JTextField("jdbc:sqlserver://localhost; databaseName=xxx; user=yyy; password=zzz;");
 		var value2 = new JTextArea("SELECT * FROM import_data");
 		var value3 = new JScrollPane(value2);
 		var button = new JButton("実行");
+		var choose = new JButton("閲覧");
+		var output = new JButton("出力");
+		var reader = new JButton("読込");
+		var stoped = new JButton("停止");
+		var spinner = new JSpinner(new SpinnerNumberModel(1, 1, 16, 1));
+		var limited = new JSpinner(new SpinnerNumberModel(0, 0, 86_400, 10));
+		var caching = new JCheckBox("保持");
+		var recycle = new JCheckBox("再利用");
+		var details = new JCheckBox("詳細");
+		var option = new JPanel(new GridLayout(0, 2));
+		var values = new JPanel(new GridLayout(0, 1));
 		var result = new JPanel(new BorderLayout());
 		// 画面情報設定
+		stoped.setEnabled(false);
+		spinner.setToolTipText("GOで区切った一括構文を同時に実行する接続数");
+		limited.setToolTipText("実行・閲覧・出力の制限時間(秒、0の場合は無制限)");
+		caching.setToolTipText("表示文字を読込時に生成して保持する(描画は速くなり、容量は増加)");
+		recycle.setToolTipText("同じ接続と抽出構文の結果を保持して再利用する(更新構文の実行時に破棄)");
+		details.setToolTipText("読込・変換・通知の処理時間を行毎に計測して表示する(読込は遅くなる)");
 		// 画面体裁設定
+		option.add(new JLabel("並列"));
+		option.add(spinner);
+		option.add(new JLabel("制限"));
+		option.add(limited);
+		option.add(new JLabel("文字"));
+		option.add(caching);
+		option.add(new JLabel("結果"));
+		option.add(recycle);
+		option.add(new JLabel("計測"));
+		option.add(details);
+		values.add(button);
+		values.add(choose);
+		values.add(output);
+		values.add(reader);
+		values.add(stoped);
+		values.add(option);
 		result.add(value1, BorderLayout.NORTH);
 		result.add(value3, BorderLayout.CENTER);
-		result.add(button, BorderLayout.EAST);
+		result.add(values, BorderLayout.EAST);
 		// イベント設定
 		button.addActionListener(event -> {
 			button.setEnabled(false);
+			choose.setEnabled(false);
+			output.setEnabled(false);
+			reader.setEnabled(false);
+			stoped.setEnabled(true);
 			action.accept(value1.getText(), value2.getText());
 		});
-		finish.accept(event -> button.setEnabled(true));
+		choose.addActionListener(event -> {
+			button.setEnabled(false);
+			choose.setEnabled(false);
+			output.setEnabled(false);
+			reader.setEnabled(false);
+			stoped.setEnabled(true);
+			browse.accept(value1.getText(), value2.getText());
+		});
+		output.addActionListener(event -> {
+			button.setEnabled(false);
+			choose.setEnabled(false);
+			output.setEnabled(false);
+			reader.setEnabled(false);
+			stoped.setEnabled(true);
+			export.accept(value1.getText(), value2.getText());
+		});
+		reader.addActionListener(event -> {
+			button.setEnabled(false);
+			choose.setEnabled(false);
+			output.setEnabled(false);
+			reader.setEnabled(false);
+			stoped.setEnabled(true);
+			reload.run();
+		});
+		stoped.addActionListener(event -> {
+			stoped.setEnabled(false);
+			cancel.run();
+		});
+		spinner.addChangeListener(event -> parallel.accept(((Number)spinner.getValue()).intValue()));
+		limited.addChangeListener(event -> timeout.accept(((Number)limited.getValue()).intValue()));
+		caching.addActionListener(event -> storage.accept(Boolean.valueOf(caching.isSelected())));
+		recycle.addActionListener(event -> reusing.accept(Boolean.valueOf(recycle.isSelected())));
+		details.addActionListener(event -> measure.accept(Boolean.valueOf(details.isSelected())));
+		finish.accept(event -> {
+			button.setEnabled(true);
+			choose.setEnabled(true);
+			output.setEnabled(true);
+			reader.setEnabled(true);
+			stoped.setEnabled(false);
+		});
 		return result;
 	}
 	/**
@@ -68,7 +160,7 @@ public final class Executor {
 	 */
 	private static JComponent createScreenView() {
 		var source = new ResultViewFrame();
-		var value1 = createSourceView(source::invokeText, source::registHook);
+		var value1 = createSourceView(source::invokeText, source::browseText, source::exportText, source::importText, source::cancelText, source::registHook, source::setParallelSize, source::setQueryTimeout, source::setTextCache, source::setResultCache, source::setPhaseDetail);
 		var value2 = source.chooseView();
 		var result = new JSplitPane(JSplitPane.VERTICAL_SPLIT, value1, value2);
 		result.setContinuousLayout(true);
@@ -94,10 +186,20 @@ public final class Executor {
 	// ===================================================================
 	/**
 	 * 実行処理を実行します。
+	 * <p>
+	 * 引数を指定した場合は画面を生成せずに実行します。
+	 * </p>
 	 * 
 	 * @param commands コマンドライン引数
+	 * @see ConsoleExecutor
 	 */
 	public static void main(String[] commands) {
+		if (0 < commands.length) {
+			System.setProperty("java.awt.headless", "true");
+			System.exit(ConsoleExecutor.invokeList(commands, System.err));
+			return;
+		}
+		SourceMonitorModel.registData();
 		updateScreenFont(new Font("MS Gothic", Font.PLAIN, 12));
 		var window = new JFrame("データベースツール");
 		window.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
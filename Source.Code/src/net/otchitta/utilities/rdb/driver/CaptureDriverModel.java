@@ -0,0 +1,590 @@
+/**
+ * [Source.Code] CaptureDriverModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * 記録接続処理クラスです。
+ * <p>
+ * {@code jdbc:capture:}形式の接続引数に対し、実際の接続情報を包んで実行結果をファイルへ記録する接続情報を返却します。
+ * 記録したファイルは{@link ReplayDriverModel}で再生できます。
+ * </p>
+ * <pre>
+ * jdbc:capture:記録ファイル!実際の接続引数
+ * jdbc:capture:/tmp/slow.rdbc!jdbc:sqlserver://host;databaseName=sales
+ * </pre>
+ * <p>
+ * 結果セットの各行は読込時に{@link ResultSet#getObject(int)}で全列を読込んで記録し、
+ * 呼出元へは記録した値を返却します。
+ * 時間は実行・行読込・次結果への移動の各処理で実際の接続処理が費やした時間を記録します。
+ * 同一ファイルへ並行して実行した場合は、最後に開始した実行処理のみ記録します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class CaptureDriverModel implements Driver {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 接続接頭辞 */
+	static final String URL_PREFIX = "jdbc:capture:";
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	static {
+		try {
+			DriverManager.registerDriver(new CaptureDriverModel());
+		} catch (SQLException errors) {
+			throw new ExceptionInInitializerError(errors);
+		}
+	}
+	/**
+	 * 記録接続処理を生成します。
+	 */
+	public CaptureDriverModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 呼出処理を委譲します。
+	 * 
+	 * @param target 委譲先
+	 * @param method 呼出処理
+	 * @param values 呼出引数
+	 * @return 実行結果
+	 * @throws Throwable 実行処理に失敗した場合
+	 */
+	static Object invokeData(Object target, Method method, Object[] values) throws Throwable {
+		try {
+			return method.invoke(target, values);
+		} catch (InvocationTargetException errors) {
+			throw errors.getCause();
+		}
+	}
+	/**
+	 * 記録処理の例外を変換します。
+	 * 
+	 * @param errors 例外情報
+	 * @return 変換情報
+	 */
+	static SQLException createError(IOException errors) {
+		return new SQLException("capture file could not be written.", errors);
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 接続情報を生成します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 接続情報(対象外の場合は{@code null})
+	 * @throws SQLException 接続処理に失敗した場合
+	 * @see Driver#connect(String, Properties)
+	 */
+	@Override
+	public Connection connect(String url, Properties info) throws SQLException {
+		if (!acceptsURL(url)) return null;
+		var index = url.indexOf('!', URL_PREFIX.length());
+		if (index < 0) throw new SQLException(String.format("capture url must be %s<file>!<url>.", URL_PREFIX));
+		var choose = Path.of(url.substring(URL_PREFIX.length(), index));
+		var source = DriverManager.getConnection(url.substring(index + 1), info);
+		try {
+			var writer = CaptureFileModel.borrowData(choose);
+			return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, new ConnectData(source, writer));
+		} catch (SQLException | RuntimeException errors) {
+			source.close();
+			throw errors;
+		}
+	}
+	/**
+	 * 接続可否を判定します。
+	 * 
+	 * @param url 接続引数
+	 * @return 接続可否
+	 * @see Driver#acceptsURL(String)
+	 */
+	@Override
+	public boolean acceptsURL(String url) {
+		return url != null && url.startsWith(URL_PREFIX);
+	}
+	/**
+	 * 属性情報を取得します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 属性情報
+	 * @see Driver#getPropertyInfo(String, Properties)
+	 */
+	@Override
+	public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+		return new DriverPropertyInfo[0];
+	}
+	/**
+	 * 主版数を取得します。
+	 * 
+	 * @return 主版数
+	 * @see Driver#getMajorVersion()
+	 */
+	@Override
+	public int getMajorVersion() {
+		return 1;
+	}
+	/**
+	 * 副版数を取得します。
+	 * 
+	 * @return 副版数
+	 * @see Driver#getMinorVersion()
+	 */
+	@Override
+	public int getMinorVersion() {
+		return 0;
+	}
+	/**
+	 * 準拠状態を判定します。
+	 * 
+	 * @return 準拠状態
+	 * @see Driver#jdbcCompliant()
+	 */
+	@Override
+	public boolean jdbcCompliant() {
+		return false;
+	}
+	/**
+	 * 親記録処理を取得します。
+	 * 
+	 * @return 親記録処理
+	 * @throws SQLFeatureNotSupportedException 常に発生
+	 * @see Driver#getParentLogger()
+	 */
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	/**
+	 * 接続情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class ConnectData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 委譲先 */
+		private final Connection source;
+		/** 記録ファイル */
+		private final CaptureFileModel writer;
+		/** 解放状態 */
+		private boolean closeFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 接続情報を生成します。
+		 * 
+		 * @param source 委譲先
+		 * @param writer 記録ファイル
+		 */
+		private ConnectData(Connection source, CaptureFileModel writer) {
+			super();
+			this.source = source;
+			this.writer = writer;
+			this.closeFlag = false;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "createStatement":
+				var value1 = (Statement)invokeData(this.source, method, values);
+				return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {Statement.class}, new StatementData(value1, this.writer, (Connection)proxy, null));
+			case "prepareStatement":
+				var value2 = (Statement)invokeData(this.source, method, values);
+				return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, new StatementData(value2, this.writer, (Connection)proxy, (String)values[0]));
+			case "prepareCall":
+				var value3 = (Statement)invokeData(this.source, method, values);
+				return Proxy.newProxyInstance(CallableStatement.class.getClassLoader(), new Class<?>[] {CallableStatement.class}, new StatementData(value3, this.writer, (Connection)proxy, (String)values[0]));
+			case "close":
+				try {
+					this.source.close();
+				} finally {
+					if (!this.closeFlag) this.writer.close();
+					this.closeFlag = true;
+				}
+				return null;
+			case "toString":
+				return String.format("capture(%s)", this.source);
+			case "hashCode":
+			case "equals":
+			case "unwrap":
+			case "isWrapperFor":
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			default:
+				return invokeData(this.source, method, values);
+			}
+		}
+	}
+
+	/**
+	 * 実行情報クラスです。
+	 * <p>
+	 * 実行・次結果への移動の都度、結果セットまたは更新件数を先に読込んで記録します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class StatementData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 委譲先 */
+		private final Statement source;
+		/** 記録ファイル */
+		private final CaptureFileModel writer;
+		/** 接続情報 */
+		private final Connection connection;
+		/** 準備構文 */
+		private final String invokeText;
+		/** 実行番号 */
+		private long activeCode;
+		/** 結果セット */
+		private ResultSet result;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 実行情報を生成します。
+		 * 
+		 * @param source 委譲先
+		 * @param writer 記録ファイル
+		 * @param connection 接続情報
+		 * @param invokeText 準備構文(準備構文以外は{@code null})
+		 */
+		private StatementData(Statement source, CaptureFileModel writer, Connection connection, String invokeText) {
+			super();
+			this.source = source;
+			this.writer = writer;
+			this.connection = connection;
+			this.invokeText = invokeText;
+			this.activeCode = 0L;
+			this.result = null;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 実行処理を記録します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 */
+		private Object invokeData(Object proxy, Method method, Object[] values) throws Throwable {
+			var choose = values != null && 0 < values.length && values[0] instanceof String? (String)values[0]: this.invokeText;
+			this.result = null;
+			var cache1 = System.nanoTime();
+			Object result;
+			try {
+				result = CaptureDriverModel.invokeData(this.source, method, values);
+			} catch (SQLException errors) {
+				try {
+					this.activeCode = this.writer.writeExecute(choose, System.nanoTime() - cache1);
+					this.writer.writeError(this.activeCode, errors, 0L);
+					this.writer.flush();
+				} catch (IOException reasons) {
+					errors.addSuppressed(reasons);
+				}
+				throw errors;
+			}
+			try {
+				this.activeCode = this.writer.writeExecute(choose, System.nanoTime() - cache1);
+				if (result instanceof ResultSet) {
+					this.result = createResult(proxy, (ResultSet)result);
+					return this.result;
+				} else if (result instanceof Boolean) {
+					updateData(proxy, ((Boolean)result).booleanValue());
+				} else if (result instanceof Number) {
+					this.writer.writeUpdate(this.activeCode, ((Number)result).longValue());
+					this.writer.flush();
+				}
+				return result;
+			} catch (IOException errors) {
+				throw createError(errors);
+			}
+		}
+		/**
+		 * 現在の結果を記録します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param status 結果種別(結果セットの場合は{@code true})
+		 * @throws IOException 書込処理に失敗した場合
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		private void updateData(Object proxy, boolean status) throws IOException, SQLException {
+			if (status) {
+				this.result = createResult(proxy, this.source.getResultSet());
+			} else {
+				this.result = null;
+				var choose = this.source.getUpdateCount();
+				if (choose != -1) {
+					this.writer.writeUpdate(this.activeCode, choose);
+				} else {
+					this.writer.flush();
+				}
+			}
+		}
+		/**
+		 * 結果セットを生成します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param source 委譲先
+		 * @return 結果セット
+		 * @throws IOException 書込処理に失敗した場合
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		private ResultSet createResult(Object proxy, ResultSet source) throws IOException, SQLException {
+			var choose = new ResultData(source, this.writer, this.activeCode, (Statement)proxy);
+			return (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, choose);
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "execute":
+			case "executeQuery":
+			case "executeUpdate":
+			case "executeLargeUpdate":
+				return invokeData(proxy, method, values);
+			case "getResultSet":
+				return this.result;
+			case "getMoreResults":
+				var cache1 = System.nanoTime();
+				var choose = ((Boolean)CaptureDriverModel.invokeData(this.source, method, values)).booleanValue();
+				try {
+					this.writer.writeMore(this.activeCode, System.nanoTime() - cache1);
+					updateData(proxy, choose);
+				} catch (IOException errors) {
+					throw createError(errors);
+				}
+				return Boolean.valueOf(choose);
+			case "close":
+				this.source.close();
+				try {
+					this.writer.flush();
+				} catch (IOException errors) {
+					throw createError(errors);
+				}
+				return null;
+			case "getConnection":
+				return this.connection;
+			case "toString":
+				return String.format("capture(%s)", this.source);
+			case "hashCode":
+			case "equals":
+			case "unwrap":
+			case "isWrapperFor":
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			default:
+				return CaptureDriverModel.invokeData(this.source, method, values);
+			}
+		}
+	}
+
+	/**
+	 * 結果情報クラスです。
+	 * <p>
+	 * 行毎に全列を読込んで記録し、取得処理へは記録した値を変換して返却します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class ResultData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 委譲先 */
+		private final ResultSet source;
+		/** 記録ファイル */
+		private final CaptureFileModel writer;
+		/** 実行番号 */
+		private final long activeCode;
+		/** 実行情報 */
+		private final Statement statement;
+		/** 行情報 */
+		private final Object[] values;
+		/** NULL状態 */
+		private boolean nullFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 結果情報を生成します。
+		 * 
+		 * @param source 委譲先
+		 * @param writer 記録ファイル
+		 * @param activeCode 実行番号
+		 * @param statement 実行情報
+		 * @throws IOException 書込処理に失敗した場合
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		private ResultData(ResultSet source, CaptureFileModel writer, long activeCode, Statement statement) throws IOException, SQLException {
+			super();
+			var header = source.getMetaData();
+			writer.writeResult(activeCode, header);
+			this.source = source;
+			this.writer = writer;
+			this.activeCode = activeCode;
+			this.statement = statement;
+			this.values = new Object[header.getColumnCount()];
+			this.nullFlag = false;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 次の行へ移動します。
+		 * 
+		 * @return 移動結果(行が存在しない場合は{@code false})
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		private boolean invokeNext() throws SQLException {
+			var cache1 = System.nanoTime();
+			try {
+				if (this.source.next()) {
+					for (var index = 0; index < this.values.length; index ++) {
+						this.values[index] = CaptureFileModel.convertData(this.source.getObject(index + 1));
+					}
+					this.writer.writeRecord(this.activeCode, System.nanoTime() - cache1, this.values);
+					return true;
+				} else {
+					this.writer.writeFinish(this.activeCode, System.nanoTime() - cache1);
+					return false;
+				}
+			} catch (SQLException errors) {
+				try {
+					this.writer.writeError(this.activeCode, errors, System.nanoTime() - cache1);
+				} catch (IOException reasons) {
+					errors.addSuppressed(reasons);
+				}
+				throw errors;
+			} catch (IOException errors) {
+				throw createError(errors);
+			}
+		}
+		/**
+		 * 値情報を取得します。
+		 * 
+		 * @param column 列番号(1起算)または列名称
+		 * @return 値情報
+		 * @throws SQLException 列が存在しない場合
+		 */
+		private Object chooseData(Object column) throws SQLException {
+			var index = column instanceof String? this.source.findColumn((String)column): ((Integer)column).intValue();
+			if (index < 1 || this.values.length < index) throw new SQLException(String.format("column is not found.(column=%s)", column));
+			var result = this.values[index - 1];
+			this.nullFlag = result == null;
+			return result;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "next":
+				return Boolean.valueOf(invokeNext());
+			case "wasNull":
+				return Boolean.valueOf(this.nullFlag);
+			case "getStatement":
+				return this.statement;
+			case "toString":
+				return String.format("capture(%s)", this.source);
+			case "hashCode":
+			case "equals":
+			case "unwrap":
+			case "isWrapperFor":
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			default:
+				if (ResultValueModel.isGetter(method)) return ResultValueModel.chooseData(method, chooseData(values[0]), values);
+				return CaptureDriverModel.invokeData(this.source, method, values);
+			}
+		}
+	}
+}
@@ -0,0 +1,438 @@
+/**
+ * [Source.Code] CaptureFileModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 記録ファイルモデルクラスです。
+ * <p>
+ * 実行処理の結果を呼出順の事象列として書込みます。
+ * 整数は可変長で符号化し、時間は直前の事象からの経過ではなく接続処理の内部で費やした時間を記録します。
+ * 同じファイルを指定した接続情報はひとつの書込処理を共有し、最後の接続情報を閉じた時点でファイルを閉じます。
+ * </p>
+ * <pre>
+ * ファイル := MAGIC(int) VERSION(short) 事象*
+ * 事象     := EXECUTE 構文 時間
+ *           | RESULT 列個数 (名称 表示名 型番号 型名称 表示桁数 精度 位取 NULL可否 型種別)*
+ *           | RECORD 時間 値*
+ *           | FINISH 時間
+ *           | UPDATE 件数
+ *           | MORE 時間
+ *           | ERROR 状態 番号 内容 時間
+ * </pre>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class CaptureFileModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 識別番号 */
+	static final int MAGIC = 0x52444243;
+	/** 書式番号 */
+	static final short VERSION = 1;
+	/** 事象種別(実行開始) */
+	static final byte EVENT_EXECUTE = 1;
+	/** 事象種別(結果セット開始) */
+	static final byte EVENT_RESULT = 2;
+	/** 事象種別(行情報) */
+	static final byte EVENT_RECORD = 3;
+	/** 事象種別(結果セット終端) */
+	static final byte EVENT_FINISH = 4;
+	/** 事象種別(更新件数) */
+	static final byte EVENT_UPDATE = 5;
+	/** 事象種別(次結果へ移動) */
+	static final byte EVENT_MORE = 6;
+	/** 事象種別(例外発生) */
+	static final byte EVENT_ERROR = 7;
+	/** 値種別(NULL) */
+	static final byte TYPE_NULL = 0;
+	/** 値種別(文字列) */
+	static final byte TYPE_STRING = 1;
+	/** 値種別(数値) */
+	static final byte TYPE_DECIMAL = 2;
+	/** 値種別(バイナリ) */
+	static final byte TYPE_BINARY = 3;
+	/** 値種別(真偽値) */
+	static final byte TYPE_BOOLEAN = 4;
+	/** 値種別(整数) */
+	static final byte TYPE_INTEGER = 5;
+	/** 値種別(長整数) */
+	static final byte TYPE_LONG = 6;
+	/** 値種別(単精度) */
+	static final byte TYPE_FLOAT = 7;
+	/** 値種別(倍精度) */
+	static final byte TYPE_DOUBLE = 8;
+	/** 値種別(日付) */
+	static final byte TYPE_DATE = 9;
+	/** 値種別(時刻) */
+	static final byte TYPE_TIME = 10;
+	/** 値種別(日時) */
+	static final byte TYPE_DATETIME = 11;
+	/** 値種別(短整数) */
+	static final byte TYPE_SHORT = 12;
+	/** 値種別(バイト) */
+	static final byte TYPE_BYTE = 13;
+	/** 共有一覧(ファイル毎) */
+	private static final Map<Path, CaptureFileModel> cacheList = new HashMap<>();
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** ファイル位置 */
+	private final Path source;
+	/** 出力領域 */
+	private final DataOutputStream writer;
+	/** 参照件数 */
+	private int countData;
+	/** 実行番号(現在記録中の実行処理) */
+	private long activeCode;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 記録ファイルモデルを生成します。
+	 * 
+	 * @param source ファイル位置
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private CaptureFileModel(Path source) throws IOException {
+		super();
+		this.source = source;
+		this.writer = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(source), 1 << 16));
+		this.writer.writeInt(MAGIC);
+		this.writer.writeShort(VERSION);
+		this.countData = 0;
+		this.activeCode = 0L;
+	}
+	/**
+	 * 記録ファイルを取得します。
+	 * <p>
+	 * 同じファイルを開いている場合は共有し、開いていない場合は新規作成します。
+	 * </p>
+	 * 
+	 * @param source ファイル位置
+	 * @return 記録ファイル
+	 * @throws SQLException ファイルの作成に失敗した場合
+	 */
+	static CaptureFileModel borrowData(Path source) throws SQLException {
+		var choose = source.toAbsolutePath().normalize();
+		synchronized (cacheList) {
+			var result = cacheList.get(choose);
+			if (result == null) {
+				try {
+					result = new CaptureFileModel(choose);
+				} catch (IOException errors) {
+					throw new SQLException(String.format("capture file could not be created.(file=%s)", choose), errors);
+				}
+				cacheList.put(choose, result);
+			}
+			result.countData ++;
+			return result;
+		}
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 符号なし整数を書込みます。
+	 * 
+	 * @param value 値情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeSize(long value) throws IOException {
+		while ((value & ~0x7FL) != 0L) {
+			this.writer.writeByte((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		this.writer.writeByte((int)value);
+	}
+	/**
+	 * 符号付整数を書込みます。
+	 * 
+	 * @param value 値情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeCode(long value) throws IOException {
+		writeSize((value << 1) ^ (value >> 63));
+	}
+	/**
+	 * 文字列を書込みます。
+	 * 
+	 * @param value 文字列(NULLを含む)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeText(String value) throws IOException {
+		if (value == null) {
+			writeSize(0L);
+		} else {
+			var choose = value.getBytes(StandardCharsets.UTF_8);
+			writeSize(choose.length + 1L);
+			this.writer.write(choose);
+		}
+	}
+	/**
+	 * 値情報を書込みます。
+	 * 
+	 * @param value 値情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeData(Object value) throws IOException {
+		if (value == null) {
+			this.writer.writeByte(TYPE_NULL);
+		} else if (value instanceof String) {
+			this.writer.writeByte(TYPE_STRING);
+			writeText((String)value);
+		} else if (value instanceof Integer) {
+			this.writer.writeByte(TYPE_INTEGER);
+			writeCode(((Integer)value).intValue());
+		} else if (value instanceof Long) {
+			this.writer.writeByte(TYPE_LONG);
+			writeCode(((Long)value).longValue());
+		} else if (value instanceof Short) {
+			this.writer.writeByte(TYPE_SHORT);
+			writeCode(((Short)value).shortValue());
+		} else if (value instanceof Byte) {
+			this.writer.writeByte(TYPE_BYTE);
+			this.writer.writeByte(((Byte)value).byteValue());
+		} else if (value instanceof Boolean) {
+			this.writer.writeByte(TYPE_BOOLEAN);
+			this.writer.writeBoolean(((Boolean)value).booleanValue());
+		} else if (value instanceof Float) {
+			this.writer.writeByte(TYPE_FLOAT);
+			this.writer.writeFloat(((Float)value).floatValue());
+		} else if (value instanceof Double) {
+			this.writer.writeByte(TYPE_DOUBLE);
+			this.writer.writeDouble(((Double)value).doubleValue());
+		} else if (value instanceof BigDecimal || value instanceof BigInteger) {
+			this.writer.writeByte(TYPE_DECIMAL);
+			writeText(value.toString());
+		} else if (value instanceof byte[]) {
+			this.writer.writeByte(TYPE_BINARY);
+			writeSize(((byte[])value).length);
+			this.writer.write((byte[])value);
+		} else if (value instanceof LocalDateTime) {
+			var choose = (LocalDateTime)value;
+			this.writer.writeByte(TYPE_DATETIME);
+			writeCode(choose.toEpochSecond(ZoneOffset.UTC));
+			writeSize(choose.getNano());
+		} else if (value instanceof LocalDate) {
+			this.writer.writeByte(TYPE_DATE);
+			writeCode(((LocalDate)value).toEpochDay());
+		} else if (value instanceof LocalTime) {
+			this.writer.writeByte(TYPE_TIME);
+			writeSize(((LocalTime)value).toNanoOfDay());
+		} else {
+			this.writer.writeByte(TYPE_STRING);
+			writeText(value.toString());
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 値情報を記録用に変換します。
+	 * <p>
+	 * 日時は{@link LocalDateTime}・{@link LocalDate}・{@link LocalTime}へ、
+	 * 大容量型は値の全体へ変換します。
+	 * </p>
+	 * 
+	 * @param value 値情報({@link java.sql.ResultSet#getObject(int)}の戻値)
+	 * @return 変換情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	static Object convertData(Object value) throws SQLException {
+		if (value instanceof Timestamp) return ((Timestamp)value).toLocalDateTime();
+		if (value instanceof Date) return ((Date)value).toLocalDate();
+		if (value instanceof Time) return ((Time)value).toLocalTime();
+		if (value instanceof Clob) {
+			var choose = (Clob)value;
+			try (Reader reader = choose.getCharacterStream()) {
+				var result = new StringBuilder();
+				var buffer = new char[8192];
+				for (var length = reader.read(buffer); 0 <= length; length = reader.read(buffer)) result.append(buffer, 0, length);
+				return result.toString();
+			} catch (IOException errors) {
+				throw new SQLException(errors);
+			}
+		}
+		if (value instanceof Blob) {
+			try (InputStream reader = ((Blob)value).getBinaryStream()) {
+				return reader.readAllBytes();
+			} catch (IOException errors) {
+				throw new SQLException(errors);
+			}
+		}
+		return value;
+	}
+	/**
+	 * 実行開始を記録します。
+	 * <p>
+	 * 以降は戻値の実行番号を指定した書込処理のみ記録し、以前の実行処理の書込処理は無視します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 * @param elapsed 実行時間(ナノ秒)
+	 * @return 実行番号
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized long writeExecute(String invokeText, long elapsed) throws IOException {
+		this.activeCode ++;
+		this.writer.writeByte(EVENT_EXECUTE);
+		writeText(invokeText);
+		writeSize(elapsed);
+		return this.activeCode;
+	}
+	/**
+	 * 結果セット開始を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param header 要素情報
+	 * @throws IOException 書込処理に失敗した場合
+	 * @throws SQLException 要素情報の読込に失敗した場合
+	 */
+	synchronized void writeResult(long activeCode, ResultSetMetaData header) throws IOException, SQLException {
+		if (this.activeCode != activeCode) return;
+		var length = header.getColumnCount();
+		this.writer.writeByte(EVENT_RESULT);
+		writeSize(length);
+		for (var index = 1; index <= length; index ++) {
+			writeText(header.getColumnName(index));
+			writeText(header.getColumnLabel(index));
+			writeCode(header.getColumnType(index));
+			writeText(header.getColumnTypeName(index));
+			writeCode(header.getColumnDisplaySize(index));
+			writeCode(header.getPrecision(index));
+			writeCode(header.getScale(index));
+			writeCode(header.isNullable(index));
+			writeText(header.getColumnClassName(index));
+		}
+	}
+	/**
+	 * 行情報を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param elapsed 読込時間(ナノ秒)
+	 * @param values 値一覧({@link #convertData(Object)}で変換済)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void writeRecord(long activeCode, long elapsed, Object[] values) throws IOException {
+		if (this.activeCode != activeCode) return;
+		this.writer.writeByte(EVENT_RECORD);
+		writeSize(elapsed);
+		for (var value : values) writeData(value);
+	}
+	/**
+	 * 結果セット終端を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param elapsed 読込時間(ナノ秒)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void writeFinish(long activeCode, long elapsed) throws IOException {
+		if (this.activeCode != activeCode) return;
+		this.writer.writeByte(EVENT_FINISH);
+		writeSize(elapsed);
+	}
+	/**
+	 * 更新件数を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param updateSize 更新件数
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void writeUpdate(long activeCode, long updateSize) throws IOException {
+		if (this.activeCode != activeCode) return;
+		this.writer.writeByte(EVENT_UPDATE);
+		writeCode(updateSize);
+	}
+	/**
+	 * 次結果への移動を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param elapsed 移動時間(ナノ秒)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void writeMore(long activeCode, long elapsed) throws IOException {
+		if (this.activeCode != activeCode) return;
+		this.writer.writeByte(EVENT_MORE);
+		writeSize(elapsed);
+	}
+	/**
+	 * 例外発生を記録します。
+	 * 
+	 * @param activeCode 実行番号
+	 * @param errors 例外情報
+	 * @param elapsed 処理時間(ナノ秒)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void writeError(long activeCode, SQLException errors, long elapsed) throws IOException {
+		if (this.activeCode != activeCode) return;
+		this.writer.writeByte(EVENT_ERROR);
+		writeText(errors.getSQLState());
+		writeCode(errors.getErrorCode());
+		writeText(errors.getMessage());
+		writeSize(elapsed);
+	}
+	/**
+	 * 記録内容を反映します。
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	synchronized void flush() throws IOException {
+		this.writer.flush();
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 記録ファイルを返却します。
+	 * <p>
+	 * 参照件数が0になった時点でファイルを閉じます。
+	 * </p>
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (cacheList) {
+			if (-- this.countData == 0) {
+				cacheList.remove(this.source);
+				synchronized (this) {
+					this.writer.close();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,463 @@
+/**
+ * [Source.Code] ReplayDataModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 再生実行モデルクラスです。
+ * <p>
+ * {@link ReplayFileModel}から選択した実行処理の事象を順番に読込み、実行処理と結果セットを再現します。
+ * 記録した時間は再生速度で割った時間だけ待機します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class ReplayDataModel implements InvocationHandler {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 再生ファイル */
+	private final ReplayFileModel source;
+	/** 接続情報 */
+	private final Connection connection;
+	/** 準備構文 */
+	private final String invokeText;
+	/** 再生速度(0の場合は待機なし) */
+	private final double speed;
+	/** 読込領域 */
+	private ByteBuffer buffer;
+	/** 待機時間(ナノ秒、持越分) */
+	private long delay;
+	/** 結果セット */
+	private ResultSet result;
+	/** 列個数(現在の結果セット) */
+	private int columnSize;
+	/** 更新件数 */
+	private long updateSize;
+	/** 中断状態 */
+	private volatile boolean cancelFlag;
+	/** 解放状態 */
+	private boolean closeFlag;
+	/** 待機時間(秒) */
+	private int timeout;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 再生実行モデルを生成します。
+	 * 
+	 * @param source 再生ファイル
+	 * @param connection 接続情報
+	 * @param invokeText 準備構文(準備構文以外は{@code null})
+	 * @param speed 再生速度(0の場合は待機なし)
+	 */
+	ReplayDataModel(ReplayFileModel source, Connection connection, String invokeText, double speed) {
+		super();
+		this.source = source;
+		this.connection = connection;
+		this.invokeText = invokeText;
+		this.speed = speed;
+		this.buffer = null;
+		this.delay = 0L;
+		this.result = null;
+		this.columnSize = 0;
+		this.updateSize = -1L;
+		this.cancelFlag = false;
+		this.closeFlag = false;
+		this.timeout = 0;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 記録時間を待機します。
+	 * 
+	 * @param elapsed 記録時間(ナノ秒)
+	 * @throws SQLException 中断された場合
+	 */
+	private void waitData(long elapsed) throws SQLException {
+		if (0.0 < this.speed) this.delay += (long)(elapsed / this.speed);
+		this.delay = ResultValueModel.parkData(this.delay, () -> this.cancelFlag);
+	}
+	/**
+	 * 次の事象種別を取得します。
+	 * 
+	 * @return 事象種別(終端の場合は0)
+	 */
+	private byte peekData() {
+		return this.buffer != null && this.buffer.hasRemaining()? this.buffer.get(this.buffer.position()): 0;
+	}
+	/**
+	 * 実行処理を開始します。
+	 * 
+	 * @param proxy 代理情報
+	 * @param values 呼出引数
+	 * @return 結果種別(結果セットの場合は{@code true})
+	 * @throws SQLException 記録した例外が発生した場合
+	 */
+	private boolean executeData(Object proxy, Object[] values) throws SQLException {
+		if (this.closeFlag) throw new SQLException("statement is closed.");
+		closeData();
+		this.cancelFlag = false;
+		this.delay = 0L;
+		this.buffer = this.source.chooseData(values != null && 0 < values.length && values[0] instanceof String? (String)values[0]: this.invokeText);
+		waitData(ReplayFileModel.readSize(this.buffer));
+		return moveData(proxy);
+	}
+	/**
+	 * 現在の結果を読込みます。
+	 * 
+	 * @param proxy 代理情報
+	 * @return 結果種別(結果セットの場合は{@code true})
+	 * @throws SQLException 記録した例外が発生した場合
+	 */
+	private boolean moveData(Object proxy) throws SQLException {
+		this.result = null;
+		this.updateSize = -1L;
+		switch (peekData()) {
+		case CaptureFileModel.EVENT_RESULT:
+			this.buffer.get();
+			var choose = ReplayFileModel.readHead(this.buffer);
+			this.columnSize = choose.length;
+			this.result = (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, new ResultData((Statement)proxy, choose));
+			return true;
+		case CaptureFileModel.EVENT_UPDATE:
+			this.buffer.get();
+			this.updateSize = ReplayFileModel.readCode(this.buffer);
+			return false;
+		case CaptureFileModel.EVENT_ERROR:
+			this.buffer.get();
+			throw ReplayFileModel.readError(this.buffer);
+		default:
+			return false;
+		}
+	}
+	/**
+	 * 次の結果へ移動します。
+	 * <p>
+	 * 読込んでいない行は読飛ばします。
+	 * </p>
+	 * 
+	 * @param proxy 代理情報
+	 * @return 結果種別(結果セットの場合は{@code true})
+	 * @throws SQLException 記録した例外が発生した場合
+	 */
+	private boolean moreData(Object proxy) throws SQLException {
+		closeData();
+		while (true) {
+			switch (peekData()) {
+			case CaptureFileModel.EVENT_RECORD:
+				this.buffer.get();
+				ReplayFileModel.readSize(this.buffer);
+				for (var index = 0; index < this.columnSize; index ++) ReplayFileModel.readData(this.buffer);
+				break;
+			case CaptureFileModel.EVENT_FINISH:
+				this.buffer.get();
+				ReplayFileModel.readSize(this.buffer);
+				break;
+			case CaptureFileModel.EVENT_ERROR:
+				this.buffer.get();
+				ReplayFileModel.readError(this.buffer);
+				break;
+			case CaptureFileModel.EVENT_MORE:
+				this.buffer.get();
+				waitData(ReplayFileModel.readSize(this.buffer));
+				return moveData(proxy);
+			default:
+				this.result = null;
+				this.updateSize = -1L;
+				return false;
+			}
+		}
+	}
+	/**
+	 * 結果セットを閉じます。
+	 * 
+	 * @throws SQLException 解放処理に失敗した場合
+	 */
+	private void closeData() throws SQLException {
+		if (this.result != null) this.result.close();
+		this.result = null;
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 呼出処理を実行します。
+	 * 
+	 * @param proxy 代理情報
+	 * @param method 呼出処理
+	 * @param values 呼出引数
+	 * @return 実行結果
+	 * @throws Throwable 実行処理に失敗した場合
+	 * @see InvocationHandler#invoke(Object, Method, Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+		switch (method.getName()) {
+		case "execute":
+			return Boolean.valueOf(executeData(proxy, values));
+		case "executeQuery":
+			if (!executeData(proxy, values)) throw new SQLException("statement did not return a result set.");
+			return this.result;
+		case "executeUpdate":
+			executeData(proxy, values);
+			return Integer.valueOf((int)Math.max(0L, this.updateSize));
+		case "executeLargeUpdate":
+			executeData(proxy, values);
+			return Long.valueOf(Math.max(0L, this.updateSize));
+		case "getResultSet":
+			return this.result;
+		case "getUpdateCount":
+			return Integer.valueOf((int)this.updateSize);
+		case "getLargeUpdateCount":
+			return Long.valueOf(this.updateSize);
+		case "getMoreResults":
+			return Boolean.valueOf(moreData(proxy));
+		case "cancel":
+			this.cancelFlag = true;
+			return null;
+		case "close":
+			closeData();
+			this.buffer = null;
+			this.closeFlag = true;
+			return null;
+		case "isClosed":
+			return Boolean.valueOf(this.closeFlag);
+		case "getConnection":
+			return this.connection;
+		case "setQueryTimeout":
+			this.timeout = ((Integer)values[0]).intValue();
+			return null;
+		case "getQueryTimeout":
+			return Integer.valueOf(this.timeout);
+		case "getResultSetType":
+			return Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY);
+		case "getResultSetConcurrency":
+			return Integer.valueOf(ResultSet.CONCUR_READ_ONLY);
+		default:
+			return ResultValueModel.chooseDefault(proxy, method, values);
+		}
+	}
+
+	/**
+	 * 結果情報クラスです。
+	 * <p>
+	 * 実行情報の読込領域から行情報を順番に読込みます。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private final class ResultData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 実行情報 */
+		private final Statement statement;
+		/** 要素情報(列毎) */
+		private final Object[][] headList;
+		/** 要素情報 */
+		private final ResultSetMetaData header;
+		/** 行情報 */
+		private final Object[] values;
+		/** 行番号 */
+		private int index;
+		/** 終端状態 */
+		private boolean finishFlag;
+		/** NULL状態 */
+		private boolean nullFlag;
+		/** 解放状態 */
+		private boolean closeFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 結果情報を生成します。
+		 * 
+		 * @param statement 実行情報
+		 * @param headList 要素情報(列毎)
+		 */
+		private ResultData(Statement statement, Object[][] headList) {
+			super();
+			this.statement = statement;
+			this.headList = headList;
+			this.header = (ResultSetMetaData)Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] {ResultSetMetaData.class}, this::invokeHead);
+			this.values = new Object[headList.length];
+			this.index = 0;
+			this.finishFlag = false;
+			this.nullFlag = false;
+			this.closeFlag = false;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 列番号を取得します。
+		 * 
+		 * @param source 列番号(1起算)または列名称
+		 * @return 列番号(0起算)
+		 * @throws SQLException 列が存在しない場合
+		 */
+		private int chooseCode(Object source) throws SQLException {
+			if (source instanceof Integer) {
+				var result = ((Integer)source).intValue() - 1;
+				if (0 <= result && result < this.headList.length) return result;
+			} else {
+				for (var result = 0; result < this.headList.length; result ++) {
+					if (((String)source).equalsIgnoreCase((String)this.headList[result][1])) return result;
+				}
+			}
+			throw new SQLException(String.format("column is not found.(column=%s)", source));
+		}
+		/**
+		 * 値情報を取得します。
+		 * 
+		 * @param source 列番号(1起算)または列名称
+		 * @return 値情報
+		 * @throws SQLException 読込位置が不正な場合
+		 */
+		private Object chooseData(Object source) throws SQLException {
+			if (this.closeFlag) throw new SQLException("result set is closed.");
+			if (this.index == 0 || this.finishFlag) throw new SQLException("result set is not positioned on a row.");
+			var result = this.values[chooseCode(source)];
+			this.nullFlag = result == null;
+			return result;
+		}
+		/**
+		 * 次の行へ移動します。
+		 * 
+		 * @return 移動結果(行が存在しない場合は{@code false})
+		 * @throws SQLException 記録した例外が発生した場合
+		 */
+		private boolean invokeNext() throws SQLException {
+			if (this.closeFlag) throw new SQLException("result set is closed.");
+			if (this.finishFlag) return false;
+			var source = ReplayDataModel.this.buffer;
+			switch (peekData()) {
+			case CaptureFileModel.EVENT_RECORD:
+				source.get();
+				waitData(ReplayFileModel.readSize(source));
+				for (var index = 0; index < this.values.length; index ++) this.values[index] = ReplayFileModel.readData(source);
+				this.index ++;
+				return true;
+			case CaptureFileModel.EVENT_FINISH:
+				source.get();
+				waitData(ReplayFileModel.readSize(source));
+				this.finishFlag = true;
+				return false;
+			case CaptureFileModel.EVENT_ERROR:
+				source.get();
+				this.finishFlag = true;
+				throw ReplayFileModel.readError(source);
+			default:
+				this.finishFlag = true;
+				return false;
+			}
+		}
+		/**
+		 * 要素情報の呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws SQLException 実行処理に失敗した場合
+		 */
+		private Object invokeHead(Object proxy, Method method, Object[] values) throws SQLException {
+			switch (method.getName()) {
+			case "getColumnCount":
+				return Integer.valueOf(this.headList.length);
+			case "getColumnName":
+				return this.headList[chooseCode(values[0])][0];
+			case "getColumnLabel":
+				return this.headList[chooseCode(values[0])][1];
+			case "getColumnType":
+				return this.headList[chooseCode(values[0])][2];
+			case "getColumnTypeName":
+				return this.headList[chooseCode(values[0])][3];
+			case "getColumnDisplaySize":
+				return this.headList[chooseCode(values[0])][4];
+			case "getPrecision":
+				return this.headList[chooseCode(values[0])][5];
+			case "getScale":
+				return this.headList[chooseCode(values[0])][6];
+			case "isNullable":
+				return this.headList[chooseCode(values[0])][7];
+			case "getColumnClassName":
+				return this.headList[chooseCode(values[0])][8];
+			case "isReadOnly":
+				return Boolean.TRUE;
+			case "getSchemaName":
+			case "getTableName":
+			case "getCatalogName":
+				return "";
+			default:
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			}
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "next":
+				return Boolean.valueOf(invokeNext());
+			case "close":
+				this.closeFlag = true;
+				return null;
+			case "isClosed":
+				return Boolean.valueOf(this.closeFlag);
+			case "wasNull":
+				return Boolean.valueOf(this.nullFlag);
+			case "getMetaData":
+				return this.header;
+			case "getStatement":
+				return this.statement;
+			case "findColumn":
+				return Integer.valueOf(chooseCode(values[0]) + 1);
+			case "getRow":
+				return Integer.valueOf(this.finishFlag? 0: this.index);
+			case "getType":
+				return Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY);
+			case "getConcurrency":
+				return Integer.valueOf(ResultSet.CONCUR_READ_ONLY);
+			case "getFetchDirection":
+				return Integer.valueOf(ResultSet.FETCH_FORWARD);
+			default:
+				if (ResultValueModel.isGetter(method)) return ResultValueModel.chooseData(method, chooseData(values[0]), values);
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			}
+		}
+	}
+}
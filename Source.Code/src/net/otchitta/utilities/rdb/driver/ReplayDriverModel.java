@@ -0,0 +1,243 @@
+/**
+ * [Source.Code] ReplayDriverModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * 再生接続処理クラスです。
+ * <p>
+ * {@code jdbc:replay:}形式の接続引数に対し、{@link CaptureDriverModel}で記録したファイルを再生する接続情報を返却します。
+ * 実行構文が一致する記録を優先して再生し、一致する記録がない場合は記録順に再生します。
+ * </p>
+ * <pre>
+ * jdbc:replay:記録ファイル[?speed=再生速度]
+ * jdbc:replay:/tmp/slow.rdbc            (記録時と同じ速度)
+ * jdbc:replay:/tmp/slow.rdbc?speed=4    (4倍速)
+ * jdbc:replay:/tmp/slow.rdbc?speed=0    (待機なし)
+ * </pre>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ReplayDriverModel implements Driver {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 接続接頭辞 */
+	static final String URL_PREFIX = "jdbc:replay:";
+	/** 速度引数 */
+	private static final String SPEED_TEXT = "?speed=";
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	static {
+		try {
+			DriverManager.registerDriver(new ReplayDriverModel());
+		} catch (SQLException errors) {
+			throw new ExceptionInInitializerError(errors);
+		}
+	}
+	/**
+	 * 再生接続処理を生成します。
+	 */
+	public ReplayDriverModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 接続情報を生成します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 接続情報(対象外の場合は{@code null})
+	 * @throws SQLException 接続引数が不正な場合
+	 * @see Driver#connect(String, Properties)
+	 */
+	@Override
+	public Connection connect(String url, Properties info) throws SQLException {
+		if (!acceptsURL(url)) return null;
+		var choose = url.substring(URL_PREFIX.length());
+		var speed = 1.0;
+		var index = choose.lastIndexOf(SPEED_TEXT);
+		if (0 <= index) {
+			try {
+				speed = Double.parseDouble(choose.substring(index + SPEED_TEXT.length()));
+			} catch (NumberFormatException errors) {
+				throw new SQLException(String.format("invalid replay speed.(url=%s)", url), errors);
+			}
+			if (speed < 0.0 || Double.isNaN(speed)) throw new SQLException(String.format("replay speed must be zero or positive.(url=%s)", url));
+			choose = choose.substring(0, index);
+		}
+		var source = ReplayFileModel.createData(Path.of(choose));
+		return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, new ConnectData(source, speed));
+	}
+	/**
+	 * 接続可否を判定します。
+	 * 
+	 * @param url 接続引数
+	 * @return 接続可否
+	 * @see Driver#acceptsURL(String)
+	 */
+	@Override
+	public boolean acceptsURL(String url) {
+		return url != null && url.startsWith(URL_PREFIX);
+	}
+	/**
+	 * 属性情報を取得します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 属性情報
+	 * @see Driver#getPropertyInfo(String, Properties)
+	 */
+	@Override
+	public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+		return new DriverPropertyInfo[0];
+	}
+	/**
+	 * 主版数を取得します。
+	 * 
+	 * @return 主版数
+	 * @see Driver#getMajorVersion()
+	 */
+	@Override
+	public int getMajorVersion() {
+		return 1;
+	}
+	/**
+	 * 副版数を取得します。
+	 * 
+	 * @return 副版数
+	 * @see Driver#getMinorVersion()
+	 */
+	@Override
+	public int getMinorVersion() {
+		return 0;
+	}
+	/**
+	 * 準拠状態を判定します。
+	 * 
+	 * @return 準拠状態
+	 * @see Driver#jdbcCompliant()
+	 */
+	@Override
+	public boolean jdbcCompliant() {
+		return false;
+	}
+	/**
+	 * 親記録処理を取得します。
+	 * 
+	 * @return 親記録処理
+	 * @throws SQLFeatureNotSupportedException 常に発生
+	 * @see Driver#getParentLogger()
+	 */
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	/**
+	 * 接続情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class ConnectData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 再生ファイル */
+		private final ReplayFileModel source;
+		/** 再生速度 */
+		private final double speed;
+		/** 自動確定 */
+		private boolean autoCommit;
+		/** 解放状態 */
+		private boolean closeFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 接続情報を生成します。
+		 * 
+		 * @param source 再生ファイル
+		 * @param speed 再生速度
+		 */
+		private ConnectData(ReplayFileModel source, double speed) {
+			super();
+			this.source = source;
+			this.speed = speed;
+			this.autoCommit = true;
+			this.closeFlag = false;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "createStatement":
+				if (this.closeFlag) throw new SQLException("connection is closed.");
+				return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {Statement.class}, new ReplayDataModel(this.source, (Connection)proxy, null, this.speed));
+			case "prepareStatement":
+				if (this.closeFlag) throw new SQLException("connection is closed.");
+				return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] {PreparedStatement.class}, new ReplayDataModel(this.source, (Connection)proxy, (String)values[0], this.speed));
+			case "prepareCall":
+				if (this.closeFlag) throw new SQLException("connection is closed.");
+				return Proxy.newProxyInstance(CallableStatement.class.getClassLoader(), new Class<?>[] {CallableStatement.class}, new ReplayDataModel(this.source, (Connection)proxy, (String)values[0], this.speed));
+			case "isValid":
+				return Boolean.valueOf(!this.closeFlag);
+			case "isClosed":
+				return Boolean.valueOf(this.closeFlag);
+			case "close":
+				this.closeFlag = true;
+				return null;
+			case "getAutoCommit":
+				return Boolean.valueOf(this.autoCommit);
+			case "setAutoCommit":
+				this.autoCommit = ((Boolean)values[0]).booleanValue();
+				return null;
+			case "isReadOnly":
+				return Boolean.TRUE;
+			case "getTransactionIsolation":
+				return Integer.valueOf(Connection.TRANSACTION_NONE);
+			default:
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			}
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/**
+ * [Source.Code] ReplayFileModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 再生ファイルモデルクラスです。
+ * <p>
+ * {@link CaptureFileModel}で記録したファイルを読込専用で割当て、実行処理毎の開始位置を索引化します。
+ * 途中で書込みが中断したファイルは、最後に完結した事象までを有効とします。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class ReplayFileModel {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 割当領域 */
+	private final ByteBuffer buffer;
+	/** 実行構文(実行処理毎) */
+	private final List<String> textList;
+	/** 開始位置(実行処理毎、実行時間の直前) */
+	private final List<Integer> codeList;
+	/** 次回番号 */
+	private int offset;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 実行個数を取得します。
+	 * 
+	 * @return 実行個数
+	 */
+	public int getSize() {
+		return this.textList.size();
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 再生ファイルモデルを生成します。
+	 * 
+	 * @param buffer 割当領域
+	 */
+	private ReplayFileModel(ByteBuffer buffer) {
+		super();
+		this.buffer = buffer;
+		this.textList = new ArrayList<>();
+		this.codeList = new ArrayList<>();
+		this.offset = 0;
+	}
+	/**
+	 * 再生ファイルモデルを生成します。
+	 * 
+	 * @param source ファイル位置
+	 * @return 生成情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	static ReplayFileModel createData(Path source) throws SQLException {
+		ByteBuffer buffer;
+		try (var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+			if (Integer.MAX_VALUE < channel.size()) throw new SQLException(String.format("replay file is too large.(file=%s)", source));
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+		} catch (IOException errors) {
+			throw new SQLException(String.format("replay file could not be opened.(file=%s)", source), errors);
+		}
+		try {
+			if (buffer.getInt() != CaptureFileModel.MAGIC) throw new SQLException(String.format("replay file is not a capture file.(file=%s)", source));
+			if (buffer.getShort() != CaptureFileModel.VERSION) throw new SQLException(String.format("replay file version is not supported.(file=%s)", source));
+		} catch (BufferUnderflowException errors) {
+			throw new SQLException(String.format("replay file is not a capture file.(file=%s)", source), errors);
+		}
+		var result = new ReplayFileModel(buffer);
+		result.scanData();
+		return result;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 実行処理の開始位置を索引化します。
+	 */
+	private void scanData() {
+		var columnSize = 0;
+		var cache1 = this.buffer.position();
+		try {
+			while (this.buffer.hasRemaining()) {
+				var choose = this.buffer.get();
+				switch (choose) {
+				case CaptureFileModel.EVENT_EXECUTE:
+					var value1 = readText(this.buffer);
+					var value2 = this.buffer.position();
+					readSize(this.buffer);
+					this.textList.add(value1);
+					this.codeList.add(Integer.valueOf(value2));
+					break;
+				case CaptureFileModel.EVENT_RESULT:
+					columnSize = readHead(this.buffer).length;
+					break;
+				case CaptureFileModel.EVENT_RECORD:
+					readSize(this.buffer);
+					for (var index = 0; index < columnSize; index ++) readData(this.buffer);
+					break;
+				case CaptureFileModel.EVENT_FINISH:
+				case CaptureFileModel.EVENT_MORE:
+					readSize(this.buffer);
+					break;
+				case CaptureFileModel.EVENT_UPDATE:
+					readCode(this.buffer);
+					break;
+				case CaptureFileModel.EVENT_ERROR:
+					readError(this.buffer);
+					break;
+				default:
+					throw new IllegalStateException(String.format("unknown event.(event=%d)", Byte.valueOf(choose)));
+				}
+				cache1 = this.buffer.position();
+			}
+		} catch (BufferUnderflowException | IllegalStateException errors) {
+			// 書込中断の場合は最後に完結した事象まで有効
+		}
+		this.buffer.limit(cache1);
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 符号なし整数を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 値情報
+	 */
+	static long readSize(ByteBuffer source) {
+		var result = 0L;
+		for (var shift = 0; ; shift += 7) {
+			var choose = source.get();
+			result |= (long)(choose & 0x7F) << shift;
+			if ((choose & 0x80) == 0) return result;
+			if (63 <= shift) throw new IllegalStateException("invalid variable length integer.");
+		}
+	}
+	/**
+	 * 符号付整数を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 値情報
+	 */
+	static long readCode(ByteBuffer source) {
+		var choose = readSize(source);
+		return (choose >>> 1) ^ -(choose & 1L);
+	}
+	/**
+	 * 文字列を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 文字列(NULLを含む)
+	 */
+	static String readText(ByteBuffer source) {
+		var length = (int)readSize(source);
+		if (length == 0) return null;
+		var choose = new byte[length - 1];
+		source.get(choose);
+		return new String(choose, StandardCharsets.UTF_8);
+	}
+	/**
+	 * 値情報を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 値情報
+	 */
+	static Object readData(ByteBuffer source) {
+		var choose = source.get();
+		switch (choose) {
+		case CaptureFileModel.TYPE_NULL:
+			return null;
+		case CaptureFileModel.TYPE_STRING:
+			return readText(source);
+		case CaptureFileModel.TYPE_DECIMAL:
+			return new BigDecimal(readText(source));
+		case CaptureFileModel.TYPE_BINARY:
+			var result = new byte[(int)readSize(source)];
+			source.get(result);
+			return result;
+		case CaptureFileModel.TYPE_BOOLEAN:
+			return Boolean.valueOf(source.get() != 0);
+		case CaptureFileModel.TYPE_INTEGER:
+			return Integer.valueOf((int)readCode(source));
+		case CaptureFileModel.TYPE_LONG:
+			return Long.valueOf(readCode(source));
+		case CaptureFileModel.TYPE_SHORT:
+			return Short.valueOf((short)readCode(source));
+		case CaptureFileModel.TYPE_BYTE:
+			return Byte.valueOf(source.get());
+		case CaptureFileModel.TYPE_FLOAT:
+			return Float.valueOf(source.getFloat());
+		case CaptureFileModel.TYPE_DOUBLE:
+			return Double.valueOf(source.getDouble());
+		case CaptureFileModel.TYPE_DATE:
+			return LocalDate.ofEpochDay(readCode(source));
+		case CaptureFileModel.TYPE_TIME:
+			return LocalTime.ofNanoOfDay(readSize(source));
+		case CaptureFileModel.TYPE_DATETIME:
+			var value1 = readCode(source);
+			var value2 = (int)readSize(source);
+			return LocalDateTime.ofEpochSecond(value1, value2, ZoneOffset.UTC);
+		default:
+			throw new IllegalStateException(String.format("unknown value type.(type=%d)", Byte.valueOf(choose)));
+		}
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 要素情報(列毎に名称・表示名・型番号・型名称・表示桁数・精度・位取・NULL可否・型種別)
+	 */
+	static Object[][] readHead(ByteBuffer source) {
+		var result = new Object[(int)readSize(source)][];
+		for (var index = 0; index < result.length; index ++) {
+			result[index] = new Object[] {
+				readText(source),
+				readText(source),
+				Integer.valueOf((int)readCode(source)),
+				readText(source),
+				Integer.valueOf((int)readCode(source)),
+				Integer.valueOf((int)readCode(source)),
+				Integer.valueOf((int)readCode(source)),
+				Integer.valueOf((int)readCode(source)),
+				readText(source)};
+		}
+		return result;
+	}
+	/**
+	 * 例外情報を読込みます。
+	 * 
+	 * @param source 読込領域
+	 * @return 例外情報
+	 */
+	static SQLException readError(ByteBuffer source) {
+		var value1 = readText(source);
+		var value2 = (int)readCode(source);
+		var value3 = readText(source);
+		readSize(source);
+		return new SQLException(value3, value1, value2);
+	}
+	/**
+	 * 実行処理を選択します。
+	 * <p>
+	 * 前回選択した実行処理の次から実行構文が一致する実行処理を循環して検索し、
+	 * 一致する実行処理がない場合は次の実行処理を選択します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 * @return 読込領域(実行時間の直前に位置付け)
+	 * @throws SQLException 実行処理が記録されていない場合
+	 */
+	synchronized ByteBuffer chooseData(String invokeText) throws SQLException {
+		var length = this.textList.size();
+		if (length == 0) throw new SQLException("replay file contains no statement.");
+		var result = this.offset % length;
+		for (var index = 0; index < length; index ++) {
+			var choose = (this.offset + index) % length;
+			if (invokeText != null && invokeText.equals(this.textList.get(choose))) {
+				result = choose;
+				break;
+			}
+		}
+		this.offset = result + 1;
+		return this.buffer.duplicate().position(this.codeList.get(result).intValue());
+	}
+}
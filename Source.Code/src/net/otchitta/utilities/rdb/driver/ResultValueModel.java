@@ -0,0 +1,253 @@
+/**
+ * [Source.Code] ResultValueModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 結果値モデルクラスです。
+ * <p>
+ * 代理生成した結果セットの共通処理を定義します。
+ * 値情報は日時を{@link LocalDateTime}・{@link LocalDate}・{@link LocalTime}で保持し、
+ * 取得処理の種類に応じて変換します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class ResultValueModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 待機単位(ナノ秒) */
+	private static final long PARK_SIZE = 1_000_000L;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 結果値モデルを生成します。
+	 */
+	private ResultValueModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 値情報を変換します。
+	 * 
+	 * @param source 値情報(NULL以外)
+	 * @param target 変換種別
+	 * @return 変換情報
+	 * @throws SQLException 変換できない場合
+	 */
+	private static Object convertData(Object source, Class<?> target) throws SQLException {
+		if (target.isInstance(source)) return source;
+		if (target == String.class) return convertText(source);
+		if (source instanceof Number) {
+			var choose = (Number)source;
+			if (target == Integer.class) return Integer.valueOf(choose.intValue());
+			if (target == Long.class) return Long.valueOf(choose.longValue());
+			if (target == Short.class) return Short.valueOf(choose.shortValue());
+			if (target == Byte.class) return Byte.valueOf(choose.byteValue());
+			if (target == Double.class) return Double.valueOf(choose.doubleValue());
+			if (target == Float.class) return Float.valueOf(choose.floatValue());
+			if (target == BigDecimal.class) return convertDecimal(choose);
+			if (target == Boolean.class) return Boolean.valueOf(choose.doubleValue() != 0.0);
+		}
+		if (source instanceof LocalDateTime) {
+			var choose = (LocalDateTime)source;
+			if (target == Timestamp.class) return Timestamp.valueOf(choose);
+			if (target == LocalDate.class) return choose.toLocalDate();
+			if (target == LocalTime.class) return choose.toLocalTime();
+		}
+		if (source instanceof LocalDate && target == Date.class) return Date.valueOf((LocalDate)source);
+		if (source instanceof LocalTime && target == Time.class) return Time.valueOf((LocalTime)source);
+		throw new SQLException(String.format("unsupported conversion.(source=%s, target=%s)", source.getClass().getName(), target.getName()));
+	}
+	/**
+	 * 値情報を文字列へ変換します。
+	 * 
+	 * @param source 値情報(NULL以外)
+	 * @return 文字列
+	 */
+	private static String convertText(Object source) {
+		if (source instanceof LocalDateTime) return Timestamp.valueOf((LocalDateTime)source).toString();
+		if (source instanceof byte[]) {
+			var choose = (byte[])source;
+			var result = new StringBuilder(choose.length * 2);
+			for (var value1 : choose) result.append(Character.forDigit((value1 >> 4) & 0x0F, 16)).append(Character.forDigit(value1 & 0x0F, 16));
+			return result.toString();
+		}
+		return source.toString();
+	}
+	/**
+	 * 値情報を数値へ変換します。
+	 * 
+	 * @param source 値情報(NULL以外)
+	 * @return 数値
+	 */
+	private static BigDecimal convertDecimal(Number source) {
+		if (source instanceof BigDecimal) return (BigDecimal)source;
+		if (source instanceof BigInteger) return new BigDecimal((BigInteger)source);
+		if (source instanceof Double || source instanceof Float) return BigDecimal.valueOf(source.doubleValue());
+		return BigDecimal.valueOf(source.longValue());
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 既定値を取得します。
+	 * <p>
+	 * {@link Object}の共通処理と{@link java.sql.Wrapper}の処理を実行し、
+	 * それ以外は戻値の型に応じた既定値を返却します。
+	 * </p>
+	 * 
+	 * @param proxy 代理情報
+	 * @param method 呼出処理
+	 * @param values 呼出引数
+	 * @return 既定値
+	 * @throws SQLException 対象外の呼出処理の場合
+	 */
+	static Object chooseDefault(Object proxy, Method method, Object[] values) throws SQLException {
+		switch (method.getName()) {
+		case "toString":
+			return String.format("%s@%08x", proxy.getClass().getInterfaces()[0].getSimpleName(), Integer.valueOf(System.identityHashCode(proxy)));
+		case "hashCode":
+			return Integer.valueOf(System.identityHashCode(proxy));
+		case "equals":
+			return Boolean.valueOf(proxy == values[0]);
+		case "isWrapperFor":
+			return Boolean.valueOf(((Class<?>)values[0]).isInstance(proxy));
+		case "unwrap":
+			if (((Class<?>)values[0]).isInstance(proxy)) return proxy;
+			throw new SQLException(String.format("not a wrapper.(class=%s)", values[0]));
+		default:
+			break;
+		}
+		var choose = method.getReturnType();
+		if (choose == void.class) return null;
+		if (choose == boolean.class) return Boolean.FALSE;
+		if (choose == int.class) return Integer.valueOf(0);
+		if (choose == long.class) return Long.valueOf(0L);
+		if (choose.isPrimitive()) throw new SQLFeatureNotSupportedException(method.getName());
+		return null;
+	}
+	/**
+	 * 待機時間を消化します。
+	 * <p>
+	 * 待機時間が1ミリ秒未満の場合は待機せずに持越し、1ミリ秒以上になった時点でまとめて待機します。
+	 * </p>
+	 * 
+	 * @param delay 待機時間(ナノ秒、前回の持越分を含む)
+	 * @param cancel 中断判定
+	 * @return 持越時間(ナノ秒)
+	 * @throws SQLTimeoutException 中断された場合
+	 */
+	static long parkData(long delay, BooleanSupplier cancel) throws SQLTimeoutException {
+		if (cancel.getAsBoolean()) throw new SQLTimeoutException("statement was cancelled.");
+		if (delay < PARK_SIZE) return delay;
+		var cache1 = System.nanoTime() + delay;
+		for (var cache2 = delay; 0L < cache2 && !cancel.getAsBoolean(); cache2 = cache1 - System.nanoTime()) {
+			LockSupport.parkNanos(cache2);
+		}
+		if (cancel.getAsBoolean()) throw new SQLTimeoutException("statement was cancelled.");
+		return 0L;
+	}
+	/**
+	 * 取得処理を判定します。
+	 * 
+	 * @param method 呼出処理
+	 * @return 列の値を取得する処理の場合は{@code true}
+	 */
+	static boolean isGetter(Method method) {
+		switch (method.getName()) {
+		case "getBoolean":
+		case "getByte":
+		case "getShort":
+		case "getInt":
+		case "getLong":
+		case "getFloat":
+		case "getDouble":
+		case "getBigDecimal":
+		case "getString":
+		case "getNString":
+		case "getBytes":
+		case "getDate":
+		case "getTime":
+		case "getTimestamp":
+		case "getObject":
+			return 0 < method.getParameterCount();
+		default:
+			return false;
+		}
+	}
+	/**
+	 * 取得処理の戻値を取得します。
+	 * 
+	 * @param method 呼出処理({@link #isGetter(Method)}が{@code true}の処理)
+	 * @param source 値情報
+	 * @param values 呼出引数
+	 * @return 戻値
+	 * @throws SQLException 変換できない場合
+	 */
+	static Object chooseData(Method method, Object source, Object[] values) throws SQLException {
+		switch (method.getName()) {
+		case "getBoolean":
+			return source == null? Boolean.FALSE: convertData(source, Boolean.class);
+		case "getByte":
+			return source == null? Byte.valueOf((byte)0): convertData(source, Byte.class);
+		case "getShort":
+			return source == null? Short.valueOf((short)0): convertData(source, Short.class);
+		case "getInt":
+			return source == null? Integer.valueOf(0): convertData(source, Integer.class);
+		case "getLong":
+			return source == null? Long.valueOf(0L): convertData(source, Long.class);
+		case "getFloat":
+			return source == null? Float.valueOf(0.0f): convertData(source, Float.class);
+		case "getDouble":
+			return source == null? Double.valueOf(0.0): convertData(source, Double.class);
+		case "getBigDecimal":
+			return source == null? null: convertData(source, BigDecimal.class);
+		case "getString":
+		case "getNString":
+			return source == null? null: convertText(source);
+		case "getBytes":
+			return source == null? null: convertData(source, byte[].class);
+		case "getDate":
+			return source == null? null: convertData(source instanceof LocalDateTime? ((LocalDateTime)source).toLocalDate(): source, Date.class);
+		case "getTime":
+			return source == null? null: convertData(source instanceof LocalDateTime? ((LocalDateTime)source).toLocalTime(): source, Time.class);
+		case "getTimestamp":
+			return source == null? null: convertData(source, Timestamp.class);
+		default:
+			if (source == null) return null;
+			if (values.length == 1 || !(values[1] instanceof Class<?>)) {
+				// 型指定なしの場合はJDBCの標準型で返却
+				if (source instanceof LocalDateTime) return Timestamp.valueOf((LocalDateTime)source);
+				if (source instanceof LocalDate) return Date.valueOf((LocalDate)source);
+				if (source instanceof LocalTime) return Time.valueOf((LocalTime)source);
+				return source;
+			}
+			return convertData(source, (Class<?>)values[1]);
+		}
+	}
+}
@@ -0,0 +1,408 @@
+/**
+ * [Source.Code] SyntheticDriverModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * 合成接続処理クラスです。
+ * <p>
+ * {@code jdbc:synthetic:}形式の接続引数に対し、データベースを使わずに結果セットを生成する接続情報を返却します。
+ * 実データベースを用意せずに、抽出処理や画面表示の負荷を手元で再現する用途を想定しています。
+ * 接続引数の書式は{@link SyntheticPlanModel}を参照してください。
+ * </p>
+ * <p>
+ * 実行構文の内容は解釈せず、接続引数で指定した結果セットを指定個数返却した後に更新件数を指定個数返却します。
+ * 実行前に受けた中断要求は次の実行で、待機時間を超過した場合は読込中の次の行で{@link SQLTimeoutException}を送出します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class SyntheticDriverModel implements Driver {
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	static {
+		try {
+			DriverManager.registerDriver(new SyntheticDriverModel());
+		} catch (SQLException errors) {
+			throw new ExceptionInInitializerError(errors);
+		}
+	}
+	/**
+	 * 合成接続処理を生成します。
+	 */
+	public SyntheticDriverModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 接続情報を生成します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 接続情報(対象外の場合は{@code null})
+	 * @throws SQLException 接続引数が不正な場合
+	 * @see Driver#connect(String, Properties)
+	 */
+	@Override
+	public Connection connect(String url, Properties info) throws SQLException {
+		if (!acceptsURL(url)) return null;
+		var plan = SyntheticPlanModel.createData(url);
+		return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, new ConnectData(plan));
+	}
+	/**
+	 * 接続可否を判定します。
+	 * 
+	 * @param url 接続引数
+	 * @return 接続可否
+	 * @see Driver#acceptsURL(String)
+	 */
+	@Override
+	public boolean acceptsURL(String url) {
+		return url != null && url.startsWith(SyntheticPlanModel.URL_PREFIX);
+	}
+	/**
+	 * 属性情報を取得します。
+	 * 
+	 * @param url 接続引数
+	 * @param info 接続属性
+	 * @return 属性情報
+	 * @see Driver#getPropertyInfo(String, Properties)
+	 */
+	@Override
+	public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+		return new DriverPropertyInfo[0];
+	}
+	/**
+	 * 主版数を取得します。
+	 * 
+	 * @return 主版数
+	 * @see Driver#getMajorVersion()
+	 */
+	@Override
+	public int getMajorVersion() {
+		return 1;
+	}
+	/**
+	 * 副版数を取得します。
+	 * 
+	 * @return 副版数
+	 * @see Driver#getMinorVersion()
+	 */
+	@Override
+	public int getMinorVersion() {
+		return 0;
+	}
+	/**
+	 * 準拠状態を判定します。
+	 * 
+	 * @return 準拠状態
+	 * @see Driver#jdbcCompliant()
+	 */
+	@Override
+	public boolean jdbcCompliant() {
+		return false;
+	}
+	/**
+	 * 親記録処理を取得します。
+	 * 
+	 * @return 親記録処理
+	 * @throws SQLFeatureNotSupportedException 常に発生
+	 * @see Driver#getParentLogger()
+	 */
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	/**
+	 * 接続情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class ConnectData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 合成計画 */
+		private final SyntheticPlanModel plan;
+		/** 自動確定 */
+		private boolean autoCommit;
+		/** 解放状態 */
+		private boolean closeFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 接続情報を生成します。
+		 * 
+		 * @param plan 合成計画
+		 */
+		private ConnectData(SyntheticPlanModel plan) {
+			super();
+			this.plan = plan;
+			this.autoCommit = true;
+			this.closeFlag = false;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "createStatement":
+			case "prepareStatement":
+			case "prepareCall":
+				if (this.closeFlag) throw new SQLException("connection is closed.");
+				var choose = method.getName().equals("createStatement")? Statement.class: PreparedStatement.class;
+				return Proxy.newProxyInstance(choose.getClassLoader(), new Class<?>[] {choose}, new StatementData(this.plan, (Connection)proxy));
+			case "isValid":
+				return Boolean.valueOf(!this.closeFlag);
+			case "isClosed":
+				return Boolean.valueOf(this.closeFlag);
+			case "close":
+				this.closeFlag = true;
+				return null;
+			case "getAutoCommit":
+				return Boolean.valueOf(this.autoCommit);
+			case "setAutoCommit":
+				this.autoCommit = ((Boolean)values[0]).booleanValue();
+				return null;
+			case "isReadOnly":
+				return Boolean.TRUE;
+			case "getTransactionIsolation":
+				return Integer.valueOf(Connection.TRANSACTION_NONE);
+			default:
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			}
+		}
+	}
+
+	/**
+	 * 実行情報クラスです。
+	 * <p>
+	 * 結果セットを指定個数返却した後、更新件数を指定個数返却します。
+	 * 中断要求は次の実行または実行中の読込で一度だけ消費します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class StatementData implements InvocationHandler {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 合成計画 */
+		private final SyntheticPlanModel plan;
+		/** 接続情報 */
+		private final Connection connection;
+		/** 結果番号(結果セットと更新件数の通番) */
+		private int offset;
+		/** 結果セット */
+		private ResultSet result;
+		/** 中断状態(未消費の中断要求) */
+		private volatile boolean cancelFlag;
+		/** 中断状態(実行中の処理が中断済) */
+		private boolean breakFlag;
+		/** 期限時刻(ナノ秒) */
+		private long limitTime;
+		/** 解放状態 */
+		private boolean closeFlag;
+		/** 待機時間(秒) */
+		private int timeout;
+		/** 取得件数 */
+		private int fetchSize;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 実行情報を生成します。
+		 * 
+		 * @param plan 合成計画
+		 * @param connection 接続情報
+		 */
+		private StatementData(SyntheticPlanModel plan, Connection connection) {
+			super();
+			this.plan = plan;
+			this.connection = connection;
+			this.offset = Integer.MAX_VALUE;
+			this.result = null;
+			this.cancelFlag = false;
+			this.breakFlag = false;
+			this.limitTime = 0L;
+			this.closeFlag = false;
+			this.timeout = 0;
+			this.fetchSize = 0;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 結果個数を取得します。
+		 * 
+		 * @return 結果セットと更新件数の合計個数
+		 */
+		private int getResultSize() {
+			return this.plan.getResultSize() + this.plan.getUpdateSize();
+		}
+		/**
+		 * 中断状態を判定します。
+		 * <p>
+		 * 中断要求を受けているか待機時間を超過した場合、中断要求を消費して実行中の処理を中断済とします。
+		 * </p>
+		 * 
+		 * @return 実行中の処理を中断する場合は{@code true}
+		 */
+		private boolean isCancelled() {
+			if (!this.breakFlag && (this.cancelFlag || 0 < this.timeout && 0L <= System.nanoTime() - this.limitTime)) {
+				this.breakFlag = true;
+				this.cancelFlag = false;
+			}
+			return this.breakFlag;
+		}
+		/**
+		 * 実行処理を開始します。
+		 * 
+		 * @throws SQLTimeoutException 実行前に中断要求を受けていた場合
+		 */
+		private void startData() throws SQLTimeoutException {
+			this.breakFlag = false;
+			this.limitTime = System.nanoTime() + this.timeout * 1_000_000_000L;
+			if (isCancelled()) throw new SQLTimeoutException("statement was cancelled.");
+		}
+		/**
+		 * 結果番号を移動します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param offset 結果番号
+		 * @return 結果セットの場合は{@code true}
+		 * @throws SQLException 解放済の場合
+		 */
+		private boolean moveData(Object proxy, int offset) throws SQLException {
+			if (this.closeFlag) throw new SQLException("statement is closed.");
+			if (this.result != null) this.result.close();
+			this.offset = offset;
+			this.result = null;
+			if (offset < this.plan.getResultSize()) {
+				this.result = SyntheticResultModel.createData(this.plan, (Statement)proxy, this::isCancelled, offset);
+				return true;
+			}
+			return false;
+		}
+		/**
+		 * 更新件数を取得します。
+		 * 
+		 * @return 更新件数(結果セットまたは終端の場合は-1)
+		 */
+		private int getUpdateCount() {
+			if (this.offset < this.plan.getResultSize() || getResultSize() <= this.offset) return -1;
+			return this.plan.chooseUpdate(this.offset - this.plan.getResultSize());
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 呼出処理を実行します。
+		 * 
+		 * @param proxy 代理情報
+		 * @param method 呼出処理
+		 * @param values 呼出引数
+		 * @return 実行結果
+		 * @throws Throwable 実行処理に失敗した場合
+		 * @see InvocationHandler#invoke(Object, Method, Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+			switch (method.getName()) {
+			case "execute":
+				startData();
+				return Boolean.valueOf(moveData(proxy, 0));
+			case "executeQuery":
+				startData();
+				if (!moveData(proxy, 0)) throw new SQLException("statement did not return a result set.");
+				return this.result;
+			case "executeUpdate":
+			case "executeLargeUpdate":
+				startData();
+				moveData(proxy, this.plan.getResultSize());
+				var choose = Math.max(0, getUpdateCount());
+				return method.getReturnType() == long.class? Long.valueOf(choose): Integer.valueOf(choose);
+			case "getResultSet":
+				return this.result;
+			case "getUpdateCount":
+				return Integer.valueOf(getUpdateCount());
+			case "getLargeUpdateCount":
+				return Long.valueOf(getUpdateCount());
+			case "getMoreResults":
+				return Boolean.valueOf(moveData(proxy, Math.min(getResultSize(), this.offset + 1)));
+			case "cancel":
+				this.cancelFlag = true;
+				return null;
+			case "close":
+				if (this.result != null) this.result.close();
+				this.result = null;
+				this.closeFlag = true;
+				return null;
+			case "isClosed":
+				return Boolean.valueOf(this.closeFlag);
+			case "getConnection":
+				return this.connection;
+			case "setQueryTimeout":
+				this.timeout = ((Integer)values[0]).intValue();
+				return null;
+			case "getQueryTimeout":
+				return Integer.valueOf(this.timeout);
+			case "setFetchSize":
+				this.fetchSize = ((Integer)values[0]).intValue();
+				return null;
+			case "getFetchSize":
+				return Integer.valueOf(this.fetchSize);
+			case "getResultSetType":
+				return Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY);
+			case "getResultSetConcurrency":
+				return Integer.valueOf(ResultSet.CONCUR_READ_ONLY);
+			default:
+				return ResultValueModel.chooseDefault(proxy, method, values);
+			}
+		}
+	}
+}
@@ -0,0 +1,375 @@
+/**
+ * [Source.Code] SyntheticPlanModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * 合成計画モデルクラスです。
+ * <p>
+ * {@code jdbc:synthetic:}形式の接続引数を解析し、生成する結果の形状と値を決定します。
+ * 同じ接続引数と種値からは常に同じ値を生成します。
+ * </p>
+ * <pre>
+ * jdbc:synthetic:rows=100000;columns=INT,NVARCHAR,DATETIME2;count=16;nulls=0.1;latency=50;results=2;updates=1;seed=42;width=40
+ * </pre>
+ * <table>
+ * <caption>接続引数</caption>
+ * <tr><td>count</td><td>列個数(型構成を循環して割当、既定値:型構成の個数)</td></tr>
+ * <tr><td>rows</td><td>結果セット毎の行数(既定値:1000)</td></tr>
+ * <tr><td>columns</td><td>列の型構成(TINYINT・SMALLINT・INT・BIGINT・DECIMAL・FLOAT・DATETIME2・NVARCHAR)</td></tr>
+ * <tr><td>nulls</td><td>NULLの割合(0.0～1.0、既定値:0.0)</td></tr>
+ * <tr><td>latency</td><td>行毎の待機時間(マイクロ秒、既定値:0)</td></tr>
+ * <tr><td>results</td><td>結果セット個数(既定値:1)</td></tr>
+ * <tr><td>updates</td><td>結果セット後に返却する更新件数の個数(既定値:0)</td></tr>
+ * <tr><td>seed</td><td>種値(既定値:0)</td></tr>
+ * <tr><td>width</td><td>文字列の最大長(既定値:32)</td></tr>
+ * </table>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class SyntheticPlanModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 接続接頭辞 */
+	static final String URL_PREFIX = "jdbc:synthetic:";
+	/** 既定型構成 */
+	private static final String DEFAULT_COLUMNS = "TINYINT,INT,BIGINT,DATETIME2,NVARCHAR";
+	/** 小数桁数(DECIMAL) */
+	private static final int DECIMAL_SCALE = 2;
+	/** 基準日時(秒) */
+	private static final long BASE_TIME = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+	/** 日時範囲(秒) */
+	private static final long TIME_SPAN = 30L * 365L * 24L * 60L * 60L;
+	/** 文字候補 */
+	private static final String TEXT_CODE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 あいうえお漢字表示";
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 型名称(列毎) */
+	private final String[] nameList;
+	/** 型番号(列毎) */
+	private final int[] typeList;
+	/** 行数 */
+	private final long recordSize;
+	/** NULL割合 */
+	private final double nullRate;
+	/** 待機時間(ナノ秒) */
+	private final long latency;
+	/** 結果セット個数 */
+	private final int resultSize;
+	/** 更新件数個数 */
+	private final int updateSize;
+	/** 種値 */
+	private final long seed;
+	/** 文字列最大長 */
+	private final int width;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 列個数を取得します。
+	 * 
+	 * @return 列個数
+	 */
+	public int getColumnSize() {
+		return this.typeList.length;
+	}
+	/**
+	 * 型名称を取得します。
+	 * 
+	 * @param index 列番号(0起算)
+	 * @return 型名称
+	 */
+	public String getTypeName(int index) {
+		return this.nameList[index];
+	}
+	/**
+	 * 型番号を取得します。
+	 * 
+	 * @param index 列番号(0起算)
+	 * @return 型番号({@link Types})
+	 */
+	public int getTypeCode(int index) {
+		return this.typeList[index];
+	}
+	/**
+	 * 表示桁数を取得します。
+	 * 
+	 * @param index 列番号(0起算)
+	 * @return 表示桁数
+	 */
+	public int getDisplaySize(int index) {
+		switch (this.typeList[index]) {
+		case Types.TINYINT:
+			return 3;
+		case Types.SMALLINT:
+			return 6;
+		case Types.INTEGER:
+			return 11;
+		case Types.BIGINT:
+			return 20;
+		case Types.DECIMAL:
+			return 20;
+		case Types.DOUBLE:
+			return 24;
+		case Types.TIMESTAMP:
+			return 27;
+		default:
+			return this.width;
+		}
+	}
+	/**
+	 * 小数桁数を取得します。
+	 * 
+	 * @param index 列番号(0起算)
+	 * @return 小数桁数
+	 */
+	public int getScale(int index) {
+		return this.typeList[index] == Types.DECIMAL? DECIMAL_SCALE: 0;
+	}
+	/**
+	 * 行数を取得します。
+	 * 
+	 * @return 結果セット毎の行数
+	 */
+	public long getRecordSize() {
+		return this.recordSize;
+	}
+	/**
+	 * 待機時間を取得します。
+	 * 
+	 * @return 行毎の待機時間(ナノ秒)
+	 */
+	public long getLatency() {
+		return this.latency;
+	}
+	/**
+	 * 結果セット個数を取得します。
+	 * 
+	 * @return 結果セット個数
+	 */
+	public int getResultSize() {
+		return this.resultSize;
+	}
+	/**
+	 * 更新件数個数を取得します。
+	 * 
+	 * @return 更新件数個数
+	 */
+	public int getUpdateSize() {
+		return this.updateSize;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 合成計画モデルを生成します。
+	 * 
+	 * @param nameList 型名称
+	 * @param recordSize 行数
+	 * @param nullRate NULL割合
+	 * @param latency 待機時間(ナノ秒)
+	 * @param resultSize 結果セット個数
+	 * @param updateSize 更新件数個数
+	 * @param seed 種値
+	 * @param width 文字列最大長
+	 * @throws SQLException 型名称が不正な場合
+	 */
+	private SyntheticPlanModel(String[] nameList, long recordSize, double nullRate, long latency, int resultSize, int updateSize, long seed, int width) throws SQLException {
+		super();
+		this.nameList = nameList;
+		this.typeList = new int[nameList.length];
+		for (var index = 0; index < nameList.length; index ++) {
+			this.typeList[index] = chooseType(nameList[index]);
+		}
+		this.recordSize = recordSize;
+		this.nullRate = nullRate;
+		this.latency = latency;
+		this.resultSize = resultSize;
+		this.updateSize = updateSize;
+		this.seed = seed;
+		this.width = width;
+	}
+	/**
+	 * 合成計画モデルを生成します。
+	 * 
+	 * @param url 接続引数
+	 * @return 生成情報
+	 * @throws SQLException 接続引数が不正な場合
+	 */
+	static SyntheticPlanModel createData(String url) throws SQLException {
+		var columns = DEFAULT_COLUMNS;
+		var count = 0;
+		var rows = 1_000L;
+		var nulls = 0.0;
+		var latency = 0L;
+		var results = 1;
+		var updates = 0;
+		var seed = 0L;
+		var width = 32;
+		for (var choose : url.substring(URL_PREFIX.length()).split(";")) {
+			if (choose.isBlank()) continue;
+			var index = choose.indexOf('=');
+			if (index < 0) throw new SQLException(String.format("invalid synthetic parameter.(parameter=%s)", choose));
+			var value1 = choose.substring(0, index).trim().toLowerCase(Locale.ENGLISH);
+			var value2 = choose.substring(index + 1).trim();
+			try {
+				switch (value1) {
+				case "columns":
+					columns = value2;
+					break;
+				case "count":
+					count = Integer.parseInt(value2);
+					break;
+				case "rows":
+					rows = Long.parseLong(value2);
+					break;
+				case "nulls":
+					nulls = Double.parseDouble(value2);
+					break;
+				case "latency":
+					latency = Long.parseLong(value2) * 1_000L;
+					break;
+				case "results":
+					results = Integer.parseInt(value2);
+					break;
+				case "updates":
+					updates = Integer.parseInt(value2);
+					break;
+				case "seed":
+					seed = Long.parseLong(value2);
+					break;
+				case "width":
+					width = Integer.parseInt(value2);
+					break;
+				default:
+					throw new SQLException(String.format("unknown synthetic parameter.(name=%s)", value1));
+				}
+			} catch (NumberFormatException errors) {
+				throw new SQLException(String.format("invalid synthetic parameter.(parameter=%s)", choose), errors);
+			}
+		}
+		if (count < 0 || rows < 0L || nulls < 0.0 || 1.0 < nulls || latency < 0L || results < 0 || updates < 0 || width < 1) {
+			throw new SQLException(String.format("synthetic parameter is out of range.(url=%s)", url));
+		}
+		var source = columns.split(",");
+		var values = new String[count == 0? source.length: count];
+		for (var index = 0; index < values.length; index ++) {
+			values[index] = source[index % source.length].trim().toUpperCase(Locale.ENGLISH);
+		}
+		return new SyntheticPlanModel(values, rows, nulls, latency, results, updates, seed, width);
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 型番号を判定します。
+	 * 
+	 * @param typeName 型名称
+	 * @return 型番号
+	 * @throws SQLException 型名称が不正な場合
+	 */
+	private static int chooseType(String typeName) throws SQLException {
+		switch (typeName) {
+		case "TINYINT":
+			return Types.TINYINT;
+		case "SMALLINT":
+			return Types.SMALLINT;
+		case "INT":
+			return Types.INTEGER;
+		case "BIGINT":
+			return Types.BIGINT;
+		case "DECIMAL":
+			return Types.DECIMAL;
+		case "FLOAT":
+			return Types.DOUBLE;
+		case "DATETIME2":
+			return Types.TIMESTAMP;
+		case "NVARCHAR":
+			return Types.NVARCHAR;
+		default:
+			throw new SQLException(String.format("unsupported synthetic column type.(type=%s)", typeName));
+		}
+	}
+	/**
+	 * 値情報を生成します。
+	 * 
+	 * @param random 乱数処理
+	 * @param typeCode 型番号
+	 * @return 値情報
+	 */
+	private Object createData(SplittableRandom random, int typeCode) {
+		switch (typeCode) {
+		case Types.TINYINT:
+			return Integer.valueOf(random.nextInt(256));
+		case Types.SMALLINT:
+			return Integer.valueOf(random.nextInt(65_536) - 32_768);
+		case Types.INTEGER:
+			return Integer.valueOf(random.nextInt());
+		case Types.BIGINT:
+			return Long.valueOf(random.nextLong());
+		case Types.DECIMAL:
+			return BigDecimal.valueOf(random.nextLong(1_000_000_000_000L), DECIMAL_SCALE);
+		case Types.DOUBLE:
+			return Double.valueOf(random.nextDouble() * 1_000_000.0);
+		case Types.TIMESTAMP:
+			return LocalDateTime.ofEpochSecond(BASE_TIME + random.nextLong(TIME_SPAN), random.nextInt(10_000_000) * 100, ZoneOffset.UTC);
+		default:
+			var length = 1 + random.nextInt(this.width);
+			var result = new char[length];
+			for (var index = 0; index < length; index ++) {
+				result[index] = TEXT_CODE.charAt(random.nextInt(TEXT_CODE.length()));
+			}
+			return new String(result);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 乱数処理を生成します。
+	 * 
+	 * @param resultCode 結果セット番号
+	 * @return 乱数処理
+	 */
+	public SplittableRandom createRandom(int resultCode) {
+		return new SplittableRandom(this.seed * 0x9E3779B97F4A7C15L + resultCode);
+	}
+	/**
+	 * 行情報を生成します。
+	 * 
+	 * @param random 乱数処理
+	 * @param values 格納先(列個数分)
+	 */
+	public void createList(SplittableRandom random, Object[] values) {
+		for (var index = 0; index < values.length; index ++) {
+			var choose = createData(random, this.typeList[index]);
+			values[index] = 0.0 < this.nullRate && random.nextDouble() < this.nullRate? null: choose;
+		}
+	}
+	/**
+	 * 更新件数を算出します。
+	 * 
+	 * @param updateCode 更新件数番号
+	 * @return 更新件数
+	 */
+	public int chooseUpdate(int updateCode) {
+		return (int)Math.min(Integer.MAX_VALUE, new SplittableRandom(this.seed + updateCode).nextLong(this.recordSize + 1L));
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * [Source.Code] SyntheticResultModel.java
+ */
+package net.otchitta.utilities.rdb.driver;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 合成結果モデルクラスです。
+ * <p>
+ * {@link SyntheticPlanModel}に従い、行を読込む都度値を生成する前方専用の結果セットを実装します。
+ * 行毎の待機時間は累積し、1ミリ秒以上になった時点でまとめて待機します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class SyntheticResultModel implements InvocationHandler {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 合成計画 */
+	private final SyntheticPlanModel plan;
+	/** 生成元情報 */
+	private final Statement statement;
+	/** 中断判定 */
+	private final BooleanSupplier cancel;
+	/** 乱数処理 */
+	private final SplittableRandom random;
+	/** 要素情報 */
+	private final ResultSetMetaData header;
+	/** 行情報 */
+	private final Object[] values;
+	/** 行番号 */
+	private long index;
+	/** 待機時間(ナノ秒) */
+	private long delay;
+	/** NULL状態 */
+	private boolean nullFlag;
+	/** 解放状態 */
+	private boolean closeFlag;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 合成結果モデルを生成します。
+	 * 
+	 * @param plan 合成計画
+	 * @param statement 生成元情報
+	 * @param cancel 中断判定
+	 * @param resultCode 結果セット番号
+	 */
+	private SyntheticResultModel(SyntheticPlanModel plan, Statement statement, BooleanSupplier cancel, int resultCode) {
+		super();
+		this.plan = plan;
+		this.statement = statement;
+		this.cancel = cancel;
+		this.random = plan.createRandom(resultCode);
+		this.header = (ResultSetMetaData)Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[] {ResultSetMetaData.class}, this::invokeHead);
+		this.values = new Object[plan.getColumnSize()];
+		this.index = 0L;
+		this.delay = 0L;
+		this.nullFlag = false;
+		this.closeFlag = false;
+	}
+	/**
+	 * 結果セットを生成します。
+	 * 
+	 * @param plan 合成計画
+	 * @param statement 生成元情報
+	 * @param cancel 中断判定
+	 * @param resultCode 結果セット番号
+	 * @return 結果セット
+	 */
+	static ResultSet createData(SyntheticPlanModel plan, Statement statement, BooleanSupplier cancel, int resultCode) {
+		return (ResultSet)Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, new SyntheticResultModel(plan, statement, cancel, resultCode));
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 列番号を取得します。
+	 * 
+	 * @param source 列番号(1起算)または列名称
+	 * @return 列番号(0起算)
+	 * @throws SQLException 列が存在しない場合
+	 */
+	private int chooseCode(Object source) throws SQLException {
+		var result = -1;
+		if (source instanceof Integer) {
+			result = ((Integer)source).intValue() - 1;
+		} else if (source instanceof String) {
+			var choose = ((String)source).toLowerCase(Locale.ENGLISH);
+			if (choose.startsWith("column")) {
+				try {
+					result = Integer.parseInt(choose.substring(6)) - 1;
+				} catch (NumberFormatException errors) {
+					// 処理なし
+				}
+			}
+		}
+		if (result < 0 || this.values.length <= result) throw new SQLException(String.format("column is not found.(column=%s)", source));
+		return result;
+	}
+	/**
+	 * 値情報を取得します。
+	 * 
+	 * @param source 列番号(1起算)または列名称
+	 * @return 値情報
+	 * @throws SQLException 読込位置が不正な場合
+	 */
+	private Object chooseData(Object source) throws SQLException {
+		if (this.closeFlag) throw new SQLException("result set is closed.");
+		if (this.index <= 0L || this.plan.getRecordSize() < this.index) throw new SQLException("result set is not positioned on a row.");
+		var result = this.values[chooseCode(source)];
+		this.nullFlag = result == null;
+		return result;
+	}
+	/**
+	 * 次の行へ移動します。
+	 * 
+	 * @return 移動結果(行が存在しない場合は{@code false})
+	 * @throws SQLException 中断された場合
+	 */
+	private boolean invokeNext() throws SQLException {
+		if (this.closeFlag) throw new SQLException("result set is closed.");
+		if (this.cancel.getAsBoolean()) throw new SQLTimeoutException("statement was cancelled.");
+		if (this.plan.getRecordSize() < ++ this.index) {
+			this.index = this.plan.getRecordSize() + 1L;
+			return false;
+		}
+		this.delay = ResultValueModel.parkData(this.delay + this.plan.getLatency(), this.cancel);
+		this.plan.createList(this.random, this.values);
+		return true;
+	}
+	/**
+	 * 要素情報の呼出処理を実行します。
+	 * 
+	 * @param proxy 代理情報
+	 * @param method 呼出処理
+	 * @param values 呼出引数
+	 * @return 実行結果
+	 * @throws SQLException 実行処理に失敗した場合
+	 */
+	private Object invokeHead(Object proxy, Method method, Object[] values) throws SQLException {
+		switch (method.getName()) {
+		case "getColumnCount":
+			return Integer.valueOf(this.plan.getColumnSize());
+		case "getColumnType":
+			return Integer.valueOf(this.plan.getTypeCode(chooseCode(values[0])));
+		case "getColumnTypeName":
+			return this.plan.getTypeName(chooseCode(values[0]));
+		case "getColumnName":
+		case "getColumnLabel":
+			return String.format("column%03d", Integer.valueOf(chooseCode(values[0]) + 1));
+		case "getColumnDisplaySize":
+		case "getPrecision":
+			return Integer.valueOf(this.plan.getDisplaySize(chooseCode(values[0])));
+		case "getScale":
+			return Integer.valueOf(this.plan.getScale(chooseCode(values[0])));
+		case "isNullable":
+			return Integer.valueOf(ResultSetMetaData.columnNullable);
+		case "isSigned":
+			return Boolean.TRUE;
+		case "isReadOnly":
+			return Boolean.TRUE;
+		case "getColumnClassName":
+			var choose = this.plan.getTypeCode(chooseCode(values[0]));
+			return choose == Types.BIGINT? Long.class.getName(): choose == Types.DECIMAL? BigDecimal.class.getName(): choose == Types.DOUBLE? Double.class.getName(): choose == Types.TIMESTAMP? Timestamp.class.getName(): choose == Types.NVARCHAR? String.class.getName(): Integer.class.getName();
+		case "getSchemaName":
+		case "getTableName":
+		case "getCatalogName":
+			return "";
+		default:
+			return ResultValueModel.chooseDefault(proxy, method, values);
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 呼出処理を実行します。
+	 * 
+	 * @param proxy 代理情報
+	 * @param method 呼出処理
+	 * @param values 呼出引数
+	 * @return 実行結果
+	 * @throws Throwable 実行処理に失敗した場合
+	 * @see InvocationHandler#invoke(Object, Method, Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] values) throws Throwable {
+		switch (method.getName()) {
+		case "next":
+			return Boolean.valueOf(invokeNext());
+		case "close":
+			this.closeFlag = true;
+			return null;
+		case "isClosed":
+			return Boolean.valueOf(this.closeFlag);
+		case "wasNull":
+			return Boolean.valueOf(this.nullFlag);
+		case "getMetaData":
+			return this.header;
+		case "getStatement":
+			return this.statement;
+		case "findColumn":
+			return Integer.valueOf(chooseCode(values[0]) + 1);
+		case "getRow":
+			return Integer.valueOf((int)Math.min(Integer.MAX_VALUE, this.index <= this.plan.getRecordSize()? this.index: 0L));
+		case "isBeforeFirst":
+			return Boolean.valueOf(this.index == 0L && 0L < this.plan.getRecordSize());
+		case "isAfterLast":
+			return Boolean.valueOf(this.plan.getRecordSize() < this.index && 0L < this.plan.getRecordSize());
+		case "getType":
+			return Integer.valueOf(ResultSet.TYPE_FORWARD_ONLY);
+		case "getConcurrency":
+			return Integer.valueOf(ResultSet.CONCUR_READ_ONLY);
+		case "getFetchDirection":
+			return Integer.valueOf(ResultSet.FETCH_FORWARD);
+		default:
+			if (ResultValueModel.isGetter(method)) return ResultValueModel.chooseData(method, chooseData(values[0]), values);
+			return ResultValueModel.chooseDefault(proxy, method, values);
+		}
+	}
+}
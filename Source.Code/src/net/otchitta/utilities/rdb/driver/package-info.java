@@ -0,0 +1,11 @@
+/**
+ * [Source.Code] package-info.java
+ */
+/**
+ * 接続処理関連パッケージです。
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+package net.otchitta.utilities.rdb.driver;
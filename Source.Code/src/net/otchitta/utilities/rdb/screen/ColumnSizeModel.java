@@ -0,0 +1,188 @@
+/**
+ * [Source.Code] ColumnSizeModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.awt.FontMetrics;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import net.otchitta.utilities.rdb.source.ColumnListModel;
+import net.otchitta.utilities.rdb.source.RecordDataModel;
+
+/**
+ * 列幅算出モデルクラスです。
+ * <p>
+ * 読込んだ先頭の行と、以降の行から無作為に抽出した行を標本として保持し、表示文字の横幅から列幅を算出します。
+ * 以降の行は蓄積標本法で抽出するため、行件数に関わらず保持する標本は一定数となります。
+ * 標本の登録は読込処理から、算出は画面スレッド以外から呼出します。
+ * 文字の計測には生成時に取得した{@link FontMetrics}を用います。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ColumnViewModel#updateColumnSize(int[])
+ */
+final class ColumnSizeModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 先頭標本数 */
+	private static final int HEAD_SIZE = 256;
+	/** 抽出標本数 */
+	private static final int POOL_SIZE = 256;
+	/** 余白横幅 */
+	private static final int MARGIN_SIZE = 8;
+	/** 上限横幅 */
+	private static final int LIMIT_SIZE = 480;
+	/** 計測倍率(上限横幅を数字幅で割った文字数に対する計測文字数の倍率) */
+	private static final int TEXT_RATE = 4;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 要素計測 */
+	private final FontMetrics textMetrics;
+	/** 見出計測 */
+	private final FontMetrics headMetrics;
+	/** 乱数情報 */
+	private final SplittableRandom random;
+	/** 要素一覧 */
+	private volatile ColumnListModel columnList;
+	/** 先頭標本 */
+	private final RecordDataModel[] headList;
+	/** 先頭個数 */
+	private int headSize;
+	/** 抽出標本 */
+	private final RecordDataModel[] poolList;
+	/** 抽出対象件数(先頭以降の行件数) */
+	private long poolCount;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 列幅算出モデルを生成します。
+	 * 
+	 * @param textMetrics 要素計測
+	 * @param headMetrics 見出計測
+	 */
+	public ColumnSizeModel(FontMetrics textMetrics, FontMetrics headMetrics) {
+		super();
+		if (textMetrics == null) throw new IllegalArgumentException("textMetrics must be non null.");
+		if (headMetrics == null) throw new IllegalArgumentException("headMetrics must be non null.");
+		this.textMetrics = textMetrics;
+		this.headMetrics = headMetrics;
+		this.random = new SplittableRandom();
+		this.columnList = null;
+		this.headList = new RecordDataModel[HEAD_SIZE];
+		this.headSize = 0;
+		this.poolList = new RecordDataModel[POOL_SIZE];
+		this.poolCount = 0L;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 表示横幅を計測します。
+	 * <p>
+	 * 計測する文字数は、上限横幅を数字({@code '0'})の横幅で割った文字数の計測倍率分までとします。
+	 * 超える文字列は先頭の当該文字数分だけを計測し、数字の横幅の計測倍率分の1より狭い文字が続く場合を除き上限横幅に達します。
+	 * </p>
+	 * 
+	 * @param metrics 計測情報
+	 * @param values 表示文字
+	 * @return 表示横幅(上限横幅まで)
+	 */
+	private static int chooseWidth(FontMetrics metrics, String values) {
+		if (values == null || values.isEmpty()) {
+			return 0;
+		} else {
+			var length = TEXT_RATE * LIMIT_SIZE / Math.max(1, metrics.charWidth('0'));
+			var choose = length < values.length()? values.substring(0, length): values;
+			return Math.min(metrics.stringWidth(choose), LIMIT_SIZE);
+		}
+	}
+	/**
+	 * 標本一覧を取得します。
+	 * 
+	 * @return 標本一覧(先頭標本と抽出標本)
+	 */
+	private synchronized RecordDataModel[] chooseList() {
+		var length = (int)Math.min(POOL_SIZE, this.poolCount);
+		var result = Arrays.copyOf(this.headList, this.headSize + length);
+		System.arraycopy(this.poolList, 0, result, this.headSize, length);
+		return result;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素一覧を設定します。
+	 * <p>
+	 * 保持している標本は破棄します。
+	 * </p>
+	 * 
+	 * @param columnList 要素一覧
+	 */
+	public synchronized void setColumnList(ColumnListModel columnList) {
+		this.columnList = columnList;
+		removeList();
+	}
+	/**
+	 * 要素一覧を登録します。
+	 * 
+	 * @param recordList 要素一覧
+	 * @return 今回の登録で先頭標本が揃った場合は{@code true}
+	 */
+	public synchronized boolean registList(RecordDataModel[] recordList) {
+		var before = this.headSize;
+		for (var choose : recordList) {
+			if (this.headSize < HEAD_SIZE) {
+				this.headList[this.headSize ++] = choose;
+			} else if (this.poolCount < POOL_SIZE) {
+				this.poolList[(int)this.poolCount ++] = choose;
+			} else {
+				var index = this.random.nextLong(++ this.poolCount);
+				if (index < POOL_SIZE) this.poolList[(int)index] = choose;
+			}
+		}
+		return before < HEAD_SIZE && this.headSize == HEAD_SIZE;
+	}
+	/**
+	 * 標本一覧を破棄します。
+	 */
+	public synchronized void removeList() {
+		Arrays.fill(this.headList, null);
+		Arrays.fill(this.poolList, null);
+		this.headSize = 0;
+		this.poolCount = 0L;
+	}
+	/**
+	 * 列幅を算出します。
+	 * <p>
+	 * 見出と標本の表示文字から最大の横幅を求め、余白を加えて上限横幅までに制限します。
+	 * 計測は標本一覧を複写してから行い、計測中も標本の登録を妨げません。
+	 * </p>
+	 * 
+	 * @return 列幅(要素番号毎、要素一覧が未設定の場合は{@code null})
+	 */
+	public int[] chooseWidth() {
+		var source = this.columnList;
+		if (source == null) return null;
+		var values = chooseList();
+		var result = new int[source.getSize()];
+		for (var index = 0; index < result.length; index ++) {
+			var width = chooseWidth(this.headMetrics, source.getData(index).getName());
+			for (var number = 0; number < values.length && width < LIMIT_SIZE; number ++) {
+				var choose = values[number];
+				if (index < choose.getSize()) width = Math.max(width, chooseWidth(this.textMetrics, choose.getText(index)));
+			}
+			result[index] = Math.min(width + MARGIN_SIZE, LIMIT_SIZE);
+		}
+		return result;
+	}
+}
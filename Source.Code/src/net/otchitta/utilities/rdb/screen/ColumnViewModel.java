@@ -7,11 +7,15 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Locale;
+import java.util.NoSuchElementException;
 
 import javax.swing.DefaultListSelectionModel;
+import javax.swing.JViewport;
 import javax.swing.ListSelectionModel;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.EventListenerList;
@@ -19,6 +23,7 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import javax.swing.event.TableColumnModelEvent;
 import javax.swing.event.TableColumnModelListener;
+import javax.swing.table.TableCellEditor;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
@@ -27,6 +32,17 @@ import net.otchitta.utilities.rdb.source.ColumnListModel;
 
 /**
  * 要素画面モデルクラスです。
+ * <p>
+ * 列情報は見出・横幅・描画・編集・変更可否を格納番号毎の配列で保持し、{@link TableColumn}は表示範囲と前後の余裕列に限り生成して保持します。
+ * 表示範囲外の列は格納番号だけを持つ列情報を参照毎に生成して返却し、変更は格納配列へ反映します。
+ * 表示範囲外の列情報は参照毎に別の実体となりますが、同じ格納番号を参照するため保持しても別の列を指すことはありません。
+ * 表示範囲は{@link #registView(JViewport)}で登録した表示領域の変更毎に更新します。
+ * </p>
+ * <p>
+ * 列の右端座標を累計配列として保持し、座標からの列判定は二分探索で行います。
+ * 横幅の変更は変更列以降を無効とするだけとし、累計配列は次回の参照時にまとめて再計算します。
+ * 識別情報と格納番号から列番号への対応は構成の変更時に無効とし、次回の参照時に再生成します。
+ * </p>
  * 
  * @since   1.0.0
  * @version 1.0.0
@@ -38,18 +54,70 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	// ===================================================================
 	/** シリアルバージョンUID */
 	private static final long serialVersionUID = 1L;
+	/** 余裕列数(表示範囲の前後) */
+	private static final int MARGIN_SIZE = 16;
+	/** 既定横幅({@link TableColumn}の既定値) */
+	private static final int DEFAULT_WIDTH = 75;
+	/** 最小横幅({@link TableColumn}の既定値) */
+	private static final int MINIMUM_WIDTH = 15;
 
 	// ===================================================================
 	// メンバー変数定義
 	// ===================================================================
-	/** 既定描画 */
-	private static final TableCellRenderer DEFAULT_RENDERER = new SourceViewFrame();
-	/** 要素一覧 */
-	private final ArrayList<TableColumn> columnList;
+	/** 列個数 */
+	private int columnSize;
+	/** 格納個数 */
+	private int recordSize;
+	/** 表示順序(列番号毎の格納番号) */
+	private int[] orderList;
+	/** 要素番号(格納番号毎) */
+	private int[] modelList;
+	/** 見出情報(格納番号毎) */
+	private Object[] headerList;
+	/** 識別情報(格納番号毎) */
+	private Object[] uniqueData;
+	/** 要素描画(格納番号毎) */
+	private TableCellRenderer[] renderList;
+	/** 見出描画(格納番号毎) */
+	private TableCellRenderer[] headRenderList;
+	/** 要素編集(格納番号毎) */
+	private TableCellEditor[] editorList;
+	/** 変更可否(格納番号毎) */
+	private boolean[] resizeData;
+	/** 横幅(格納番号毎) */
+	private int[] widthData;
+	/** 推奨横幅(格納番号毎) */
+	private int[] preferData;
+	/** 最小横幅(格納番号毎) */
+	private int[] minimumData;
+	/** 最大横幅(格納番号毎) */
+	private int[] maximumData;
+	/** 自動横幅(格納番号毎、最後に自動設定した推奨横幅) */
+	private int[] sizeData;
+	/** 生成列(格納番号毎、未生成は{@code null}) */
+	private TableColumn[] columnData;
+	/** 生成一覧(表示範囲で生成した列) */
+	private final ArrayList<ColumnViewData> viewList;
+	/** 外部列(外部から追加した列の格納番号) */
+	private final IdentityHashMap<TableColumn, Integer> fixedList;
+	/** 表示範囲(左端座標) */
+	private int viewLeft;
+	/** 表示範囲(右端座標) */
+	private int viewRight;
+	/** 生成範囲(開始列番号) */
+	private int viewIndex1;
+	/** 生成範囲(終了列番号) */
+	private int viewIndex2;
 	/** 余白情報 */
 	private int marginData;
-	/** 合計横幅 */
-	private int totalWidth;
+	/** 横幅累計(添字の列の左端座標) */
+	private transient int[] widthList;
+	/** 横幅累計の有効列数 */
+	private transient int widthSize;
+	/** 列番号(識別情報毎) */
+	private transient HashMap<Object, Integer> uniqueList;
+	/** 列番号(格納番号毎、削除済は-1) */
+	private transient int[] placeList;
 	/** 選択可否 */
 	private boolean selectFlag;
 	/** 選択情報 */
@@ -68,14 +136,17 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	public ColumnViewModel() {
 		super();
 		// 初期設定
-		this.columnList = new ArrayList<>();
+		this.viewList = new ArrayList<>();
+		this.fixedList = new IdentityHashMap<>();
+		this.viewLeft = 0;
+		this.viewRight = 0;
 		this.marginData = 1;
-		this.totalWidth = -1;
 		this.selectFlag = false;
 		this.selectData = null;
 		this.listenList = new EventListenerList();
 		this.changeData = null;
 		// 共通設定
+		createList(0);
 		setSelectionModel(new DefaultListSelectionModel());
 	}
 
@@ -137,6 +208,261 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 			choose.columnSelectionChanged(values);
 		}
 	}
+	/**
+	 * 格納配列を生成します。
+	 * 
+	 * @param length 格納容量
+	 */
+	private void createList(int length) {
+		this.columnSize = 0;
+		this.recordSize = 0;
+		this.orderList = new int[length];
+		this.modelList = new int[length];
+		this.headerList = new Object[length];
+		this.uniqueData = new Object[length];
+		this.renderList = new TableCellRenderer[length];
+		this.headRenderList = new TableCellRenderer[length];
+		this.editorList = new TableCellEditor[length];
+		this.resizeData = new boolean[length];
+		this.widthData = new int[length];
+		this.preferData = new int[length];
+		this.minimumData = new int[length];
+		this.maximumData = new int[length];
+		this.sizeData = new int[length];
+		this.columnData = new TableColumn[length];
+		this.viewList.clear();
+		this.widthSize = 0;
+		this.uniqueList = null;
+		this.placeList = null;
+	}
+	/**
+	 * 格納配列を拡張します。
+	 * 
+	 * @param length 必要容量
+	 */
+	private void expandList(int length) {
+		if (length <= this.modelList.length) return;
+		var choose = Math.max(length, this.modelList.length * 2);
+		this.orderList = Arrays.copyOf(this.orderList, choose);
+		this.modelList = Arrays.copyOf(this.modelList, choose);
+		this.headerList = Arrays.copyOf(this.headerList, choose);
+		this.uniqueData = Arrays.copyOf(this.uniqueData, choose);
+		this.renderList = Arrays.copyOf(this.renderList, choose);
+		this.headRenderList = Arrays.copyOf(this.headRenderList, choose);
+		this.editorList = Arrays.copyOf(this.editorList, choose);
+		this.resizeData = Arrays.copyOf(this.resizeData, choose);
+		this.widthData = Arrays.copyOf(this.widthData, choose);
+		this.preferData = Arrays.copyOf(this.preferData, choose);
+		this.minimumData = Arrays.copyOf(this.minimumData, choose);
+		this.maximumData = Arrays.copyOf(this.maximumData, choose);
+		this.sizeData = Arrays.copyOf(this.sizeData, choose);
+		this.columnData = Arrays.copyOf(this.columnData, choose);
+	}
+	/**
+	 * 格納情報を登録します。
+	 * <p>
+	 * 横幅は{@link TableColumn}の既定値へ推奨横幅・最大横幅・最小横幅の順に設定した場合と同じ値とします。
+	 * </p>
+	 * 
+	 * @param record 格納番号
+	 * @param prefer 推奨横幅
+	 * @param maximum 最大横幅
+	 * @param minimum 最小横幅
+	 */
+	private void registData(int record, int prefer, int maximum, int minimum) {
+		var width = DEFAULT_WIDTH;
+		var limit1 = MINIMUM_WIDTH;
+		var limit2 = Integer.MAX_VALUE;
+		prefer = Math.min(Math.max(prefer, limit1), limit2);
+		limit2 = Math.max(limit1, maximum);
+		width = Math.min(width, limit2);
+		prefer = Math.min(prefer, limit2);
+		limit1 = Math.max(Math.min(minimum, limit2), 0);
+		width = Math.max(width, limit1);
+		prefer = Math.max(prefer, limit1);
+		this.widthData[record] = width;
+		this.preferData[record] = prefer;
+		this.minimumData[record] = limit1;
+		this.maximumData[record] = limit2;
+		this.sizeData[record] = prefer;
+	}
+	/**
+	 * 格納情報を複写します。
+	 * 
+	 * @param record 格納番号
+	 * @param source 列情報
+	 */
+	private void copyData(int record, TableColumn source) {
+		this.modelList[record] = source.getModelIndex();
+		this.headerList[record] = source.getHeaderValue();
+		this.uniqueData[record] = source.getIdentifier();
+		this.renderList[record] = source.getCellRenderer();
+		this.headRenderList[record] = source.getHeaderRenderer();
+		this.editorList[record] = source.getCellEditor();
+		this.resizeData[record] = source.getResizable();
+		this.widthData[record] = source.getWidth();
+		this.preferData[record] = source.getPreferredWidth();
+		this.minimumData[record] = source.getMinWidth();
+		this.maximumData[record] = source.getMaxWidth();
+	}
+	/**
+	 * 格納番号を取得します。
+	 * 
+	 * @param source 列情報
+	 * @return 格納番号(当該モデルの列でない場合は-1)
+	 */
+	private int chooseRecord(TableColumn source) {
+		if (source instanceof ColumnViewData && ((ColumnViewData)source).getOwner() == this) {
+			return ((ColumnViewData)source).record;
+		} else {
+			var choose = this.fixedList.get(source);
+			return choose == null? -1: choose.intValue();
+		}
+	}
+	/**
+	 * 列番号を取得します。
+	 * 
+	 * @param record 格納番号
+	 * @return 列番号(削除済の場合は-1)
+	 */
+	private int choosePlace(int record) {
+		if (this.placeList == null) {
+			var result = new int[this.recordSize];
+			Arrays.fill(result, -1);
+			for (var index = 0; index < this.columnSize; index ++) {
+				result[this.orderList[index]] = index;
+			}
+			this.placeList = result;
+		}
+		return record < this.placeList.length? this.placeList[record]: -1;
+	}
+	/**
+	 * 横幅を設定します。
+	 * 
+	 * @param record 格納番号
+	 * @param values 横幅
+	 * @return 変更した場合は{@code true}
+	 */
+	private boolean updateWidth(int record, int values) {
+		var choose = Math.min(Math.max(values, this.minimumData[record]), this.maximumData[record]);
+		if (this.widthData[record] == choose) return false;
+		this.widthData[record] = choose;
+		var place = choosePlace(record);
+		if (0 <= place) updateWidthList(place);
+		return true;
+	}
+	/**
+	 * 推奨横幅を設定します。
+	 * 
+	 * @param record 格納番号
+	 * @param values 推奨横幅
+	 * @return 変更した場合は{@code true}
+	 */
+	private boolean updatePrefer(int record, int values) {
+		var choose = Math.min(Math.max(values, this.minimumData[record]), this.maximumData[record]);
+		if (this.preferData[record] == choose) return false;
+		this.preferData[record] = choose;
+		return true;
+	}
+	/**
+	 * 表示順序を移動します。
+	 * 
+	 * @param oldIndex 旧番号
+	 * @param newIndex 新番号
+	 */
+	private void moveOrder(int oldIndex, int newIndex) {
+		var choose = this.orderList[oldIndex];
+		if (oldIndex < newIndex) {
+			System.arraycopy(this.orderList, oldIndex + 1, this.orderList, oldIndex, newIndex - oldIndex);
+		} else {
+			System.arraycopy(this.orderList, newIndex, this.orderList, newIndex + 1, oldIndex - newIndex);
+		}
+		this.orderList[newIndex] = choose;
+		updateWidthList(Math.min(oldIndex, newIndex));
+		updateIndexList();
+	}
+	/**
+	 * 横幅累計を無効にします。
+	 * 
+	 * @param index 変更した列番号(以降の累計を無効)
+	 */
+	private void updateWidthList(int index) {
+		if (index < this.widthSize) this.widthSize = Math.max(0, index);
+	}
+	/**
+	 * 列番号を無効にします。
+	 */
+	private void updateIndexList() {
+		this.uniqueList = null;
+		this.placeList = null;
+	}
+	/**
+	 * 横幅累計を取得します。
+	 * <p>
+	 * 無効となった列以降だけを再計算します。
+	 * </p>
+	 * 
+	 * @return 横幅累計(要素数は列個数+1以上)
+	 */
+	private int[] chooseWidthList() {
+		var length = this.columnSize;
+		var result = this.widthList;
+		if (result == null) {
+			result = new int[length + 1];
+			this.widthSize = 0;
+		} else if (result.length <= length) {
+			result = Arrays.copyOf(result, Math.max(length + 1, result.length * 2));
+		}
+		for (var index = this.widthSize; index < length; index ++) {
+			result[index + 1] = result[index] + this.widthData[this.orderList[index]];
+		}
+		this.widthList = result;
+		this.widthSize = length;
+		return result;
+	}
+	/**
+	 * 列番号を取得します。
+	 * 
+	 * @return 列番号(識別情報毎、重複時は先頭の列)
+	 */
+	private HashMap<Object, Integer> chooseUniqueList() {
+		if (this.uniqueList == null) {
+			var result = new HashMap<Object, Integer>(Math.max(16, this.columnSize * 2));
+			for (var index = 0; index < this.columnSize; index ++) {
+				var record = this.orderList[index];
+				var choose = this.uniqueData[record] != null? this.uniqueData[record]: this.headerList[record];
+				if (choose != null) result.putIfAbsent(choose, Integer.valueOf(index));
+			}
+			this.uniqueList = result;
+		}
+		return this.uniqueList;
+	}
+	/**
+	 * 生成範囲を更新します。
+	 * <p>
+	 * 表示範囲と前後の余裕列を生成範囲とし、範囲外となった生成列を解放します。
+	 * 解放した列も格納配列を参照するため、保持されていても動作します。
+	 * </p>
+	 */
+	private void updateViewRange() {
+		if (this.columnSize == 0) {
+			this.viewIndex1 = 0;
+			this.viewIndex2 = -1;
+		} else {
+			var index1 = this.viewLeft <= 0? 0: getColumnIndexAtX(this.viewLeft);
+			var index2 = getColumnIndexAtX(Math.max(this.viewLeft, this.viewRight));
+			if (index1 < 0) index1 = this.columnSize - 1;
+			if (index2 < 0) index2 = this.columnSize - 1;
+			this.viewIndex1 = Math.max(0, index1 - MARGIN_SIZE);
+			this.viewIndex2 = Math.min(this.columnSize - 1, index2 + MARGIN_SIZE);
+		}
+		this.viewList.removeIf(choose -> {
+			var place = choosePlace(choose.record);
+			if (this.viewIndex1 <= place && place <= this.viewIndex2) return false;
+			this.columnData[choose.record] = null;
+			return true;
+		});
+	}
 	/**
 	 * 要素横幅を算出します。
 	 * 
@@ -164,57 +490,160 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	// ===================================================================
 	/**
 	 * 要素一覧を設定します。
+	 * <p>
+	 * 列情報は格納配列へ登録するだけとし、{@link TableColumn}は参照時に生成します。
+	 * </p>
 	 * 
 	 * @param columnList 要素一覧
 	 */
 	public void setColumnList(ColumnListModel columnList) {
-		var before = this.columnList.size() - 1;
-		this.columnList.clear();
+		var before = this.columnSize - 1;
+		for (var choose : this.fixedList.keySet()) {
+			choose.removePropertyChangeListener(this);
+		}
+		this.fixedList.clear();
+		createList(columnList == null? 0: columnList.getSize());
 		notifyRemoveData(before, 0);
 		if (columnList != null) {
 			for (var index = 0; index < columnList.getSize(); index ++) {
 				var choose = columnList.getData(index);
-				var column = new TableColumn(index);
 				switch (String.valueOf(choose.getCode()).toUpperCase(Locale.ENGLISH)) {
 				default:
-					column.setPreferredWidth(chooseColumnSize(choose.getSize(), 1, 10));
-					column.setMaxWidth(chooseColumnSize(choose.getSize(), 1, 5_000));
-					column.setMinWidth(chooseColumnSize(1));
+					registData(index, chooseColumnSize(choose.getSize(), 1, 10), chooseColumnSize(choose.getSize(), 1, 5_000), chooseColumnSize(1));
 					break;
 				case "TINYINT":
-					column.setPreferredWidth(chooseColumnSize(4));
-					column.setMaxWidth(chooseColumnSize(4));
-					column.setMinWidth(chooseColumnSize(1));
+					registData(index, chooseColumnSize(4), chooseColumnSize(4), chooseColumnSize(1));
 					break;
 				case "SMALLINT":
-					column.setPreferredWidth(chooseColumnSize(4));
-					column.setMaxWidth(chooseColumnSize(6));
-					column.setMinWidth(chooseColumnSize(1));
+					registData(index, chooseColumnSize(4), chooseColumnSize(6), chooseColumnSize(1));
 					break;
 				case "INT":
-					column.setPreferredWidth(chooseColumnSize(6));
-					column.setMaxWidth(chooseColumnSize(14));
-					column.setMinWidth(chooseColumnSize(01));
+					registData(index, chooseColumnSize(6), chooseColumnSize(14), chooseColumnSize(01));
 					break;
 				case "BIGINT":
-					column.setPreferredWidth(chooseColumnSize(10));
-					column.setMaxWidth(chooseColumnSize(26));
-					column.setMinWidth(chooseColumnSize(01));
+					registData(index, chooseColumnSize(10), chooseColumnSize(26), chooseColumnSize(01));
 					break;
 				case "DATETIME2":
-					column.setPreferredWidth(chooseColumnSize(22));
-					column.setMaxWidth(chooseColumnSize(27));
-					column.setMinWidth(chooseColumnSize(01));
+					registData(index, chooseColumnSize(22), chooseColumnSize(27), chooseColumnSize(01));
 					break;
 				}
-				column.setHeaderValue(choose.getName());
-				column.setCellRenderer(DEFAULT_RENDERER);
-				column.addPropertyChangeListener(this);
-				this.columnList.add(column);
+				this.orderList[index] = index;
+				this.modelList[index] = index;
+				this.headerList[index] = choose.getName();
+				this.renderList[index] = SourceViewFrame.chooseData(choose);
+				this.resizeData[index] = true;
 			}
-			notifyInsertData(0, this.columnList.size() - 1);
+			this.columnSize = columnList.getSize();
+			this.recordSize = columnList.getSize();
+			updateViewRange();
+			notifyInsertData(0, this.columnSize - 1);
 		}
 	}
+	/**
+	 * 表示領域を登録します。
+	 * <p>
+	 * 表示領域の変更毎に表示範囲を更新し、生成する列を表示範囲へ限定します。
+	 * </p>
+	 * 
+	 * @param viewport 表示領域
+	 */
+	public void registView(JViewport viewport) {
+		viewport.addChangeListener(event -> {
+			var choose = viewport.getViewRect();
+			updateViewRange(choose.x, choose.x + choose.width);
+		});
+	}
+	/**
+	 * 表示範囲を更新します。
+	 * 
+	 * @param viewLeft 左端座標
+	 * @param viewRight 右端座標
+	 */
+	public void updateViewRange(int viewLeft, int viewRight) {
+		this.viewLeft = viewLeft;
+		this.viewRight = viewRight;
+		updateViewRange();
+	}
+	/**
+	 * 推奨横幅を一括で設定します。
+	 * <p>
+	 * 要素番号毎の横幅を格納配列へ反映し、変更の通知は全列で一回だけ行います。
+	 * 利用者が横幅を変更した列は変更せず、最大横幅が不足する列は最大横幅を拡張します。
+	 * </p>
+	 * 
+	 * @param widthList 推奨横幅(要素番号毎、0以下の列は変更なし)
+	 * @see ColumnSizeModel#chooseWidth()
+	 */
+	public void updateColumnSize(int[] widthList) {
+		if (widthList == null) throw new IllegalArgumentException("widthList must be non null.");
+		var change = false;
+		for (var record = 0; record < this.recordSize; record ++) {
+			var index = this.modelList[record];
+			var choose = this.columnData[record];
+			if (index < 0 || widthList.length <= index || widthList[index] <= 0) {
+				// 処理なし
+			} else if (this.preferData[record] != this.sizeData[record]) {
+				// 処理なし(利用者が変更済)
+			} else if (choose != null && !(choose instanceof ColumnViewData)) {
+				// 外部列は設定処理で反映
+				var values = Math.max(widthList[index], choose.getMinWidth());
+				choose.setMaxWidth(Math.max(values, choose.getMaxWidth()));
+				choose.setPreferredWidth(values);
+				choose.setWidth(values);
+				this.sizeData[record] = this.preferData[record];
+			} else {
+				var values = Math.max(widthList[index], this.minimumData[record]);
+				this.maximumData[record] = Math.max(values, this.maximumData[record]);
+				this.preferData[record] = values;
+				this.widthData[record] = values;
+				this.sizeData[record] = values;
+				change = true;
+			}
+		}
+		if (change) {
+			updateWidthList(0);
+			updateViewRange();
+			notifyMarginData();
+		}
+	}
+	/**
+	 * 横幅を一括で調整します。
+	 * <p>
+	 * 自動調整なしの一覧で{@link javax.swing.JTable#doLayout()}が行う調整と同じ値を、列情報を生成せずに格納配列へ反映します。
+	 * 変更の通知は変更がある場合に全列で一回だけ行います。
+	 * </p>
+	 * 
+	 * @param inverse 利用者が横幅を変更中で、横幅を推奨横幅へ反映する場合は{@code true}
+	 * @see RecordViewFrame#doLayout()
+	 */
+	public void updateColumnWidth(boolean inverse) {
+		var change = false;
+		for (var index = 0; index < this.columnSize; index ++) {
+			var record = this.orderList[index];
+			var choose = this.columnData[record];
+			if (choose != null && !(choose instanceof ColumnViewData)) {
+				// 外部列は設定処理で反映
+				if (inverse) {
+					choose.setPreferredWidth(choose.getWidth());
+				} else {
+					choose.setWidth(choose.getPreferredWidth());
+				}
+			} else if (inverse) {
+				change |= updatePrefer(record, this.widthData[record]);
+			} else {
+				change |= updateWidth(record, this.preferData[record]);
+			}
+		}
+		if (change) notifyMarginData();
+	}
+	/**
+	 * 生成個数を取得します。
+	 * 
+	 * @return 保持している列情報の個数(外部から追加した列を含む)
+	 */
+	public int getViewSize() {
+		return this.viewList.size() + this.fixedList.size();
+	}
 
 	// ===================================================================
 	// 実装メソッド定義
@@ -227,10 +656,14 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	 */
 	@Override
 	public int getColumnCount() {
-		return this.columnList.size();
+		return this.columnSize;
 	}
 	/**
 	 * 要素情報を取得します。
+	 * <p>
+	 * 生成範囲内の列は生成して保持し、範囲外の列は保持せずに参照毎に生成して返却します。
+	 * 範囲外の列情報は格納番号だけを持ち、値は格納配列を参照します。
+	 * </p>
 	 * 
 	 * @param columnCode 要素番号
 	 * @return 要素情報
@@ -238,7 +671,19 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	 */
 	@Override
 	public TableColumn getColumn(int columnCode) {
-		return this.columnList.get(columnCode);
+		if (columnCode < 0 || this.columnSize <= columnCode) throw new ArrayIndexOutOfBoundsException(columnCode);
+		var record = this.orderList[columnCode];
+		var result = this.columnData[record];
+		if (result != null) {
+			return result;
+		} else if (this.viewIndex1 <= columnCode && columnCode <= this.viewIndex2) {
+			var choose = new ColumnViewData(record);
+			this.columnData[record] = choose;
+			this.viewList.add(choose);
+			return choose;
+		} else {
+			return new ColumnViewData(record);
+		}
 	}
 	/**
 	 * 要素番号を取得します。
@@ -252,27 +697,38 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 		if (uniqueData == null) {
 			throw new IllegalArgumentException("uniqueData must be non null.");
 		} else {
-			for (var index = 0; index < this.columnList.size(); index ++) {
-				var choose = this.columnList.get(index);
-				if (uniqueData.equals(choose.getIdentifier())) {
-					return index;
-				}
-			}
-			throw new IllegalArgumentException("uniqueData is not found.");
+			var choose = chooseUniqueList().get(uniqueData);
+			if (choose == null) throw new IllegalArgumentException("uniqueData is not found.");
+			return choose.intValue();
 		}
 	}
 	/**
 	 * 要素一覧を取得します。
 	 * 
-	 * @return 要素一覧
+	 * @return 要素一覧(列情報は列挙時に取得)
 	 * @see TableColumnModel#getColumns()
 	 */
 	@Override
 	public Enumeration<TableColumn> getColumns() {
-		return Collections.enumeration(this.columnList);
+		return new Enumeration<>() {
+			/** 列番号 */
+			private int index = 0;
+			@Override
+			public boolean hasMoreElements() {
+				return this.index < getColumnCount();
+			}
+			@Override
+			public TableColumn nextElement() {
+				if (!hasMoreElements()) throw new NoSuchElementException();
+				return getColumn(this.index ++);
+			}
+		};
 	}
 	/**
 	 * 要素情報を追加します。
+	 * <p>
+	 * 外部で生成した列は保持し、変更を監視して格納配列へ反映します。
+	 * </p>
 	 * 
 	 * @param columnData 要素情報
 	 * @see TableColumnModel#addColumn(TableColumn)
@@ -282,9 +738,21 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 		if (columnData == null) {
 			throw new IllegalArgumentException("columnData must be non null.");
 		} else {
-			columnData.addPropertyChangeListener(this);
-			this.columnList.add(columnData);
-			this.totalWidth = -1;
+			var record = chooseRecord(columnData);
+			if (record < 0 || 0 <= choosePlace(record)) {
+				record = this.recordSize ++;
+				expandList(this.recordSize);
+				copyData(record, columnData);
+				this.sizeData[record] = this.preferData[record];
+				if (!(columnData instanceof ColumnViewData)) {
+					columnData.addPropertyChangeListener(this);
+					this.fixedList.put(columnData, Integer.valueOf(record));
+					this.columnData[record] = columnData;
+				}
+			}
+			expandList(this.columnSize + 1);
+			this.orderList[this.columnSize ++] = record;
+			updateIndexList();
 			notifyInsertData(0, getColumnCount() - 1);
 		}
 	}
@@ -296,14 +764,19 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	 */
 	@Override
 	public void removeColumn(TableColumn columnData) {
-		var index2 = this.columnList.indexOf(columnData);
+		var record = columnData == null? -1: chooseRecord(columnData);
+		var index2 = record < 0? -1: choosePlace(record);
 		if (index2 < 0) {
 			// 処理なし
 		} else {
 			if (this.selectData != null) this.selectData.removeIndexInterval(index2, index2);
-			columnData.removePropertyChangeListener(this);
-			this.columnList.remove(index2);
-			this.totalWidth = -1;
+			if (this.fixedList.remove(columnData) != null) columnData.removePropertyChangeListener(this);
+			if (this.columnData[record] instanceof ColumnViewData) this.viewList.remove(this.columnData[record]);
+			this.columnData[record] = null;
+			System.arraycopy(this.orderList, index2 + 1, this.orderList, index2, this.columnSize - index2 - 1);
+			this.columnSize --;
+			updateWidthList(index2);
+			updateIndexList();
 			notifyRemoveData(index2, 0);
 		}
 	}
@@ -321,14 +794,12 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 		} else if (oldIndex == newIndex) {
 			notifyOffsetData(oldIndex, newIndex);
 		} else if (this.selectData == null) {
-			var choose = this.columnList.remove(oldIndex);
-			this.columnList.add(newIndex, choose);
+			moveOrder(oldIndex, newIndex);
 			notifyOffsetData(oldIndex, newIndex);
 		} else {
-			var choose = this.columnList.remove(oldIndex);
 			var select = this.selectData.isSelectedIndex(oldIndex);
 			this.selectData.removeIndexInterval(oldIndex, oldIndex);
-			this.columnList.add(newIndex, choose);
+			moveOrder(oldIndex, newIndex);
 			this.selectData.insertIndexInterval(newIndex, 1, true);
 			if (select) {
 				this.selectData.addSelectionInterval(newIndex, newIndex);
@@ -346,17 +817,13 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	 */
 	@Override
 	public int getTotalColumnWidth() {
-		if (this.totalWidth == -1) {
-			var result = 0;
-			for (var choose : this.columnList) {
-				result += choose.getWidth();
-			}
-			this.totalWidth = result;
-		}
-		return this.totalWidth;
+		return chooseWidthList()[this.columnSize];
 	}
 	/**
 	 * 要素番号を取得します。
+	 * <p>
+	 * 横幅累計を二分探索し、座標を含む列を判定します。
+	 * </p>
 	 * 
 	 * @param position 横軸座標
 	 * @return 要素番号
@@ -367,13 +834,21 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 		if (position < 0) {
 			return -1;
 		} else {
-			var remain = position;
-			for (var index = 0; index < this.columnList.size(); index ++) {
-				var choose = this.columnList.get(index);
-				remain -= choose.getWidth();
-				if (remain < 0) return index;
+			var values = chooseWidthList();
+			var length = this.columnSize;
+			if (values[length] <= position) return -1;
+			// 右端座標が座標を超える最初の列
+			var index1 = 0;
+			var index2 = length - 1;
+			while (index1 < index2) {
+				var index3 = (index1 + index2) >>> 1;
+				if (position < values[index3 + 1]) {
+					index2 = index3;
+				} else {
+					index1 = index3 + 1;
+				}
 			}
-			return -1;
+			return index1;
 		}
 	}
 	/**
@@ -507,18 +982,294 @@ final class ColumnViewModel implements TableColumnModel, ListSelectionListener,
 	}
 	/**
 	 * 要素変更を処理します。
+	 * <p>
+	 * 外部から追加した列の変更を格納配列へ反映します。
+	 * </p>
 	 * 
 	 * @param values 通知情報
 	 * @see PropertyChangeListener#propertyChange(PropertyChangeEvent)
 	 */
 	@Override
 	public void propertyChange(PropertyChangeEvent values) {
+		var choose = this.fixedList.get(values.getSource());
+		if (choose == null) return;
+		var record = choose.intValue();
+		var before = this.widthData[record];
+		copyData(record, (TableColumn)values.getSource());
+		if (before != this.widthData[record]) {
+			var place = choosePlace(record);
+			if (0 <= place) updateWidthList(place);
+		}
 		switch (values.getPropertyName()) {
 		case "width":
 		case "preferredWidth":
-			this.totalWidth = -1;
 			notifyMarginData();
 			break;
+		case "identifier":
+		case "headerValue":
+			this.uniqueList = null;
+			break;
+		}
+	}
+
+	/**
+	 * 列情報クラスです。
+	 * <p>
+	 * 値は要素画面モデルの格納配列を参照し、変更は格納配列へ反映します。
+	 * 同じ格納番号の列情報は、生成時期に関わらず同じ値を参照します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private final class ColumnViewData extends TableColumn {
+		// ===================================================================
+		// メンバー定数定義
+		// ===================================================================
+		/** シリアルバージョンUID */
+		private static final long serialVersionUID = 1L;
+
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 格納番号 */
+		final int record;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 列情報を生成します。
+		 * 
+		 * @param record 格納番号
+		 */
+		ColumnViewData(int record) {
+			super();
+			this.record = record;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 所属情報を取得します。
+		 * 
+		 * @return 要素画面モデル
+		 */
+		ColumnViewModel getOwner() {
+			return ColumnViewModel.this;
+		}
+
+		// ===================================================================
+		// 継承メソッド定義
+		// ===================================================================
+		/**
+		 * 要素番号を取得します。
+		 * 
+		 * @return 要素番号
+		 */
+		@Override
+		public int getModelIndex() {
+			return ColumnViewModel.this.modelList[this.record];
+		}
+		/**
+		 * 要素番号を設定します。
+		 * 
+		 * @param modelIndex 要素番号
+		 */
+		@Override
+		public void setModelIndex(int modelIndex) {
+			ColumnViewModel.this.modelList[this.record] = modelIndex;
+		}
+		/**
+		 * 識別情報を取得します。
+		 * 
+		 * @return 識別情報(未設定の場合は見出情報)
+		 */
+		@Override
+		public Object getIdentifier() {
+			var choose = ColumnViewModel.this.uniqueData[this.record];
+			return choose != null? choose: getHeaderValue();
+		}
+		/**
+		 * 識別情報を設定します。
+		 * 
+		 * @param identifier 識別情報
+		 */
+		@Override
+		public void setIdentifier(Object identifier) {
+			ColumnViewModel.this.uniqueData[this.record] = identifier;
+			ColumnViewModel.this.uniqueList = null;
+		}
+		/**
+		 * 見出情報を取得します。
+		 * 
+		 * @return 見出情報
+		 */
+		@Override
+		public Object getHeaderValue() {
+			return ColumnViewModel.this.headerList[this.record];
+		}
+		/**
+		 * 見出情報を設定します。
+		 * 
+		 * @param headerValue 見出情報
+		 */
+		@Override
+		public void setHeaderValue(Object headerValue) {
+			ColumnViewModel.this.headerList[this.record] = headerValue;
+			ColumnViewModel.this.uniqueList = null;
+		}
+		/**
+		 * 要素描画を取得します。
+		 * 
+		 * @return 要素描画
+		 */
+		@Override
+		public TableCellRenderer getCellRenderer() {
+			return ColumnViewModel.this.renderList[this.record];
+		}
+		/**
+		 * 要素描画を設定します。
+		 * 
+		 * @param cellRenderer 要素描画
+		 */
+		@Override
+		public void setCellRenderer(TableCellRenderer cellRenderer) {
+			ColumnViewModel.this.renderList[this.record] = cellRenderer;
+		}
+		/**
+		 * 見出描画を取得します。
+		 * 
+		 * @return 見出描画
+		 */
+		@Override
+		public TableCellRenderer getHeaderRenderer() {
+			return ColumnViewModel.this.headRenderList[this.record];
+		}
+		/**
+		 * 見出描画を設定します。
+		 * 
+		 * @param headerRenderer 見出描画
+		 */
+		@Override
+		public void setHeaderRenderer(TableCellRenderer headerRenderer) {
+			ColumnViewModel.this.headRenderList[this.record] = headerRenderer;
+		}
+		/**
+		 * 要素編集を取得します。
+		 * 
+		 * @return 要素編集
+		 */
+		@Override
+		public TableCellEditor getCellEditor() {
+			return ColumnViewModel.this.editorList[this.record];
+		}
+		/**
+		 * 要素編集を設定します。
+		 * 
+		 * @param cellEditor 要素編集
+		 */
+		@Override
+		public void setCellEditor(TableCellEditor cellEditor) {
+			ColumnViewModel.this.editorList[this.record] = cellEditor;
+		}
+		/**
+		 * 変更可否を取得します。
+		 * 
+		 * @return 利用者が横幅を変更できる場合は{@code true}
+		 */
+		@Override
+		public boolean getResizable() {
+			return ColumnViewModel.this.resizeData[this.record];
+		}
+		/**
+		 * 変更可否を設定します。
+		 * 
+		 * @param isResizable 利用者が横幅を変更できる場合は{@code true}
+		 */
+		@Override
+		public void setResizable(boolean isResizable) {
+			ColumnViewModel.this.resizeData[this.record] = isResizable;
+		}
+		/**
+		 * 横幅を取得します。
+		 * 
+		 * @return 横幅
+		 */
+		@Override
+		public int getWidth() {
+			return ColumnViewModel.this.widthData[this.record];
+		}
+		/**
+		 * 横幅を設定します。
+		 * 
+		 * @param width 横幅
+		 */
+		@Override
+		public void setWidth(int width) {
+			if (updateWidth(this.record, width)) notifyMarginData();
+		}
+		/**
+		 * 推奨横幅を取得します。
+		 * 
+		 * @return 推奨横幅
+		 */
+		@Override
+		public int getPreferredWidth() {
+			return ColumnViewModel.this.preferData[this.record];
+		}
+		/**
+		 * 推奨横幅を設定します。
+		 * 
+		 * @param preferredWidth 推奨横幅
+		 */
+		@Override
+		public void setPreferredWidth(int preferredWidth) {
+			if (updatePrefer(this.record, preferredWidth)) notifyMarginData();
+		}
+		/**
+		 * 最小横幅を取得します。
+		 * 
+		 * @return 最小横幅
+		 */
+		@Override
+		public int getMinWidth() {
+			return ColumnViewModel.this.minimumData[this.record];
+		}
+		/**
+		 * 最小横幅を設定します。
+		 * 
+		 * @param minWidth 最小横幅
+		 */
+		@Override
+		public void setMinWidth(int minWidth) {
+			var choose = Math.max(Math.min(minWidth, getMaxWidth()), 0);
+			ColumnViewModel.this.minimumData[this.record] = choose;
+			if (getWidth() < choose) setWidth(choose);
+			if (getPreferredWidth() < choose) setPreferredWidth(choose);
+		}
+		/**
+		 * 最大横幅を取得します。
+		 * 
+		 * @return 最大横幅
+		 */
+		@Override
+		public int getMaxWidth() {
+			return ColumnViewModel.this.maximumData[this.record];
+		}
+		/**
+		 * 最大横幅を設定します。
+		 * 
+		 * @param maxWidth 最大横幅
+		 */
+		@Override
+		public void setMaxWidth(int maxWidth) {
+			var choose = Math.max(getMinWidth(), maxWidth);
+			ColumnViewModel.this.maximumData[this.record] = choose;
+			if (choose < getWidth()) setWidth(choose);
+			if (choose < getPreferredWidth()) setPreferredWidth(choose);
 		}
 	}
 }
@@ -0,0 +1,370 @@
+/**
+ * [Source.Code] CursorViewModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import net.otchitta.utilities.rdb.source.RecordDataModel;
+import net.otchitta.utilities.rdb.source.RecordPageModel;
+import net.otchitta.utilities.rdb.source.SourceTextModel;
+import net.otchitta.utilities.rdb.source.TaskLaneModel;
+import net.otchitta.utilities.rdb.source.TaskQueueModel;
+
+/**
+ * 頁画面モデルクラスです。
+ * <p>
+ * 表示範囲の頁だけを{@link RecordPageModel}から読込み、直近に参照した頁を一定数保持します。
+ * 未読込の頁を参照した場合は読込中表示を返却し、読込完了後に更新を通知します。
+ * スクロール方向と速度に応じて先の頁を先行して読込みます。
+ * 読込に失敗した場合は以降の読込を停止し、失敗処理へ通知します。
+ * 一定時間読込がない場合は読込情報が保持する接続を返却します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class CursorViewModel implements TableModel, TextViewModel, AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 頁行数 */
+	private static final int PAGE_SIZE = 256;
+	/** 頁保持数 */
+	private static final int PAGE_KEEP = 64;
+	/** 先行上限 */
+	private static final int AHEAD_SIZE = 8;
+	/** 読込中表示 */
+	private static final Object LOADING = new Object() {
+		@Override
+		public String toString() {
+			return "...";
+		}
+	};
+	/** 返却待機(ミリ秒) */
+	private static final int IDLE_TIME = 30_000;
+	/** 読込処理 */
+	private static final TaskLaneModel LOADER = TaskQueueModel.getDefault().createLane("CursorViewModel", 2);
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 監視一覧 */
+	private final EventListenerList listenList;
+	/** 読込情報 */
+	private final RecordPageModel sourceData;
+	/** 失敗処理 */
+	private final Consumer<Exception> errorHook;
+	/** 返却処理 */
+	private final Timer idleTimer;
+	/** 頁一覧 */
+	private final LinkedHashMap<Integer, RecordDataModel[]> pageList;
+	/** 読込一覧 */
+	private final HashSet<Integer> loadList;
+	/** 直前頁 */
+	private int lastPage;
+	/** 直前時刻 */
+	private long lastTime;
+	/** 移動速度(頁／秒) */
+	private double velocity;
+	/** 終了状態 */
+	private boolean closeFlag;
+	/** 失敗状態 */
+	private boolean errorFlag;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 頁画面モデルを生成します。
+	 * 
+	 * @param sourceData 読込情報
+	 * @param errorHook 失敗処理
+	 */
+	public CursorViewModel(RecordPageModel sourceData, Consumer<Exception> errorHook) {
+		super();
+		if (sourceData == null) throw new IllegalArgumentException("sourceData must be non null.");
+		if (errorHook == null) throw new IllegalArgumentException("errorHook must be non null.");
+		this.listenList = new EventListenerList();
+		this.sourceData = sourceData;
+		this.errorHook = errorHook;
+		this.idleTimer = new Timer(IDLE_TIME, event -> LOADER.execute(sourceData::releaseData));
+		this.idleTimer.setRepeats(false);
+		this.pageList = new LinkedHashMap<>(PAGE_KEEP, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, RecordDataModel[]> eldest) {
+				return PAGE_KEEP < size();
+			}
+		};
+		this.loadList = new HashSet<>();
+		this.lastPage = 0;
+		this.lastTime = System.nanoTime();
+		this.velocity = 0.0;
+		this.closeFlag = false;
+		this.errorFlag = false;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 頁個数を取得します。
+	 * 
+	 * @return 頁個数
+	 */
+	private int getPageSize() {
+		return (this.sourceData.getRecordSize() + PAGE_SIZE - 1) / PAGE_SIZE;
+	}
+	/**
+	 * 頁情報を要求します。
+	 * 
+	 * @param pageCode 頁番号
+	 */
+	private void requestPage(int pageCode) {
+		if (this.closeFlag || this.errorFlag) return;
+		if (pageCode < 0 || getPageSize() <= pageCode) return;
+		var choose = Integer.valueOf(pageCode);
+		if (this.pageList.containsKey(choose) || !this.loadList.add(choose)) return;
+		this.idleTimer.restart();
+		LOADER.execute(() -> {
+			try {
+				var values = this.sourceData.readPage(pageCode * PAGE_SIZE, PAGE_SIZE);
+				if (SourceTextModel.isCacheFlag()) {
+					for (var cache1 : values) {
+						cache1.createText();
+					}
+				}
+				SwingUtilities.invokeLater(() -> updatePage(pageCode, values));
+			} catch (Exception errors) {
+				SwingUtilities.invokeLater(() -> updateError(pageCode, errors));
+			}
+		});
+	}
+	/**
+	 * 頁情報を更新します。
+	 * 
+	 * @param pageCode 頁番号
+	 * @param pageData 頁情報
+	 */
+	private void updatePage(int pageCode, RecordDataModel[] pageData) {
+		this.loadList.remove(Integer.valueOf(pageCode));
+		if (this.closeFlag || this.errorFlag) return;
+		this.pageList.put(Integer.valueOf(pageCode), pageData);
+		var index1 = pageCode * PAGE_SIZE;
+		var index2 = Math.min(index1 + PAGE_SIZE, getRowCount()) - 1;
+		var values = new TableModelEvent(this, index1, index2);
+		for (var choose : this.listenList.getListeners(TableModelListener.class)) {
+			choose.tableChanged(values);
+		}
+	}
+
+	/**
+	 * 読込失敗を通知します。
+	 * <p>
+	 * 以降の読込を停止し、最初の失敗だけを失敗処理へ通知します。
+	 * </p>
+	 * 
+	 * @param pageCode 頁番号
+	 * @param errors 例外情報
+	 */
+	private void updateError(int pageCode, Exception errors) {
+		this.loadList.remove(Integer.valueOf(pageCode));
+		if (this.closeFlag || this.errorFlag) return;
+		this.errorFlag = true;
+		this.idleTimer.stop();
+		LOADER.execute(this.sourceData::releaseData);
+		this.errorHook.accept(errors);
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 表示範囲を更新します。
+	 * <p>
+	 * 表示範囲の頁を要求し、頁の移動方向へ移動速度に応じた頁数を先行して要求します。
+	 * </p>
+	 * 
+	 * @param index1 開始行番号
+	 * @param index2 終了行番号
+	 */
+	public void updateView(int index1, int index2) {
+		if (index1 < 0 || index2 < index1) return;
+		var page1 = index1 / PAGE_SIZE;
+		var page2 = index2 / PAGE_SIZE;
+		for (var index = page1; index <= page2; index ++) {
+			requestPage(index);
+		}
+		if (page1 == this.lastPage) return;
+		var nowTime = System.nanoTime();
+		var elapsed = Math.max(1L, nowTime - this.lastTime) / 1_000_000_000.0;
+		var current = Math.abs(page1 - this.lastPage) / elapsed;
+		this.velocity = this.velocity * 0.5 + current * 0.5;
+		var direct = page1 < this.lastPage? -1: 1;
+		var length = (int)Math.max(1, Math.min(AHEAD_SIZE, Math.ceil(this.velocity * 0.5)));
+		this.lastPage = page1;
+		this.lastTime = nowTime;
+		for (var index = 1; index <= length; index ++) {
+			requestPage(direct < 0? page1 - index: page2 + index);
+		}
+	}
+	/**
+	 * 読込処理を終了します。
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		this.closeFlag = true;
+		this.idleTimer.stop();
+		this.pageList.clear();
+		LOADER.execute(this.sourceData::close);
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 列個数を取得します。
+	 * 
+	 * @return 列個数
+	 * @see TableModel#getColumnCount()
+	 */
+	@Override
+	public int getColumnCount() {
+		return this.sourceData.getColumnList().getSize();
+	}
+	/**
+	 * 列名称を取得します。
+	 * 
+	 * @param columnCode 列番号
+	 * @return 列名称
+	 * @see TableModel#getColumnName(int)
+	 */
+	@Override
+	public String getColumnName(int columnCode) {
+		return String.format("%04d", Integer.valueOf(columnCode));
+	}
+	/**
+	 * 列種別を取得します。
+	 * 
+	 * @param columnCode 列番号
+	 * @return 列種別
+	 * @see TableModel#getColumnClass(int)
+	 */
+	@Override
+	public Class<?> getColumnClass(int columnCode) {
+		return Object.class;
+	}
+	/**
+	 * 行個数を取得します。
+	 * 
+	 * @return 行個数
+	 * @see TableModel#getRowCount()
+	 */
+	@Override
+	public int getRowCount() {
+		return this.sourceData.getRecordSize();
+	}
+	/**
+	 * 編集可否を判定します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 編集可否
+	 * @see TableModel#isCellEditable(int, int)
+	 */
+	@Override
+	public boolean isCellEditable(int recordCode, int columnCode) {
+		return false;
+	}
+	/**
+	 * 値情報を取得します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 値情報(未読込の場合は読込中表示)
+	 * @see TableModel#getValueAt(int, int)
+	 */
+	@Override
+	public Object getValueAt(int recordCode, int columnCode) {
+		var pageCode = recordCode / PAGE_SIZE;
+		var choose = this.pageList.get(Integer.valueOf(pageCode));
+		if (choose == null) {
+			requestPage(pageCode);
+			return LOADING;
+		} else {
+			var offset = recordCode % PAGE_SIZE;
+			if (choose.length <= offset) return null;
+			var values = choose[offset];
+			return columnCode < values.getSize()? values.getData(columnCode): null;
+		}
+	}
+	/**
+	 * 表示文字を取得します。
+	 * <p>
+	 * 頁情報を読込中の場合は読込中の表示文字を返却します。
+	 * </p>
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 表示文字
+	 * @see TextViewModel#getTextAt(int, int)
+	 */
+	@Override
+	public String getTextAt(int recordCode, int columnCode) {
+		var choose = this.pageList.get(Integer.valueOf(recordCode / PAGE_SIZE));
+		if (choose == null) {
+			return LOADING.toString();
+		} else {
+			var offset = recordCode % PAGE_SIZE;
+			if (choose.length <= offset) return SourceTextModel.NULL_TEXT;
+			var values = choose[offset];
+			return columnCode < values.getSize()? values.getText(columnCode): SourceTextModel.NULL_TEXT;
+		}
+	}
+	/**
+	 * 値情報を設定します。
+	 * 
+	 * @param importData 値情報
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @see TableModel#setValueAt(Object, int, int)
+	 */
+	@Override
+	public void setValueAt(Object importData, int recordCode, int columnCode) {
+		// 処理なし
+	}
+	/**
+	 * 監視処理を追加します。
+	 * 
+	 * @param listenHook 監視処理
+	 * @see TableModel#addTableModelListener(TableModelListener)
+	 */
+	@Override
+	public void addTableModelListener(TableModelListener listenHook) {
+		this.listenList.add(TableModelListener.class, listenHook);
+	}
+	/**
+	 * 監視処理を削除します。
+	 * 
+	 * @param listenHook 監視処理
+	 * @see TableModel#removeTableModelListener(TableModelListener)
+	 */
+	@Override
+	public void removeTableModelListener(TableModelListener listenHook) {
+		this.listenList.remove(TableModelListener.class, listenHook);
+	}
+}
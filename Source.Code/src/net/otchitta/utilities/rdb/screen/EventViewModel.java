@@ -0,0 +1,161 @@
+/**
+ * [Source.Code] EventViewModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * 記録事象モデルクラスです。
+ * <p>
+ * Java Flight Recorderへ出力する画面側の事象を定義します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class EventViewModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 分類名称 */
+	static final String CATEGORY = "RDB Utilities";
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 記録事象モデルを生成します。
+	 */
+	private EventViewModel() {
+		super();
+	}
+
+	/**
+	 * 反映事象クラスです。
+	 * <p>
+	 * 読込処理から依頼した要素情報を画面スレッドで一覧へ反映する区間を記録します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	@Name("net.otchitta.utilities.rdb.Publish")
+	@Label("EDT Publication")
+	@Description("Applying one batch of fetched rows to the table model on the event dispatch thread.")
+	@Category({CATEGORY, "Screen"})
+	@StackTrace(false)
+	static final class PublishData extends Event {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 行件数 */
+		@Label("Rows")
+		int recordSize;
+		/** 待機時間 */
+		@Label("Queue Time")
+		@Description("Time from the request on the reader thread until the batch started on the event dispatch thread.")
+		@Timespan(Timespan.NANOSECONDS)
+		long waitTime;
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 事象を確定します。
+		 * 
+		 * @param recordSize 行件数
+		 * @param before 依頼時刻({@link System#nanoTime()})
+		 * @param after 開始時刻({@link System#nanoTime()})
+		 */
+		void finishData(int recordSize, long before, long after) {
+			end();
+			if (shouldCommit()) {
+				this.recordSize = recordSize;
+				this.waitTime = after - before;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * 描画事象クラスです。
+	 * <p>
+	 * 描画処理は要素毎に呼出されるため、既定では閾値を超えた要素だけを記録します。
+	 * 事象が無効な場合は{@link #isEnabledData()}で判定し、事象を生成しません。
+	 * 全件を記録する場合は記録設定で{@code threshold}を{@code 0 ms}とします。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 * @see SourceViewFrame#getTableCellRendererComponent(javax.swing.JTable, Object, boolean, boolean, int, int)
+	 */
+	@Name("net.otchitta.utilities.rdb.Render")
+	@Label("Cell Render")
+	@Description("Preparing the renderer component for one table cell.")
+	@Category({CATEGORY, "Screen"})
+	@StackTrace(false)
+	@Threshold("100 us")
+	static final class RenderData extends Event {
+		// ===================================================================
+		// メンバー定数定義
+		// ===================================================================
+		/** 判定事象 */
+		private static final RenderData ENABLE_DATA = new RenderData();
+
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 行番号 */
+		@Label("Row")
+		int record;
+		/** 列番号 */
+		@Label("Column")
+		int column;
+		/** 値種別 */
+		@Label("Value Type")
+		Class<?> valueType;
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 記録状態を判定します。
+		 * <p>
+		 * 描画処理は記録対象外の場合に事象を生成しないよう、事前に判定します。
+		 * 判定は共有の事象で行い、記録設定の変更は次回の判定から反映されます。
+		 * </p>
+		 * 
+		 * @return 記録中の設定で有効な場合は{@code true}
+		 */
+		static boolean isEnabledData() {
+			return ENABLE_DATA.isEnabled();
+		}
+		/**
+		 * 事象を確定します。
+		 * 
+		 * @param record 行番号
+		 * @param column 列番号
+		 * @param values 要素情報
+		 */
+		void finishData(int record, int column, Object values) {
+			end();
+			if (shouldCommit()) {
+				this.record = record;
+				this.column = column;
+				this.valueType = values == null? null: values.getClass();
+				commit();
+			}
+		}
+	}
+}
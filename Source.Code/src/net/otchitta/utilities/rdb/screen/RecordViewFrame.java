@@ -0,0 +1,72 @@
+/**
+ * [Source.Code] RecordViewFrame.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import javax.swing.JTable;
+import javax.swing.table.TableModel;
+
+/**
+ * 一覧画面エリアクラスです。
+ * <p>
+ * 横幅の自動調整を行わない一覧で、配置処理を要素画面モデルの格納配列に対して直接行います。
+ * {@link JTable#doLayout()}は列毎に{@link javax.swing.table.TableColumn}を参照するため、列数に比例して列情報を参照しないようにします。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ColumnViewModel#updateColumnWidth(boolean)
+ */
+final class RecordViewFrame extends JTable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 1L;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 要素画面 */
+	private final ColumnViewModel columnView;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 一覧画面エリアを生成します。
+	 * <p>
+	 * 横幅の自動調整なしと既定の要素描画を設定します。
+	 * </p>
+	 * 
+	 * @param recordView 一覧モデル
+	 * @param columnView 要素画面モデル
+	 */
+	public RecordViewFrame(TableModel recordView, ColumnViewModel columnView) {
+		super(recordView, columnView);
+		this.columnView = columnView;
+		setDefaultRenderer(Object.class, new SourceViewFrame());
+		setAutoResizeMode(AUTO_RESIZE_OFF);
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 配置処理を実行します。
+	 * <p>
+	 * 横幅の自動調整なしの場合は、推奨横幅を横幅へ(利用者が横幅を変更中は横幅を推奨横幅へ)格納配列上で反映します。
+	 * それ以外は基底の配置処理を実行します。
+	 * </p>
+	 */
+	@Override
+	public void doLayout() {
+		if (getAutoResizeMode() != AUTO_RESIZE_OFF || getColumnModel() != this.columnView) {
+			super.doLayout();
+		} else {
+			var choose = getTableHeader();
+			this.columnView.updateColumnWidth(choose != null && choose.getResizingColumn() != null);
+		}
+	}
+}
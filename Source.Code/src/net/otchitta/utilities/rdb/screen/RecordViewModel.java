@@ -3,30 +3,36 @@
  */
 package net.otchitta.utilities.rdb.screen;
 
-import java.util.ArrayList;
-
 import javax.swing.event.EventListenerList;
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
 import javax.swing.table.TableModel;
 
 import net.otchitta.utilities.rdb.source.RecordDataModel;
+import net.otchitta.utilities.rdb.source.RecordFileModel;
 
 /**
  * 要素画面モデルクラスです。
+ * <p>
+ * 要素情報の格納と画面への通知を分けて行えます。
+ * 読込処理は{@link #storeRecordList(RecordDataModel[])}で格納し、画面スレッドは{@link #notifyRecordList(RecordDataModel[])}で行個数を更新します。
+ * 退避の符号化と書込は格納時に行うため、画面スレッドでは実行しません。
+ * </p>
  * 
  * @since   1.0.0
  * @version 1.0.0
  * @author  o.chikami
  */
-final class RecordViewModel implements TableModel {
+final class RecordViewModel implements TableModel, TextViewModel {
 	// ===================================================================
 	// メンバー変数定義
 	// ===================================================================
 	/** 監視一覧 */
 	private final EventListenerList listenList;
 	/** 要素一覧 */
-	private final ArrayList<RecordDataModel> recordList;
+	private volatile RecordFileModel recordList;
+	/** 行個数(通知済) */
+	private int recordSize;
 	/** 要素個数 */
 	private int columnSize;
 
@@ -38,19 +44,40 @@ final class RecordViewModel implements TableModel {
 	 */
 	public RecordViewModel() {
 		this.listenList = new EventListenerList();
-		this.recordList = new ArrayList<>();
+		this.recordList = new RecordFileModel();
+		this.recordSize = 0;
 		this.columnSize = 0;
 	}
 
 	// ===================================================================
 	// 公開メソッド定義
 	// ===================================================================
+	/**
+	 * 保持容量を取得します。
+	 * 
+	 * @return 保持容量(バイト)
+	 * @see RecordFileModel#getHeapSize()
+	 */
+	public long getHeapSize() {
+		return this.recordList.getHeapSize();
+	}
+	/**
+	 * 退避容量を取得します。
+	 * 
+	 * @return 退避容量(バイト)
+	 * @see RecordFileModel#getFileSize()
+	 */
+	public long getFileSize() {
+		return this.recordList.getFileSize();
+	}
 	/**
 	 * 要素一覧を削除します。
 	 */
 	public void removeRecordList() {
+		this.recordSize = 0;
 		this.columnSize = 0;
-		this.recordList.clear();
+		this.recordList.close();
+		this.recordList = new RecordFileModel();
 		var values = new TableModelEvent(this, TableModelEvent.HEADER_ROW);
 		for (var choose : this.listenList.getListeners(TableModelListener.class)) {
 			choose.tableChanged(values);
@@ -62,12 +89,50 @@ final class RecordViewModel implements TableModel {
 	 * @param recordData 要素情報
 	 */
 	public void registRecordData(RecordDataModel recordData) {
-		var offset = this.recordList.size();
+		registRecordList(new RecordDataModel[] {recordData});
+	}
+	/**
+	 * 要素一覧を追加します。
+	 * <p>
+	 * 格納と通知を続けて行います。
+	 * </p>
+	 * 
+	 * @param recordList 要素一覧
+	 */
+	public void registRecordList(RecordDataModel[] recordList) {
+		storeRecordList(recordList);
+		notifyRecordList(recordList);
+	}
+	/**
+	 * 要素一覧を格納します。
+	 * <p>
+	 * 画面スレッド以外から呼出せます。格納した要素情報は{@link #notifyRecordList(RecordDataModel[])}の通知後に表示します。
+	 * </p>
+	 * 
+	 * @param recordList 要素一覧
+	 */
+	public void storeRecordList(RecordDataModel[] recordList) {
+		this.recordList.registList(recordList);
+	}
+	/**
+	 * 要素一覧を通知します。
+	 * <p>
+	 * 格納済の要素一覧について、追加範囲を一つの通知情報にまとめて通知します。
+	 * 画面スレッドから格納順に呼出します。
+	 * </p>
+	 * 
+	 * @param recordList 要素一覧(格納済)
+	 */
+	public void notifyRecordList(RecordDataModel[] recordList) {
+		var offset = this.recordSize;
+		this.recordSize = Math.min(offset + recordList.length, this.recordList.getSize());
+		if (this.recordSize <= offset) return;
 		var before = this.columnSize;
-		this.columnSize = Math.max(this.columnSize, recordData.getSize());
-		this.recordList.add(recordData);
+		for (var choose : recordList) {
+			this.columnSize = Math.max(this.columnSize, choose.getSize());
+		}
 		var values = this.columnSize == before?
-		             new TableModelEvent(this, offset, offset, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT): // 情報追加
+		             new TableModelEvent(this, offset, this.recordSize - 1, TableModelEvent.ALL_COLUMNS, TableModelEvent.INSERT): // 情報追加
 		             new TableModelEvent(this, TableModelEvent.HEADER_ROW); // 構造変更
 		for (var choose : this.listenList.getListeners(TableModelListener.class)) {
 			choose.tableChanged(values);
@@ -117,7 +182,7 @@ final class RecordViewModel implements TableModel {
 	 */
 	@Override
 	public int getRowCount() {
-		return this.recordList.size();
+		return this.recordSize;
 	}
 	/**
 	 * 編集可否を判定します。
@@ -140,8 +205,19 @@ final class RecordViewModel implements TableModel {
 	 */
 	@Override
 	public Object getValueAt(int recordCode, int columnCode) {
-		var choose = this.recordList.get(recordCode);
-		return choose.getData(columnCode);
+		return this.recordList.getData(recordCode, columnCode);
+	}
+	/**
+	 * 表示文字を取得します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 表示文字
+	 * @see TextViewModel#getTextAt(int, int)
+	 */
+	@Override
+	public String getTextAt(int recordCode, int columnCode) {
+		return this.recordList.getData(recordCode).getText(columnCode);
 	}
 	/**
 	 * 値情報を設定します。
@@ -0,0 +1,61 @@
+/**
+ * [Source.Code] ResultMonitorMXBean.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.util.List;
+
+/**
+ * 結果監視インターフェースです。
+ * <p>
+ * {@link ResultViewFrame}毎に{@code net.otchitta.utilities.rdb:type=ResultView,name=番号}としてJMXへ公開します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ResultMonitorModel
+ */
+public interface ResultMonitorMXBean {
+	/**
+	 * 実行数を取得します。
+	 * 
+	 * @return 実行中の処理数
+	 */
+	public int getRunningSize();
+	/**
+	 * 待機数を取得します。
+	 * 
+	 * @return 待機中の処理数
+	 */
+	public int getQueueSize();
+	/**
+	 * 実行一覧を取得します。
+	 * 
+	 * @return 実行中および待機中の処理一覧
+	 */
+	public List<ResultMonitorModel.QueryData> getQueryList();
+	/**
+	 * 画面一覧を取得します。
+	 * 
+	 * @return 表示中の結果画面一覧
+	 */
+	public List<ResultMonitorModel.TabData> getTabList();
+	/**
+	 * 実行処理を取消します。
+	 * 
+	 * @param queryCode 実行番号
+	 * @return 取消を要求した場合は{@code true}
+	 */
+	public boolean cancelQuery(long queryCode);
+	/**
+	 * 結果画面を削除します。
+	 * <p>
+	 * 同名の画面が複数ある場合は先頭の画面を削除します。
+	 * </p>
+	 * 
+	 * @param tabName 画面名称
+	 * @return 削除した場合は{@code true}
+	 */
+	public boolean removeTab(String tabName);
+}
@@ -0,0 +1,385 @@
+/**
+ * [Source.Code] ResultMonitorModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import java.lang.System.Logger.Level;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.swing.SwingUtilities;
+
+import net.otchitta.utilities.rdb.source.InvokeDataModel;
+import net.otchitta.utilities.rdb.source.TaskLaneModel;
+
+/**
+ * 結果監視モデルクラスです。
+ * <p>
+ * 結果画面エリアの実行処理と結果画面をJMXへ公開します。
+ * 画面の参照と操作は画面スレッドで実行します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ResultMonitorModel implements ResultMonitorMXBean {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(ResultMonitorModel.class.getName());
+	/** 公開名称 */
+	public static final String OBJECT_NAME = "net.otchitta.utilities.rdb:type=ResultView,name=%d";
+	/** 登録番号 */
+	private static final AtomicInteger REGIST_CODE = new AtomicInteger();
+	/** 実行番号 */
+	private static final AtomicLong QUERY_CODE = new AtomicLong();
+	/** 表示長 */
+	private static final int TEXT_SIZE = 200;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 画面情報 */
+	private final ResultViewFrame screen;
+	/** 並列管理 */
+	private final TaskLaneModel threads;
+	/** 実行一覧 */
+	private final ConcurrentSkipListMap<Long, QueryData> queries;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 結果監視モデルを生成します。
+	 * 
+	 * @param screen 画面情報
+	 * @param threads 並列管理
+	 */
+	private ResultMonitorModel(ResultViewFrame screen, TaskLaneModel threads) {
+		super();
+		this.screen = screen;
+		this.threads = threads;
+		this.queries = new ConcurrentSkipListMap<>();
+	}
+	/**
+	 * 結果監視モデルを生成します。
+	 * <p>
+	 * 生成した監視はJMXへ登録します。登録に失敗した場合は記録処理へ出力して継続します。
+	 * </p>
+	 * 
+	 * @param screen 画面情報
+	 * @param threads 並列管理
+	 * @return 生成情報
+	 */
+	static ResultMonitorModel createData(ResultViewFrame screen, TaskLaneModel threads) {
+		var result = new ResultMonitorModel(screen, threads);
+		var choose = String.format(OBJECT_NAME, Integer.valueOf(REGIST_CODE.incrementAndGet()));
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(result, new ObjectName(choose));
+		} catch (JMException | RuntimeException errors) {
+			LOGGER.log(Level.WARNING, "failed to register monitor.(name=" + choose + ")", errors);
+		}
+		return result;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 画面スレッドで処理を実行します。
+	 * 
+	 * @param <T> 結果種別
+	 * @param action 実行処理
+	 * @return 実行結果
+	 */
+	private static <T> T invokeData(Supplier<T> action) {
+		if (SwingUtilities.isEventDispatchThread()) return action.get();
+		var result = new ArrayList<T>(1);
+		try {
+			SwingUtilities.invokeAndWait(() -> result.add(action.get()));
+		} catch (InterruptedException errors) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("interrupted while waiting for event dispatch thread.", errors);
+		} catch (InvocationTargetException errors) {
+			throw new IllegalStateException(errors.getCause());
+		}
+		return result.get(0);
+	}
+	/**
+	 * 実行処理を登録します。
+	 * <p>
+	 * 返却した処理の実行中は実行一覧に実行中として、実行前は待機中として保持します。
+	 * </p>
+	 * 
+	 * @param queryText 実行構文
+	 * @param invoker 実行情報(取消できない場合は{@code null})
+	 * @param runner 実行処理
+	 * @return 実行処理
+	 */
+	Runnable registData(String queryText, InvokeDataModel invoker, Runnable runner) {
+		var choose = new QueryData(QUERY_CODE.incrementAndGet(), queryText, invoker);
+		this.queries.put(Long.valueOf(choose.queryCode), choose);
+		return () -> {
+			choose.startTime = System.nanoTime();
+			try {
+				runner.run();
+			} finally {
+				this.queries.remove(Long.valueOf(choose.queryCode));
+			}
+		};
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 実行数を取得します。
+	 * 
+	 * @return 実行中の処理数
+	 * @see ResultMonitorMXBean#getRunningSize()
+	 */
+	@Override
+	public int getRunningSize() {
+		return this.threads.getRunningSize();
+	}
+	/**
+	 * 待機数を取得します。
+	 * 
+	 * @return 待機中の処理数
+	 * @see ResultMonitorMXBean#getQueueSize()
+	 */
+	@Override
+	public int getQueueSize() {
+		return this.threads.getQueueSize();
+	}
+	/**
+	 * 実行一覧を取得します。
+	 * 
+	 * @return 実行中および待機中の処理一覧
+	 * @see ResultMonitorMXBean#getQueryList()
+	 */
+	@Override
+	public List<QueryData> getQueryList() {
+		return new ArrayList<>(this.queries.values());
+	}
+	/**
+	 * 画面一覧を取得します。
+	 * 
+	 * @return 表示中の結果画面一覧
+	 * @see ResultMonitorMXBean#getTabList()
+	 */
+	@Override
+	public List<TabData> getTabList() {
+		return invokeData(this.screen::chooseTabList);
+	}
+	/**
+	 * 実行処理を取消します。
+	 * <p>
+	 * 待機中の処理は開始時点で取消します。
+	 * </p>
+	 * 
+	 * @param queryCode 実行番号
+	 * @return 取消を要求した場合は{@code true}
+	 * @see ResultMonitorMXBean#cancelQuery(long)
+	 */
+	@Override
+	public boolean cancelQuery(long queryCode) {
+		var choose = this.queries.get(Long.valueOf(queryCode));
+		if (choose == null || choose.invoker == null) return false;
+		choose.invoker.cancel();
+		return true;
+	}
+	/**
+	 * 結果画面を削除します。
+	 * 
+	 * @param tabName 画面名称
+	 * @return 削除した場合は{@code true}
+	 * @see ResultMonitorMXBean#removeTab(String)
+	 */
+	@Override
+	public boolean removeTab(String tabName) {
+		return invokeData(() -> Boolean.valueOf(this.screen.removeTab(tabName))).booleanValue();
+	}
+
+	/**
+	 * 実行情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	public static final class QueryData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 実行番号 */
+		private final long queryCode;
+		/** 実行構文 */
+		private final String queryText;
+		/** 実行情報 */
+		private final InvokeDataModel invoker;
+		/** 登録時刻 */
+		private final long registTime;
+		/** 開始時刻(未開始の場合は0) */
+		private volatile long startTime;
+
+		// ===================================================================
+		// プロパティー定義
+		// ===================================================================
+		/**
+		 * 実行番号を取得します。
+		 * 
+		 * @return 実行番号
+		 * @see ResultMonitorMXBean#cancelQuery(long)
+		 */
+		public long getQueryCode() {
+			return this.queryCode;
+		}
+		/**
+		 * 実行構文を取得します。
+		 * 
+		 * @return 実行構文(先頭のみ)
+		 */
+		public String getQueryText() {
+			return this.queryText;
+		}
+		/**
+		 * 実行状態を取得します。
+		 * 
+		 * @return 実行状態({@code QUEUED}・{@code RUNNING}・{@code CANCELLING})
+		 */
+		public String getStateText() {
+			if (this.invoker != null && this.invoker.isCancelled()) {
+				return "CANCELLING";
+			} else if (this.startTime == 0L) {
+				return "QUEUED";
+			} else {
+				return "RUNNING";
+			}
+		}
+		/**
+		 * 経過時間を取得します。
+		 * 
+		 * @return 登録からの経過時間(ミリ秒)
+		 */
+		public long getElapsedTime() {
+			return (System.nanoTime() - this.registTime) / 1_000_000L;
+		}
+		/**
+		 * 待機時間を取得します。
+		 * 
+		 * @return 登録から開始までの待機時間(ミリ秒、未開始の場合は現在まで)
+		 */
+		public long getWaitTime() {
+			var choose = this.startTime;
+			return ((choose == 0L? System.nanoTime(): choose) - this.registTime) / 1_000_000L;
+		}
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 実行情報を生成します。
+		 * 
+		 * @param queryCode 実行番号
+		 * @param queryText 実行構文
+		 * @param invoker 実行情報
+		 */
+		private QueryData(long queryCode, String queryText, InvokeDataModel invoker) {
+			super();
+			var choose = queryText == null? "": queryText.strip();
+			this.queryCode = queryCode;
+			this.queryText = choose.length() <= TEXT_SIZE? choose: choose.substring(0, TEXT_SIZE) + "...";
+			this.invoker = invoker;
+			this.registTime = System.nanoTime();
+			this.startTime = 0L;
+		}
+	}
+
+	/**
+	 * 画面情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	public static final class TabData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 画面名称 */
+		private final String tabName;
+		/** 行件数 */
+		private final long recordSize;
+		/** 保持容量 */
+		private final long heapSize;
+		/** 退避容量 */
+		private final long fileSize;
+
+		// ===================================================================
+		// プロパティー定義
+		// ===================================================================
+		/**
+		 * 画面名称を取得します。
+		 * 
+		 * @return 画面名称
+		 * @see ResultMonitorMXBean#removeTab(String)
+		 */
+		public String getTabName() {
+			return this.tabName;
+		}
+		/**
+		 * 行件数を取得します。
+		 * 
+		 * @return 行件数(一覧以外の場合は-1)
+		 */
+		public long getRecordSize() {
+			return this.recordSize;
+		}
+		/**
+		 * 保持容量を取得します。
+		 * 
+		 * @return ヒープ上の概算保持容量(バイト)
+		 */
+		public long getHeapSize() {
+			return this.heapSize;
+		}
+		/**
+		 * 退避容量を取得します。
+		 * 
+		 * @return 一時ファイルへ退避した容量(バイト)
+		 */
+		public long getFileSize() {
+			return this.fileSize;
+		}
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 画面情報を生成します。
+		 * 
+		 * @param tabName 画面名称
+		 * @param recordSize 行件数
+		 * @param heapSize 保持容量
+		 * @param fileSize 退避容量
+		 */
+		TabData(String tabName, long recordSize, long heapSize, long fileSize) {
+			super();
+			this.tabName = tabName;
+			this.recordSize = recordSize;
+			this.heapSize = heapSize;
+			this.fileSize = fileSize;
+		}
+	}
+}
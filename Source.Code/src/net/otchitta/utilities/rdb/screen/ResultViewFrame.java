@@ -4,10 +4,19 @@
 package net.otchitta.utilities.rdb.screen;
 
 import java.awt.CardLayout;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.awt.Component;
+import java.awt.Point;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import javax.swing.JCheckBox;
 import javax.swing.JComponent;
+import javax.swing.JFileChooser;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
@@ -20,8 +29,18 @@ import javax.swing.event.EventListenerList;
 
 import net.otchitta.utilities.rdb.source.ActionDataModel;
 import net.otchitta.utilities.rdb.source.ColumnListModel;
+import net.otchitta.utilities.rdb.source.ExportListModel;
+import net.otchitta.utilities.rdb.source.InvokeDataModel;
+import net.otchitta.utilities.rdb.source.PhaseDataModel;
 import net.otchitta.utilities.rdb.source.RecordDataModel;
+import net.otchitta.utilities.rdb.source.RecordPageModel;
+import net.otchitta.utilities.rdb.source.ResultCacheModel;
 import net.otchitta.utilities.rdb.source.ResultDataModel;
+import net.otchitta.utilities.rdb.source.ScriptDataModel;
+import net.otchitta.utilities.rdb.source.SnapshotDataModel;
+import net.otchitta.utilities.rdb.source.SourceTextModel;
+import net.otchitta.utilities.rdb.source.TaskLaneModel;
+import net.otchitta.utilities.rdb.source.TaskQueueModel;
 
 /**
  * 結果画面エリアクラスです。
@@ -43,7 +62,9 @@ public final class ResultViewFrame {
 	// メンバー変数定義
 	// ===================================================================
 	/** 並列管理 */
-	private static final ExecutorService threads = Executors.newFixedThreadPool(1);
+	private final TaskLaneModel threads;
+	/** 計測管理 */
+	private final TaskLaneModel measure;
 	/** 正常情報 */
 	private final JTabbedPane success;
 	/** 異常情報 */
@@ -54,8 +75,123 @@ public final class ResultViewFrame {
 	private final JPanel display;
 	/** 監視一覧 */
 	private final EventListenerList listens;
+	/** 解放一覧 */
+	private final ArrayList<Runnable> cursors;
+	/** 結果一覧 */
+	private final IdentityHashMap<Component, Controller> results;
+	/** 監視情報 */
+	private final ResultMonitorModel monitor;
 	/** 通知情報 */
 	private transient ChangeEvent element;
+	/** 実行情報 */
+	private volatile InvokeDataModel invoker;
+	/** 制限時間(秒) */
+	private int timeout;
+	/** 並列数 */
+	private int parallel;
+	/** 計測状態 */
+	private boolean phaseFlag;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 制限時間を取得します。
+	 * 
+	 * @return 制限時間(秒、0の場合は無制限)
+	 */
+	public int getQueryTimeout() {
+		return this.timeout;
+	}
+	/**
+	 * 制限時間を設定します。
+	 * 
+	 * @param timeout 制限時間(秒、0の場合は無制限)
+	 */
+	public void setQueryTimeout(int timeout) {
+		if (timeout < 0) throw new IllegalArgumentException("timeout must be zero or positive.");
+		this.timeout = timeout;
+	}
+	/**
+	 * 並列数を取得します。
+	 * 
+	 * @return 並列数
+	 */
+	public int getParallelSize() {
+		return this.parallel;
+	}
+	/**
+	 * 並列数を設定します。
+	 * <p>
+	 * 2以上を設定した場合は実行構文を行単独の{@code GO}で分割し、並列数分の接続で同時に実行します。
+	 * </p>
+	 * 
+	 * @param parallel 並列数
+	 */
+	public void setParallelSize(int parallel) {
+		if (parallel <= 0) throw new IllegalArgumentException("parallel must be positive.");
+		this.parallel = parallel;
+	}
+	/**
+	 * 保持状態を判定します。
+	 * 
+	 * @return 表示文字を要素情報と共に保持する場合は{@code true}
+	 */
+	public boolean isTextCache() {
+		return SourceTextModel.isCacheFlag();
+	}
+	/**
+	 * 保持状態を設定します。
+	 * <p>
+	 * 以降に読込む結果へ適用されます。
+	 * </p>
+	 * 
+	 * @param textCache 表示文字を要素情報と共に保持する場合は{@code true}
+	 * @see SourceTextModel#setCacheFlag(boolean)
+	 */
+	public void setTextCache(boolean textCache) {
+		SourceTextModel.setCacheFlag(textCache);
+	}
+	/**
+	 * 再利用状態を判定します。
+	 * 
+	 * @return 抽出結果を再利用する場合は{@code true}
+	 */
+	public boolean isResultCache() {
+		return ResultCacheModel.isEnabled();
+	}
+	/**
+	 * 再利用状態を設定します。
+	 * <p>
+	 * 無効にした場合は保持している抽出結果を全て破棄します。
+	 * </p>
+	 * 
+	 * @param resultCache 抽出結果を再利用する場合は{@code true}
+	 * @see ResultCacheModel#setEnabled(boolean)
+	 */
+	public void setResultCache(boolean resultCache) {
+		ResultCacheModel.setEnabled(resultCache);
+	}
+	/**
+	 * 計測状態を判定します。
+	 * 
+	 * @return 工程情報を行毎に計測して表示する場合は{@code true}
+	 */
+	public boolean isPhaseDetail() {
+		return this.phaseFlag;
+	}
+	/**
+	 * 計測状態を設定します。
+	 * <p>
+	 * 有効にした場合は以降の実行で工程監視を登録し、工程情報を行毎に計測して結果画面へ表示します。
+	 * </p>
+	 * 
+	 * @param phaseFlag 工程情報を行毎に計測して表示する場合は{@code true}
+	 * @see InvokeDataModel#setPhaseDetail(boolean)
+	 */
+	public void setPhaseDetail(boolean phaseFlag) {
+		this.phaseFlag = phaseFlag;
+	}
 
 	// ===================================================================
 	// 生成メソッド定義
@@ -66,12 +202,21 @@ public final class ResultViewFrame {
 	public ResultViewFrame() {
 		super();
 		// 内部変数生成
+		this.threads = TaskQueueModel.getDefault().createLane("ResultViewFrame", 1);
+		this.measure = TaskQueueModel.getDefault().createLane("ColumnSizeModel", 1);
 		this.success = new JTabbedPane();
 		this.failure = new JTextArea();
 		this.chooser = new CardLayout();
 		this.display = new JPanel(this.chooser);
 		this.listens = new EventListenerList();
+		this.cursors = new ArrayList<>();
+		this.results = new IdentityHashMap<>();
+		this.monitor = ResultMonitorModel.createData(this, this.threads);
 		this.element = null;
+		this.invoker = null;
+		this.timeout = 0;
+		this.parallel = 1;
+		this.phaseFlag = false;
 		// 内部変数設定
 		// 表示体裁設定
 		var cache1 = this.success;
@@ -92,13 +237,96 @@ public final class ResultViewFrame {
 	 * @see ResultDataModel#invokeList(String, String, java.util.function.IntFunction)
 	 */
 	private ActionDataModel registView(int registCode) {
-		var result = new Controller();
+		var result = new Controller(this.measure);
 		SwingUtilities.invokeLater(() -> {
 			this.chooser.show(this.display, SUCCESS);
 			this.success.add(String.format("Result:%03d", Integer.valueOf(registCode + 1)), result.getView());
+			this.results.put(result.getView(), result);
 		});
 		return result;
 	}
+	/**
+	 * 頁画面を登録します。
+	 * 
+	 * @param source 読込情報
+	 */
+	private void registView(RecordPageModel source) {
+		var records = new CursorViewModel(source, this::updateData);
+		var columns = new ColumnViewModel();
+		var screen = new RecordViewFrame(records, columns);
+		var scroll = new JScrollPane(screen);
+		columns.registView(scroll.getViewport());
+		columns.setColumnList(source.getColumnList());
+		scroll.getViewport().addChangeListener(event -> {
+			var choose = screen.getVisibleRect();
+			var index1 = screen.rowAtPoint(new Point(0, choose.y));
+			var index2 = screen.rowAtPoint(new Point(0, choose.y + choose.height - 1));
+			records.updateView(index1, index2 < 0? records.getRowCount() - 1: index2);
+		});
+		this.cursors.add(records::close);
+		this.chooser.show(this.display, SUCCESS);
+		this.success.add("Browse:001", scroll);
+	}
+	/**
+	 * 退避画面を登録します。
+	 * 
+	 * @param source 退避情報
+	 */
+	private void registView(SnapshotDataModel source) {
+		var records = new SnapshotViewModel(source);
+		var columns = new ColumnViewModel();
+		var screen = new RecordViewFrame(records, columns);
+		var scroll = new JScrollPane(screen);
+		columns.registView(scroll.getViewport());
+		columns.setColumnList(source.getColumnList());
+		this.cursors.add(records::close);
+		this.chooser.show(this.display, SUCCESS);
+		this.success.add("Snapshot:001", scroll);
+	}
+	/**
+	 * 出力画面を登録します。
+	 * 
+	 * @param target 出力先
+	 * @param length 出力件数
+	 * @param elapsed 経過時間(ナノ秒)
+	 */
+	private void registView(Path target, long length, long elapsed) {
+		var choose = new JTextArea(String.format("出力件数:%,d%n出力時間:%,dms%n出力先:%s",
+			Long.valueOf(length), Long.valueOf(elapsed / 1_000_000L), target));
+		choose.setEditable(false);
+		this.chooser.show(this.display, SUCCESS);
+		this.success.add("Export:001", new JScrollPane(choose));
+	}
+	/**
+	 * 工程画面を登録します。
+	 * 
+	 * @param values 工程一覧
+	 */
+	private void registView(List<PhaseDataModel> values) {
+		if (values.isEmpty()) return;
+		var choose = new StringBuilder();
+		for (var index = 0; index < values.size(); index ++) {
+			choose.append(String.format("[%03d] %s%n", Integer.valueOf(index + 1), values.get(index)));
+		}
+		var screen = new JTextArea(choose.toString());
+		screen.setEditable(false);
+		this.success.add("Timing:001", new JScrollPane(screen));
+	}
+	/**
+	 * 結果画面を削除します。
+	 */
+	private void removeView() {
+		for (var choose : this.cursors) {
+			choose.run();
+		}
+		this.cursors.clear();
+		for (var choose : this.results.values()) {
+			choose.removeData();
+		}
+		this.results.clear();
+		this.success.removeAll();
+		this.failure.setText("");
+	}
 	/**
 	 * 要素画面を更新します。
 	 * 
@@ -108,6 +336,49 @@ public final class ResultViewFrame {
 		this.failure.setText(updateData.toString());
 		this.chooser.show(this.display, FAILURE);
 	}
+	/**
+	 * 画面一覧を取得します。
+	 * <p>
+	 * 画面スレッドから呼出します。
+	 * </p>
+	 * 
+	 * @return 画面一覧
+	 * @see ResultMonitorModel#getTabList()
+	 */
+	List<ResultMonitorModel.TabData> chooseTabList() {
+		var result = new ArrayList<ResultMonitorModel.TabData>();
+		for (var index = 0; index < this.success.getTabCount(); index ++) {
+			var choose = this.success.getComponentAt(index);
+			var cache1 = this.results.get(choose);
+			if (cache1 != null) {
+				result.add(new ResultMonitorModel.TabData(this.success.getTitleAt(index), cache1.getRecordSize(), cache1.getHeapSize(), cache1.getFileSize()));
+			} else if (choose instanceof JScrollPane && ((JScrollPane)choose).getViewport().getView() instanceof JTable) {
+				var cache2 = (JTable)((JScrollPane)choose).getViewport().getView();
+				result.add(new ResultMonitorModel.TabData(this.success.getTitleAt(index), cache2.getRowCount(), 0L, 0L));
+			} else {
+				result.add(new ResultMonitorModel.TabData(this.success.getTitleAt(index), -1L, 0L, 0L));
+			}
+		}
+		return result;
+	}
+	/**
+	 * 結果画面を削除します。
+	 * <p>
+	 * 画面スレッドから呼出します。一覧画面の場合は保持している要素情報を解放します。
+	 * </p>
+	 * 
+	 * @param tabName 画面名称
+	 * @return 削除した場合は{@code true}
+	 * @see ResultMonitorModel#removeTab(String)
+	 */
+	boolean removeTab(String tabName) {
+		var index = this.success.indexOfTab(tabName);
+		if (index < 0) return false;
+		var choose = this.results.remove(this.success.getComponentAt(index));
+		this.success.removeTabAt(index);
+		if (choose != null) choose.removeData();
+		return true;
+	}
 	/**
 	 * 処理終了を通知します。
 	 */
@@ -136,16 +407,167 @@ public final class ResultViewFrame {
 	 * @param invokeText 実行構文
 	 */
 	public void invokeText(String connection, String invokeText) {
-		this.success.removeAll();
-		this.failure.setText("");
-		threads.execute(() -> {
+		removeView();
+		var choose = new InvokeDataModel();
+		choose.setQueryTimeout(this.timeout);
+		this.invoker = choose;
+		var values = this.parallel;
+		var phases = new CopyOnWriteArrayList<PhaseDataModel>();
+		if (this.phaseFlag) {
+			choose.setPhaseDetail(true);
+			choose.registListen(phases::add);
+		}
+		this.threads.execute(this.monitor.registData(invokeText, choose, () -> {
 			try {
-				ResultDataModel.invokeList(connection, invokeText, this::registView);
+				if (values <= 1) {
+					ResultCacheModel.invokeList(connection, invokeText, choose, this::registView);
+				} else {
+					// 一括構文は更新を含み得るため実行前後に破棄
+					ResultCacheModel.removeList(connection);
+					try {
+						ScriptDataModel.invokeList(connection, invokeText, values, choose, this::registView);
+					} finally {
+						ResultCacheModel.removeList(connection);
+					}
+				}
 			} catch (Exception errors) {
-				updateData(errors);
+				SwingUtilities.invokeLater(() -> updateData(errors));
 			}
+			SwingUtilities.invokeLater(() -> registView(phases));
 			SwingUtilities.invokeLater(this::notifyHook);
-		});
+		}));
+	}
+	/**
+	 * 抽出結果を出力します。
+	 * <p>
+	 * 出力先を選択し、拡張子に応じた形式で出力します。
+	 * 拡張子が{@code rdbs}の場合は退避形式で出力し、選択画面の圧縮指定に従い区画毎に圧縮します。
+	 * 出力先を選択しなかった場合は何もせずに終了を通知します。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @param selectSQL 抽出構文
+	 */
+	public void exportText(String connection, String selectSQL) {
+		var choose = new JFileChooser();
+		var option = new JCheckBox("圧縮", SnapshotDataModel.isCompressed());
+		option.setToolTipText("退避形式(." + SnapshotDataModel.FILE_CODE + ")を区画毎に圧縮します");
+		choose.setAccessory(option);
+		if (choose.showSaveDialog(this.display) == JFileChooser.APPROVE_OPTION) {
+			SnapshotDataModel.setCompressed(option.isSelected());
+			exportText(connection, selectSQL, choose.getSelectedFile().toPath());
+		} else {
+			notifyHook();
+		}
+	}
+	/**
+	 * 抽出結果を出力します。
+	 * <p>
+	 * 出力処理は対話処理より低い優先度で実行します。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @param selectSQL 抽出構文
+	 * @param target 出力先(拡張子で形式を判定)
+	 */
+	public void exportText(String connection, String selectSQL, Path target) {
+		var status = String.valueOf(target.getFileName()).toLowerCase(Locale.ENGLISH).endsWith("." + SnapshotDataModel.FILE_CODE);
+		removeView();
+		var choose = new InvokeDataModel();
+		choose.setQueryTimeout(this.timeout);
+		this.invoker = choose;
+		this.threads.execute(TaskQueueModel.EXPORT, this.monitor.registData(selectSQL, choose, () -> {
+			try {
+				var before = System.nanoTime();
+				var length = status?
+				             SnapshotDataModel.exportData(connection, selectSQL, target, choose):
+				             ExportListModel.exportData(connection, selectSQL, ExportListModel.createData(ExportListModel.chooseCode(target)), target, choose);
+				var elapsed = System.nanoTime() - before;
+				SwingUtilities.invokeLater(() -> registView(target, length, elapsed));
+			} catch (Exception errors) {
+				SwingUtilities.invokeLater(() -> updateData(errors));
+			}
+			SwingUtilities.invokeLater(this::notifyHook);
+		}));
+	}
+	/**
+	 * 退避情報を読込みます。
+	 * <p>
+	 * 読込元を選択しなかった場合は何もせずに終了を通知します。
+	 * </p>
+	 */
+	public void importText() {
+		var choose = new JFileChooser();
+		if (choose.showOpenDialog(this.display) == JFileChooser.APPROVE_OPTION) {
+			importText(choose.getSelectedFile().toPath());
+		} else {
+			notifyHook();
+		}
+	}
+	/**
+	 * 退避情報を読込みます。
+	 * <p>
+	 * 要素情報は表示範囲だけを都度ファイルから読込みます。
+	 * 読込完了前に取消した場合は読込んだ退避情報を閉じ、画面へ登録しません。
+	 * </p>
+	 * 
+	 * @param source 読込元
+	 */
+	public void importText(Path source) {
+		removeView();
+		var invoke = new InvokeDataModel();
+		this.invoker = invoke;
+		this.threads.execute(this.monitor.registData(String.valueOf(source), invoke, () -> {
+			try {
+				if (!invoke.isCancelled()) {
+					var choose = SnapshotDataModel.openData(source);
+					if (invoke.isCancelled()) {
+						choose.close();
+					} else {
+						SwingUtilities.invokeLater(() -> registView(choose));
+					}
+				}
+			} catch (Exception errors) {
+				SwingUtilities.invokeLater(() -> updateData(errors));
+			}
+			SwingUtilities.invokeLater(this::notifyHook);
+		}));
+	}
+	/**
+	 * 実行処理を取消します。
+	 * <p>
+	 * 実行待ちの処理は開始時点で取消されます。
+	 * 取消要求は画面処理を妨げないよう別スレッドで実行します。
+	 * </p>
+	 */
+	public void cancelText() {
+		var choose = this.invoker;
+		if (choose != null) CompletableFuture.runAsync(choose::cancel);
+	}
+	/**
+	 * 抽出結果を閲覧します。
+	 * <p>
+	 * 抽出結果は表示範囲の頁だけを都度読込みます。
+	 * 抽出と頁の読込には制限時間を適用し、抽出中は取消できます。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @param selectSQL 抽出構文
+	 */
+	public void browseText(String connection, String selectSQL) {
+		removeView();
+		var choose = new InvokeDataModel();
+		choose.setQueryTimeout(this.timeout);
+		this.invoker = choose;
+		this.threads.execute(this.monitor.registData(selectSQL, choose, () -> {
+			try {
+				var source = RecordPageModel.createData(connection, selectSQL, choose);
+				SwingUtilities.invokeLater(() -> registView(source));
+			} catch (Exception errors) {
+				SwingUtilities.invokeLater(() -> updateData(errors));
+			}
+			SwingUtilities.invokeLater(this::notifyHook);
+		}));
 	}
 	/**
 	 * 終了監視を追加します。
@@ -189,6 +611,12 @@ public final class ResultViewFrame {
 		private final RecordViewModel records;
 		/** 要素情報 */
 		private final ColumnViewModel columns;
+		/** 列幅算出 */
+		private final ColumnSizeModel sizings;
+		/** 計測管理 */
+		private final TaskLaneModel measure;
+		/** 解放状態 */
+		private volatile boolean removed;
 		/** 一覧画面 */
 		private final JTable success;
 		/** 文言画面 */
@@ -205,23 +633,29 @@ public final class ResultViewFrame {
 		// ===================================================================
 		/**
 		 * 制御処理を生成します。
+		 * 
+		 * @param measure 計測管理
 		 */
-		public Controller() {
+		public Controller(TaskLaneModel measure) {
 			super();
 			// 内部変数生成
 			this.records = new RecordViewModel();
 			this.columns = new ColumnViewModel();
-			this.success = new JTable(this.records, this.columns);
+			this.success = new RecordViewFrame(this.records, this.columns);
+			this.sizings = new ColumnSizeModel(
+				this.success.getFontMetrics(this.success.getFont()),
+				this.success.getTableHeader().getFontMetrics(this.success.getTableHeader().getFont()));
+			this.measure = measure;
+			this.removed = false;
 			this.message = new JTextArea();
 			this.failure = new JTextArea();
 			this.chooser = new CardLayout();
 			this.display = new JPanel(this.chooser);
 			// 内部変数設定
-			this.success.setDefaultRenderer(Object.class, new SourceViewFrame());
-			this.success.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
 			this.failure.setEditable(false);
 			// 画面体裁設定
 			var cache1 = new JScrollPane(this.success);
+			this.columns.registView(cache1.getViewport());
 			var cache2 = new JScrollPane(this.message);
 			var cache3 = new JScrollPane(this.failure);
 			this.display.add(cache1, SUCCESS);
@@ -229,6 +663,22 @@ public final class ResultViewFrame {
 			this.display.add(cache3, FAILURE);
 		}
 
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 列幅を更新します。
+		 * <p>
+		 * 列幅は計測管理で算出し、画面スレッドで一括して設定します。
+		 * </p>
+		 */
+		private void updateColumnSize() {
+			this.measure.execute(() -> {
+				var choose = this.sizings.chooseWidth();
+				if (choose != null) SwingUtilities.invokeLater(() -> this.columns.updateColumnSize(choose));
+			});
+		}
+
 		// ===================================================================
 		// 公開メソッド定義
 		// ===================================================================
@@ -240,10 +690,52 @@ public final class ResultViewFrame {
 		public JComponent getView() {
 			return this.display;
 		}
+		/**
+		 * 行件数を取得します。
+		 * 
+		 * @return 行件数
+		 */
+		public long getRecordSize() {
+			return this.records.getRowCount();
+		}
+		/**
+		 * 保持容量を取得します。
+		 * 
+		 * @return 保持容量(バイト)
+		 */
+		public long getHeapSize() {
+			return this.records.getHeapSize();
+		}
+		/**
+		 * 退避容量を取得します。
+		 * 
+		 * @return 退避容量(バイト)
+		 */
+		public long getFileSize() {
+			return this.records.getFileSize();
+		}
+		/**
+		 * 要素情報を解放します。
+		 */
+		public void removeData() {
+			this.removed = true;
+			this.sizings.removeList();
+			this.records.removeRecordList();
+		}
 
 		// ===================================================================
 		// 継承メソッド定義
 		// ===================================================================
+		/**
+		 * 表示文字の生成要否を判定します。
+		 * 
+		 * @return 表示文字の保持が有効な場合は{@code true}
+		 * @see SourceTextModel#isCacheFlag()
+		 */
+		@Override
+		public boolean isTextCache() {
+			return SourceTextModel.isCacheFlag();
+		}
 		/**
 		 * 要素一覧を更新します。
 		 * 
@@ -251,6 +743,7 @@ public final class ResultViewFrame {
 		 */
 		@Override
 		public void updateColumnList(ColumnListModel columnList) {
+			this.sizings.setColumnList(columnList);
 			SwingUtilities.invokeLater(() -> {
 				this.columns.setColumnList(columnList);
 				this.chooser.show(this.display, SUCCESS);
@@ -275,7 +768,40 @@ public final class ResultViewFrame {
 		 */
 		@Override
 		public void registRecordData(RecordDataModel recordData) {
-			SwingUtilities.invokeLater(() -> this.records.registRecordData(recordData));
+			registRecordList(new RecordDataModel[] {recordData});
+		}
+		/**
+		 * 要素一覧を登録します。
+		 * <p>
+		 * 要素一覧は読込処理のスレッドで格納し、画面スレッドでは行個数の通知だけを行います。
+		 * 解放後の要素一覧は破棄します。
+		 * </p>
+		 * 
+		 * @param recordList 要素一覧
+		 */
+		@Override
+		public void registRecordList(RecordDataModel[] recordList) {
+			if (this.removed) return;
+			if (this.sizings.registList(recordList)) updateColumnSize();
+			this.records.storeRecordList(recordList);
+			var before = System.nanoTime();
+			SwingUtilities.invokeLater(() -> {
+				var event = new EventViewModel.PublishData();
+				var after = System.nanoTime();
+				event.begin();
+				this.records.notifyRecordList(recordList);
+				event.finishData(recordList.length, before, after);
+			});
+		}
+		/**
+		 * 要素一覧を完了します。
+		 * <p>
+		 * 抽出標本を含めた列幅を算出します。
+		 * </p>
+		 */
+		@Override
+		public void finishRecordList() {
+			updateColumnSize();
 		}
 		/**
 		 * 要素一覧を更新します。
@@ -0,0 +1,159 @@
+/**
+ * [Source.Code] SnapshotViewModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+import javax.swing.event.EventListenerList;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import net.otchitta.utilities.rdb.source.SnapshotDataModel;
+
+/**
+ * 退避画面モデルクラスです。
+ * <p>
+ * {@link SnapshotDataModel}の要素情報を複製せずに表示します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class SnapshotViewModel implements TableModel, AutoCloseable {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 監視一覧 */
+	private final EventListenerList listenList;
+	/** 退避情報 */
+	private final SnapshotDataModel sourceData;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 退避画面モデルを生成します。
+	 * 
+	 * @param sourceData 退避情報
+	 */
+	public SnapshotViewModel(SnapshotDataModel sourceData) {
+		super();
+		this.listenList = new EventListenerList();
+		this.sourceData = sourceData;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 退避情報を閉じます。
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		this.sourceData.close();
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 列個数を取得します。
+	 * 
+	 * @return 列個数
+	 * @see TableModel#getColumnCount()
+	 */
+	@Override
+	public int getColumnCount() {
+		return this.sourceData.getColumnList().getSize();
+	}
+	/**
+	 * 列名称を取得します。
+	 * 
+	 * @param columnCode 列番号
+	 * @return 列名称
+	 * @see TableModel#getColumnName(int)
+	 */
+	@Override
+	public String getColumnName(int columnCode) {
+		return String.format("%04d", Integer.valueOf(columnCode));
+	}
+	/**
+	 * 列種別を取得します。
+	 * 
+	 * @param columnCode 列番号
+	 * @return 列種別
+	 * @see TableModel#getColumnClass(int)
+	 */
+	@Override
+	public Class<?> getColumnClass(int columnCode) {
+		return Object.class;
+	}
+	/**
+	 * 行個数を取得します。
+	 * 
+	 * @return 行個数
+	 * @see TableModel#getRowCount()
+	 */
+	@Override
+	public int getRowCount() {
+		return this.sourceData.getRecordSize();
+	}
+	/**
+	 * 編集可否を判定します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 編集可否
+	 * @see TableModel#isCellEditable(int, int)
+	 */
+	@Override
+	public boolean isCellEditable(int recordCode, int columnCode) {
+		return false;
+	}
+	/**
+	 * 値情報を取得します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 値情報
+	 * @see TableModel#getValueAt(int, int)
+	 */
+	@Override
+	public Object getValueAt(int recordCode, int columnCode) {
+		return this.sourceData.getData(recordCode, columnCode);
+	}
+	/**
+	 * 値情報を設定します。
+	 * 
+	 * @param importData 値情報
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @see TableModel#setValueAt(Object, int, int)
+	 */
+	@Override
+	public void setValueAt(Object importData, int recordCode, int columnCode) {
+		// 処理なし
+	}
+	/**
+	 * 監視処理を追加します。
+	 * 
+	 * @param listenHook 監視処理
+	 * @see TableModel#addTableModelListener(TableModelListener)
+	 */
+	@Override
+	public void addTableModelListener(TableModelListener listenHook) {
+		this.listenList.add(TableModelListener.class, listenHook);
+	}
+	/**
+	 * 監視処理を削除します。
+	 * 
+	 * @param listenHook 監視処理
+	 * @see TableModel#removeTableModelListener(TableModelListener)
+	 */
+	@Override
+	public void removeTableModelListener(TableModelListener listenHook) {
+		this.listenList.remove(TableModelListener.class, listenHook);
+	}
+}
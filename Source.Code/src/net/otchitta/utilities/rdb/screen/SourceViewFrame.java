@@ -4,19 +4,27 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Font;
 import java.awt.Rectangle;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
 import javax.swing.JTable;
 import javax.swing.SwingConstants;
+import javax.swing.border.Border;
+import javax.swing.border.LineBorder;
+import javax.swing.plaf.basic.BasicHTML;
 import javax.swing.table.TableCellRenderer;
 
+import net.otchitta.utilities.rdb.source.ColumnDataModel;
+import net.otchitta.utilities.rdb.source.SourceTextModel;
+
 /**
  * 要素画面エリアクラスです。
+ * <p>
+ * 描画処理は要素毎に呼出されるため、境界描画と斜体文字は状態毎に再利用し、
+ * 水平位置は列の型名称から生成時に決定します。
+ * 表示文字を保持する一覧モデルでは、一要素の描画で情報を生成しません。
+ * </p>
  * 
  * @since   1.0.0
  * @version 1.0.0
@@ -28,14 +36,95 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	// ===================================================================
 	/** シリアルバージョンUID */
 	private static final long serialVersionUID = 1L;
-	/** 日付書式 */
-	private static final DateTimeFormatter FORMAT1 = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-	/** 時刻書式 */
-	private static final DateTimeFormatter FORMAT2 = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSS");
-	/** 日時書式 */
-	private static final DateTimeFormatter FORMAT3 = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSS");
 	/** 背景描画 */
 	private static final Color BACKGROUND_NULL = new Color(192, 192, 192);
+	/** 空白境界 */
+	private static final Border EMPTY_BORDER = BorderFactory.createEmptyBorder();
+	/** 水平位置(値情報から判定) */
+	private static final int ALIGN_DYNAMIC = -1;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 既定描画(値情報から水平位置を判定) */
+	private static final SourceViewFrame DYNAMIC_RENDERER = new SourceViewFrame(ALIGN_DYNAMIC);
+	/** 数値描画(右寄せ) */
+	private static final SourceViewFrame NUMBER_RENDERER = new SourceViewFrame(SwingConstants.RIGHT);
+	/** 文字描画(左寄せ) */
+	private static final SourceViewFrame STRING_RENDERER = new SourceViewFrame(SwingConstants.LEFT);
+	/** 水平位置 */
+	private final int alignData;
+	/** 境界描画 */
+	private final BorderData borderData;
+	/** 文字情報(基底) */
+	private transient Font fontData;
+	/** 文字情報(斜体) */
+	private transient Font italicData;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 要素画面エリアを生成します。
+	 * <p>
+	 * 水平位置は値情報から判定します。
+	 * </p>
+	 */
+	public SourceViewFrame() {
+		this(ALIGN_DYNAMIC);
+	}
+	/**
+	 * 要素画面エリアを生成します。
+	 * 
+	 * @param alignData 水平位置({@link #ALIGN_DYNAMIC}の場合は値情報から判定)
+	 */
+	private SourceViewFrame(int alignData) {
+		super();
+		this.alignData = alignData;
+		this.borderData = new BorderData();
+		this.fontData = null;
+		this.italicData = null;
+	}
+	/**
+	 * 要素描画を取得します。
+	 * <p>
+	 * 型名称から値情報の型が定まる列には専用の描画を返し、描画毎の型判定を省略します。
+	 * 描画は全画面で共有します。
+	 * </p>
+	 * 
+	 * @param source 要素情報
+	 * @return 要素描画
+	 */
+	static TableCellRenderer chooseData(ColumnDataModel source) {
+		switch (String.valueOf(source.getCode()).toUpperCase(Locale.ENGLISH)) {
+		default:
+			return DYNAMIC_RENDERER;
+		case "TINYINT":
+		case "SMALLINT":
+		case "INT":
+		case "INTEGER":
+		case "BIGINT":
+			return NUMBER_RENDERER;
+		case "REAL":
+		case "FLOAT":
+		case "DOUBLE":
+		case "DOUBLE PRECISION":
+		case "DATE":
+		case "TIME":
+		case "DATETIME":
+		case "DATETIME2":
+		case "SMALLDATETIME":
+		case "TIMESTAMP":
+		case "CHAR":
+		case "VARCHAR":
+		case "NCHAR":
+		case "NVARCHAR":
+		case "TEXT":
+		case "NTEXT":
+		case "SYSNAME":
+			return STRING_RENDERER;
+		}
+	}
 
 	// ===================================================================
 	// 内部メソッド定義
@@ -46,18 +135,25 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	 * @param values 要素情報
 	 */
 	private void setText(Object values) {
-		if (values == null) {
-			setText("NULL");
-		} else if (values instanceof Integer || values instanceof Long) {
-			setText(String.format("%,d", values));
-		} else if (values instanceof LocalDate) {
-			setText(FORMAT1.format((LocalDate)values));
-		} else if (values instanceof LocalTime) {
-			setText(FORMAT2.format((LocalTime)values));
-		} else if (values instanceof LocalDateTime) {
-			setText(FORMAT3.format((LocalDateTime)values));
+		setText(SourceTextModel.formatData(values));
+	}
+	/**
+	 * 表示内容を設定します。
+	 * <p>
+	 * 一覧モデルが表示文字を保持している場合は変換済の文字列を参照します。
+	 * </p>
+	 * 
+	 * @param screen 画面情報
+	 * @param values 要素情報
+	 * @param record 要素番号
+	 * @param column 要素番号
+	 */
+	private void setText(JTable screen, Object values, int record, int column) {
+		if (screen.getModel() instanceof TextViewModel) {
+			var choose = (TextViewModel)screen.getModel();
+			setText(choose.getTextAt(screen.convertRowIndexToModel(record), screen.convertColumnIndexToModel(column)));
 		} else {
-			setText(values.toString());
+			setText(values);
 		}
 	}
 	/**
@@ -68,7 +164,11 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	 */
 	private void setFont(Font source, Object values) {
 		if (values == null) {
-			setFont(source.deriveFont(Font.ITALIC));
+			if (this.fontData != source) {
+				this.fontData = source;
+				this.italicData = source.deriveFont(Font.ITALIC);
+			}
+			setFont(this.italicData);
 		} else {
 			setFont(source);
 		}
@@ -81,6 +181,8 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	private void setHorizontalAlignment(Object values) {
 		if (values == null) {
 			setHorizontalAlignment(SwingConstants.CENTER);
+		} else if (this.alignData != ALIGN_DYNAMIC) {
+			setHorizontalAlignment(this.alignData);
 		} else if (values instanceof Byte || values instanceof Short || values instanceof Integer || values instanceof Long) {
 			setHorizontalAlignment(SwingConstants.RIGHT);
 		} else {
@@ -121,11 +223,15 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	}
 	/**
 	 * 境界描画を設定します。
+	 * <p>
+	 * 境界描画は再利用し、線色だけを変更します。
+	 * </p>
 	 * 
 	 * @param source 境界描画
 	 */
 	private void setBorder(Color source) {
-		setBorder(BorderFactory.createLineBorder(source, 1));
+		this.borderData.setColor(source);
+		setBorder(this.borderData);
 	}
 	/**
 	 * 境界描画を設定します。
@@ -147,11 +253,8 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 		}
 	}
 
-	// ===================================================================
-	// 実装メソッド定義
-	// ===================================================================
 	/**
-	 * 描画情報を取得します。
+	 * 描画情報を設定します。
 	 * 
 	 * @param screen 画面情報
 	 * @param values 要素情報
@@ -159,16 +262,14 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	 * @param active 焦点状態
 	 * @param record 要素番号
 	 * @param column 要素番号
-	 * @return 描画情報
 	 */
-	@Override
-	public Component getTableCellRendererComponent(JTable screen, Object values, boolean select, boolean active, int record, int column) {
+	private void setData(JTable screen, Object values, boolean select, boolean active, int record, int column) {
 		if (screen == null) {
 			setFont(null);
 			setForeground(null);
 			setBackground(null);
 			setHorizontalAlignment(values);
-			setBorder(BorderFactory.createEmptyBorder());
+			setBorder(EMPTY_BORDER);
 			setText(values);
 		} else {
 			setOpaque(true);
@@ -177,7 +278,33 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 			setBackground(screen, values, select);
 			setHorizontalAlignment(values);
 			setBorder(screen, values, select, active);
-			setText(values);
+			setText(screen, values, record, column);
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 描画情報を取得します。
+	 * 
+	 * @param screen 画面情報
+	 * @param values 要素情報
+	 * @param select 選択状態
+	 * @param active 焦点状態
+	 * @param record 要素番号
+	 * @param column 要素番号
+	 * @return 描画情報
+	 */
+	@Override
+	public Component getTableCellRendererComponent(JTable screen, Object values, boolean select, boolean active, int record, int column) {
+		if (EventViewModel.RenderData.isEnabledData()) {
+			var event = new EventViewModel.RenderData();
+			event.begin();
+			setData(screen, values, select, active, record, column);
+			event.finishData(record, column, values);
+		} else {
+			setData(screen, values, select, active, record, column);
 		}
 		return this;
 	}
@@ -229,6 +356,10 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	}
 	/**
 	 * 要素変更を通知します。
+	 * <p>
+	 * 表示内容と文字・描画の変更はHTML表示の更新にだけ必要なため、
+	 * HTML表示の場合に限り通知し、描画毎の通知情報の生成を省略します。
+	 * </p>
 	 * 
 	 * @param memberName 要素名称
 	 * @param olderValue 変更前値
@@ -238,16 +369,26 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 		switch (memberName) {
 		default:
 			break;
-		case "text":
 		case "labelFor":
 		case "displayedMnemonic":
+			if (olderValue == newerValue) {
+				// 処理なし
+			} else {
+				super.firePropertyChange(memberName, olderValue, newerValue);
+			}
+			break;
+		case "text":
 		case "font":
 		case "foreground":
 		case "background":
 			if (olderValue == newerValue) {
 				// 処理なし
-			} else {
+			} else if (getClientProperty(BasicHTML.propertyKey) != null) {
 				super.firePropertyChange(memberName, olderValue, newerValue);
+			} else if (newerValue instanceof String && BasicHTML.isHTMLString((String)newerValue)) {
+				super.firePropertyChange(memberName, olderValue, newerValue);
+			} else {
+				// 処理なし
 			}
 		}
 	}
@@ -262,4 +403,44 @@ final class SourceViewFrame extends JLabel implements TableCellRenderer {
 	public void firePropertyChange(String memberName, boolean oldValue, boolean newValue) {
 		// 処理なし
 	}
+
+	/**
+	 * 境界描画クラスです。
+	 * <p>
+	 * 線色を変更可能とした幅1の線境界です。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class BorderData extends LineBorder {
+		// ===================================================================
+		// メンバー定数定義
+		// ===================================================================
+		/** シリアルバージョンUID */
+		private static final long serialVersionUID = 1L;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 境界描画を生成します。
+		 */
+		BorderData() {
+			super(Color.BLACK, 1);
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 線色を設定します。
+		 * 
+		 * @param source 線色
+		 */
+		void setColor(Color source) {
+			this.lineColor = source;
+		}
+	}
 }
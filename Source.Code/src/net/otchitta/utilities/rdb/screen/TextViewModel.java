@@ -0,0 +1,26 @@
+/**
+ * [Source.Code] TextViewModel.java
+ */
+package net.otchitta.utilities.rdb.screen;
+
+/**
+ * 表示文字モデルインターフェースです。
+ * <p>
+ * 変換済の表示文字を保持する一覧モデルが実装し、{@link SourceViewFrame}は値情報の変換に代えて参照します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see net.otchitta.utilities.rdb.source.RecordDataModel#getText(int)
+ */
+interface TextViewModel {
+	/**
+	 * 表示文字を取得します。
+	 * 
+	 * @param recordCode 行番号
+	 * @param columnCode 列番号
+	 * @return 表示文字
+	 */
+	public String getTextAt(int recordCode, int columnCode);
+}
@@ -8,6 +8,19 @@ package net.otchitta.utilities.rdb.source;
  * @author  o.chikami
  */
 public interface ActionDataModel {
+	/**
+	 * 表示文字の生成要否を判定します。
+	 * <p>
+	 * 画面へ表示する場合は{@code true}を返却し、読込処理で{@link RecordDataModel#createText()}を実行させます。
+	 * 既定では生成しません。
+	 * </p>
+	 * 
+	 * @return 表示文字を生成する場合は{@code true}
+	 * @see SourceTextModel#isCacheFlag()
+	 */
+	public default boolean isTextCache() {
+		return false;
+	}
 	/**
 	 * 要素一覧を更新します。
 	 * 
@@ -26,6 +39,30 @@ public interface ActionDataModel {
 	 * @param recordData 要素情報
 	 */
 	public void registRecordData(RecordDataModel recordData);
+	/**
+	 * 要素一覧を登録します。
+	 * <p>
+	 * 読込処理は複数行をまとめて通知します。
+	 * 既定では要素情報毎に{@link #registRecordData(RecordDataModel)}を実行します。
+	 * </p>
+	 * 
+	 * @param recordList 要素一覧
+	 */
+	public default void registRecordList(RecordDataModel[] recordList) {
+		for (var choose : recordList) {
+			registRecordData(choose);
+		}
+	}
+	/**
+	 * 要素一覧を完了します。
+	 * <p>
+	 * 読込処理は結果情報を最後まで読込んだ時点で通知します。
+	 * 既定では何もしません。
+	 * </p>
+	 */
+	public default void finishRecordList() {
+		// 処理なし
+	}
 	/**
 	 * 要素一覧を更新します。
 	 * 
@@ -0,0 +1,203 @@
+/**
+ * [Source.Code] BindTextModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 引数構文モデルクラスです。
+ * <p>
+ * {@code ?}または{@code :name}形式の引数を含む実行構文を解析し、
+ * 準備構文用の実行構文({@code ?}のみ)と引数の対応を保持します。
+ * 文字列・識別子・注釈内の記号と{@code ::}は引数として扱いません。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class BindTextModel {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 実行構文 */
+	private final String invokeText;
+	/** 引数一覧(位置毎の名称、位置引数の場合は{@code null}) */
+	private final List<String> paramList;
+	/** 名称一覧(出現順・重複なし) */
+	private final List<String> nameList;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 実行構文を取得します。
+	 * 
+	 * @return 実行構文({@code ?}形式)
+	 */
+	public String getText() {
+		return this.invokeText;
+	}
+	/**
+	 * 引数個数を取得します。
+	 * 
+	 * @return 引数個数
+	 */
+	public int getSize() {
+		return this.paramList.size();
+	}
+	/**
+	 * 名称一覧を取得します。
+	 * 
+	 * @return 名称一覧(出現順・重複なし)
+	 */
+	public List<String> getNameList() {
+		return this.nameList;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 引数構文モデルを生成します。
+	 * 
+	 * @param invokeText 実行構文
+	 * @param paramList 引数一覧
+	 * @param nameList 名称一覧
+	 */
+	private BindTextModel(String invokeText, List<String> paramList, List<String> nameList) {
+		super();
+		this.invokeText = invokeText;
+		this.paramList = Collections.unmodifiableList(paramList);
+		this.nameList = Collections.unmodifiableList(nameList);
+	}
+	/**
+	 * 引数構文モデルを生成します。
+	 * 
+	 * @param sourceText 実行構文
+	 * @return 生成情報
+	 */
+	public static BindTextModel createData(String sourceText) {
+		if (sourceText == null) throw new IllegalArgumentException("sourceText must be non null.");
+		var result = new StringBuilder(sourceText.length());
+		var params = new ArrayList<String>();
+		var names = new ArrayList<String>();
+		var length = sourceText.length();
+		var index = 0;
+		while (index < length) {
+			var value = sourceText.charAt(index);
+			var offset = index + 1;
+			if (value == '\'' || value == '"' || value == '[' || value == '`') {
+				var escape = value == '['? ']': value;
+				while (offset < length && sourceText.charAt(offset) != escape) offset ++;
+				offset = Math.min(offset + 1, length);
+			} else if (sourceText.startsWith("--", index)) {
+				offset = sourceText.indexOf('\n', index);
+				if (offset < 0) offset = length;
+			} else if (sourceText.startsWith("/*", index)) {
+				offset = sourceText.indexOf("*/", index + 2);
+				offset = offset < 0? length: offset + 2;
+			} else if (value == ':' && offset < length && sourceText.charAt(offset) == ':') {
+				offset ++;
+			} else if (value == ':' && offset < length && Character.isJavaIdentifierStart(sourceText.charAt(offset))) {
+				while (offset < length && Character.isJavaIdentifierPart(sourceText.charAt(offset))) offset ++;
+				var choose = sourceText.substring(index + 1, offset);
+				params.add(choose);
+				if (!names.contains(choose)) names.add(choose);
+				result.append('?');
+				index = offset;
+				continue;
+			} else if (value == '?') {
+				params.add(null);
+			}
+			result.append(sourceText, index, offset);
+			index = offset;
+		}
+		if (!names.isEmpty() && params.contains(null)) {
+			throw new IllegalArgumentException("sourceText must not mix positional and named parameters.");
+		}
+		return new BindTextModel(result.toString(), params, names);
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 引数情報を設定します。
+	 * 
+	 * @param statement 準備構文
+	 * @param index 引数番号(1起算)
+	 * @param values 引数情報
+	 * @throws SQLException 設定処理に失敗した場合
+	 */
+	private static void bindData(PreparedStatement statement, int index, Object values) throws SQLException {
+		if (values == null) {
+			statement.setNull(index, Types.NULL);
+		} else {
+			statement.setObject(index, values);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 引数情報を設定します。
+	 * <p>
+	 * 位置引数の場合は出現順、名前付引数の場合は{@link #getNameList()}の順に指定します。
+	 * </p>
+	 * 
+	 * @param statement 準備構文
+	 * @param values 引数情報
+	 * @throws SQLException 設定処理に失敗した場合
+	 */
+	public void bindData(PreparedStatement statement, Object... values) throws SQLException {
+		var length = this.nameList.isEmpty()? this.paramList.size(): this.nameList.size();
+		if (values.length != length) {
+			throw new IllegalArgumentException(String.format("values size must be %d.(size=%d)", Integer.valueOf(length), Integer.valueOf(values.length)));
+		}
+		for (var index = 0; index < this.paramList.size(); index ++) {
+			var choose = this.paramList.get(index);
+			bindData(statement, index + 1, choose == null? values[index]: values[this.nameList.indexOf(choose)]);
+		}
+	}
+	/**
+	 * 引数情報を設定します。
+	 * 
+	 * @param statement 準備構文
+	 * @param values 引数情報(名称毎)
+	 * @throws SQLException 設定処理に失敗した場合
+	 */
+	public void bindData(PreparedStatement statement, Map<String, ?> values) throws SQLException {
+		for (var choose : this.nameList) {
+			if (!values.containsKey(choose)) throw new IllegalArgumentException(String.format("values must contain %s.", choose));
+		}
+		if (this.nameList.isEmpty() && !this.paramList.isEmpty()) {
+			throw new IllegalArgumentException("positional parameters must be bound by values array.");
+		}
+		for (var index = 0; index < this.paramList.size(); index ++) {
+			bindData(statement, index + 1, values.get(this.paramList.get(index)));
+		}
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "BindTextModel[" + this.invokeText + ", " + this.paramList + "]";
+	}
+}
@@ -75,6 +75,17 @@ public final class ColumnDataModel implements Serializable {
 		this.name = name;
 		this.size = size;
 	}
+	/**
+	 * 要素情報モデルを生成します。
+	 * 
+	 * @param code 要素種別
+	 * @param name 要素名称
+	 * @param size 要素桁数
+	 * @return 生成情報
+	 */
+	static ColumnDataModel createData(String code, String name, int size) {
+		return new ColumnDataModel(code, name, size);
+	}
 	/**
 	 * 要素情報モデルを生成します。
 	 * 
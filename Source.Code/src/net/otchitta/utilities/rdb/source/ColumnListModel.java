@@ -61,6 +61,15 @@ public final class ColumnListModel implements Serializable {
 		super();
 		this.values = values;
 	}
+	/**
+	 * 要素一覧モデルを生成します。
+	 * 
+	 * @param values 要素配列
+	 * @return 生成情報
+	 */
+	static ColumnListModel createData(ColumnDataModel[] values) {
+		return new ColumnListModel(values);
+	}
 	/**
 	 * 要素一覧モデルを生成します。
 	 * 
@@ -0,0 +1,373 @@
+/**
+ * [Source.Code] ConnectDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 接続情報モデルクラスです。
+ * <p>
+ * 接続管理モデルから貸出された接続を保持します。
+ * 解放処理を実行すると物理接続は切断されず接続管理モデルへ返却されます。
+ * 接続状態を変更する構文を実行した接続は、返却時に接続処理の初期化機能で初期化し、対応しない接続処理の場合は破棄されます。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ConnectPoolModel
+ */
+public final class ConnectDataModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 状態変更設定(SET文の設定名) */
+	private static final Set<String> SESSION_LIST = Set.of("CONCAT_NULL_YIELDS_NULL", "CONTEXT_INFO", "CURSOR_CLOSE_ON_COMMIT", "DATEFIRST", "DATEFORMAT",
+		"DEADLOCK_PRIORITY", "FMTONLY", "FORCEPLAN", "IDENTITY_INSERT", "IMPLICIT_TRANSACTIONS", "LANGUAGE", "LOCK_TIMEOUT", "NOCOUNT", "NOEXEC",
+		"NUMERIC_ROUNDABORT", "PARSEONLY", "QUERY_GOVERNOR_COST_LIMIT", "QUOTED_IDENTIFIER", "ROWCOUNT", "STATISTICS", "TEXTSIZE", "TRANSACTION", "XACT_ABORT");
+	/** 状態変更設定(SET文の設定名の接頭辞) */
+	private static final List<String> SESSION_HEAD = List.of("ANSI_", "ARITH", "SHOWPLAN_");
+	/** 状態変更手続(接続へ状態を設定するシステム手続) */
+	private static final Set<String> SESSION_CALL = Set.of("SP_SETAPPROLE", "SP_SET_SESSION_CONTEXT", "SP_BINDSESSION");
+	/** 一時定義(直後の{@code #}名で一時オブジェクトを生成する語句) */
+	private static final Set<String> SESSION_TEMP = Set.of("TABLE", "INTO", "PROC", "PROCEDURE");
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 管理情報 */
+	private final ConnectPoolModel poolData;
+	/** 接続情報 */
+	private final Connection connection;
+	/** 貸出時刻 */
+	private final long borrowTime;
+	/** 貸出履歴 */
+	private final Throwable borrowPath;
+	/** 漏洩状態 */
+	private volatile boolean leakedFlag;
+	/** 破棄状態 */
+	private volatile boolean removeFlag;
+	/** 返却状態 */
+	private volatile boolean closedFlag;
+	/** 変更状態 */
+	private volatile boolean resetFlag;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 接続情報を取得します。
+	 * 
+	 * @return 接続情報
+	 * @throws SQLException 返却済である場合
+	 */
+	public Connection getConnection() throws SQLException {
+		if (this.closedFlag) {
+			throw new SQLException("connection is already returned.");
+		} else {
+			return this.connection;
+		}
+	}
+	/**
+	 * 貸出時刻を取得します。
+	 * 
+	 * @return 貸出時刻(System#nanoTime)
+	 */
+	long getBorrowTime() {
+		return this.borrowTime;
+	}
+	/**
+	 * 貸出履歴を取得します。
+	 * 
+	 * @return 貸出履歴
+	 */
+	Throwable getBorrowPath() {
+		return this.borrowPath;
+	}
+	/**
+	 * 漏洩状態を判定します。
+	 * 
+	 * @return 漏洩状態
+	 */
+	boolean isLeaked() {
+		return this.leakedFlag;
+	}
+	/**
+	 * 漏洩状態を設定します。
+	 * 
+	 * @param leakedFlag 漏洩状態
+	 */
+	void setLeaked(boolean leakedFlag) {
+		this.leakedFlag = leakedFlag;
+	}
+	/**
+	 * 破棄状態を判定します。
+	 * 
+	 * @return 破棄状態
+	 */
+	boolean isRemoved() {
+		return this.removeFlag;
+	}
+	/**
+	 * 変更状態を判定します。
+	 * 
+	 * @return 接続状態を変更する構文を実行した場合は{@code true}
+	 */
+	boolean isReset() {
+		return this.resetFlag;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 接続情報モデルを生成します。
+	 * 
+	 * @param poolData 管理情報
+	 * @param connection 接続情報
+	 * @param borrowPath 貸出履歴
+	 */
+	ConnectDataModel(ConnectPoolModel poolData, Connection connection, Throwable borrowPath) {
+		super();
+		this.poolData = poolData;
+		this.connection = connection;
+		this.borrowTime = System.nanoTime();
+		this.borrowPath = borrowPath;
+		this.leakedFlag = false;
+		this.removeFlag = false;
+		this.closedFlag = false;
+		this.resetFlag = false;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 終端位置を検索します。
+	 * 
+	 * @param source 実行構文
+	 * @param offset 開始位置(開始文字の次)
+	 * @param escape 終端文字
+	 * @return 終端位置(終端文字の次)
+	 */
+	private static int chooseQuote(String source, int offset, char escape) {
+		var index = offset;
+		while (index < source.length()) {
+			if (source.charAt(index) != escape) {
+				index ++;
+			} else if (index + 1 < source.length() && source.charAt(index + 1) == escape) {
+				index += 2;
+			} else {
+				return index + 1;
+			}
+		}
+		return index;
+	}
+	/**
+	 * 注釈終端を検索します。
+	 * 
+	 * @param source 実行構文
+	 * @param offset 開始位置(開始記号の次)
+	 * @return 終端位置(終端記号の次)
+	 */
+	private static int chooseBlock(String source, int offset) {
+		var index = offset;
+		var depth = 1;
+		while (index < source.length() && 0 < depth) {
+			if (source.startsWith("/*", index)) {
+				depth ++;
+				index += 2;
+			} else if (source.startsWith("*/", index)) {
+				depth --;
+				index += 2;
+			} else {
+				index ++;
+			}
+		}
+		return index;
+	}
+	/**
+	 * 実行構文を字句へ分割します。
+	 * <p>
+	 * 注釈は除外し、文字列は{@code '}、区切識別子は{@code "}の字句に置換えます。
+	 * 語句は大文字に変換し、{@code @}・{@code #}で始まる名前も1個の語句とします。
+	 * </p>
+	 * 
+	 * @param source 実行構文
+	 * @return 字句一覧
+	 */
+	private static List<String> splitText(String source) {
+		var result = new ArrayList<String>();
+		var length = source.length();
+		var index = 0;
+		while (index < length) {
+			var value = source.charAt(index);
+			if (value == '\'') {
+				index = chooseQuote(source, index + 1, '\'');
+				result.add("'");
+			} else if (value == '"' || value == '[') {
+				index = chooseQuote(source, index + 1, value == '['? ']': '"');
+				result.add("\"");
+			} else if (source.startsWith("--", index)) {
+				var offset = source.indexOf('\n', index);
+				index = offset < 0? length: offset;
+			} else if (source.startsWith("/*", index)) {
+				index = chooseBlock(source, index + 2);
+			} else if (Character.isLetter(value) || value == '_' || value == '@' || value == '#') {
+				var offset = index + 1;
+				while (offset < length && (Character.isLetterOrDigit(source.charAt(offset)) || "_@#$".indexOf(source.charAt(offset)) >= 0)) offset ++;
+				result.add(source.substring(index, offset).toUpperCase(Locale.ENGLISH));
+				index = offset;
+			} else if (Character.isWhitespace(value)) {
+				index ++;
+			} else {
+				result.add(String.valueOf(value));
+				index ++;
+			}
+		}
+		return result;
+	}
+	/**
+	 * 字句を取得します。
+	 * 
+	 * @param values 字句一覧
+	 * @param index 字句番号
+	 * @return 字句(範囲外の場合は空文字)
+	 */
+	private static String chooseText(List<String> values, int index) {
+		return index < values.size()? values.get(index): "";
+	}
+	/**
+	 * 状態変更を判定します。
+	 * <p>
+	 * データベース切替({@code USE})・接続設定({@code SET}、代入を除く)・明示トランザクション・
+	 * 名前付きカーソル・一時オブジェクトの生成・状態を設定するシステム手続を対象とします。
+	 * 手続内の設定と一時オブジェクトは手続終了時に戻るため、その他の手続実行は対象外です。
+	 * </p>
+	 * 
+	 * @param values 字句一覧
+	 * @return 接続状態を変更する場合は{@code true}
+	 */
+	private static boolean chooseSession(List<String> values) {
+		for (var index = 0; index < values.size(); index ++) {
+			var choose = values.get(index);
+			var cache1 = chooseText(values, index + 1);
+			switch (choose) {
+			case "USE":
+				// 問合せヒント(USE PLAN・USE HINT)を除く
+				if (!cache1.equals("PLAN") && !cache1.equals("HINT") && (cache1.equals("\"") || Character.isLetter(cache1.isEmpty()? ' ': cache1.charAt(0)))) return true;
+				break;
+			case "SET":
+				// 変数と列への代入を除く
+				if (!chooseText(values, index + 2).equals("=") && (SESSION_LIST.contains(cache1) || SESSION_HEAD.stream().anyMatch(cache1::startsWith))) return true;
+				break;
+			case "BEGIN":
+				if (cache1.equals("TRAN") || cache1.equals("TRANSACTION") || cache1.equals("DISTRIBUTED")) return true;
+				break;
+			case "SAVE":
+				if (cache1.equals("TRAN") || cache1.equals("TRANSACTION")) return true;
+				break;
+			case "DECLARE":
+				// 変数へのカーソル代入を除く
+				if (!cache1.isEmpty() && Character.isLetter(cache1.charAt(0))) return true;
+				break;
+			default:
+				if (SESSION_CALL.contains(choose)) return true;
+				if (SESSION_TEMP.contains(choose) && cache1.startsWith("#")) return true;
+				break;
+			}
+		}
+		return false;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 実行処理を生成します。
+	 * 
+	 * @return 実行処理
+	 * @throws SQLException 生成処理に失敗した場合
+	 * @see Connection#createStatement()
+	 */
+	public Statement createStatement() throws SQLException {
+		return getConnection().createStatement();
+	}
+	/**
+	 * 準備構文を取得します。
+	 * <p>
+	 * 準備構文は物理接続毎に保持して再利用するため、呼出元で閉じないでください。
+	 * 使用後は{@link PreparedStatement#clearParameters()}で引数を解除します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 * @return 準備構文
+	 * @throws SQLException 準備処理に失敗した場合
+	 * @see ConnectPoolModel#setStatementSize(int)
+	 */
+	public PreparedStatement prepareStatement(String invokeText) throws SQLException {
+		registText(invokeText);
+		return this.poolData.prepareData(getConnection(), invokeText);
+	}
+	/**
+	 * 実行構文を登録します。
+	 * <p>
+	 * {@link #createStatement()}で実行する構文は実行前に登録します。
+	 * 接続状態を変更する構文の場合、返却時に接続状態を初期化します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 */
+	void registText(String invokeText) {
+		if (invokeText != null && !this.resetFlag && chooseSession(splitText(invokeText))) this.resetFlag = true;
+	}
+	/**
+	 * 返却時に物理接続を破棄するよう設定します。
+	 * <p>
+	 * 実行取消等で接続状態が不定となった場合に使用します。
+	 * </p>
+	 */
+	public void removeData() {
+		this.removeFlag = true;
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 接続情報を返却します。
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		if (this.closedFlag) {
+			// 処理なし
+		} else {
+			this.closedFlag = true;
+			this.poolData.returnData(this, this.connection);
+		}
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ConnectDataModel[closed=" + this.closedFlag + ", leaked=" + this.leakedFlag + "]";
+	}
+}
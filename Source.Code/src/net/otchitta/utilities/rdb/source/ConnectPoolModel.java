@@ -0,0 +1,904 @@
+/**
+ * [Source.Code] ConnectPoolModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.lang.System.Logger.Level;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 接続管理モデルクラスです。
+ * <p>
+ * 接続引数毎に物理接続を保持し再利用します。
+ * 最小／最大接続数・待機接続の破棄・貸出時の検証・返却漏れの検出に対応します。
+ * 返却時は未完了のトランザクションを巻戻し、接続状態を検証できない接続は破棄します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ConnectPoolModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(ConnectPoolModel.class.getName());
+	/** 監視間隔(ミリ秒) */
+	private static final long WATCH_PERIOD = 10_000L;
+	/** 秘匿書式(属性形式) */
+	private static final Pattern SECRET_TEXT1 = Pattern.compile("(?i)\\b(password|pwd|passwd)(\\s*=\\s*)[^;&]*");
+	/** 秘匿書式(認証形式) */
+	private static final Pattern SECRET_TEXT2 = Pattern.compile("(//[^/:@;]*:)[^/@;]*@");
+	/** 件数構文(トランザクション) */
+	private static final String TRAN_TEXT = "SELECT @@TRANCOUNT";
+	/** 巻戻構文(トランザクション) */
+	private static final String BACK_TEXT = "ROLLBACK TRANSACTION";
+	/** 製品名称(@@TRANCOUNTの対応製品) */
+	private static final String SERVER_NAME = "SQL Server";
+	/** 初期化処理(次の要求で{@code sp_reset_connection}相当の初期化を行う接続処理の公開メソッド) */
+	private static final String RESET_NAME = "resetPooledConnection";
+	/** 管理一覧 */
+	private static final ConcurrentHashMap<String, ConnectPoolModel> POOL_LIST = new ConcurrentHashMap<>();
+	/** 監視処理 */
+	private static final ScheduledExecutorService WATCHER = Executors.newSingleThreadScheduledExecutor(runner -> {
+		var result = new Thread(runner, "ConnectPoolModel-watcher");
+		result.setDaemon(true);
+		return result;
+	});
+	static {
+		WATCHER.scheduleWithFixedDelay(ConnectPoolModel::watchList, WATCH_PERIOD, WATCH_PERIOD, TimeUnit.MILLISECONDS);
+	}
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 接続引数 */
+	private final String parameter;
+	/** 排他制御 */
+	private final ReentrantLock lockData;
+	/** 返却通知 */
+	private final Condition waitData;
+	/** 待機一覧 */
+	private final ArrayDeque<IdleData> idleList;
+	/** 貸出一覧 */
+	private final Set<ConnectDataModel> busyList;
+	/** 接続総数 */
+	private int totalSize;
+	/** 最小接続数 */
+	private volatile int minimumSize;
+	/** 最大接続数 */
+	private volatile int maximumSize;
+	/** 待機時間(ミリ秒) */
+	private volatile long waitTimeout;
+	/** 破棄時間(ミリ秒) */
+	private volatile long idleTimeout;
+	/** 漏洩時間(ミリ秒) */
+	private volatile long leakTimeout;
+	/** 検証時間(秒) */
+	private volatile int validTimeout;
+	/** 再利用件数 */
+	private final LongAdder hitCount;
+	/** 新規接続件数 */
+	private final LongAdder missCount;
+	/** 待機合計時間(ナノ秒) */
+	private final LongAdder waitTotal;
+	/** 待機件数 */
+	private final LongAdder waitCount;
+	/** 検証失敗件数 */
+	private final LongAdder failCount;
+	/** 破棄件数 */
+	private final LongAdder dropCount;
+	/** 漏洩件数 */
+	private final LongAdder leakCount;
+	/** 準備構文一覧(物理接続毎) */
+	private final ConcurrentHashMap<Connection, StatementCacheModel> cacheList;
+	/** 準備構文保持数 */
+	private volatile int statementSize;
+	/** 準備構文再利用件数 */
+	private final LongAdder statementHit;
+	/** 準備構文新規件数 */
+	private final LongAdder statementMiss;
+	/** 準備構文破棄件数 */
+	private final LongAdder statementDrop;
+	/** 製品判定(@@TRANCOUNTの対応可否、未判定の場合は{@code null}) */
+	private volatile Boolean serverFlag;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 接続引数を取得します。
+	 * 
+	 * @return 接続引数
+	 */
+	String getParameter() {
+		return this.parameter;
+	}
+	/**
+	 * 最小接続数を取得します。
+	 * 
+	 * @return 最小接続数
+	 */
+	public int getMinimumSize() {
+		return this.minimumSize;
+	}
+	/**
+	 * 最小接続数を設定します。
+	 * 
+	 * @param minimumSize 最小接続数
+	 */
+	public void setMinimumSize(int minimumSize) {
+		if (minimumSize < 0) {
+			throw new IllegalArgumentException("minimumSize must be zero or positive.");
+		} else {
+			this.minimumSize = minimumSize;
+		}
+	}
+	/**
+	 * 最大接続数を取得します。
+	 * 
+	 * @return 最大接続数
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+	/**
+	 * 最大接続数を設定します。
+	 * 
+	 * @param maximumSize 最大接続数
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive.");
+		} else {
+			this.maximumSize = maximumSize;
+			signalData();
+		}
+	}
+	/**
+	 * 待機時間を取得します。
+	 * 
+	 * @return 待機時間(ミリ秒)
+	 */
+	public long getWaitTimeout() {
+		return this.waitTimeout;
+	}
+	/**
+	 * 待機時間を設定します。
+	 * 
+	 * @param waitTimeout 待機時間(ミリ秒)
+	 */
+	public void setWaitTimeout(long waitTimeout) {
+		this.waitTimeout = waitTimeout;
+	}
+	/**
+	 * 破棄時間を取得します。
+	 * 
+	 * @return 破棄時間(ミリ秒)
+	 */
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+	/**
+	 * 破棄時間を設定します。
+	 * 
+	 * @param idleTimeout 破棄時間(ミリ秒)
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+	/**
+	 * 漏洩時間を取得します。
+	 * 
+	 * @return 漏洩時間(ミリ秒)：0以下の場合は検出しない
+	 */
+	public long getLeakTimeout() {
+		return this.leakTimeout;
+	}
+	/**
+	 * 漏洩時間を設定します。
+	 * 
+	 * @param leakTimeout 漏洩時間(ミリ秒)：0以下の場合は検出しない
+	 */
+	public void setLeakTimeout(long leakTimeout) {
+		this.leakTimeout = leakTimeout;
+	}
+	/**
+	 * 検証時間を取得します。
+	 * 
+	 * @return 検証時間(秒)
+	 */
+	public int getValidTimeout() {
+		return this.validTimeout;
+	}
+	/**
+	 * 検証時間を設定します。
+	 * 
+	 * @param validTimeout 検証時間(秒)
+	 */
+	public void setValidTimeout(int validTimeout) {
+		this.validTimeout = validTimeout;
+	}
+	/**
+	 * 接続総数を取得します。
+	 * 
+	 * @return 接続総数
+	 */
+	public int getTotalSize() {
+		this.lockData.lock();
+		try {
+			return this.totalSize;
+		} finally {
+			this.lockData.unlock();
+		}
+	}
+	/**
+	 * 待機接続数を取得します。
+	 * 
+	 * @return 待機接続数
+	 */
+	public int getIdleSize() {
+		this.lockData.lock();
+		try {
+			return this.idleList.size();
+		} finally {
+			this.lockData.unlock();
+		}
+	}
+	/**
+	 * 貸出接続数を取得します。
+	 * 
+	 * @return 貸出接続数
+	 */
+	public int getBusySize() {
+		return this.busyList.size();
+	}
+	/**
+	 * 再利用件数を取得します。
+	 * 
+	 * @return 再利用件数
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+	/**
+	 * 新規接続件数を取得します。
+	 * 
+	 * @return 新規接続件数
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+	/**
+	 * 待機件数を取得します。
+	 * 
+	 * @return 待機件数
+	 */
+	public long getWaitCount() {
+		return this.waitCount.sum();
+	}
+	/**
+	 * 待機合計時間を取得します。
+	 * 
+	 * @return 待機合計時間(ナノ秒)
+	 */
+	public long getWaitTime() {
+		return this.waitTotal.sum();
+	}
+	/**
+	 * 検証失敗件数を取得します。
+	 * 
+	 * @return 検証失敗件数
+	 */
+	public long getFailCount() {
+		return this.failCount.sum();
+	}
+	/**
+	 * 破棄件数を取得します。
+	 * 
+	 * @return 破棄件数
+	 */
+	public long getDropCount() {
+		return this.dropCount.sum();
+	}
+	/**
+	 * 漏洩件数を取得します。
+	 * 
+	 * @return 漏洩件数
+	 */
+	public long getLeakCount() {
+		return this.leakCount.sum();
+	}
+	/**
+	 * 準備構文保持数を取得します。
+	 * 
+	 * @return 準備構文保持数(物理接続毎)
+	 */
+	public int getStatementSize() {
+		return this.statementSize;
+	}
+	/**
+	 * 準備構文保持数を設定します。
+	 * 
+	 * @param statementSize 準備構文保持数(物理接続毎)
+	 */
+	public void setStatementSize(int statementSize) {
+		if (statementSize < 1) {
+			throw new IllegalArgumentException("statementSize must be positive.");
+		} else {
+			this.statementSize = statementSize;
+		}
+	}
+	/**
+	 * 準備構文再利用件数を取得します。
+	 * 
+	 * @return 準備構文再利用件数
+	 */
+	public long getStatementHitCount() {
+		return this.statementHit.sum();
+	}
+	/**
+	 * 準備構文新規件数を取得します。
+	 * 
+	 * @return 準備構文新規件数
+	 */
+	public long getStatementMissCount() {
+		return this.statementMiss.sum();
+	}
+	/**
+	 * 準備構文破棄件数を取得します。
+	 * 
+	 * @return 準備構文破棄件数
+	 */
+	public long getStatementDropCount() {
+		return this.statementDrop.sum();
+	}
+	/**
+	 * 準備構文再利用率を取得します。
+	 * 
+	 * @return 準備構文再利用率(0.0～1.0、未使用の場合は0.0)
+	 */
+	public double getStatementHitRate() {
+		var value1 = this.statementHit.sum();
+		var value2 = value1 + this.statementMiss.sum();
+		return value2 == 0L? 0.0: (double)value1 / value2;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 接続管理モデルを生成します。
+	 * 
+	 * @param parameter 接続引数
+	 */
+	private ConnectPoolModel(String parameter) {
+		super();
+		this.parameter = parameter;
+		this.lockData = new ReentrantLock(true);
+		this.waitData = this.lockData.newCondition();
+		this.idleList = new ArrayDeque<>();
+		this.busyList = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+		this.totalSize = 0;
+		this.minimumSize = 0;
+		this.maximumSize = 8;
+		this.waitTimeout = 30_000L;
+		this.idleTimeout = 600_000L;
+		this.leakTimeout = 300_000L;
+		this.validTimeout = 5;
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.waitTotal = new LongAdder();
+		this.waitCount = new LongAdder();
+		this.failCount = new LongAdder();
+		this.dropCount = new LongAdder();
+		this.leakCount = new LongAdder();
+		this.cacheList = new ConcurrentHashMap<>();
+		this.statementSize = 32;
+		this.statementHit = new LongAdder();
+		this.statementMiss = new LongAdder();
+		this.statementDrop = new LongAdder();
+		this.serverFlag = null;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 返却待機を通知します。
+	 */
+	private void signalData() {
+		this.lockData.lock();
+		try {
+			this.waitData.signalAll();
+		} finally {
+			this.lockData.unlock();
+		}
+	}
+	/**
+	 * 物理接続を切断します。
+	 * 
+	 * @param connection 接続情報
+	 */
+	private void closeData(Connection connection) {
+		var choose = this.cacheList.remove(connection);
+		if (choose != null) choose.close();
+		try {
+			connection.close();
+		} catch (SQLException errors) {
+			LOGGER.log(Level.DEBUG, "close connection failed.", errors);
+		}
+	}
+	/**
+	 * 物理接続を破棄します。
+	 * 
+	 * @param connection 接続情報
+	 */
+	private void dropData(Connection connection) {
+		this.lockData.lock();
+		try {
+			this.totalSize --;
+			this.waitData.signal();
+		} finally {
+			this.lockData.unlock();
+		}
+		this.dropCount.increment();
+		closeData(connection);
+	}
+	/**
+	 * 物理接続を検証します。
+	 * 
+	 * @param connection 接続情報
+	 * @return 検証結果
+	 */
+	private boolean validData(Connection connection) {
+		try {
+			return connection.isValid(this.validTimeout);
+		} catch (SQLException errors) {
+			return false;
+		}
+	}
+	/**
+	 * 製品種別を判定します。
+	 * 
+	 * @param connection 接続情報
+	 * @return {@code @@TRANCOUNT}に対応する製品の場合は{@code true}
+	 */
+	private boolean chooseServer(Connection connection) {
+		var result = this.serverFlag;
+		if (result == null) {
+			try {
+				var choose = connection.getMetaData();
+				result = Boolean.valueOf(choose != null && String.valueOf(choose.getDatabaseProductName()).contains(SERVER_NAME));
+			} catch (SQLException errors) {
+				result = Boolean.FALSE;
+			}
+			this.serverFlag = result;
+		}
+		return result.booleanValue();
+	}
+	/**
+	 * 接続状態を初期化します。
+	 * <p>
+	 * 自動確定が無効の場合は巻戻して有効に戻します。
+	 * 自動確定が有効でも{@code BEGIN TRANSACTION}で開始したトランザクションは残るため、
+	 * 対応製品では{@code @@TRANCOUNT}を確認して1以上の場合は巻戻します。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @throws SQLException 初期化に失敗した場合
+	 */
+	private void resetData(Connection connection) throws SQLException {
+		if (!connection.getAutoCommit()) {
+			connection.rollback();
+			connection.setAutoCommit(true);
+		}
+		if (chooseServer(connection)) {
+			try (var statement = connection.createStatement()) {
+				var count = 0;
+				try (var resultSet = statement.executeQuery(TRAN_TEXT)) {
+					if (resultSet.next()) count = resultSet.getInt(1);
+				}
+				if (0 < count) statement.execute(BACK_TEXT);
+			}
+		}
+		connection.clearWarnings();
+	}
+	/**
+	 * 接続状態を破棄します。
+	 * <p>
+	 * 接続処理が初期化機能を公開している場合だけ実行し、次の要求でデータベース・接続設定・一時オブジェクトを接続時の状態へ戻します。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @return 初期化を要求した場合は{@code true}(対応しない接続処理の場合は{@code false})
+	 */
+	private static boolean clearData(Connection connection) {
+		try {
+			connection.getClass().getMethod(RESET_NAME).invoke(connection);
+			return true;
+		} catch (ReflectiveOperationException | RuntimeException errors) {
+			LOGGER.log(Level.DEBUG, "reset connection unsupported.", errors);
+			return false;
+		}
+	}
+	/**
+	 * 貸出情報を生成します。
+	 * 
+	 * @param connection 接続情報
+	 * @return 貸出情報
+	 */
+	private ConnectDataModel lendData(Connection connection) {
+		var choose = this.leakTimeout > 0? new Throwable("connection borrowed here"): null;
+		var result = new ConnectDataModel(this, connection, choose);
+		this.busyList.add(result);
+		return result;
+	}
+	/**
+	 * 待機接続を取得します。
+	 * <p>
+	 * 待機接続が存在せず接続総数が上限に達している場合は返却を待機します。
+	 * 新規接続が必要な場合は接続総数を予約したうえで{@code null}を返却します。
+	 * </p>
+	 * 
+	 * @return 待機接続
+	 * @throws SQLException 待機時間を超過した場合
+	 */
+	private Connection takeData() throws SQLException {
+		var limits = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.waitTimeout);
+		var waited = false;
+		var before = System.nanoTime();
+		this.lockData.lock();
+		try {
+			while (true) {
+				if (!this.idleList.isEmpty()) {
+					return this.idleList.pollLast().connection;
+				} else if (this.totalSize < this.maximumSize) {
+					this.totalSize ++;
+					return null;
+				} else {
+					var remain = limits - System.nanoTime();
+					if (remain <= 0) {
+						throw new SQLException(String.format("connection pool exhausted.(maximumSize=%d, waitTimeout=%dms)", Integer.valueOf(this.maximumSize), Long.valueOf(this.waitTimeout)));
+					}
+					waited = true;
+					this.waitData.awaitNanos(remain);
+				}
+			}
+		} catch (InterruptedException errors) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("waiting connection interrupted.", errors);
+		} finally {
+			this.lockData.unlock();
+			if (waited) {
+				this.waitCount.increment();
+				this.waitTotal.add(System.nanoTime() - before);
+			}
+		}
+	}
+	/**
+	 * 物理接続を生成します。
+	 * 
+	 * @return 物理接続
+	 * @throws SQLException 接続処理に失敗した場合
+	 */
+	private Connection openData() throws SQLException {
+		try {
+			return DriverManager.getConnection(this.parameter);
+		} catch (SQLException | RuntimeException errors) {
+			this.lockData.lock();
+			try {
+				this.totalSize --;
+				this.waitData.signal();
+			} finally {
+				this.lockData.unlock();
+			}
+			throw errors;
+		}
+	}
+	/**
+	 * 待機接続を破棄します。
+	 * <p>
+	 * 破棄時間を超過した待機接続を最小接続数を下回らない範囲で破棄します。
+	 * </p>
+	 */
+	private void evictData() {
+		var limits = System.currentTimeMillis() - this.idleTimeout;
+		var values = new ArrayDeque<Connection>();
+		this.lockData.lock();
+		try {
+			while (!this.idleList.isEmpty() && this.minimumSize < this.totalSize) {
+				var choose = this.idleList.peekFirst();
+				if (limits < choose.idleTime) break;
+				this.idleList.pollFirst();
+				this.totalSize --;
+				values.add(choose.connection);
+			}
+		} finally {
+			this.lockData.unlock();
+		}
+		for (var choose : values) {
+			this.dropCount.increment();
+			closeData(choose);
+		}
+	}
+	/**
+	 * 待機接続を補充します。
+	 * <p>
+	 * 接続総数が最小接続数を下回る場合に待機接続を生成します。
+	 * </p>
+	 */
+	private void fillData() {
+		while (true) {
+			this.lockData.lock();
+			try {
+				if (this.minimumSize <= this.totalSize || this.maximumSize <= this.totalSize) return;
+				this.totalSize ++;
+			} finally {
+				this.lockData.unlock();
+			}
+			try {
+				var choose = openData();
+				this.lockData.lock();
+				try {
+					this.idleList.addFirst(new IdleData(choose));
+					this.waitData.signal();
+				} finally {
+					this.lockData.unlock();
+				}
+			} catch (SQLException errors) {
+				LOGGER.log(Level.DEBUG, "fill connection failed.", errors);
+				return;
+			}
+		}
+	}
+	/**
+	 * 返却漏れを検出します。
+	 */
+	private void checkData() {
+		var limits = this.leakTimeout;
+		if (limits <= 0) return;
+		var border = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(limits);
+		ConnectDataModel[] values;
+		synchronized (this.busyList) {
+			values = this.busyList.toArray(new ConnectDataModel[this.busyList.size()]);
+		}
+		for (var choose : values) {
+			if (!choose.isLeaked() && choose.getBorrowTime() - border < 0) {
+				choose.setLeaked(true);
+				this.leakCount.increment();
+				LOGGER.log(Level.WARNING, String.format("connection is not returned in %dms.", Long.valueOf(limits)), choose.getBorrowPath());
+			}
+		}
+	}
+	/**
+	 * 管理一覧を監視します。
+	 */
+	private static void watchList() {
+		for (var choose : POOL_LIST.values()) {
+			try {
+				choose.evictData();
+				choose.fillData();
+				choose.checkData();
+			} catch (RuntimeException errors) {
+				LOGGER.log(Level.WARNING, "watch connection pool failed.", errors);
+			}
+		}
+	}
+
+	/**
+	 * 接続引数を秘匿します。
+	 * <p>
+	 * 記録や監視へ出力する接続引数から{@code password=}形式と{@code //user:password@}形式の認証情報を伏字にします。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @return 秘匿文字列
+	 */
+	static String maskText(String parameter) {
+		if (parameter == null) return null;
+		var result = SECRET_TEXT1.matcher(parameter).replaceAll("$1$2****");
+		return SECRET_TEXT2.matcher(result).replaceAll("$1****@");
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 接続管理モデルを取得します。
+	 * 
+	 * @param parameter 接続引数
+	 * @return 接続管理モデル
+	 */
+	public static ConnectPoolModel chooseData(String parameter) {
+		if (parameter == null) {
+			throw new IllegalArgumentException("parameter must be non null.");
+		} else {
+			return POOL_LIST.computeIfAbsent(parameter, ConnectPoolModel::new);
+		}
+	}
+	/**
+	 * 接続情報を貸出します。
+	 * 
+	 * @param parameter 接続引数
+	 * @return 接続情報
+	 * @throws SQLException 接続処理に失敗した場合
+	 */
+	public static ConnectDataModel borrowData(String parameter) throws SQLException {
+		return chooseData(parameter).borrowData();
+	}
+	/**
+	 * 管理一覧を破棄します。
+	 * <p>
+	 * 全ての待機接続を切断します。貸出中の接続は対象外です。
+	 * </p>
+	 */
+	public static void removeList() {
+		for (var choose : POOL_LIST.values()) {
+			choose.removeData();
+		}
+	}
+	/**
+	 * 接続情報を貸出します。
+	 * 
+	 * @return 接続情報
+	 * @throws SQLException 接続処理に失敗した場合
+	 */
+	public ConnectDataModel borrowData() throws SQLException {
+		var event = new EventDataModel.ConnectData();
+		var count = 0;
+		event.begin();
+		while (true) {
+			var choose = takeData();
+			if (choose == null) {
+				// 新規接続
+				var result = openData();
+				this.missCount.increment();
+				event.finishData(this.parameter, true, count);
+				return lendData(result);
+			} else if (validData(choose)) {
+				// 再利用
+				this.hitCount.increment();
+				event.finishData(this.parameter, false, count);
+				return lendData(choose);
+			} else {
+				// 検証失敗
+				this.failCount.increment();
+				count ++;
+				dropData(choose);
+			}
+		}
+	}
+	/**
+	 * 待機接続を破棄します。
+	 */
+	public void removeData() {
+		var values = new ArrayDeque<Connection>();
+		this.lockData.lock();
+		try {
+			while (!this.idleList.isEmpty()) {
+				values.add(this.idleList.pollFirst().connection);
+				this.totalSize --;
+			}
+			this.waitData.signalAll();
+		} finally {
+			this.lockData.unlock();
+		}
+		for (var choose : values) {
+			this.dropCount.increment();
+			closeData(choose);
+		}
+	}
+	/**
+	 * 準備構文を取得します。
+	 * 
+	 * @param connection 接続情報
+	 * @param invokeText 実行構文
+	 * @return 準備構文(物理接続毎に保持)
+	 * @throws SQLException 準備処理に失敗した場合
+	 */
+	PreparedStatement prepareData(Connection connection, String invokeText) throws SQLException {
+		var choose = this.cacheList.computeIfAbsent(connection, key -> new StatementCacheModel(key, this.statementSize, this.statementHit, this.statementMiss, this.statementDrop));
+		return choose.chooseData(invokeText, this.statementSize);
+	}
+	/**
+	 * 接続情報を返却します。
+	 * <p>
+	 * 接続状態を変更する構文を実行した接続は接続処理の初期化機能で初期化してから再利用します。
+	 * 破棄を指定した接続と、初期化機能に対応しない接続処理の接続は再利用せずに破棄します。
+	 * </p>
+	 * 
+	 * @param borrowData 貸出情報
+	 * @param connection 接続情報
+	 */
+	void returnData(ConnectDataModel borrowData, Connection connection) {
+		this.busyList.remove(borrowData);
+		var status = !borrowData.isRemoved();
+		if (status) {
+			try {
+				if (connection.isClosed() || borrowData.isReset() && !clearData(connection)) {
+					status = false;
+				} else {
+					resetData(connection);
+				}
+			} catch (SQLException errors) {
+				status = false;
+			}
+		}
+		if (status) {
+			this.lockData.lock();
+			try {
+				this.idleList.addLast(new IdleData(connection));
+				this.waitData.signal();
+			} finally {
+				this.lockData.unlock();
+			}
+		} else {
+			dropData(connection);
+		}
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ConnectPoolModel[total=%d, busy=%d, hit=%d, miss=%d, wait=%,dns, statementHit=%.1f%%]",
+			Integer.valueOf(getTotalSize()), Integer.valueOf(getBusySize()),
+			Long.valueOf(getHitCount()), Long.valueOf(getMissCount()), Long.valueOf(getWaitTime()),
+			Double.valueOf(getStatementHitRate() * 100.0));
+	}
+
+	/**
+	 * 待機情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class IdleData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 接続情報 */
+		private final Connection connection;
+		/** 返却時刻 */
+		private final long idleTime;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 待機情報を生成します。
+		 * 
+		 * @param connection 接続情報
+		 */
+		private IdleData(Connection connection) {
+			super();
+			this.connection = connection;
+			this.idleTime = System.currentTimeMillis();
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/**
+ * [Source.Code] CounterDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 累計情報モデルクラスです。
+ * <p>
+ * 接続引数毎に実行処理の累計を保持します。
+ * 累計は{@link ResultDataModel#invokeList(String, String, InvokeDataModel, java.util.function.IntFunction)}の終了毎に
+ * {@link PhaseDataModel}から加算し、読込行数は読込中も通知単位で加算します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see SourceMonitorModel
+ */
+public final class CounterDataModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 管理一覧 */
+	private static final ConcurrentHashMap<String, CounterDataModel> COUNT_LIST = new ConcurrentHashMap<>();
+	/** 読込件数 */
+	private static final LongAdder FETCH_COUNT = new LongAdder();
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 接続引数(秘匿済) */
+	private final String parameter;
+	/** 実行件数 */
+	private final LongAdder invokeCount;
+	/** 異常件数 */
+	private final LongAdder errorCount;
+	/** 行件数 */
+	private final LongAdder recordCount;
+	/** 更新件数 */
+	private final LongAdder updateCount;
+	/** 概算容量 */
+	private final LongAdder byteSize;
+	/** 実行時間 */
+	private final LongAdder executeTime;
+	/** 読込時間 */
+	private final LongAdder fetchTime;
+	/** 全体時間 */
+	private final LongAdder totalTime;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 接続引数を取得します。
+	 * 
+	 * @return 接続引数(認証情報は伏字)
+	 */
+	public String getParameter() {
+		return this.parameter;
+	}
+	/**
+	 * 実行件数を取得します。
+	 * 
+	 * @return 実行件数
+	 */
+	public long getInvokeCount() {
+		return this.invokeCount.sum();
+	}
+	/**
+	 * 異常件数を取得します。
+	 * 
+	 * @return 異常終了した実行件数
+	 */
+	public long getErrorCount() {
+		return this.errorCount.sum();
+	}
+	/**
+	 * 行件数を取得します。
+	 * 
+	 * @return 読込んだ行件数
+	 */
+	public long getRecordCount() {
+		return this.recordCount.sum();
+	}
+	/**
+	 * 更新件数を取得します。
+	 * 
+	 * @return 更新件数の合計
+	 */
+	public long getUpdateCount() {
+		return this.updateCount.sum();
+	}
+	/**
+	 * 概算容量を取得します。
+	 * 
+	 * @return 読込んだ行情報の概算容量(バイト)
+	 */
+	public long getByteSize() {
+		return this.byteSize.sum();
+	}
+	/**
+	 * 実行時間を取得します。
+	 * 
+	 * @return 実行時間の合計(ミリ秒)
+	 */
+	public long getExecuteTime() {
+		return this.executeTime.sum() / 1_000_000L;
+	}
+	/**
+	 * 読込時間を取得します。
+	 * 
+	 * @return 読込時間の合計(ミリ秒)
+	 */
+	public long getFetchTime() {
+		return this.fetchTime.sum() / 1_000_000L;
+	}
+	/**
+	 * 全体時間を取得します。
+	 * 
+	 * @return 全体時間の合計(ミリ秒)
+	 */
+	public long getTotalTime() {
+		return this.totalTime.sum() / 1_000_000L;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 累計情報モデルを生成します。
+	 * 
+	 * @param parameter 接続引数
+	 */
+	private CounterDataModel(String parameter) {
+		super();
+		this.parameter = ConnectPoolModel.maskText(parameter);
+		this.invokeCount = new LongAdder();
+		this.errorCount = new LongAdder();
+		this.recordCount = new LongAdder();
+		this.updateCount = new LongAdder();
+		this.byteSize = new LongAdder();
+		this.executeTime = new LongAdder();
+		this.fetchTime = new LongAdder();
+		this.totalTime = new LongAdder();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 工程情報を加算します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param phaseData 工程情報
+	 */
+	static void appendData(String parameter, PhaseDataModel phaseData) {
+		if (parameter == null) return;
+		var choose = COUNT_LIST.computeIfAbsent(parameter, CounterDataModel::new);
+		choose.invokeCount.increment();
+		if (phaseData.getErrorData() != null) choose.errorCount.increment();
+		choose.recordCount.add(phaseData.getRecordSize());
+		choose.updateCount.add(phaseData.getUpdateSize());
+		choose.byteSize.add(phaseData.getByteSize());
+		choose.executeTime.add(phaseData.getExecuteTime());
+		choose.fetchTime.add(phaseData.getFetchTime());
+		choose.totalTime.add(phaseData.getTotalTime());
+	}
+	/**
+	 * 読込件数を加算します。
+	 * 
+	 * @param length 読込件数
+	 */
+	static void appendFetch(int length) {
+		FETCH_COUNT.add(length);
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 読込件数を取得します。
+	 * 
+	 * @return 全接続で読込んだ行件数(実行中の処理を含む)
+	 */
+	public static long chooseFetch() {
+		return FETCH_COUNT.sum();
+	}
+	/**
+	 * 累計一覧を取得します。
+	 * 
+	 * @return 累計一覧(接続引数毎)
+	 */
+	public static List<CounterDataModel> chooseList() {
+		return new ArrayList<>(COUNT_LIST.values());
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("CounterDataModel[parameter=%s, invoke=%d, error=%d, records=%d]",
+			this.parameter, Long.valueOf(getInvokeCount()), Long.valueOf(getErrorCount()), Long.valueOf(getRecordCount()));
+	}
+}
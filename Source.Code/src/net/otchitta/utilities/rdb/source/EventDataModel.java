@@ -0,0 +1,185 @@
+/**
+ * [Source.Code] EventDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 記録事象モデルクラスです。
+ * <p>
+ * Java Flight Recorderへ出力する読込処理側の事象を定義します。
+ * 各事象は記録対象外の場合に引数の変換を行わないよう、{@link Event#shouldCommit()}を判定してから値を設定します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class EventDataModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 分類名称 */
+	static final String CATEGORY = "RDB Utilities";
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 記録事象モデルを生成します。
+	 */
+	private EventDataModel() {
+		super();
+	}
+
+	/**
+	 * 接続事象クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 * @see ConnectPoolModel#borrowData()
+	 */
+	@Name("net.otchitta.utilities.rdb.Connect")
+	@Label("Connection Acquisition")
+	@Description("Borrowing a connection from the pool, including validation and physical connect.")
+	@Category({CATEGORY, "Source"})
+	@StackTrace(false)
+	static final class ConnectData extends Event {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 接続引数 */
+		@Label("Parameter")
+		@Description("Connection URL with credentials masked.")
+		String parameter;
+		/** 新規接続 */
+		@Label("Created")
+		@Description("A new physical connection was opened.")
+		boolean created;
+		/** 検証失敗件数 */
+		@Label("Validation Failures")
+		int failures;
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 事象を確定します。
+		 * 
+		 * @param parameter 接続引数
+		 * @param created 新規接続
+		 * @param failures 検証失敗件数
+		 */
+		void finishData(String parameter, boolean created, int failures) {
+			end();
+			if (shouldCommit()) {
+				this.parameter = ConnectPoolModel.maskText(parameter);
+				this.created = created;
+				this.failures = failures;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * 実行事象クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 * @see java.sql.Statement#execute(String)
+	 * @see java.sql.Statement#getMoreResults()
+	 */
+	@Name("net.otchitta.utilities.rdb.Execute")
+	@Label("Statement Execute")
+	@Description("Statement execute or move to the next result.")
+	@Category({CATEGORY, "Source"})
+	@StackTrace(false)
+	static final class InvokeData extends Event {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 実行構文 */
+		@Label("Statement Text")
+		String invokeText;
+		/** 結果種別 */
+		@Label("Result Set")
+		@Description("The execution produced a result set rather than an update count.")
+		boolean resultFlag;
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 事象を確定します。
+		 * 
+		 * @param invokeText 実行構文
+		 * @param resultFlag 結果種別
+		 */
+		void finishData(String invokeText, boolean resultFlag) {
+			end();
+			if (shouldCommit()) {
+				this.invokeText = invokeText;
+				this.resultFlag = resultFlag;
+				commit();
+			}
+		}
+	}
+
+	/**
+	 * 読込事象クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 * @see RecordDataModel#invokeList(java.sql.ResultSet, java.util.function.Consumer, PhaseDataModel, boolean)
+	 */
+	@Name("net.otchitta.utilities.rdb.Fetch")
+	@Label("Result Set Fetch")
+	@Description("Reading one result set to the end, including conversion and hand-off to the action.")
+	@Category({CATEGORY, "Source"})
+	@StackTrace(false)
+	static final class FetchData extends Event {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 行件数 */
+		@Label("Rows")
+		long recordSize;
+		/** 列件数 */
+		@Label("Columns")
+		int columnSize;
+		/** 概算容量 */
+		@Label("Approximate Size")
+		@DataAmount
+		long byteSize;
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 事象を確定します。
+		 * 
+		 * @param recordSize 行件数
+		 * @param columnSize 列件数
+		 * @param byteSize 概算容量
+		 */
+		void finishData(long recordSize, int columnSize, long byteSize) {
+			end();
+			if (shouldCommit()) {
+				this.recordSize = recordSize;
+				this.columnSize = columnSize;
+				this.byteSize = byteSize;
+				commit();
+			}
+		}
+	}
+}
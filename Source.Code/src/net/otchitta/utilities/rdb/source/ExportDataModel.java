@@ -0,0 +1,46 @@
+/**
+ * [Source.Code] ExportDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.IOException;
+
+/**
+ * 出力形式モデルインターフェースです。
+ * <p>
+ * 抽出結果を一行ずつ出力領域へ書込みます。
+ * 出力毎に生成されるため、列情報等の状態を保持して構いません。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ExportListModel#registData(String, java.util.function.Supplier)
+ */
+public interface ExportDataModel {
+	/**
+	 * 見出情報を書込みます。
+	 * 
+	 * @param writer 出力領域
+	 * @param columnList 要素一覧
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public void writeHead(ExportFileModel writer, ColumnListModel columnList) throws IOException;
+	/**
+	 * 要素情報を書込みます。
+	 * 
+	 * @param writer 出力領域
+	 * @param recordData 要素情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public void writeData(ExportFileModel writer, RecordDataModel recordData) throws IOException;
+	/**
+	 * 終端情報を書込みます。
+	 * 
+	 * @param writer 出力領域
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public default void writeTail(ExportFileModel writer) throws IOException {
+		// 処理なし
+	}
+}
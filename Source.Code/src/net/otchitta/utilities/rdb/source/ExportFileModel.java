@@ -0,0 +1,223 @@
+/**
+ * [Source.Code] ExportFileModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 出力領域モデルクラスです。
+ * <p>
+ * 文字情報を固定長の文字領域へ蓄積し、満杯になる毎にUTF-8へ変換してファイルへ書込みます。
+ * 文字領域と変換領域は出力中に再利用するため、出力件数に関わらず使用メモリは一定です。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ExportFileModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 文字領域容量 */
+	private static final int CHAR_SIZE = 1 << 16;
+	/** 変換領域容量 */
+	private static final int BYTE_SIZE = 1 << 18;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 出力経路 */
+	private final WritableByteChannel channel;
+	/** 変換処理 */
+	private final CharsetEncoder encoder;
+	/** 文字領域 */
+	private final CharBuffer charData;
+	/** 変換領域 */
+	private final ByteBuffer byteData;
+	/** 数値領域 */
+	private final char[] longData;
+	/** 出力容量(バイト) */
+	private long byteSize;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 出力容量を取得します。
+	 * 
+	 * @return ファイルへ書込んだ容量(バイト)
+	 */
+	public long getByteSize() {
+		return this.byteSize;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 出力領域モデルを生成します。
+	 * <p>
+	 * 出力先が存在する場合は上書きします。
+	 * </p>
+	 * 
+	 * @param target 出力先
+	 * @throws IOException 出力先を開けない場合
+	 */
+	public ExportFileModel(Path target) throws IOException {
+		this(FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+	}
+	/**
+	 * 出力領域モデルを生成します。
+	 * <p>
+	 * 出力領域を閉じると出力先も閉じます。
+	 * </p>
+	 * 
+	 * @param target 出力先
+	 */
+	public ExportFileModel(OutputStream target) {
+		this(Channels.newChannel(target));
+	}
+	/**
+	 * 出力領域モデルを生成します。
+	 * 
+	 * @param channel 出力経路
+	 */
+	private ExportFileModel(WritableByteChannel channel) {
+		super();
+		this.channel = channel;
+		this.encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.charData = CharBuffer.allocate(CHAR_SIZE);
+		this.byteData = ByteBuffer.allocateDirect(BYTE_SIZE);
+		this.longData = new char[20];
+		this.byteSize = 0L;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 文字領域を変換します。
+	 * 
+	 * @param finished 終端である場合は{@code true}
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void flushChar(boolean finished) throws IOException {
+		this.charData.flip();
+		while (this.encoder.encode(this.charData, this.byteData, finished).isOverflow()) {
+			flushByte();
+		}
+		this.charData.compact();
+	}
+	/**
+	 * 変換領域を書込みます。
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void flushByte() throws IOException {
+		this.byteData.flip();
+		while (this.byteData.hasRemaining()) {
+			this.byteSize += this.channel.write(this.byteData);
+		}
+		this.byteData.clear();
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 文字情報を追加します。
+	 * 
+	 * @param value 文字情報
+	 * @return 当該情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public ExportFileModel append(char value) throws IOException {
+		if (!this.charData.hasRemaining()) flushChar(false);
+		this.charData.put(value);
+		return this;
+	}
+	/**
+	 * 文字情報を追加します。
+	 * 
+	 * @param value 文字情報
+	 * @return 当該情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public ExportFileModel append(CharSequence value) throws IOException {
+		var index = 0;
+		var length = value.length();
+		while (index < length) {
+			if (!this.charData.hasRemaining()) flushChar(false);
+			var count = Math.min(this.charData.remaining(), length - index);
+			if (value instanceof String) {
+				this.charData.put((String)value, index, index + count);
+			} else {
+				for (var offset = 0; offset < count; offset ++) {
+					this.charData.put(value.charAt(index + offset));
+				}
+			}
+			index += count;
+		}
+		return this;
+	}
+	/**
+	 * 数値情報を十進表記で追加します。
+	 * <p>
+	 * 文字列を生成せずに書込みます。
+	 * </p>
+	 * 
+	 * @param value 数値情報
+	 * @return 当該情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public ExportFileModel append(long value) throws IOException {
+		if (value == Long.MIN_VALUE) return append(Long.toString(value));
+		var index = this.longData.length;
+		var choose = Math.abs(value);
+		do {
+			this.longData[-- index] = (char)('0' + choose % 10L);
+			choose /= 10L;
+		} while (choose != 0L);
+		if (value < 0L) this.longData[-- index] = '-';
+		if (this.charData.remaining() < this.longData.length - index) flushChar(false);
+		this.charData.put(this.longData, index, this.longData.length - index);
+		return this;
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 残りの文字情報を書込んでファイルを閉じます。
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flushChar(true);
+			while (this.encoder.flush(this.byteData).isOverflow()) {
+				flushByte();
+			}
+			flushByte();
+		} finally {
+			this.channel.close();
+		}
+	}
+}
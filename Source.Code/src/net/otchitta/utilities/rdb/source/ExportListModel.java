@@ -0,0 +1,483 @@
+/**
+ * [Source.Code] ExportListModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 出力一覧モデルクラスです。
+ * <p>
+ * 出力形式を識別子毎に管理し、抽出結果を結果セットから直接ファイルへ出力します。
+ * 標準で{@code csv}・{@code tsv}・{@code jsonl}形式に対応します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ExportDataModel
+ */
+public final class ExportListModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 読込行数 */
+	private static final int FETCH_SIZE = 1_000;
+	/** 十六進文字 */
+	private static final char[] HEX_TEXT = "0123456789ABCDEF".toCharArray();
+	/** 形式一覧 */
+	private static final ConcurrentHashMap<String, Supplier<? extends ExportDataModel>> WRITER_LIST = new ConcurrentHashMap<>();
+	static {
+		registData("csv", () -> new SplitData(','));
+		registData("tsv", () -> new SplitData('\t'));
+		registData("jsonl", JsonData::new);
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 出力一覧モデルを生成します。
+	 */
+	private ExportListModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 値情報を文字表記で書込みます。
+	 * 
+	 * @param writer 出力領域
+	 * @param values 値情報(非NULL・非文字列)
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private static void writeText(ExportFileModel writer, Object values) throws IOException {
+		if (values instanceof Integer || values instanceof Long || values instanceof Short || values instanceof Byte) {
+			writer.append(((Number)values).longValue());
+		} else if (values instanceof BigDecimal) {
+			writer.append(((BigDecimal)values).toPlainString());
+		} else if (values instanceof byte[]) {
+			for (var choose : (byte[])values) {
+				writer.append(HEX_TEXT[(choose >> 4) & 0x0F]).append(HEX_TEXT[choose & 0x0F]);
+			}
+		} else {
+			writer.append(values.toString());
+		}
+	}
+	/**
+	 * 結果セットをファイルへ書込みます。
+	 * <p>
+	 * 出力先と同じ場所の一時ファイルへ書込み、末尾まで書込んでから出力先へ置換えます。
+	 * 書込を完了できない場合は一時ファイルを削除し、出力先は変更しません。
+	 * </p>
+	 * 
+	 * @param resultSet 結果情報
+	 * @param exportData 出力形式
+	 * @param target 出力先
+	 * @return 出力件数
+	 * @throws SQLException 読込処理に失敗した場合
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private static long writeFile(ResultSet resultSet, ExportDataModel exportData, Path target) throws SQLException, IOException {
+		var choose = target.toAbsolutePath();
+		var source = Files.createTempFile(choose.getParent(), String.valueOf(choose.getFileName()) + ".", ".tmp");
+		try {
+			var result = new long[1];
+			try (var writer = new ExportFileModel(source)) {
+				exportData.writeHead(writer, ColumnListModel.createData(resultSet.getMetaData()));
+				RecordDataModel.invokeList(resultSet, values -> {
+					try {
+						for (var record : values) {
+							exportData.writeData(writer, record);
+						}
+						result[0] += values.length;
+					} catch (IOException errors) {
+						throw new UncheckedIOException(errors);
+					}
+				});
+				exportData.writeTail(writer);
+			} catch (UncheckedIOException errors) {
+				throw errors.getCause();
+			}
+			try {
+				Files.move(source, choose, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException errors) {
+				Files.move(source, choose, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return result[0];
+		} finally {
+			Files.deleteIfExists(source);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 出力形式を登録します。
+	 * 
+	 * @param code 形式識別子
+	 * @param creator 生成処理
+	 */
+	public static void registData(String code, Supplier<? extends ExportDataModel> creator) {
+		if (code == null) throw new IllegalArgumentException("code must be non null.");
+		if (creator == null) throw new IllegalArgumentException("creator must be non null.");
+		WRITER_LIST.put(code.toLowerCase(Locale.ENGLISH), creator);
+	}
+	/**
+	 * 形式一覧を取得します。
+	 * 
+	 * @return 形式識別子一覧
+	 */
+	public static Set<String> getCodeList() {
+		return new TreeSet<>(WRITER_LIST.keySet());
+	}
+	/**
+	 * 出力形式を生成します。
+	 * 
+	 * @param code 形式識別子
+	 * @return 出力形式
+	 */
+	public static ExportDataModel createData(String code) {
+		var choose = WRITER_LIST.get(code.toLowerCase(Locale.ENGLISH));
+		if (choose == null) {
+			throw new IllegalArgumentException(String.format("unknown export format.(code=%s)", code));
+		} else {
+			return choose.get();
+		}
+	}
+	/**
+	 * 出力先の拡張子から形式識別子を判定します。
+	 * 
+	 * @param target 出力先
+	 * @return 形式識別子(該当しない場合は{@code csv})
+	 */
+	public static String chooseCode(Path target) {
+		var choose = String.valueOf(target.getFileName()).toLowerCase(Locale.ENGLISH);
+		var index = choose.lastIndexOf('.');
+		var value1 = index < 0? "": choose.substring(index + 1);
+		return WRITER_LIST.containsKey(value1)? value1: "csv";
+	}
+	/**
+	 * 抽出結果を出力します。
+	 * <p>
+	 * 結果セットから読込んだ要素情報を順次書込み、全件を保持しません。
+	 * 複数の結果セットを返却する場合は最初の結果セットだけを出力します。
+	 * 抽出処理の開始後に一時ファイルへ書込み、全件を書込んでから出力先へ置換えるため、失敗時は出力先を変更しません。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param exportData 出力形式
+	 * @param target 出力先
+	 * @param invokeData 実行情報
+	 * @return 出力件数
+	 * @throws SQLException 抽出処理に失敗した場合
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public static long exportData(String parameter, String selectSQL, ExportDataModel exportData, Path target, InvokeDataModel invokeData) throws SQLException, IOException {
+		if (exportData == null) throw new IllegalArgumentException("exportData must be non null.");
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		if (target == null) throw new IllegalArgumentException("target must be non null.");
+		try (var connection = ConnectPoolModel.borrowData(parameter);
+				var statement = connection.createStatement()) {
+			connection.registText(selectSQL);
+			invokeData.registData(connection, statement);
+			try {
+				statement.setFetchSize(FETCH_SIZE);
+				try (var resultSet = statement.executeQuery(selectSQL)) {
+					return writeFile(resultSet, exportData, target);
+				}
+			} finally {
+				invokeData.removeData(statement);
+			}
+		}
+	}
+	/**
+	 * 抽出結果を出力します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param target 出力先(拡張子で形式を判定)
+	 * @return 出力件数
+	 * @throws SQLException 抽出処理に失敗した場合
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public static long exportData(String parameter, String selectSQL, Path target) throws SQLException, IOException {
+		return exportData(parameter, selectSQL, createData(chooseCode(target)), target, new InvokeDataModel());
+	}
+
+	/**
+	 * 区切形式クラスです。
+	 * <p>
+	 * カンマ区切の場合はRFC 4180に従い、区切文字・引用符・改行を含む値を引用符で囲みます。
+	 * タブ区切の場合は{@code \t}・{@code \n}・{@code \r}・{@code \\}を逆斜線で表記します。
+	 * NULLは空文字で出力します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class SplitData implements ExportDataModel {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 区切文字 */
+		private final char splitCode;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 区切形式を生成します。
+		 * 
+		 * @param splitCode 区切文字
+		 */
+		private SplitData(char splitCode) {
+			super();
+			this.splitCode = splitCode;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 引用要否を判定します。
+		 * 
+		 * @param values 文字情報
+		 * @return 引用が必要な場合は{@code true}
+		 */
+		private boolean isQuoted(String values) {
+			for (var index = 0; index < values.length(); index ++) {
+				var choose = values.charAt(index);
+				if (choose == this.splitCode || choose == '"' || choose == '\n' || choose == '\r') return true;
+			}
+			return false;
+		}
+		/**
+		 * 文字情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param values 文字情報
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private void writeText(ExportFileModel writer, String values) throws IOException {
+			if (this.splitCode == '\t') {
+				for (var index = 0; index < values.length(); index ++) {
+					var choose = values.charAt(index);
+					switch (choose) {
+					case '\t': writer.append('\\').append('t'); break;
+					case '\n': writer.append('\\').append('n'); break;
+					case '\r': writer.append('\\').append('r'); break;
+					case '\\': writer.append('\\').append('\\'); break;
+					default: writer.append(choose); break;
+					}
+				}
+			} else if (isQuoted(values)) {
+				writer.append('"');
+				for (var index = 0; index < values.length(); index ++) {
+					var choose = values.charAt(index);
+					if (choose == '"') writer.append('"');
+					writer.append(choose);
+				}
+				writer.append('"');
+			} else {
+				writer.append(values);
+			}
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 見出情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param columnList 要素一覧
+		 * @throws IOException 書込処理に失敗した場合
+		 * @see ExportDataModel#writeHead(ExportFileModel, ColumnListModel)
+		 */
+		@Override
+		public void writeHead(ExportFileModel writer, ColumnListModel columnList) throws IOException {
+			for (var index = 0; index < columnList.getSize(); index ++) {
+				if (0 < index) writer.append(this.splitCode);
+				writeText(writer, columnList.getData(index).getName());
+			}
+			writer.append('\n');
+		}
+		/**
+		 * 要素情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param recordData 要素情報
+		 * @throws IOException 書込処理に失敗した場合
+		 * @see ExportDataModel#writeData(ExportFileModel, RecordDataModel)
+		 */
+		@Override
+		public void writeData(ExportFileModel writer, RecordDataModel recordData) throws IOException {
+			for (var index = 0; index < recordData.getSize(); index ++) {
+				if (0 < index) writer.append(this.splitCode);
+				var choose = recordData.getData(index);
+				if (choose == null) {
+					// 処理なし
+				} else if (choose instanceof String) {
+					writeText(writer, (String)choose);
+				} else if (choose instanceof byte[] || choose instanceof Number) {
+					ExportListModel.writeText(writer, choose);
+				} else {
+					writeText(writer, choose.toString());
+				}
+			}
+			writer.append('\n');
+		}
+	}
+
+	/**
+	 * JSON Lines形式クラスです。
+	 * <p>
+	 * 一行毎に列名称を項目名とするJSONオブジェクトを出力します。
+	 * 有限の数値と真偽値はそのまま、バイト配列は十六進文字列、その他は文字列で出力します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class JsonData implements ExportDataModel {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 項目一覧 */
+		private String[] nameList;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * JSON Lines形式を生成します。
+		 */
+		private JsonData() {
+			super();
+			this.nameList = new String[0];
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 文字情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param values 文字情報
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private static void writeText(ExportFileModel writer, String values) throws IOException {
+			writer.append('"');
+			for (var index = 0; index < values.length(); index ++) {
+				var choose = values.charAt(index);
+				switch (choose) {
+				case '"': writer.append('\\').append('"'); break;
+				case '\\': writer.append('\\').append('\\'); break;
+				case '\n': writer.append('\\').append('n'); break;
+				case '\r': writer.append('\\').append('r'); break;
+				case '\t': writer.append('\\').append('t'); break;
+				default:
+					if (choose < 0x20) {
+						writer.append("\\u00").append(HEX_TEXT[choose >> 4]).append(HEX_TEXT[choose & 0x0F]);
+					} else {
+						writer.append(choose);
+					}
+					break;
+				}
+			}
+			writer.append('"');
+		}
+		/**
+		 * 値情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param values 値情報
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private static void writeData(ExportFileModel writer, Object values) throws IOException {
+			if (values == null) {
+				writer.append("null");
+			} else if (values instanceof String) {
+				writeText(writer, (String)values);
+			} else if (values instanceof Boolean) {
+				writer.append(values.toString());
+			} else if (values instanceof Double || values instanceof Float) {
+				var choose = ((Number)values).doubleValue();
+				if (Double.isFinite(choose)) {
+					writer.append(values.toString());
+				} else {
+					writeText(writer, values.toString());
+				}
+			} else if (values instanceof Number) {
+				ExportListModel.writeText(writer, values);
+			} else if (values instanceof byte[]) {
+				writer.append('"');
+				ExportListModel.writeText(writer, values);
+				writer.append('"');
+			} else {
+				writeText(writer, values.toString());
+			}
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 見出情報を書込みます。
+		 * <p>
+		 * 見出行は出力せず、項目名だけを保持します。
+		 * </p>
+		 * 
+		 * @param writer 出力領域
+		 * @param columnList 要素一覧
+		 * @see ExportDataModel#writeHead(ExportFileModel, ColumnListModel)
+		 */
+		@Override
+		public void writeHead(ExportFileModel writer, ColumnListModel columnList) {
+			this.nameList = new String[columnList.getSize()];
+			for (var index = 0; index < this.nameList.length; index ++) {
+				this.nameList[index] = columnList.getData(index).getName();
+			}
+		}
+		/**
+		 * 要素情報を書込みます。
+		 * 
+		 * @param writer 出力領域
+		 * @param recordData 要素情報
+		 * @throws IOException 書込処理に失敗した場合
+		 * @see ExportDataModel#writeData(ExportFileModel, RecordDataModel)
+		 */
+		@Override
+		public void writeData(ExportFileModel writer, RecordDataModel recordData) throws IOException {
+			writer.append('{');
+			for (var index = 0; index < recordData.getSize(); index ++) {
+				if (0 < index) writer.append(',');
+				writeText(writer, index < this.nameList.length? this.nameList[index]: String.valueOf(index));
+				writer.append(':');
+				writeData(writer, recordData.getData(index));
+			}
+			writer.append('}').append('\n');
+		}
+	}
+}
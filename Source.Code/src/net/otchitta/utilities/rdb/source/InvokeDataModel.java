@@ -0,0 +1,255 @@
+/**
+ * [Source.Code] InvokeDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.lang.System.Logger.Level;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 実行情報モデルクラスです。
+ * <p>
+ * 実行中の実行処理を保持し、別スレッドからの実行取消を受付けます。
+ * 並列実行時は実行中の全ての実行処理を保持し、一括して取消します。
+ * 実行取消時は{@link Statement#cancel()}で処理を中断して結果セットを閉じ、
+ * 接続状態が不定となるため物理接続は返却時に破棄します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see ResultDataModel#invokeList(String, String, InvokeDataModel, java.util.function.IntFunction)
+ */
+public final class InvokeDataModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(InvokeDataModel.class.getName());
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 制限時間(秒) */
+	private volatile int timeout;
+	/** 実行一覧 */
+	private final IdentityHashMap<Statement, ConnectDataModel> statements;
+	/** 取消状態 */
+	private volatile boolean cancelFlag;
+	/** 監視一覧 */
+	private final CopyOnWriteArrayList<PhaseListenModel> listens;
+	/** 詳細状態 */
+	private volatile boolean detailFlag;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 制限時間を取得します。
+	 * 
+	 * @return 制限時間(秒、0の場合は無制限)
+	 */
+	public int getQueryTimeout() {
+		return this.timeout;
+	}
+	/**
+	 * 制限時間を設定します。
+	 * <p>
+	 * 以降に開始する実行処理へ{@link Statement#setQueryTimeout(int)}として適用します。
+	 * </p>
+	 * 
+	 * @param timeout 制限時間(秒、0の場合は無制限)
+	 */
+	public void setQueryTimeout(int timeout) {
+		if (timeout < 0) throw new IllegalArgumentException("timeout must be zero or positive.");
+		this.timeout = timeout;
+	}
+	/**
+	 * 取消状態を判定します。
+	 * 
+	 * @return 実行取消を要求済である場合は{@code true}
+	 */
+	public boolean isCancelled() {
+		return this.cancelFlag;
+	}
+	/**
+	 * 実行状態を判定します。
+	 * 
+	 * @return 実行処理を保持している場合は{@code true}
+	 */
+	public synchronized boolean isRunning() {
+		return !this.statements.isEmpty();
+	}
+	/**
+	 * 詳細状態を判定します。
+	 * 
+	 * @return 工程情報を行毎に計測する場合は{@code true}
+	 */
+	public boolean isPhaseDetail() {
+		return this.detailFlag;
+	}
+	/**
+	 * 詳細状態を設定します。
+	 * <p>
+	 * 既定では工程監視を登録しても通知単位毎の集計だけを行います。
+	 * 行毎の計測は読込毎に時刻を取得するため、工程監視を登録した上で必要な場合だけ有効にします。
+	 * </p>
+	 * 
+	 * @param detailFlag 工程情報を行毎に計測する場合は{@code true}
+	 */
+	public void setPhaseDetail(boolean detailFlag) {
+		this.detailFlag = detailFlag;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 実行情報モデルを生成します。
+	 */
+	public InvokeDataModel() {
+		super();
+		this.timeout = 0;
+		this.statements = new IdentityHashMap<>();
+		this.cancelFlag = false;
+		this.listens = new CopyOnWriteArrayList<>();
+		this.detailFlag = false;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 実行処理を中断します。
+	 * 
+	 * @param connection 接続情報
+	 * @param statement 実行処理
+	 */
+	private static void cancelData(ConnectDataModel connection, Statement statement) {
+		connection.removeData();
+		try {
+			statement.cancel();
+		} catch (SQLException errors) {
+			// 処理なし(未対応の接続処理は閉じるだけとする)
+		}
+		try {
+			statement.close();
+		} catch (SQLException errors) {
+			// 処理なし
+		}
+	}
+	/**
+	 * 実行処理を登録します。
+	 * <p>
+	 * 登録前に実行取消を要求済である場合は即座に中断します。
+	 * </p>
+	 * 
+	 * @param connection 接続情報
+	 * @param statement 実行処理
+	 * @throws SQLException 制限時間の設定に失敗した場合
+	 */
+	synchronized void registData(ConnectDataModel connection, Statement statement) throws SQLException {
+		statement.setQueryTimeout(this.timeout);
+		this.statements.put(statement, connection);
+		if (this.cancelFlag) cancelData(connection, statement);
+	}
+	/**
+	 * 実行処理を削除します。
+	 * 
+	 * @param statement 実行処理
+	 */
+	synchronized void removeData(Statement statement) {
+		this.statements.remove(statement);
+	}
+	/**
+	 * 監視有無を判定します。
+	 * 
+	 * @return 工程監視を登録している場合は{@code true}
+	 */
+	boolean isListened() {
+		return !this.listens.isEmpty();
+	}
+	/**
+	 * 詳細有無を判定します。
+	 * 
+	 * @return 工程監視を登録し、行毎の計測を要求している場合は{@code true}
+	 */
+	boolean isDetailed() {
+		return this.detailFlag && isListened();
+	}
+	/**
+	 * 工程情報を通知します。
+	 * <p>
+	 * 工程監視の例外は記録だけ行い、実行処理の例外を隠さないよう呼出元へ送出しません。
+	 * </p>
+	 * 
+	 * @param phaseData 工程情報
+	 */
+	void notifyData(PhaseDataModel phaseData) {
+		for (var choose : this.listens) {
+			try {
+				choose.updatePhaseData(phaseData);
+			} catch (RuntimeException errors) {
+				LOGGER.log(Level.WARNING, "phase listener failed.", errors);
+			}
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 工程監視を登録します。
+	 * <p>
+	 * 登録した工程監視には実行処理の終了毎に工程情報を通知します。
+	 * </p>
+	 * 
+	 * @param listen 工程監視
+	 */
+	public void registListen(PhaseListenModel listen) {
+		if (listen == null) throw new IllegalArgumentException("listen must be non null.");
+		this.listens.addIfAbsent(listen);
+	}
+	/**
+	 * 工程監視を削除します。
+	 * 
+	 * @param listen 工程監視
+	 */
+	public void removeListen(PhaseListenModel listen) {
+		this.listens.remove(listen);
+	}
+	/**
+	 * 実行処理を取消します。
+	 * <p>
+	 * 実行中の処理へ取消を要求し、結果セットを閉じます。
+	 * 実行開始前に呼出した場合は開始時点で取消します。
+	 * </p>
+	 */
+	public void cancel() {
+		IdentityHashMap<Statement, ConnectDataModel> values;
+		synchronized (this) {
+			this.cancelFlag = true;
+			values = new IdentityHashMap<>(this.statements);
+		}
+		for (var choose : values.entrySet()) {
+			cancelData(choose.getValue(), choose.getKey());
+		}
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "InvokeDataModel[timeout=" + this.timeout + ", running=" + isRunning() + ", cancelled=" + this.cancelFlag + "]";
+	}
+}
@@ -0,0 +1,374 @@
+/**
+ * [Source.Code] PhaseDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+/**
+ * 工程情報モデルクラスです。
+ * <p>
+ * 実行処理1回分の工程毎の処理時間と処理件数を保持します。
+ * 時間は全てナノ秒で、各工程は次の区間を計測します。
+ * </p>
+ * <table>
+ * <caption>計測区間</caption>
+ * <tr><td>接続</td><td>接続の借受から実行処理の生成まで</td></tr>
+ * <tr><td>実行</td><td>実行処理と次結果への移動</td></tr>
+ * <tr><td>初回行</td><td>最初の実行開始から最初の行を読込むまで</td></tr>
+ * <tr><td>読込</td><td>{@link java.sql.ResultSet#next()}</td></tr>
+ * <tr><td>変換</td><td>行情報から{@link RecordDataModel}への変換</td></tr>
+ * <tr><td>通知</td><td>{@link ActionDataModel}の呼出(画面への反映依頼を含む)</td></tr>
+ * </table>
+ * <p>
+ * 行毎の読込・変換時間と初回行時間は工程監視を登録した場合だけ計測します。
+ * 計測しない場合の読込時間は変換時間を含む通知単位の時間とし、概算容量は通知単位の標本から推計します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see PhaseListenModel
+ */
+public final class PhaseDataModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 標本行数(通知単位毎) */
+	private static final int SAMPLE_SIZE = 16;
+	/** 計測なし */
+	static final PhaseDataModel EMPTY = new PhaseDataModel(null, false, false);
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 実行構文 */
+	private final String invokeText;
+	/** 集計可否 */
+	private final boolean countFlag;
+	/** 詳細可否(行毎の計測) */
+	private final boolean detailFlag;
+	/** 開始時刻 */
+	private final long startTime;
+	/** 実行開始時刻 */
+	private long invokeTime;
+	/** 接続時間 */
+	private long connectTime;
+	/** 実行時間 */
+	private long executeTime;
+	/** 初回行時間 */
+	private long firstTime;
+	/** 読込時間 */
+	private long fetchTime;
+	/** 変換時間 */
+	private long convertTime;
+	/** 通知時間 */
+	private long publishTime;
+	/** 全体時間 */
+	private long totalTime;
+	/** 行件数 */
+	private long recordSize;
+	/** 結果セット件数 */
+	private int resultSize;
+	/** 更新件数個数 */
+	private int updateCount;
+	/** 更新件数 */
+	private long updateSize;
+	/** 概算容量 */
+	private long byteSize;
+	/** 例外情報 */
+	private Exception errorData;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 実行構文を取得します。
+	 * 
+	 * @return 実行構文
+	 */
+	public String getInvokeText() {
+		return this.invokeText;
+	}
+	/**
+	 * 接続時間を取得します。
+	 * 
+	 * @return 接続時間(ナノ秒)
+	 */
+	public long getConnectTime() {
+		return this.connectTime;
+	}
+	/**
+	 * 実行時間を取得します。
+	 * 
+	 * @return 実行時間(ナノ秒)
+	 */
+	public long getExecuteTime() {
+		return this.executeTime;
+	}
+	/**
+	 * 初回行時間を取得します。
+	 * 
+	 * @return 初回行時間(ナノ秒、行がない場合は-1)
+	 */
+	public long getFirstTime() {
+		return this.firstTime;
+	}
+	/**
+	 * 読込時間を取得します。
+	 * 
+	 * @return 読込時間(ナノ秒)
+	 */
+	public long getFetchTime() {
+		return this.fetchTime;
+	}
+	/**
+	 * 変換時間を取得します。
+	 * 
+	 * @return 変換時間(ナノ秒)
+	 */
+	public long getConvertTime() {
+		return this.convertTime;
+	}
+	/**
+	 * 通知時間を取得します。
+	 * 
+	 * @return 通知時間(ナノ秒)
+	 */
+	public long getPublishTime() {
+		return this.publishTime;
+	}
+	/**
+	 * 全体時間を取得します。
+	 * 
+	 * @return 全体時間(ナノ秒)
+	 */
+	public long getTotalTime() {
+		return this.totalTime;
+	}
+	/**
+	 * 行件数を取得します。
+	 * 
+	 * @return 行件数
+	 */
+	public long getRecordSize() {
+		return this.recordSize;
+	}
+	/**
+	 * 結果セット件数を取得します。
+	 * 
+	 * @return 結果セット件数
+	 */
+	public int getResultSize() {
+		return this.resultSize;
+	}
+	/**
+	 * 更新件数個数を取得します。
+	 * 
+	 * @return 更新件数を返却した回数
+	 */
+	public int getUpdateCount() {
+		return this.updateCount;
+	}
+	/**
+	 * 更新件数を取得します。
+	 * 
+	 * @return 更新件数の合計
+	 */
+	public long getUpdateSize() {
+		return this.updateSize;
+	}
+	/**
+	 * 概算容量を取得します。
+	 * 
+	 * @return 読込んだ行情報のヒープ上の概算容量(バイト)
+	 * @see RecordDataModel#chooseSize()
+	 */
+	public long getByteSize() {
+		return this.byteSize;
+	}
+	/**
+	 * 例外情報を取得します。
+	 * 
+	 * @return 例外情報(正常終了の場合は{@code null})
+	 */
+	public Exception getErrorData() {
+		return this.errorData;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 工程情報モデルを生成します。
+	 * 
+	 * @param invokeText 実行構文
+	 * @param detailFlag 行毎に計測する場合は{@code true}
+	 */
+	PhaseDataModel(String invokeText, boolean detailFlag) {
+		this(invokeText, true, detailFlag);
+	}
+	/**
+	 * 工程情報モデルを生成します。
+	 * 
+	 * @param invokeText 実行構文
+	 * @param countFlag 集計する場合は{@code true}
+	 * @param detailFlag 行毎に計測する場合は{@code true}
+	 */
+	private PhaseDataModel(String invokeText, boolean countFlag, boolean detailFlag) {
+		super();
+		this.invokeText = invokeText;
+		this.countFlag = countFlag;
+		this.detailFlag = countFlag && detailFlag;
+		this.startTime = System.nanoTime();
+		this.invokeTime = -1L;
+		this.connectTime = 0L;
+		this.executeTime = 0L;
+		this.firstTime = -1L;
+		this.fetchTime = 0L;
+		this.convertTime = 0L;
+		this.publishTime = 0L;
+		this.totalTime = 0L;
+		this.recordSize = 0L;
+		this.resultSize = 0;
+		this.updateCount = 0;
+		this.updateSize = 0L;
+		this.byteSize = 0L;
+		this.errorData = null;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 詳細可否を判定します。
+	 * 
+	 * @return 行毎に計測する場合は{@code true}
+	 */
+	boolean isDetail() {
+		return this.detailFlag;
+	}
+	/**
+	 * 接続時間を確定します。
+	 */
+	void finishConnect() {
+		this.connectTime = System.nanoTime() - this.startTime;
+	}
+	/**
+	 * 実行時間を加算します。
+	 * 
+	 * @param before 開始時刻
+	 * @return 終了時刻
+	 */
+	long appendExecute(long before) {
+		if (this.invokeTime < 0L) this.invokeTime = before;
+		var result = System.nanoTime();
+		this.executeTime += result - before;
+		return result;
+	}
+	/**
+	 * 読込時間を加算します。
+	 * 
+	 * @param before 開始時刻
+	 * @param after 終了時刻
+	 */
+	void appendFetch(long before, long after) {
+		this.fetchTime += after - before;
+	}
+	/**
+	 * 変換時間を加算します。
+	 * <p>
+	 * 最初の行の場合は開始時刻を初回行時間の終点とします。
+	 * </p>
+	 * 
+	 * @param before 開始時刻
+	 * @param after 終了時刻
+	 */
+	void appendConvert(long before, long after) {
+		if (this.firstTime < 0L && 0L <= this.invokeTime) this.firstTime = before - this.invokeTime;
+		this.convertTime += after - before;
+	}
+	/**
+	 * 通知単位を集計します。
+	 * <p>
+	 * 行件数を加算し、概算容量は標本行数分の行から推計して加算します。
+	 * 行毎に計測しない場合は開始時刻からの経過時間を読込時間へ加算します。
+	 * </p>
+	 * 
+	 * @param recordList 要素一覧
+	 * @param length 要素個数
+	 * @param before 開始時刻
+	 * @param after 終了時刻
+	 */
+	void appendChunk(RecordDataModel[] recordList, int length, long before, long after) {
+		if (!this.countFlag || length <= 0) return;
+		var step = Math.max(1, length / SAMPLE_SIZE);
+		var count = 0;
+		var bytes = 0L;
+		for (var index = 0; index < length; index += step) {
+			bytes += recordList[index].chooseSize();
+			count ++;
+		}
+		this.recordSize += length;
+		this.byteSize += bytes * length / count;
+		if (!this.detailFlag) this.fetchTime += after - before;
+	}
+	/**
+	 * 通知時間を加算します。
+	 * 
+	 * @param before 開始時刻
+	 * @return 終了時刻
+	 */
+	long appendPublish(long before) {
+		var result = System.nanoTime();
+		if (this.countFlag) this.publishTime += result - before;
+		return result;
+	}
+	/**
+	 * 結果セット件数を加算します。
+	 */
+	void appendResult() {
+		this.resultSize ++;
+	}
+	/**
+	 * 更新件数を加算します。
+	 * 
+	 * @param updateSize 更新件数
+	 */
+	void appendUpdate(int updateSize) {
+		this.updateCount ++;
+		this.updateSize += updateSize;
+	}
+	/**
+	 * 例外情報を設定します。
+	 * 
+	 * @param errorData 例外情報
+	 */
+	void updateError(Exception errorData) {
+		if (this.errorData == null) this.errorData = errorData;
+	}
+	/**
+	 * 全体時間を確定します。
+	 */
+	void finishData() {
+		this.totalTime = System.nanoTime() - this.startTime;
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("connect=%,.1fms execute=%,.1fms first=%sms fetch=%,.1fms convert=%,.1fms publish=%,.1fms total=%,.1fms rows=%,d results=%d updates=%d(%,d) bytes=%,d%s",
+			Double.valueOf(this.connectTime / 1e6), Double.valueOf(this.executeTime / 1e6),
+			this.firstTime < 0L? "-": String.format("%,.1f", Double.valueOf(this.firstTime / 1e6)),
+			Double.valueOf(this.fetchTime / 1e6), Double.valueOf(this.convertTime / 1e6), Double.valueOf(this.publishTime / 1e6),
+			Double.valueOf(this.totalTime / 1e6), Long.valueOf(this.recordSize), Integer.valueOf(this.resultSize),
+			Integer.valueOf(this.updateCount), Long.valueOf(this.updateSize), Long.valueOf(this.byteSize),
+			this.errorData == null? "": " error=" + this.errorData);
+	}
+}
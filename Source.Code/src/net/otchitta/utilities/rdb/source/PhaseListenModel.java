@@ -0,0 +1,35 @@
+/**
+ * [Source.Code] PhaseListenModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+/**
+ * 工程監視モデルインターフェースです。
+ * <p>
+ * {@link InvokeDataModel#registListen(PhaseListenModel)}で登録し、
+ * 実行処理の終了毎に実行した処理と同じスレッドから通知を受けます。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+@FunctionalInterface
+public interface PhaseListenModel {
+	/**
+	 * 工程情報を通知します。
+	 * 
+	 * @param phaseData 工程情報
+	 */
+	public void updatePhaseData(PhaseDataModel phaseData);
+	/**
+	 * 記録処理へ出力する工程監視を生成します。
+	 * 
+	 * @param logger 記録処理
+	 * @return 工程監視(正常終了は{@link System.Logger.Level#DEBUG}、異常終了は{@link System.Logger.Level#WARNING}で出力)
+	 */
+	public static PhaseListenModel createLogger(System.Logger logger) {
+		if (logger == null) throw new IllegalArgumentException("logger must be non null.");
+		return phaseData -> logger.log(phaseData.getErrorData() == null? System.Logger.Level.DEBUG: System.Logger.Level.WARNING, () -> phaseData.toString());
+	}
+}
@@ -0,0 +1,327 @@
+/**
+ * [Source.Code] RecordCodeModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 要素符号モデルクラスです。
+ * <p>
+ * 要素情報を型識別子付きの可変長バイナリへ変換します。
+ * 一時ファイルへの退避や結果情報の保存で共通に使用します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class RecordCodeModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 型識別子：NULL */
+	private static final byte CODE_NULL = 0;
+	/** 型識別子：真偽 */
+	private static final byte CODE_BOOLEAN = 1;
+	/** 型識別子：バイト */
+	private static final byte CODE_BYTE = 2;
+	/** 型識別子：短整数 */
+	private static final byte CODE_SHORT = 3;
+	/** 型識別子：整数 */
+	private static final byte CODE_INTEGER = 4;
+	/** 型識別子：長整数 */
+	private static final byte CODE_LONG = 5;
+	/** 型識別子：単精度 */
+	private static final byte CODE_FLOAT = 6;
+	/** 型識別子：倍精度 */
+	private static final byte CODE_DOUBLE = 7;
+	/** 型識別子：文字列 */
+	private static final byte CODE_STRING = 8;
+	/** 型識別子：十進数 */
+	private static final byte CODE_DECIMAL = 9;
+	/** 型識別子：日付 */
+	private static final byte CODE_DATE = 10;
+	/** 型識別子：時刻 */
+	private static final byte CODE_TIME = 11;
+	/** 型識別子：日時 */
+	private static final byte CODE_DATETIME = 12;
+	/** 型識別子：時差付日時 */
+	private static final byte CODE_OFFSET = 13;
+	/** 型識別子：バイト配列 */
+	private static final byte CODE_BINARY = 14;
+	/** 型識別子：直列化 */
+	private static final byte CODE_SERIAL = 15;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 要素符号モデルを生成します。
+	 */
+	private RecordCodeModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 書込領域を確保します。
+	 * 
+	 * @param buffer 書込領域
+	 * @param length 必要容量
+	 * @return 書込領域(容量不足の場合は拡張した新しい領域)
+	 */
+	private static ByteBuffer ensureData(ByteBuffer buffer, int length) {
+		if (length <= buffer.remaining()) {
+			return buffer;
+		} else {
+			var choose = Math.max(buffer.capacity() * 2, buffer.position() + length);
+			var result = ByteBuffer.allocate(choose);
+			buffer.flip();
+			result.put(buffer);
+			return result;
+		}
+	}
+	/**
+	 * バイト配列を書込みます。
+	 * 
+	 * @param buffer 書込領域
+	 * @param code 型識別子
+	 * @param values バイト配列
+	 * @return 書込領域
+	 */
+	private static ByteBuffer writeBytes(ByteBuffer buffer, byte code, byte[] values) {
+		var result = ensureData(buffer, 5 + values.length);
+		result.put(code).putInt(values.length).put(values);
+		return result;
+	}
+	/**
+	 * バイト配列を読込みます。
+	 * 
+	 * @param buffer 読込領域
+	 * @return バイト配列
+	 */
+	private static byte[] readBytes(ByteBuffer buffer) {
+		var result = new byte[buffer.getInt()];
+		buffer.get(result);
+		return result;
+	}
+	/**
+	 * 直列化情報を生成します。
+	 * 
+	 * @param values 要素情報
+	 * @return 直列化情報
+	 */
+	private static byte[] writeSerial(Object values) {
+		try (var stream = new ByteArrayOutputStream();
+				var writer = new ObjectOutputStream(stream)) {
+			writer.writeObject(values);
+			writer.flush();
+			return stream.toByteArray();
+		} catch (IOException errors) {
+			throw new UncheckedIOException(errors);
+		}
+	}
+	/**
+	 * 直列化情報を復元します。
+	 * 
+	 * @param values 直列化情報
+	 * @return 要素情報
+	 */
+	private static Object readSerial(byte[] values) {
+		try (var reader = new ObjectInputStream(new ByteArrayInputStream(values))) {
+			return reader.readObject();
+		} catch (IOException errors) {
+			throw new UncheckedIOException(errors);
+		} catch (ClassNotFoundException errors) {
+			throw new IllegalStateException(errors);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を書込みます。
+	 * 
+	 * @param buffer 書込領域
+	 * @param values 要素情報
+	 * @return 書込領域(容量不足の場合は拡張した新しい領域)
+	 */
+	public static ByteBuffer writeData(ByteBuffer buffer, Object values) {
+		if (values == null) {
+			return ensureData(buffer, 1).put(CODE_NULL);
+		} else if (values instanceof String) {
+			return writeBytes(buffer, CODE_STRING, ((String)values).getBytes(StandardCharsets.UTF_8));
+		} else if (values instanceof Integer) {
+			return ensureData(buffer, 5).put(CODE_INTEGER).putInt(((Integer)values).intValue());
+		} else if (values instanceof Long) {
+			return ensureData(buffer, 9).put(CODE_LONG).putLong(((Long)values).longValue());
+		} else if (values instanceof LocalDateTime) {
+			var choose = (LocalDateTime)values;
+			return ensureData(buffer, 13).put(CODE_DATETIME).putLong(choose.toEpochSecond(ZoneOffset.UTC)).putInt(choose.getNano());
+		} else if (values instanceof Double) {
+			return ensureData(buffer, 9).put(CODE_DOUBLE).putDouble(((Double)values).doubleValue());
+		} else if (values instanceof Float) {
+			return ensureData(buffer, 5).put(CODE_FLOAT).putFloat(((Float)values).floatValue());
+		} else if (values instanceof Short) {
+			return ensureData(buffer, 3).put(CODE_SHORT).putShort(((Short)values).shortValue());
+		} else if (values instanceof Byte) {
+			return ensureData(buffer, 2).put(CODE_BYTE).put(((Byte)values).byteValue());
+		} else if (values instanceof Boolean) {
+			return ensureData(buffer, 2).put(CODE_BOOLEAN).put((byte)(((Boolean)values).booleanValue()? 1: 0));
+		} else if (values instanceof BigDecimal) {
+			var choose = (BigDecimal)values;
+			var result = writeBytes(buffer, CODE_DECIMAL, choose.unscaledValue().toByteArray());
+			return ensureData(result, 4).putInt(choose.scale());
+		} else if (values instanceof LocalDate) {
+			return ensureData(buffer, 9).put(CODE_DATE).putLong(((LocalDate)values).toEpochDay());
+		} else if (values instanceof LocalTime) {
+			return ensureData(buffer, 9).put(CODE_TIME).putLong(((LocalTime)values).toNanoOfDay());
+		} else if (values instanceof OffsetDateTime) {
+			var choose = (OffsetDateTime)values;
+			return ensureData(buffer, 17).put(CODE_OFFSET).putLong(choose.toEpochSecond()).putInt(choose.getNano()).putInt(choose.getOffset().getTotalSeconds());
+		} else if (values instanceof byte[]) {
+			return writeBytes(buffer, CODE_BINARY, (byte[])values);
+		} else if (values instanceof Serializable) {
+			return writeBytes(buffer, CODE_SERIAL, writeSerial(values));
+		} else {
+			return writeBytes(buffer, CODE_STRING, values.toString().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+	/**
+	 * 要素配列を書込みます。
+	 * 
+	 * @param buffer 書込領域
+	 * @param values 要素配列
+	 * @return 書込領域(容量不足の場合は拡張した新しい領域)
+	 */
+	public static ByteBuffer writeList(ByteBuffer buffer, Object[] values) {
+		var result = ensureData(buffer, 4).putInt(values.length);
+		for (var choose : values) {
+			result = writeData(result, choose);
+		}
+		return result;
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param buffer 読込領域
+	 * @return 要素情報
+	 */
+	public static Object readData(ByteBuffer buffer) {
+		var code = buffer.get();
+		switch (code) {
+		case CODE_NULL:
+			return null;
+		case CODE_BOOLEAN:
+			return Boolean.valueOf(buffer.get() != 0);
+		case CODE_BYTE:
+			return Byte.valueOf(buffer.get());
+		case CODE_SHORT:
+			return Short.valueOf(buffer.getShort());
+		case CODE_INTEGER:
+			return Integer.valueOf(buffer.getInt());
+		case CODE_LONG:
+			return Long.valueOf(buffer.getLong());
+		case CODE_FLOAT:
+			return Float.valueOf(buffer.getFloat());
+		case CODE_DOUBLE:
+			return Double.valueOf(buffer.getDouble());
+		case CODE_STRING:
+			return new String(readBytes(buffer), StandardCharsets.UTF_8);
+		case CODE_DECIMAL:
+			var value1 = new BigInteger(readBytes(buffer));
+			return new BigDecimal(value1, buffer.getInt());
+		case CODE_DATE:
+			return LocalDate.ofEpochDay(buffer.getLong());
+		case CODE_TIME:
+			return LocalTime.ofNanoOfDay(buffer.getLong());
+		case CODE_DATETIME:
+			var value2 = buffer.getLong();
+			return LocalDateTime.ofEpochSecond(value2, buffer.getInt(), ZoneOffset.UTC);
+		case CODE_OFFSET:
+			var value3 = buffer.getLong();
+			var value4 = buffer.getInt();
+			var value5 = ZoneOffset.ofTotalSeconds(buffer.getInt());
+			return OffsetDateTime.of(LocalDateTime.ofEpochSecond(value3, value4, value5), value5);
+		case CODE_BINARY:
+			return readBytes(buffer);
+		case CODE_SERIAL:
+			return readSerial(readBytes(buffer));
+		default:
+			throw new IllegalStateException(String.format("unknown value code.(code=%d)", Byte.valueOf(code)));
+		}
+	}
+	/**
+	 * 要素配列を読込みます。
+	 * 
+	 * @param buffer 読込領域
+	 * @return 要素配列
+	 */
+	public static Object[] readList(ByteBuffer buffer) {
+		var result = new Object[buffer.getInt()];
+		for (var index = 0; index < result.length; index ++) {
+			result[index] = readData(buffer);
+		}
+		return result;
+	}
+	/**
+	 * 概算容量を算出します。
+	 * <p>
+	 * 64bit環境(圧縮参照有効)を想定したヒープ上の概算容量です。
+	 * </p>
+	 * 
+	 * @param values 要素情報
+	 * @return 概算容量(バイト)
+	 */
+	public static long chooseSize(Object values) {
+		if (values == null) {
+			return 0L;
+		} else if (values instanceof String) {
+			return 40L + ((String)values).length();
+		} else if (values instanceof Long || values instanceof Double) {
+			return 24L;
+		} else if (values instanceof Number || values instanceof Boolean) {
+			return 16L;
+		} else if (values instanceof LocalDateTime) {
+			return 72L;
+		} else if (values instanceof LocalDate || values instanceof LocalTime) {
+			return 24L;
+		} else if (values instanceof byte[]) {
+			return 16L + ((byte[])values).length;
+		} else {
+			return 48L;
+		}
+	}
+	/**
+	 * 概算容量を算出します。
+	 * 
+	 * @param values 要素配列
+	 * @return 概算容量(バイト)
+	 */
+	public static long chooseSize(Object[] values) {
+		var result = 32L + 4L * values.length;
+		for (var choose : values) {
+			result += chooseSize(choose);
+		}
+		return result;
+	}
+}
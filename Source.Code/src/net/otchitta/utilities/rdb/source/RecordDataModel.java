@@ -4,12 +4,9 @@
 package net.otchitta.utilities.rdb.source;
 
 import java.io.Serializable;
-import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Time;
-import java.sql.Timestamp;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
@@ -25,12 +22,20 @@ public final class RecordDataModel implements Serializable {
 	// ===================================================================
 	/** シリアルバージョンUID */
 	private static final long serialVersionUID = 1L;
+	/** 通知行数 */
+	private static final int NOTIFY_SIZE = 2_048;
+	/** 通知間隔(ナノ秒) */
+	private static final long NOTIFY_TIME = 100_000_000L;
+	/** 確認間隔(行毎に計測しない場合の通知間隔の確認行数、2の累乗) */
+	private static final int CHECK_SIZE = 64;
 
 	// ===================================================================
 	// メンバー変数定義
 	// ===================================================================
 	/** 要素配列 */
 	private final Object[] values;
+	/** 表示配列 */
+	private transient volatile String[] texts;
 
 	// ===================================================================
 	// プロパティー定義
@@ -52,6 +57,47 @@ public final class RecordDataModel implements Serializable {
 	public Object getData(int index) {
 		return this.values[index];
 	}
+	/**
+	 * 表示文字を取得します。
+	 * <p>
+	 * 表示文字を保持していない場合、保持が有効であれば行単位で変換して保持し、
+	 * 無効であれば要素単位で都度変換します。
+	 * </p>
+	 * 
+	 * @param index 要素番号
+	 * @return 表示文字
+	 * @see SourceTextModel#formatData(Object)
+	 */
+	public String getText(int index) {
+		var choose = this.texts;
+		if (choose != null) {
+			return choose[index];
+		} else if (SourceTextModel.isCacheFlag()) {
+			return createText()[index];
+		} else {
+			return SourceTextModel.formatData(this.values[index]);
+		}
+	}
+	/**
+	 * 概算容量を算出します。
+	 * <p>
+	 * 表示文字を保持している場合は表示文字の容量を含みます。
+	 * </p>
+	 * 
+	 * @return ヒープ上の概算容量(バイト)
+	 * @see RecordCodeModel#chooseSize(Object[])
+	 */
+	public long chooseSize() {
+		var result = 16L + RecordCodeModel.chooseSize(this.values);
+		var choose = this.texts;
+		if (choose != null) {
+			result += 16L + 4L * choose.length;
+			for (var index = 0; index < choose.length; index ++) {
+				if (choose[index] != this.values[index] && choose[index] != SourceTextModel.NULL_TEXT) result += RecordCodeModel.chooseSize(choose[index]);
+			}
+		}
+		return result;
+	}
 
 	// ===================================================================
 	// 生成メソッド定義
@@ -65,58 +111,134 @@ public final class RecordDataModel implements Serializable {
 		super();
 		this.values = values;
 	}
+	/**
+	 * 要素情報モデルを生成します。
+	 * 
+	 * @param values 要素配列
+	 * @return 生成情報
+	 */
+	static RecordDataModel createData(Object[] values) {
+		return new RecordDataModel(values);
+	}
 	/**
 	 * 要素情報モデルを生成します。
 	 * 
 	 * @param source 読込情報
-	 * @param length 要素個数
+	 * @param reader 読込計画
 	 * @return 生成情報
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
-	private static RecordDataModel createData(ResultSet source, int length) throws SQLException {
-		var values = new Object[length];
-		for (var index = 0; index < length; index ++) {
-			var choose = source.getObject(index + 1);
-			if (choose instanceof Timestamp) {
-				values[index] = ((Timestamp)choose).toLocalDateTime();
-			} else if (choose instanceof Date) {
-				values[index] = ((Date)choose).toLocalDate();
-			} else if (choose instanceof Time) {
-				values[index] = ((Time)choose).toLocalTime();
-			} else {
-				values[index] = choose;
-			}
-		}
-		return new RecordDataModel(values);
+	static RecordDataModel createData(ResultSet source, RecordPlanModel reader) throws SQLException {
+		return new RecordDataModel(reader.readList(source));
+	}
+	/**
+	 * 表示文字を生成します。
+	 * <p>
+	 * 生成した表示文字は要素情報と共に保持し、{@link #getText(int)}から参照します。
+	 * 描画処理の前に読込処理側で実行することで、描画時の変換を省略できます。
+	 * </p>
+	 * 
+	 * @return 表示配列
+	 */
+	public String[] createText() {
+		var result = SourceTextModel.formatList(this.values);
+		this.texts = result;
+		return result;
 	}
 	/**
 	 * 要素情報モデルを生成します。
+	 * <p>
+	 * 読込んだ要素情報は通知行数に達するか通知間隔を経過する毎にまとめて通知します。
+	 * 読込処理が失敗した場合も読込済の要素情報を通知してから例外を送出します。
+	 * </p>
 	 * 
 	 * @param source 読込処理
-	 * @return 生成配列
+	 * @param action 実行処理
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
-	static RecordDataModel[] createList(ResultSet source) throws SQLException {
-		var result = new ArrayList<RecordDataModel>();
-		var choose = source.getMetaData();
-		var length = choose.getColumnCount();
-		while (source.next()) {
-			result.add(createData(source, length));
-		}
-		return result.toArray(new RecordDataModel[result.size()]);
+	static void invokeList(ResultSet source, Consumer<RecordDataModel[]> action) throws SQLException {
+		invokeList(source, action, PhaseDataModel.EMPTY, false);
 	}
 	/**
 	 * 要素情報モデルを生成します。
+	 * <p>
+	 * 読込んだ要素情報は通知行数に達するか通知間隔を経過する毎にまとめて通知し、
+	 * 読込・変換・通知の処理時間を工程情報へ加算します。
+	 * 通知は全て読込処理のスレッドで行い、通知間隔は行を読込む毎に確認します。
+	 * 工程情報が行毎の計測を要求しない場合は時刻を確認間隔毎にだけ取得します。
+	 * 読込処理が失敗した場合も読込済の要素情報を通知してから例外を送出します。
+	 * 表示文字の生成は変換時間に含みます。
+	 * </p>
 	 * 
 	 * @param source 読込処理
 	 * @param action 実行処理
+	 * @param phase 工程情報
+	 * @param textFlag 表示文字を生成する場合は{@code true}
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
-	static void invokeList(ResultSet source, Consumer<RecordDataModel> action) throws SQLException {
-		var choose = source.getMetaData();
-		var length = choose.getColumnCount();
-		while (source.next()) {
-			action.accept(createData(source, length));
+	static void invokeList(ResultSet source, Consumer<RecordDataModel[]> action, PhaseDataModel phase, boolean textFlag) throws SQLException {
+		var reader = RecordPlanModel.createData(source.getMetaData());
+		var detail = phase.isDetail();
+		var values = new RecordDataModel[NOTIFY_SIZE];
+		var length = 0;
+		var before = System.nanoTime();
+		var cache1 = before;
+		try {
+			while (source.next()) {
+				RecordDataModel choose;
+				if (detail) {
+					// 行毎に計測する場合
+					var cache2 = System.nanoTime();
+					phase.appendFetch(cache1, cache2);
+					if (length == 0) before = cache2;
+					choose = createData(source, reader);
+					if (textFlag) choose.createText();
+					cache1 = System.nanoTime();
+					phase.appendConvert(cache2, cache1);
+				} else {
+					// 通知単位で計測する場合
+					choose = createData(source, reader);
+					if (textFlag) choose.createText();
+				}
+				values[length ++] = choose;
+				if (length == NOTIFY_SIZE || (detail || (length & (CHECK_SIZE - 1)) == 0) && NOTIFY_TIME <= (detail? cache1: System.nanoTime()) - before) {
+					cache1 = publishData(values, length, before, action, phase);
+					before = cache1;
+					length = 0;
+				}
+			}
+			if (detail) phase.appendFetch(cache1, System.nanoTime());
+		} catch (SQLException | RuntimeException errors) {
+			try {
+				if (0 < length) publishData(values, length, before, action, phase);
+			} catch (RuntimeException cause) {
+				errors.addSuppressed(cause);
+			}
+			throw errors;
 		}
+		if (0 < length) publishData(values, length, before, action, phase);
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を通知します。
+	 * 
+	 * @param values 要素配列
+	 * @param length 要素個数
+	 * @param before 開始時刻
+	 * @param action 実行処理
+	 * @param phase 工程情報
+	 * @return 終了時刻
+	 */
+	private static long publishData(RecordDataModel[] values, int length, long before, Consumer<RecordDataModel[]> action, PhaseDataModel phase) {
+		var cache1 = System.nanoTime();
+		phase.appendChunk(values, length, before, cache1);
+		CounterDataModel.appendFetch(length);
+		var choose = Arrays.copyOf(values, length);
+		Arrays.fill(values, 0, length, null);
+		action.accept(choose);
+		return phase.appendPublish(cache1);
 	}
 }
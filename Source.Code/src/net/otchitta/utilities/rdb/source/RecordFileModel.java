@@ -0,0 +1,602 @@
+/**
+ * [Source.Code] RecordFileModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.System.Logger.Level;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 要素退避モデルクラスです。
+ * <p>
+ * 追加された要素情報をヒープ上へ保持し、概算容量が上限を超えた以降の要素情報は一時ファイルへ退避します。
+ * 上限容量は全ての要素退避モデルで共有し、ヒープ上の概算容量の合計で判定します。
+ * 退避した要素情報は位置指定で読込むため行番号による任意参照が可能です。
+ * 読込は読込容量単位で行い、連続した行の参照は同じ読込領域から復元します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class RecordFileModel implements Serializable, AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** シリアルバージョンUID */
+	private static final long serialVersionUID = 1L;
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(RecordFileModel.class.getName());
+	/** 解放処理 */
+	private static final Cleaner CLEANER = Cleaner.create();
+	/** 索引間隔(行数) */
+	private static final int INDEX_STEP = 32;
+	/** 読込容量(バイト) */
+	private static final int READ_SIZE = 1 << 20;
+	/** 書込容量(バイト) */
+	private static final int WRITE_SIZE = 1 << 20;
+	/** 概算容量(全体) */
+	private static final AtomicLong TOTAL_SIZE = new AtomicLong();
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 上限容量(バイト) */
+	private static volatile long limitSize = Runtime.getRuntime().maxMemory() / 4;
+	/** 要素一覧(ヒープ) */
+	private transient ArrayList<RecordDataModel> heapList;
+	/** 概算容量(ヒープ) */
+	private transient HeapData heapData;
+	/** 解放情報(ヒープ) */
+	private transient Cleaner.Cleanable heapClean;
+	/** 解放状態 */
+	private transient boolean closeFlag;
+	/** 要素個数(退避) */
+	private transient int fileSize;
+	/** 索引一覧(退避) */
+	private transient long[] fileList;
+	/** 退避情報 */
+	private transient FileData fileData;
+	/** 解放情報 */
+	private transient Cleaner.Cleanable cleanData;
+	/** 読込領域 */
+	private transient ByteBuffer pageData;
+	/** 読込位置 */
+	private transient long pageHead;
+	/** 符号領域 */
+	private transient ByteBuffer codeData;
+	/** 直前番号 */
+	private transient int lastIndex;
+	/** 直前情報 */
+	private transient RecordDataModel lastData;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 上限容量を取得します。
+	 * 
+	 * @return 上限容量(バイト)
+	 */
+	public static long getLimitSize() {
+		return limitSize;
+	}
+	/**
+	 * 上限容量を設定します。
+	 * <p>
+	 * 全ての要素退避モデルで共有し、以降に追加する要素情報へ適用されます。
+	 * 退避を行わない場合は{@link Long#MAX_VALUE}を設定します。
+	 * </p>
+	 * 
+	 * @param limitSize 上限容量(バイト)
+	 */
+	public static void setLimitSize(long limitSize) {
+		if (limitSize < 0) {
+			throw new IllegalArgumentException("limitSize must be zero or positive.");
+		} else {
+			RecordFileModel.limitSize = limitSize;
+		}
+	}
+	/**
+	 * 概算容量を取得します。
+	 * 
+	 * @return 全ての要素退避モデルがヒープ上に保持する概算容量(バイト)
+	 */
+	public static long getTotalSize() {
+		return TOTAL_SIZE.get();
+	}
+	/**
+	 * 概算容量を取得します。
+	 * 
+	 * @return ヒープ上の概算容量(バイト)
+	 */
+	public synchronized long getHeapSize() {
+		return this.heapData.heapSize;
+	}
+	/**
+	 * 退避容量を取得します。
+	 * 
+	 * @return 一時ファイルの容量(バイト)
+	 */
+	public synchronized long getFileSize() {
+		return this.fileData == null? 0L: this.fileData.totalSize;
+	}
+	/**
+	 * 要素個数を取得します。
+	 * 
+	 * @return 要素個数
+	 */
+	public synchronized int getSize() {
+		return this.heapList.size() + this.fileSize;
+	}
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param index 要素番号
+	 * @return 要素情報
+	 */
+	public synchronized RecordDataModel getData(int index) {
+		var border = this.heapList.size();
+		if (index < border) {
+			return this.heapList.get(index);
+		} else if (getSize() <= index) {
+			throw new IndexOutOfBoundsException(index);
+		} else if (this.lastIndex == index) {
+			return this.lastData;
+		} else {
+			try {
+				this.lastData = readData(index - border);
+				this.lastIndex = index;
+				return this.lastData;
+			} catch (IOException errors) {
+				throw new UncheckedIOException(errors);
+			}
+		}
+	}
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param record 行番号
+	 * @param column 列番号
+	 * @return 要素情報
+	 */
+	public Object getData(int record, int column) {
+		return getData(record).getData(column);
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 要素退避モデルを生成します。
+	 */
+	public RecordFileModel() {
+		super();
+		initData(true);
+	}
+	/**
+	 * 要素退避モデルを生成します。
+	 * 
+	 * @param countFlag 全体の概算容量へ計上する場合は{@code true}
+	 */
+	private RecordFileModel(boolean countFlag) {
+		super();
+		initData(countFlag);
+	}
+	/**
+	 * 要素退避モデルを生成します。
+	 * 
+	 * @param source 読込処理
+	 * @return 生成情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	static RecordFileModel createData(ResultSet source) throws SQLException {
+		var result = new RecordFileModel();
+		try {
+			RecordDataModel.invokeList(source, result::registList);
+			return result;
+		} catch (SQLException | RuntimeException errors) {
+			result.close();
+			throw errors;
+		}
+	}
+
+	/**
+	 * 共有用の要素退避モデルを生成します。
+	 * <p>
+	 * 他の要素退避モデルへ通知済の要素情報を参照だけ共有して保持する場合に使用します。
+	 * 要素情報の容量は通知先で計上済のため全体の概算容量へ計上せず、一時ファイルへも退避しません。
+	 * 保持容量は{@link #getHeapSize()}で取得し、呼出元で管理します。
+	 * </p>
+	 * 
+	 * @return 生成情報
+	 */
+	static RecordFileModel createShare() {
+		return new RecordFileModel(false);
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 内部情報を初期化します。
+	 * 
+	 * @param countFlag 全体の概算容量へ計上する場合は{@code true}
+	 */
+	private void initData(boolean countFlag) {
+		this.heapList = new ArrayList<>();
+		this.heapData = new HeapData(countFlag);
+		this.heapClean = CLEANER.register(this, this.heapData);
+		this.closeFlag = false;
+		this.fileSize = 0;
+		this.fileList = new long[0];
+		this.fileData = null;
+		this.cleanData = null;
+		this.pageData = ByteBuffer.allocate(0);
+		this.pageHead = 0L;
+		this.codeData = ByteBuffer.allocate(256);
+		this.lastIndex = -1;
+		this.lastData = null;
+	}
+	/**
+	 * 退避情報を生成します。
+	 * 
+	 * @return 退避情報
+	 * @throws IOException 生成処理に失敗した場合
+	 */
+	private FileData openData() throws IOException {
+		if (this.fileData == null) {
+			var choose = Files.createTempFile("rdb-record-", ".bin");
+			choose.toFile().deleteOnExit();
+			this.fileData = new FileData(choose);
+			this.cleanData = CLEANER.register(this, this.fileData);
+		}
+		return this.fileData;
+	}
+	/**
+	 * 要素情報を退避します。
+	 * 
+	 * @param recordData 要素情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeData(RecordDataModel recordData) throws IOException {
+		var source = openData();
+		var values = new Object[recordData.getSize()];
+		for (var index = 0; index < values.length; index ++) {
+			values[index] = recordData.getData(index);
+		}
+		this.codeData.clear();
+		this.codeData = RecordCodeModel.writeList(this.codeData, values);
+		this.codeData.flip();
+		if (this.fileSize % INDEX_STEP == 0) {
+			var offset = this.fileSize / INDEX_STEP;
+			if (this.fileList.length <= offset) this.fileList = Arrays.copyOf(this.fileList, Math.max(16, this.fileList.length * 2));
+			this.fileList[offset] = source.totalSize;
+		}
+		source.writeData(this.codeData);
+		this.fileSize ++;
+	}
+	/**
+	 * 退避領域を取得します。
+	 * 
+	 * @param offset 開始位置
+	 * @param length 読込容量
+	 * @return 退避領域(開始位置へ移動済)
+	 * @throws IOException 読込処理に失敗した場合
+	 */
+	private ByteBuffer readData(long offset, int length) throws IOException {
+		var source = this.fileData;
+		source.flushData(offset + length);
+		if (offset < this.pageHead || this.pageHead + this.pageData.limit() < offset + length) {
+			// 読込領域外の場合
+			var size = Math.max(READ_SIZE, length);
+			if (this.pageData.capacity() < size) this.pageData = ByteBuffer.allocate(size);
+			var choose = this.pageData.clear();
+			choose.limit((int)Math.min(choose.capacity(), source.writeSize - offset));
+			while (choose.position() < length) {
+				if (source.channel.read(choose, offset + choose.position()) < 0) throw new IOException("unexpected end of file.");
+			}
+			choose.flip();
+			this.pageHead = offset;
+		}
+		return this.pageData.duplicate().position((int)(offset - this.pageHead));
+	}
+	/**
+	 * 要素情報を復元します。
+	 * 
+	 * @param index 要素番号(退避)
+	 * @return 要素情報
+	 * @throws IOException 読込処理に失敗した場合
+	 */
+	private RecordDataModel readData(int index) throws IOException {
+		var offset = this.fileList[index / INDEX_STEP];
+		for (var count = index % INDEX_STEP; 0 < count; count --) {
+			offset += 4 + readData(offset, 4).getInt();
+		}
+		var length = readData(offset, 4).getInt();
+		var values = RecordCodeModel.readList(readData(offset + 4, length));
+		return RecordDataModel.createData(values);
+	}
+	/**
+	 * 直列化情報を書込みます。
+	 * 
+	 * @param stream 書込処理
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private synchronized void writeObject(ObjectOutputStream stream) throws IOException {
+		stream.defaultWriteObject();
+		var length = getSize();
+		stream.writeInt(length);
+		for (var index = 0; index < length; index ++) {
+			stream.writeObject(getData(index));
+		}
+	}
+	/**
+	 * 直列化情報を読込みます。
+	 * 
+	 * @param stream 読込処理
+	 * @throws IOException 読込処理に失敗した場合
+	 * @throws ClassNotFoundException 読込処理に失敗した場合
+	 */
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		stream.defaultReadObject();
+		initData(true);
+		var length = stream.readInt();
+		for (var index = 0; index < length; index ++) {
+			registData((RecordDataModel)stream.readObject());
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を追加します。
+	 * <p>
+	 * 解放後に追加した要素情報は破棄します。
+	 * </p>
+	 * 
+	 * @param recordData 要素情報
+	 */
+	public synchronized void registData(RecordDataModel recordData) {
+		if (this.closeFlag) {
+			// 処理なし
+		} else if (this.fileSize == 0 && this.heapData.reserveSize(recordData.chooseSize())) {
+			this.heapList.add(recordData);
+		} else {
+			try {
+				writeData(recordData);
+			} catch (IOException errors) {
+				throw new UncheckedIOException(errors);
+			}
+		}
+	}
+	/**
+	 * 要素一覧を追加します。
+	 * 
+	 * @param recordList 要素一覧
+	 */
+	public synchronized void registList(RecordDataModel[] recordList) {
+		for (var choose : recordList) {
+			registData(choose);
+		}
+	}
+	/**
+	 * 一時ファイルを削除します。
+	 * <p>
+	 * 削除後は退避した要素情報を参照できません。
+	 * ヒープ上の概算容量は上限容量の判定対象から除外し、以降の追加は破棄します。
+	 * </p>
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public synchronized void close() {
+		this.closeFlag = true;
+		this.heapClean.clean();
+		this.pageData = ByteBuffer.allocate(0);
+		this.pageHead = 0L;
+		this.lastIndex = -1;
+		this.lastData = null;
+		if (this.cleanData != null) {
+			this.cleanData.clean();
+			this.cleanData = null;
+		}
+	}
+
+
+	/**
+	 * 容量情報クラスです。
+	 * <p>
+	 * 要素退避モデルがヒープ上に保持する概算容量を全体の概算容量へ計上し、解放時に差引きます。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class HeapData implements Runnable {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 計上可否 */
+		private final boolean countFlag;
+		/** 概算容量 */
+		private long heapSize;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 容量情報を生成します。
+		 * 
+		 * @param countFlag 全体の概算容量へ計上する場合は{@code true}
+		 */
+		private HeapData(boolean countFlag) {
+			super();
+			this.countFlag = countFlag;
+			this.heapSize = 0L;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 概算容量を計上します。
+		 * 
+		 * @param length 追加容量
+		 * @return 全体の概算容量が上限容量以内に収まり計上した場合は{@code true}(計上しない場合は常に{@code true})
+		 */
+		private synchronized boolean reserveSize(long length) {
+			while (this.countFlag) {
+				var choose = TOTAL_SIZE.get();
+				if (limitSize < choose + length) return false;
+				if (TOTAL_SIZE.compareAndSet(choose, choose + length)) break;
+			}
+			this.heapSize += length;
+			return true;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 概算容量を差引きます。
+		 * 
+		 * @see Runnable#run()
+		 */
+		@Override
+		public synchronized void run() {
+			if (this.countFlag) TOTAL_SIZE.addAndGet(- this.heapSize);
+			this.heapSize = 0L;
+		}
+	}
+
+	/**
+	 * 退避情報クラスです。
+	 * <p>
+	 * 要素退避モデルの解放時に一時ファイルを削除します。
+	 * 一時ファイルはメモリマップせずに位置指定で読書きするため、閉じた時点で削除できます。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class FileData implements Runnable {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** ファイル位置 */
+		private final Path filePath;
+		/** ファイル経路 */
+		private final FileChannel channel;
+		/** 書込領域 */
+		private final ByteBuffer buffer;
+		/** 書込済容量 */
+		private long writeSize;
+		/** 論理容量 */
+		private long totalSize;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 退避情報を生成します。
+		 * 
+		 * @param filePath ファイル位置
+		 * @throws IOException 生成処理に失敗した場合
+		 */
+		private FileData(Path filePath) throws IOException {
+			super();
+			this.filePath = filePath;
+			this.channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.buffer = ByteBuffer.allocateDirect(WRITE_SIZE);
+			this.writeSize = 0L;
+			this.totalSize = 0L;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 書込領域を出力します。
+		 * 
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private void flushData() throws IOException {
+			this.buffer.flip();
+			while (this.buffer.hasRemaining()) {
+				this.writeSize += this.channel.write(this.buffer, this.writeSize);
+			}
+			this.buffer.clear();
+		}
+		/**
+		 * 指定位置までの書込領域を出力します。
+		 * 
+		 * @param offset 必要位置
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private void flushData(long offset) throws IOException {
+			if (this.writeSize < offset) flushData();
+		}
+		/**
+		 * 行情報を書込みます。
+		 * 
+		 * @param values 符号情報
+		 * @throws IOException 書込処理に失敗した場合
+		 */
+		private void writeData(ByteBuffer values) throws IOException {
+			var length = values.remaining();
+			if (this.buffer.remaining() < 4 + length) flushData();
+			if (this.buffer.remaining() < 4 + length) {
+				// 書込領域を超える場合
+				this.buffer.putInt(length);
+				flushData();
+				while (values.hasRemaining()) {
+					this.writeSize += this.channel.write(values, this.writeSize);
+				}
+			} else {
+				this.buffer.putInt(length).put(values);
+			}
+			this.totalSize += 4 + length;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 一時ファイルを削除します。
+		 * 
+		 * @see Runnable#run()
+		 */
+		@Override
+		public void run() {
+			try {
+				this.channel.close();
+			} catch (IOException errors) {
+				LOGGER.log(Level.WARNING, String.format("close temporary file failed.(path=%s)", this.filePath), errors);
+			}
+			try {
+				Files.deleteIfExists(this.filePath);
+			} catch (IOException errors) {
+				LOGGER.log(Level.WARNING, String.format("delete temporary file failed.(path=%s)", this.filePath), errors);
+			}
+		}
+	}
+}
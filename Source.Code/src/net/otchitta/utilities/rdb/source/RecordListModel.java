@@ -24,8 +24,8 @@ public final class RecordListModel implements Serializable {
 	// ===================================================================
 	// メンバー変数定義
 	// ===================================================================
-	/** 要素配列 */
-	private final RecordDataModel[] values;
+	/** 要素退避 */
+	private final RecordFileModel values;
 
 	// ===================================================================
 	// プロパティー定義
@@ -36,7 +36,7 @@ public final class RecordListModel implements Serializable {
 	 * @return 要素個数
 	 */
 	public int getSize() {
-		return this.values.length;
+		return this.values.getSize();
 	}
 	/**
 	 * 要素情報を取得します。
@@ -45,7 +45,25 @@ public final class RecordListModel implements Serializable {
 	 * @return 要素情報
 	 */
 	public RecordDataModel getData(int index) {
-		return this.values[index];
+		return this.values.getData(index);
+	}
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param record 行番号
+	 * @param column 列番号
+	 * @return 要素情報
+	 */
+	public Object getData(int record, int column) {
+		return this.values.getData(record, column);
+	}
+	/**
+	 * 概算容量を算出します。
+	 * 
+	 * @return ヒープ上の概算容量(バイト)
+	 */
+	long chooseSize() {
+		return this.values.getHeapSize();
 	}
 
 	// ===================================================================
@@ -54,22 +72,46 @@ public final class RecordListModel implements Serializable {
 	/**
 	 * 要素一覧モデルを生成します。
 	 * 
-	 * @param values 要素配列
+	 * @param values 要素退避
 	 */
-	private RecordListModel(RecordDataModel[] values) {
+	private RecordListModel(RecordFileModel values) {
 		super();
 		this.values = values;
 	}
 	/**
 	 * 要素一覧モデルを生成します。
 	 * 
+	 * @param values 要素退避
+	 * @return 生成情報
+	 */
+	static RecordListModel createData(RecordFileModel values) {
+		return new RecordListModel(values);
+	}
+	/**
+	 * 要素一覧モデルを生成します。
+	 * <p>
+	 * 上限容量を超えた要素情報は一時ファイルへ退避します。
+	 * </p>
+	 * 
 	 * @param source 読込処理
 	 * @return 生成情報
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
 	static RecordListModel createData(ResultSet source) throws SQLException {
-		var values = RecordDataModel.createList(source);
-		return new RecordListModel(values);
+		return new RecordListModel(RecordFileModel.createData(source));
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 要素退避を解放します。
+	 * <p>
+	 * 解放後は一時ファイルへ退避した要素情報を参照できません。
+	 * </p>
+	 */
+	void removeData() {
+		this.values.close();
 	}
 
 	// ===================================================================
@@ -83,6 +125,6 @@ public final class RecordListModel implements Serializable {
 	 */
 	@Override
 	public String toString() {
-		return String.format("recordSize=%,7d", Integer.valueOf(this.values.length));
+		return String.format("recordSize=%,7d", Integer.valueOf(getSize()));
 	}
 }
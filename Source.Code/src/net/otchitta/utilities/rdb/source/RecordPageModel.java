@@ -0,0 +1,619 @@
+/**
+ * [Source.Code] RecordPageModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * 要素頁モデルクラスです。
+ * <p>
+ * 抽出結果の行範囲を指定して都度読込みます。
+ * 接続処理がスクロール可能な結果セットに対応する場合は結果セットを移動して読込み、
+ * 未対応の場合は{@code OFFSET ... FETCH NEXT ...}構文で頁毎に再抽出します。
+ * </p>
+ * <p>
+ * 再抽出する場合、頁毎の並び順を一定とするため抽出構文の最上位の{@code ORDER BY}を使用します。
+ * {@code ORDER BY}がない場合は抽出構文を副問合せとし、並替可能な全列で並替えます。
+ * {@code WITH}で始まる構文等、副問合せにできない抽出構文は{@code ORDER BY}を必須とします。
+ * 要素情報は抽出せずに取得し、要素個数は件数構文で求めます。
+ * 最上位に{@code TOP}・{@code OFFSET}を伴う{@code ORDER BY}、{@code FOR XML}等の末尾句を持つ抽出構文は頁構文にできないため受付けません。
+ * 再抽出時は頁毎に接続を借用し、読込後に返却します。
+ * スクロール可能な結果セットは接続を保持するため、{@link #releaseData()}で一時的に返却できます。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class RecordPageModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 件数構文 */
+	private static final String COUNT_TEXT = "%sSELECT COUNT_BIG(*) FROM (%s\n) AS source_data";
+	/** 頁構文(並替指定済) */
+	private static final String PAGE_TEXT1 = "%s\nOFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+	/** 頁構文(並替導出) */
+	private static final String PAGE_TEXT2 = "SELECT * FROM (%s\n) AS source_data ORDER BY %s OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+	/** 並替不可種別 */
+	private static final String[] UNORDERED = {"TEXT", "NTEXT", "IMAGE", "XML", "GEOGRAPHY", "GEOMETRY"};
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 接続引数 */
+	private final String parameter;
+	/** 抽出構文 */
+	private final String selectSQL;
+	/** 実行情報 */
+	private final InvokeDataModel invokeData;
+	/** 接続情報(結果セットの保持中) */
+	private ConnectDataModel connection;
+	/** 実行処理 */
+	private Statement statement;
+	/** 結果情報 */
+	private ResultSet resultSet;
+	/** 移動可否 */
+	private boolean scrollFlag;
+	/** 頁構文(再抽出時) */
+	private String pageText;
+	/** 読込計画 */
+	private RecordPlanModel reader;
+	/** 要素一覧 */
+	private ColumnListModel columnList;
+	/** 要素個数 */
+	private int recordSize;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 要素一覧を取得します。
+	 * 
+	 * @return 要素一覧
+	 */
+	public ColumnListModel getColumnList() {
+		return this.columnList;
+	}
+	/**
+	 * 要素個数を取得します。
+	 * 
+	 * @return 要素個数
+	 */
+	public int getRecordSize() {
+		return this.recordSize;
+	}
+	/**
+	 * 移動可否を判定します。
+	 * 
+	 * @return 結果セットを移動して読込む場合は{@code true}
+	 */
+	public boolean isScrollable() {
+		return this.scrollFlag;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 要素頁モデルを生成します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param invokeData 実行情報
+	 */
+	private RecordPageModel(String parameter, String selectSQL, InvokeDataModel invokeData) {
+		super();
+		this.parameter = parameter;
+		this.selectSQL = selectSQL;
+		this.invokeData = invokeData;
+		this.connection = null;
+		this.statement = null;
+		this.resultSet = null;
+		this.scrollFlag = false;
+		this.pageText = null;
+		this.reader = null;
+		this.columnList = null;
+		this.recordSize = 0;
+	}
+	/**
+	 * 要素頁モデルを生成します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @return 生成情報
+	 * @throws SQLException 抽出処理に失敗した場合、または頁毎に読込めない抽出構文の場合
+	 */
+	public static RecordPageModel createData(String parameter, String selectSQL) throws SQLException {
+		return createData(parameter, selectSQL, new InvokeDataModel());
+	}
+	/**
+	 * 要素頁モデルを生成します。
+	 * <p>
+	 * 抽出処理と頁毎の読込は{@link InvokeDataModel#cancel()}で取消でき、制限時間を適用します。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param invokeData 実行情報
+	 * @return 生成情報
+	 * @throws SQLException 抽出処理に失敗した場合、または頁毎に読込めない抽出構文の場合
+	 */
+	public static RecordPageModel createData(String parameter, String selectSQL, InvokeDataModel invokeData) throws SQLException {
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		var result = new RecordPageModel(parameter, selectSQL, invokeData);
+		try {
+			result.openData();
+			return result;
+		} catch (SQLException | RuntimeException errors) {
+			result.close();
+			throw errors;
+		}
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 抽出処理を開始します。
+	 * <p>
+	 * スクロール可能な結果セットは接続と共に保持し、未対応の場合は要素情報だけを取得して件数と頁構文を求め、接続を返却します。
+	 * スクロール可能として実行した結果セットが移動不可となった場合は、読進めずに取消して閉じます。
+	 * </p>
+	 * 
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	private void openData() throws SQLException {
+		this.connection = ConnectPoolModel.borrowData(this.parameter);
+		if (isScrollable(this.connection.getConnection())) {
+			var choose = openScroll();
+			registPlan(choose.getMetaData());
+			if (choose.getType() != ResultSet.TYPE_FORWARD_ONLY) {
+				// 移動可能の場合
+				this.scrollFlag = true;
+				this.recordSize = choose.last()? choose.getRow(): 0;
+				return;
+			}
+			cancelData();
+		} else {
+			describeData();
+		}
+		// 移動不可の場合
+		releaseData();
+		var values = createPage(this.selectSQL, this.columnList);
+		this.pageText = values[0];
+		this.recordSize = countData(values[1]);
+	}
+	/**
+	 * 移動可否を判定します。
+	 * 
+	 * @param connection 接続情報
+	 * @return スクロール可能な結果セットに対応する場合、または判定できない場合は{@code true}
+	 */
+	private static boolean isScrollable(Connection connection) {
+		try {
+			var choose = connection.getMetaData();
+			return choose == null || choose.supportsResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE);
+		} catch (SQLException errors) {
+			return true;
+		}
+	}
+	/**
+	 * 読込計画を登録します。
+	 * 
+	 * @param source 要素情報
+	 * @throws SQLException 取得処理に失敗した場合
+	 */
+	private void registPlan(ResultSetMetaData source) throws SQLException {
+		this.reader = RecordPlanModel.createData(source);
+		this.columnList = ColumnListModel.createData(source);
+	}
+	/**
+	 * 要素情報を取得します。
+	 * <p>
+	 * 準備構文の要素情報を抽出せずに取得します(SQL Serverの接続処理は{@code sp_describe_first_result_set}で取得します)。
+	 * 接続処理が未対応の場合は最大行数を1行に制限して抽出し、結果セットを読進めずに要素情報を取得します。
+	 * </p>
+	 * 
+	 * @throws SQLException 取得処理に失敗した場合
+	 */
+	private void describeData() throws SQLException {
+		this.connection.registText(this.selectSQL);
+		try (var statement = this.connection.getConnection().prepareStatement(this.selectSQL)) {
+			this.invokeData.registData(this.connection, statement);
+			try {
+				ResultSetMetaData choose;
+				try {
+					choose = statement.getMetaData();
+				} catch (SQLFeatureNotSupportedException errors) {
+					choose = null;
+				}
+				if (choose != null) {
+					registPlan(choose);
+				} else {
+					statement.setMaxRows(1);
+					try (var resultSet = statement.executeQuery()) {
+						registPlan(resultSet.getMetaData());
+					}
+				}
+			} finally {
+				this.invokeData.removeData(statement);
+			}
+		}
+	}
+	/**
+	 * 保持している結果セットを取消します。
+	 * <p>
+	 * 残りの要素を読進めずに閉じるため実行処理を取消し、接続状態が不定となるため物理接続は返却時に破棄します。
+	 * </p>
+	 */
+	private void cancelData() {
+		this.connection.removeData();
+		try {
+			this.statement.cancel();
+		} catch (SQLException errors) {
+			// 処理なし(未対応の接続処理は閉じるだけとする)
+		}
+	}
+	/**
+	 * 結果セットを開きます。
+	 * <p>
+	 * 接続を保持していない場合は借用します。
+	 * </p>
+	 * 
+	 * @return 結果情報
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	private ResultSet openScroll() throws SQLException {
+		if (this.connection == null) this.connection = ConnectPoolModel.borrowData(this.parameter);
+		this.statement = this.connection.getConnection().createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+		this.connection.registText(this.selectSQL);
+		this.invokeData.registData(this.connection, this.statement);
+		this.resultSet = this.statement.executeQuery(this.selectSQL);
+		return this.resultSet;
+	}
+	/**
+	 * 要素個数を抽出します。
+	 * 
+	 * @param countText 件数構文
+	 * @return 要素個数
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	private int countData(String countText) throws SQLException {
+		try (var connection = ConnectPoolModel.borrowData(this.parameter);
+				var statement = connection.createStatement()) {
+			connection.registText(countText);
+			this.invokeData.registData(connection, statement);
+			try (var resultSet = statement.executeQuery(countText)) {
+				return resultSet.next()? (int)Math.min(Integer.MAX_VALUE, resultSet.getLong(1)): 0;
+			} finally {
+				this.invokeData.removeData(statement);
+			}
+		}
+	}
+	/**
+	 * 要素一覧を読込みます。
+	 * 
+	 * @param source 結果情報
+	 * @param length 要素個数
+	 * @return 要素一覧
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private RecordDataModel[] readList(ResultSet source, int length) throws SQLException {
+		var result = new ArrayList<RecordDataModel>(length);
+		while (result.size() < length && source.next()) {
+			result.add(RecordDataModel.createData(source, this.reader));
+		}
+		return result.toArray(new RecordDataModel[result.size()]);
+	}
+	/**
+	 * 頁一覧を読込みます。
+	 * 
+	 * @param offset 開始番号(0起算)
+	 * @param length 要素個数
+	 * @return 要素一覧
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private RecordDataModel[] readPage(long offset, int length) throws SQLException {
+		try (var connection = ConnectPoolModel.borrowData(this.parameter)) {
+			var statement = connection.prepareStatement(this.pageText);
+			this.invokeData.registData(connection, statement);
+			try {
+				statement.setLong(1, offset);
+				statement.setInt(2, length);
+				try (var resultSet = statement.executeQuery()) {
+					return readList(resultSet, length);
+				}
+			} finally {
+				this.invokeData.removeData(statement);
+				if (!statement.isClosed()) statement.clearParameters();
+			}
+		}
+	}
+	/**
+	 * 頁構文を生成します。
+	 * 
+	 * @param selectSQL 抽出構文
+	 * @param columnList 要素一覧
+	 * @return 頁構文と件数構文
+	 * @throws SQLException 頁毎に読込めない抽出構文の場合
+	 */
+	static String[] createPage(String selectSQL, ColumnListModel columnList) throws SQLException {
+		var source = TextData.createData(selectSQL);
+		if (source.multiFlag) {
+			throw new SQLException("browse accepts a single statement; remove the statements after the first ';' or use execute.");
+		} else if (source.tailFlag) {
+			throw new SQLException("browse cannot page a statement with a top-level FOR XML, FOR JSON, FOR BROWSE or OPTION clause; remove the clause or use execute.");
+		} else if (0 <= source.orderIndex) {
+			// 並替指定済の場合
+			if (source.offsetFlag) {
+				throw new SQLException("browse cannot page a statement that already has OFFSET ... FETCH; remove the clause or use execute.");
+			} else if (source.topFlag) {
+				throw new SQLException("browse cannot page a statement combining TOP with a top-level ORDER BY; remove TOP or use execute.");
+			} else if (source.withFlag && source.mainIndex == 0) {
+				throw new SQLException("browse cannot find the top-level SELECT after WITH; remove the parentheses around the query or use execute.");
+			}
+			var cache1 = String.format(PAGE_TEXT1, source.text);
+			var cache2 = String.format(COUNT_TEXT, source.text.substring(0, source.mainIndex), source.text.substring(source.mainIndex, source.orderIndex));
+			return new String[] {cache1, cache2};
+		} else if (source.withFlag) {
+			throw new SQLException("browse cannot page a statement starting with WITH without a stable order; add a top-level ORDER BY on a unique key.");
+		} else {
+			// 並替導出の場合
+			var values = new StringBuilder();
+			var unique = new HashSet<String>();
+			for (var index = 0; index < columnList.getSize(); index ++) {
+				var choose = columnList.getData(index);
+				var cache1 = String.valueOf(choose.getName());
+				if (cache1.isEmpty() || !unique.add(cache1.toUpperCase(Locale.ENGLISH))) {
+					throw new SQLException("browse cannot wrap the statement because a column name is empty or duplicated; name every column uniquely or add a top-level ORDER BY on a unique key.");
+				}
+				if (isOrdered(choose.getCode())) {
+					if (0 < values.length()) values.append(", ");
+					values.append(index + 1);
+				}
+			}
+			if (values.length() == 0) {
+				throw new SQLException("browse cannot derive an order because no column is sortable; add a top-level ORDER BY on a unique key.");
+			}
+			return new String[] {String.format(PAGE_TEXT2, source.text, values), String.format(COUNT_TEXT, "", source.text)};
+		}
+	}
+	/**
+	 * 並替可否を判定します。
+	 * 
+	 * @param typeName 型名称
+	 * @return 並替可能な型である場合は{@code true}
+	 */
+	private static boolean isOrdered(String typeName) {
+		var choose = String.valueOf(typeName).toUpperCase(Locale.ENGLISH);
+		for (var values : UNORDERED) {
+			if (values.equals(choose)) return false;
+		}
+		return true;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素一覧を読込みます。
+	 * <p>
+	 * スクロール可能な結果セットを返却済の場合は再度抽出してから読込みます。
+	 * </p>
+	 * 
+	 * @param offset 開始番号(0起算)
+	 * @param length 要素個数
+	 * @return 要素一覧
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	public synchronized RecordDataModel[] readPage(int offset, int length) throws SQLException {
+		if (!this.scrollFlag) {
+			return readPage((long)offset, length);
+		} else {
+			if (this.resultSet == null) {
+				try {
+					openScroll();
+				} catch (SQLException | RuntimeException errors) {
+					releaseData();
+					throw errors;
+				}
+			}
+			if (offset == 0) {
+				this.resultSet.beforeFirst();
+			} else {
+				this.resultSet.absolute(offset);
+			}
+			return readList(this.resultSet, length);
+		}
+	}
+	/**
+	 * 保持している接続を返却します。
+	 * <p>
+	 * スクロール可能な結果セットを閉じて接続を返却します。以降の読込時は再度抽出します。
+	 * </p>
+	 */
+	public synchronized void releaseData() {
+		try {
+			if (this.resultSet != null) this.resultSet.close();
+			if (this.statement != null) this.statement.close();
+		} catch (SQLException errors) {
+			if (this.connection != null) this.connection.removeData();
+		} finally {
+			if (this.statement != null) this.invokeData.removeData(this.statement);
+			if (this.connection != null) this.connection.close();
+			this.resultSet = null;
+			this.statement = null;
+			this.connection = null;
+		}
+	}
+	/**
+	 * 抽出処理を終了します。
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		releaseData();
+	}
+
+	/**
+	 * 構文情報クラスです。
+	 * <p>
+	 * 文字列・識別子・注釈と括弧内を除いた最上位の語句から、頁構文の生成に必要な情報を取得します。
+	 * {@code WITH}で始まる構文は、括弧外の最初の{@code SELECT}を主問合せの開始位置とします。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class TextData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 抽出構文(末尾の空白と区切文字を除去済) */
+		final String text;
+		/** 共通表式({@code WITH}で開始) */
+		boolean withFlag;
+		/** 複数構文(最上位の区切文字あり) */
+		boolean multiFlag;
+		/** 並替位置(最上位の最後の{@code ORDER BY}、ない場合は-1) */
+		int orderIndex;
+		/** 主問合せ位置(共通表式以外は0) */
+		int mainIndex;
+		/** 上位指定(最上位の{@code TOP}あり) */
+		boolean topFlag;
+		/** 範囲指定(最上位の{@code OFFSET}あり) */
+		boolean offsetFlag;
+		/** 末尾句(最上位の{@code FOR XML}・{@code FOR JSON}・{@code FOR BROWSE}・{@code OPTION}あり) */
+		boolean tailFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 構文情報を生成します。
+		 * 
+		 * @param text 抽出構文
+		 */
+		private TextData(String text) {
+			super();
+			this.text = text;
+			this.withFlag = false;
+			this.multiFlag = false;
+			this.orderIndex = -1;
+			this.mainIndex = 0;
+			this.topFlag = false;
+			this.offsetFlag = false;
+			this.tailFlag = false;
+		}
+		/**
+		 * 構文情報を生成します。
+		 * 
+		 * @param selectSQL 抽出構文
+		 * @return 構文情報
+		 */
+		static TextData createData(String selectSQL) {
+			var length = selectSQL.length();
+			while (0 < length && (Character.isWhitespace(selectSQL.charAt(length - 1)) || selectSQL.charAt(length - 1) == ';')) {
+				length --;
+			}
+			var result = new TextData(selectSQL.substring(0, length));
+			var source = result.text;
+			var depth = 0;
+			var words = 0;
+			var before = -1;
+			var former = "";
+			var offset = 0;
+			while (offset < length) {
+				var choose = source.charAt(offset);
+				if (choose == '\'' || choose == '"' || choose == '[') {
+					// 文字列・識別子
+					var finish = choose == '[' ? ']': choose;
+					offset ++;
+					while (offset < length) {
+						if (source.charAt(offset ++) == finish) {
+							if (offset < length && source.charAt(offset) == finish) {
+								offset ++;
+							} else {
+								break;
+							}
+						}
+					}
+					before = -1;
+					former = "";
+				} else if (choose == '-' && offset + 1 < length && source.charAt(offset + 1) == '-') {
+					// 行注釈
+					while (offset < length && source.charAt(offset) != '\n') {
+						offset ++;
+					}
+				} else if (choose == '/' && offset + 1 < length && source.charAt(offset + 1) == '*') {
+					// 範囲注釈(入れ子可)
+					var nested = 1;
+					offset += 2;
+					while (offset < length && 0 < nested) {
+						if (source.startsWith("/*", offset)) {
+							nested ++;
+							offset += 2;
+						} else if (source.startsWith("*/", offset)) {
+							nested --;
+							offset += 2;
+						} else {
+							offset ++;
+						}
+					}
+				} else if (choose == '(') {
+					depth ++;
+					offset ++;
+					before = -1;
+					former = "";
+				} else if (choose == ')') {
+					depth = Math.max(0, depth - 1);
+					offset ++;
+					before = -1;
+					former = "";
+				} else if (choose == ';') {
+					if (depth == 0) result.multiFlag = true;
+					offset ++;
+					before = -1;
+					former = "";
+				} else if (Character.isLetter(choose) || choose == '_' || choose == '@' || choose == '#') {
+					// 語句
+					var start = offset;
+					while (offset < length && (Character.isLetterOrDigit(source.charAt(offset)) || "_@#$".indexOf(source.charAt(offset)) >= 0)) {
+						offset ++;
+					}
+					if (depth == 0) {
+						var cache1 = source.substring(start, offset).toUpperCase(Locale.ENGLISH);
+						if (words == 0 && "WITH".equals(cache1)) result.withFlag = true;
+						if (result.withFlag && result.mainIndex == 0 && "SELECT".equals(cache1)) result.mainIndex = start;
+						if (0 <= before && "BY".equals(cache1)) result.orderIndex = before;
+						if ("TOP".equals(cache1)) result.topFlag = true;
+						if ("OFFSET".equals(cache1)) result.offsetFlag = true;
+						if ("OPTION".equals(cache1) || "FOR".equals(former) && ("XML".equals(cache1) || "JSON".equals(cache1) || "BROWSE".equals(cache1))) result.tailFlag = true;
+						before = "ORDER".equals(cache1)? start: -1;
+						former = cache1;
+						words ++;
+					}
+				} else {
+					if (!Character.isWhitespace(choose)) {
+						before = -1;
+						former = "";
+					}
+					offset ++;
+				}
+			}
+			return result;
+		}
+	}
+}
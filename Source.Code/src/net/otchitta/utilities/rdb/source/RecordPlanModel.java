@@ -0,0 +1,324 @@
+/**
+ * [Source.Code] RecordPlanModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 読込計画モデルクラスです。
+ * <p>
+ * 結果セットの要素種別から要素毎の読込処理を一度だけ決定し、
+ * 行毎の型判定と一時オブジェクトの生成を抑止します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class RecordPlanModel {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 読込配列 */
+	private final ReaderData[] values;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 要素個数を取得します。
+	 * 
+	 * @return 要素個数
+	 */
+	public int getSize() {
+		return this.values.length;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 読込計画モデルを生成します。
+	 * 
+	 * @param values 読込配列
+	 */
+	private RecordPlanModel(ReaderData[] values) {
+		super();
+		this.values = values;
+	}
+	/**
+	 * 読込処理を生成します。
+	 * 
+	 * @param source 要素種別
+	 * @return 読込処理
+	 * @see Types
+	 */
+	private static ReaderData createData(int source) {
+		switch (source) {
+		default:
+			return RecordPlanModel::readObject;
+		case Types.BIT:
+		case Types.BOOLEAN:
+			return RecordPlanModel::readBoolean;
+		case Types.TINYINT:
+		case Types.SMALLINT:
+			// TINYINTは符号なし(0～255)の製品があるためShortで保持
+			return RecordPlanModel::readShort;
+		case Types.INTEGER:
+			return RecordPlanModel::readInteger;
+		case Types.BIGINT:
+			return RecordPlanModel::readLong;
+		case Types.REAL:
+			return RecordPlanModel::readFloat;
+		case Types.FLOAT:
+		case Types.DOUBLE:
+			return RecordPlanModel::readDouble;
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+		case Types.NCHAR:
+		case Types.NVARCHAR:
+		case Types.LONGNVARCHAR:
+			return ResultSet::getString;
+		case Types.DATE:
+			return new TemporalData(LocalDate.class);
+		case Types.TIME:
+			return new TemporalData(LocalTime.class);
+		case Types.TIMESTAMP:
+			return new TemporalData(LocalDateTime.class);
+		}
+	}
+	/**
+	 * 読込計画モデルを生成します。
+	 * 
+	 * @param source 読込情報
+	 * @return 生成情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	static RecordPlanModel createData(ResultSetMetaData source) throws SQLException {
+		var length = source.getColumnCount();
+		var values = new ReaderData[length];
+		for (var index = 0; index < length; index ++) {
+			values[index] = createData(source.getColumnType(index + 1));
+		}
+		return new RecordPlanModel(values);
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readBoolean(ResultSet source, int offset) throws SQLException {
+		var result = source.getBoolean(offset);
+		return source.wasNull()? null: Boolean.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readShort(ResultSet source, int offset) throws SQLException {
+		var result = source.getShort(offset);
+		return source.wasNull()? null: Short.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readInteger(ResultSet source, int offset) throws SQLException {
+		var result = source.getInt(offset);
+		return source.wasNull()? null: Integer.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readLong(ResultSet source, int offset) throws SQLException {
+		var result = source.getLong(offset);
+		return source.wasNull()? null: Long.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readFloat(ResultSet source, int offset) throws SQLException {
+		var result = source.getFloat(offset);
+		return source.wasNull()? null: Float.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readDouble(ResultSet source, int offset) throws SQLException {
+		var result = source.getDouble(offset);
+		return source.wasNull()? null: Double.valueOf(result);
+	}
+	/**
+	 * 要素情報を読込みます。
+	 * <p>
+	 * 日時系の値は{@code java.time}の値へ変換します。
+	 * </p>
+	 * 
+	 * @param source 読込情報
+	 * @param offset 要素番号(1起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	private static Object readObject(ResultSet source, int offset) throws SQLException {
+		var choose = source.getObject(offset);
+		if (choose instanceof Timestamp) {
+			return ((Timestamp)choose).toLocalDateTime();
+		} else if (choose instanceof Date) {
+			return ((Date)choose).toLocalDate();
+		} else if (choose instanceof Time) {
+			return ((Time)choose).toLocalTime();
+		} else {
+			return choose;
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @param index 要素番号(0起算)
+	 * @return 要素情報
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	public Object readData(ResultSet source, int index) throws SQLException {
+		return this.values[index].readData(source, index + 1);
+	}
+	/**
+	 * 要素配列を読込みます。
+	 * 
+	 * @param source 読込情報
+	 * @return 要素配列
+	 * @throws SQLException 読込処理に失敗した場合
+	 */
+	public Object[] readList(ResultSet source) throws SQLException {
+		var length = this.values.length;
+		var result = new Object[length];
+		for (var index = 0; index < length; index ++) {
+			result[index] = this.values[index].readData(source, index + 1);
+		}
+		return result;
+	}
+
+	/**
+	 * 読込処理インターフェースです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	@FunctionalInterface
+	private interface ReaderData {
+		/**
+		 * 要素情報を読込みます。
+		 * 
+		 * @param source 読込情報
+		 * @param offset 要素番号(1起算)
+		 * @return 要素情報
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		public Object readData(ResultSet source, int offset) throws SQLException;
+	}
+
+	/**
+	 * 日時読込クラスです。
+	 * <p>
+	 * {@link ResultSet#getObject(int, Class)}で日時を直接読込みます。
+	 * 接続処理が未対応の場合は以降{@link RecordPlanModel#readObject(ResultSet, int)}で読込みます。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class TemporalData implements ReaderData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 要素種別 */
+		private final Class<?> code;
+		/** 直接読込可否 */
+		private boolean flag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 日時読込を生成します。
+		 * 
+		 * @param code 要素種別
+		 */
+		private TemporalData(Class<?> code) {
+			super();
+			this.code = code;
+			this.flag = true;
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 要素情報を読込みます。
+		 * 
+		 * @param source 読込情報
+		 * @param offset 要素番号(1起算)
+		 * @return 要素情報
+		 * @throws SQLException 読込処理に失敗した場合
+		 */
+		@Override
+		public Object readData(ResultSet source, int offset) throws SQLException {
+			if (this.flag) {
+				try {
+					return source.getObject(offset, this.code);
+				} catch (SQLFeatureNotSupportedException | ClassCastException errors) {
+					this.flag = false;
+				}
+			}
+			return readObject(source, offset);
+		}
+	}
+}
@@ -0,0 +1,733 @@
+/**
+ * [Source.Code] ResultCacheModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * 結果保持モデルクラスです。
+ * <p>
+ * 接続引数と抽出構文を正規化した組合せ毎に抽出結果を保持し、同じ抽出を再実行せずに返却します。
+ * 保持対象は結果セットだけを返却した単一の抽出構文({@code SELECT}／{@code WITH})に限ります。
+ * 保持容量は概算容量で管理し、上限容量を超えた場合は最も古く参照された結果から破棄します。
+ * 記録する要素情報は通知先へ通知した要素情報を共有するため、{@link RecordFileModel}の全体の概算容量へは計上せず、当該モデルの上限容量だけで管理します。
+ * 実行結果を記録して登録した結果は、破棄時に要素退避を解放します。
+ * 既定では無効のため{@link #setEnabled(boolean)}で有効にします。
+ * 抽出構文以外を実行する場合は、更新により結果が変わるため実行の前後で同じ接続引数の結果を全て破棄します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ResultCacheModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 通知行数 */
+	private static final int NOTIFY_SIZE = 2_048;
+	/** 抽出構文 */
+	private static final Pattern SELECT_TEXT = Pattern.compile("(?is)(?:select|with)\\b.*");
+	/** 更新構文 */
+	private static final Pattern UPDATE_TEXT = Pattern.compile("(?is).*\\b(?:into|insert|update|delete|merge|exec|execute)\\b.*");
+	/** 保持一覧 */
+	private static final LinkedHashMap<String, CacheData> CACHE_LIST = new LinkedHashMap<>(16, 0.75f, true);
+	/** 再利用件数 */
+	private static final LongAdder HIT_COUNT = new LongAdder();
+	/** 未保持件数 */
+	private static final LongAdder MISS_COUNT = new LongAdder();
+	/** 容量破棄件数 */
+	private static final LongAdder DROP_COUNT = new LongAdder();
+	/** 期限破棄件数 */
+	private static final LongAdder TIME_COUNT = new LongAdder();
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 有効状態 */
+	private static volatile boolean enabled = false;
+	/** 上限容量(バイト) */
+	private static volatile long limitSize = Runtime.getRuntime().maxMemory() / 8;
+	/** 有効期間(ミリ秒) */
+	private static volatile long liveTime = 300_000L;
+	/** 保持容量(バイト) */
+	private static long heapSize = 0L;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 有効状態を判定します。
+	 * 
+	 * @return 有効状態
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	/**
+	 * 有効状態を設定します。
+	 * <p>
+	 * 無効にした場合は保持している結果を全て破棄します。
+	 * </p>
+	 * 
+	 * @param enabled 有効状態
+	 */
+	public static void setEnabled(boolean enabled) {
+		ResultCacheModel.enabled = enabled;
+		if (!enabled) removeList();
+	}
+	/**
+	 * 上限容量を取得します。
+	 * 
+	 * @return 上限容量(バイト)
+	 */
+	public static long getLimitSize() {
+		return limitSize;
+	}
+	/**
+	 * 上限容量を設定します。
+	 * 
+	 * @param limitSize 上限容量(バイト)
+	 */
+	public static void setLimitSize(long limitSize) {
+		if (limitSize < 0L) {
+			throw new IllegalArgumentException("limitSize must be zero or positive.");
+		} else {
+			ResultCacheModel.limitSize = limitSize;
+			synchronized (CACHE_LIST) {
+				evictList();
+			}
+		}
+	}
+	/**
+	 * 有効期間を取得します。
+	 * 
+	 * @return 有効期間(ミリ秒)
+	 */
+	public static long getLiveTime() {
+		return liveTime;
+	}
+	/**
+	 * 有効期間を設定します。
+	 * 
+	 * @param liveTime 有効期間(ミリ秒)
+	 */
+	public static void setLiveTime(long liveTime) {
+		if (liveTime < 0L) {
+			throw new IllegalArgumentException("liveTime must be zero or positive.");
+		} else {
+			ResultCacheModel.liveTime = liveTime;
+		}
+	}
+	/**
+	 * 保持個数を取得します。
+	 * 
+	 * @return 保持個数
+	 */
+	public static int getSize() {
+		synchronized (CACHE_LIST) {
+			return CACHE_LIST.size();
+		}
+	}
+	/**
+	 * 保持容量を取得します。
+	 * 
+	 * @return 保持容量(バイト)
+	 */
+	public static long getHeapSize() {
+		synchronized (CACHE_LIST) {
+			return heapSize;
+		}
+	}
+	/**
+	 * 再利用件数を取得します。
+	 * 
+	 * @return 再利用件数
+	 */
+	public static long getHitCount() {
+		return HIT_COUNT.sum();
+	}
+	/**
+	 * 未保持件数を取得します。
+	 * 
+	 * @return 未保持件数
+	 */
+	public static long getMissCount() {
+		return MISS_COUNT.sum();
+	}
+	/**
+	 * 容量破棄件数を取得します。
+	 * 
+	 * @return 容量破棄件数
+	 */
+	public static long getDropCount() {
+		return DROP_COUNT.sum();
+	}
+	/**
+	 * 期限破棄件数を取得します。
+	 * 
+	 * @return 期限破棄件数
+	 */
+	public static long getTimeCount() {
+		return TIME_COUNT.sum();
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 結果保持モデルを生成します。
+	 */
+	private ResultCacheModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 接続引数を正規化します。
+	 * 
+	 * @param parameter 接続引数
+	 * @return 正規化引数
+	 */
+	private static String normalizeParameter(String parameter) {
+		var result = new StringBuilder(parameter.length());
+		for (var choose : parameter.split(";")) {
+			var value1 = choose.strip();
+			if (value1.isEmpty()) continue;
+			var index = value1.indexOf('=');
+			if (0 <= index) {
+				value1 = value1.substring(0, index).strip().toLowerCase(Locale.ENGLISH) + "=" + value1.substring(index + 1).strip();
+			}
+			result.append(value1).append(';');
+		}
+		return result.toString();
+	}
+	/**
+	 * 抽出構文を正規化します。
+	 * <p>
+	 * 文字列・識別子外の連続空白を一つにまとめ、末尾の区切記号を除去します。
+	 * </p>
+	 * 
+	 * @param selectSQL 抽出構文
+	 * @return 正規化構文
+	 */
+	private static String normalizeText(String selectSQL) {
+		var result = new StringBuilder(selectSQL.length());
+		var escape = '\0';
+		var spaced = false;
+		for (var index = 0; index < selectSQL.length(); index ++) {
+			var value = selectSQL.charAt(index);
+			if (escape != '\0') {
+				result.append(value);
+				if (value == escape) escape = '\0';
+			} else if (Character.isWhitespace(value)) {
+				spaced = true;
+			} else {
+				if (spaced && 0 < result.length()) result.append(' ');
+				spaced = false;
+				result.append(value);
+				if (value == '\'' || value == '"') escape = value;
+				else if (value == '[') escape = ']';
+			}
+		}
+		while (0 < result.length() && result.charAt(result.length() - 1) == ';') {
+			result.setLength(result.length() - 1);
+		}
+		return result.toString().strip();
+	}
+	/**
+	 * 保持情報の識別子を生成します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @return 識別子
+	 */
+	private static String createCode(String parameter, String selectSQL) {
+		return normalizeParameter(parameter) + '\0' + normalizeText(selectSQL);
+	}
+	/**
+	 * 保持可否を判定します。
+	 * 
+	 * @param selectSQL 抽出構文
+	 * @return 単一の抽出構文である場合は{@code true}
+	 */
+	private static boolean isSelect(String selectSQL) {
+		var values = ScriptDataModel.splitText(selectSQL);
+		if (values.size() != 1) return false;
+		var choose = values.get(0);
+		return SELECT_TEXT.matcher(choose).matches() && !UPDATE_TEXT.matcher(choose).matches();
+	}
+	/**
+	 * 上限容量まで保持情報を破棄します。
+	 */
+	private static void evictList() {
+		var values = CACHE_LIST.values().iterator();
+		while (limitSize < heapSize && values.hasNext()) {
+			var choose = values.next();
+			values.remove();
+			heapSize -= choose.heapSize;
+			choose.removeData();
+			DROP_COUNT.increment();
+		}
+	}
+	/**
+	 * 抽出結果を再生します。
+	 * <p>
+	 * 通知行数毎に実行取消を確認し、要求済の場合は以降の通知を中止します。
+	 * 再生した行件数・結果セット件数・通知時間を工程情報へ集計し、終了時に工程監視へ通知します。
+	 * </p>
+	 * 
+	 * @param values 抽出結果
+	 * @param invokeText 実行構文
+	 * @param invokeData 実行情報
+	 * @param actionHook 生成処理
+	 */
+	private static void invokeList(ResultDataModel[] values, String invokeText, InvokeDataModel invokeData, IntFunction<ActionDataModel> actionHook) {
+		var phase = new PhaseDataModel(invokeText, false);
+		phase.finishConnect();
+		try {
+			for (var index = 0; index < values.length && !invokeData.isCancelled(); index ++) {
+				var choose = values[index];
+				var action = actionHook.apply(index);
+				phase.appendResult();
+				var before = System.nanoTime();
+				action.updateColumnList(choose.getColumnList());
+				phase.appendPublish(before);
+				var length = choose.getRecordSize();
+				for (var offset = 0; offset < length && !invokeData.isCancelled(); offset += NOTIFY_SIZE) {
+					var cache1 = new RecordDataModel[Math.min(NOTIFY_SIZE, length - offset)];
+					before = System.nanoTime();
+					for (var number = 0; number < cache1.length; number ++) {
+						cache1[number] = choose.getRecordData(offset + number);
+					}
+					var cache2 = System.nanoTime();
+					phase.appendChunk(cache1, cache1.length, before, cache2);
+					action.registRecordList(cache1);
+					phase.appendPublish(cache2);
+				}
+				action.finishRecordList();
+			}
+		} catch (RuntimeException errors) {
+			phase.updateError(errors);
+			throw errors;
+		} finally {
+			phase.finishData();
+			invokeData.notifyData(phase);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 抽出結果を取得します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @return 抽出結果(未保持・期限切れの場合は{@code null})
+	 */
+	public static ResultDataModel[] chooseData(String parameter, String selectSQL) {
+		var code = createCode(parameter, selectSQL);
+		synchronized (CACHE_LIST) {
+			var choose = CACHE_LIST.get(code);
+			if (choose == null) {
+				MISS_COUNT.increment();
+				return null;
+			} else if (choose.limitTime < System.currentTimeMillis()) {
+				CACHE_LIST.remove(code);
+				heapSize -= choose.heapSize;
+				choose.removeData();
+				TIME_COUNT.increment();
+				MISS_COUNT.increment();
+				return null;
+			} else {
+				HIT_COUNT.increment();
+				return choose.values.clone();
+			}
+		}
+	}
+	/**
+	 * 抽出結果を登録します。
+	 * <p>
+	 * 単一の抽出構文でない場合や上限容量を超える場合は登録しません。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param values 抽出結果
+	 */
+	public static void registData(String parameter, String selectSQL, ResultDataModel[] values) {
+		registData(parameter, selectSQL, values, false);
+	}
+	/**
+	 * 抽出結果を登録します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param values 抽出結果
+	 * @param ownFlag 破棄時に要素退避を解放する場合は{@code true}(呼出元と共有する場合は{@code false})
+	 * @return 登録した場合は{@code true}
+	 */
+	private static boolean registData(String parameter, String selectSQL, ResultDataModel[] values, boolean ownFlag) {
+		if (!enabled || !isSelect(selectSQL)) return false;
+		var size = 64L;
+		for (var choose : values) {
+			size += choose.getRecordList().chooseSize();
+		}
+		if (limitSize < size) return false;
+		var code = createCode(parameter, selectSQL);
+		var data = new CacheData(values.clone(), size, System.currentTimeMillis() + liveTime, ownFlag);
+		synchronized (CACHE_LIST) {
+			var choose = CACHE_LIST.put(code, data);
+			if (choose != null) {
+				heapSize -= choose.heapSize;
+				choose.removeData();
+			}
+			heapSize += size;
+			evictList();
+		}
+		return true;
+	}
+	/**
+	 * 抽出結果を破棄します。
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 */
+	public static void removeData(String parameter, String selectSQL) {
+		var code = createCode(parameter, selectSQL);
+		synchronized (CACHE_LIST) {
+			var choose = CACHE_LIST.remove(code);
+			if (choose != null) {
+				heapSize -= choose.heapSize;
+				choose.removeData();
+			}
+		}
+	}
+	/**
+	 * 接続引数の抽出結果を全て破棄します。
+	 * 
+	 * @param parameter 接続引数
+	 */
+	public static void removeList(String parameter) {
+		var code = normalizeParameter(parameter) + '\0';
+		synchronized (CACHE_LIST) {
+			var values = CACHE_LIST.entrySet().iterator();
+			while (values.hasNext()) {
+				var choose = values.next();
+				if (choose.getKey().startsWith(code)) {
+					values.remove();
+					heapSize -= choose.getValue().heapSize;
+					choose.getValue().removeData();
+				}
+			}
+		}
+	}
+	/**
+	 * 抽出結果を全て破棄します。
+	 */
+	public static void removeList() {
+		synchronized (CACHE_LIST) {
+			for (var choose : CACHE_LIST.values()) {
+				choose.removeData();
+			}
+			CACHE_LIST.clear();
+			heapSize = 0L;
+		}
+	}
+	/**
+	 * 抽出結果を取得します。
+	 * <p>
+	 * 保持済の場合は保持情報を返却し、未保持の場合は抽出して登録します。
+	 * 抽出構文以外の場合は実行前後に接続引数の結果を全て破棄します。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @return 抽出結果
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	public static ResultDataModel[] createList(String parameter, String selectSQL) throws SQLException {
+		if (!isSelect(selectSQL)) {
+			// 更新構文は実行前後に破棄
+			removeList(parameter);
+			try {
+				return ResultDataModel.createList(parameter, selectSQL);
+			} finally {
+				removeList(parameter);
+			}
+		} else if (!enabled) {
+			return ResultDataModel.createList(parameter, selectSQL);
+		}
+		var result = chooseData(parameter, selectSQL);
+		if (result == null) {
+			result = ResultDataModel.createList(parameter, selectSQL);
+			registData(parameter, selectSQL, result);
+		}
+		return result;
+	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * <p>
+	 * 保持済の場合は保持情報を生成処理へ再生し、未保持の場合は実行結果を通知しながら記録して登録します。
+	 * 再生時も実行取消と工程監視は実行時と同様に扱います。
+	 * 更新件数や例外を通知した場合と上限容量を超えた場合は登録しません。
+	 * 抽出構文以外の場合は実行前後に接続引数の結果を全て破棄します。
+	 * </p>
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeText 実行情報
+	 * @param invokeData 実行情報
+	 * @param actionHook 生成処理
+	 * @throws SQLException 実行処理に失敗した場合
+	 * @see ResultDataModel#invokeList(String, String, InvokeDataModel, IntFunction)
+	 */
+	public static void invokeList(String parameters, String invokeText, InvokeDataModel invokeData, IntFunction<ActionDataModel> actionHook) throws SQLException {
+		if (!isSelect(invokeText)) {
+			// 更新構文は実行前後に破棄
+			removeList(parameters);
+			try {
+				ResultDataModel.invokeList(parameters, invokeText, invokeData, actionHook);
+			} finally {
+				removeList(parameters);
+			}
+			return;
+		} else if (!enabled) {
+			ResultDataModel.invokeList(parameters, invokeText, invokeData, actionHook);
+			return;
+		}
+		var values = chooseData(parameters, invokeText);
+		if (values != null) {
+			invokeList(values, invokeText, invokeData, actionHook);
+			return;
+		}
+		var result = new ArrayList<CaptureData>();
+		ResultDataModel.invokeList(parameters, invokeText, invokeData, offset -> {
+			var choose = new CaptureData(actionHook.apply(offset));
+			result.add(choose);
+			return choose;
+		});
+		if (invokeData.isCancelled()) {
+			for (var choose : result) {
+				choose.cancelData();
+			}
+			return;
+		}
+		var cache1 = new ResultDataModel[result.size()];
+		var status = true;
+		for (var index = 0; index < cache1.length; index ++) {
+			cache1[index] = result.get(index).createData();
+			if (cache1[index] == null) status = false;
+		}
+		if (status && registData(parameters, invokeText, cache1, true)) return;
+		for (var choose : result) {
+			choose.cancelData();
+		}
+	}
+
+	/**
+	 * 保持情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class CacheData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 抽出結果 */
+		private final ResultDataModel[] values;
+		/** 概算容量(バイト) */
+		private final long heapSize;
+		/** 期限時刻 */
+		private final long limitTime;
+		/** 所有状態 */
+		private final boolean ownFlag;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 保持情報を生成します。
+		 * 
+		 * @param values 抽出結果
+		 * @param heapSize 概算容量(バイト)
+		 * @param limitTime 期限時刻
+		 * @param ownFlag 所有状態
+		 */
+		private CacheData(ResultDataModel[] values, long heapSize, long limitTime, boolean ownFlag) {
+			super();
+			this.values = values;
+			this.heapSize = heapSize;
+			this.limitTime = limitTime;
+			this.ownFlag = ownFlag;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 抽出結果の要素退避を解放します。
+		 * <p>
+		 * 呼出元と共有する抽出結果は解放せず、参照がなくなった時点の解放処理に委ねます。
+		 * </p>
+		 */
+		private void removeData() {
+			if (!this.ownFlag) return;
+			for (var choose : this.values) {
+				choose.getRecordList().removeData();
+			}
+		}
+	}
+
+	/**
+	 * 記録処理クラスです。
+	 * <p>
+	 * 通知内容を通知先へ転送しながら抽出結果を記録します。
+	 * 要素情報は複製せず通知先と共有します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class CaptureData implements ActionDataModel {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 通知先 */
+		private final ActionDataModel actionData;
+		/** 要素一覧 */
+		private ColumnListModel columnList;
+		/** 要素一覧 */
+		private RecordFileModel recordList;
+		/** 概算容量(バイト) */
+		private long heapSize;
+		/** 記録可否 */
+		private boolean enabled;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 記録処理を生成します。
+		 * 
+		 * @param actionData 通知先
+		 */
+		private CaptureData(ActionDataModel actionData) {
+			super();
+			this.actionData = actionData;
+			this.columnList = null;
+			this.recordList = RecordFileModel.createShare();
+			this.heapSize = 0L;
+			this.enabled = true;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 記録処理を中止します。
+		 */
+		private void cancelData() {
+			this.enabled = false;
+			if (this.recordList != null) this.recordList.close();
+			this.recordList = null;
+		}
+		/**
+		 * 抽出結果を生成します。
+		 * 
+		 * @return 抽出結果(記録を中止した場合は{@code null})
+		 */
+		private ResultDataModel createData() {
+			if (!this.enabled || this.columnList == null) return null;
+			return ResultDataModel.createData(this.columnList, RecordListModel.createData(this.recordList));
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param columnList 要素一覧
+		 * @see ActionDataModel#updateColumnList(ColumnListModel)
+		 */
+		@Override
+		public void updateColumnList(ColumnListModel columnList) {
+			this.columnList = columnList;
+			this.actionData.updateColumnList(columnList);
+		}
+		/**
+		 * 処理件数を実行します。
+		 * 
+		 * @param updateSize 処理件数
+		 * @see ActionDataModel#invokeUpdateSize(int)
+		 */
+		@Override
+		public void invokeUpdateSize(int updateSize) {
+			cancelData();
+			this.actionData.invokeUpdateSize(updateSize);
+		}
+		/**
+		 * 要素情報を登録します。
+		 * 
+		 * @param recordData 要素情報
+		 * @see ActionDataModel#registRecordData(RecordDataModel)
+		 */
+		@Override
+		public void registRecordData(RecordDataModel recordData) {
+			registRecordList(new RecordDataModel[] {recordData});
+		}
+		/**
+		 * 要素一覧を登録します。
+		 * 
+		 * @param recordList 要素一覧
+		 * @see ActionDataModel#registRecordList(RecordDataModel[])
+		 */
+		@Override
+		public void registRecordList(RecordDataModel[] recordList) {
+			if (this.enabled) {
+				for (var choose : recordList) {
+					this.heapSize += choose.chooseSize();
+				}
+				if (limitSize < this.heapSize) {
+					cancelData();
+				} else {
+					this.recordList.registList(recordList);
+				}
+			}
+			this.actionData.registRecordList(recordList);
+		}
+		/**
+		 * 要素一覧を完了します。
+		 * 
+		 * @see ActionDataModel#finishRecordList()
+		 */
+		@Override
+		public void finishRecordList() {
+			this.actionData.finishRecordList();
+		}
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param resultData 例外情報
+		 * @see ActionDataModel#updateRecordList(Exception)
+		 */
+		@Override
+		public void updateRecordList(Exception resultData) {
+			cancelData();
+			this.actionData.updateRecordList(resultData);
+		}
+	}
+}
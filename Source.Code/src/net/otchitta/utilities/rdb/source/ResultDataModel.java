@@ -4,11 +4,12 @@
 package net.otchitta.utilities.rdb.source;
 
 import java.io.Serializable;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.function.IntFunction;
 
 /**
@@ -90,6 +91,17 @@ public final class ResultDataModel implements Serializable {
 	public RecordDataModel getRecordData(int index) {
 		return this.recordList.getData(index);
 	}
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param record 行番号
+	 * @param column 列番号
+	 * @return 要素情報
+	 * @see RecordListModel#getData(int, int)
+	 */
+	public Object getRecordData(int record, int column) {
+		return this.recordList.getData(record, column);
+	}
 
 	// ===================================================================
 	// 生成メソッド定義
@@ -105,6 +117,16 @@ public final class ResultDataModel implements Serializable {
 		this.columnList = columnList;
 		this.recordList = recordList;
 	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * 
+	 * @param columnList 要素一覧
+	 * @param recordList 要素一覧
+	 * @return 生成情報
+	 */
+	static ResultDataModel createData(ColumnListModel columnList, RecordListModel recordList) {
+		return new ResultDataModel(columnList, recordList);
+	}
 	/**
 	 * 結果情報モデルを生成します。
 	 * 
@@ -126,10 +148,64 @@ public final class ResultDataModel implements Serializable {
 	 * @throws SQLException 抽出処理に失敗した場合
 	 */
 	public static ResultDataModel createData(String parameter, String selectSQL) throws SQLException {
-		try (var connection = DriverManager.getConnection(parameter);
-				var statement = connection.createStatement();
-				var resultSet = statement.executeQuery(selectSQL)) {
-			return createData(resultSet);
+		try (var connection = ConnectPoolModel.borrowData(parameter);
+				var statement = connection.createStatement()) {
+			connection.registText(selectSQL);
+			try (var resultSet = statement.executeQuery(selectSQL)) {
+				return createData(resultSet);
+			}
+		}
+	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * <p>
+	 * 準備構文は物理接続毎に保持して再利用します。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文({@code ?}または{@code :name}形式の引数を含む)
+	 * @param values 引数情報(名前付引数の場合は{@link BindTextModel#getNameList()}の順)
+	 * @return 生成情報
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	public static ResultDataModel createData(String parameter, String selectSQL, Object... values) throws SQLException {
+		var source = BindTextModel.createData(selectSQL);
+		try (var connection = ConnectPoolModel.borrowData(parameter)) {
+			var statement = connection.prepareStatement(source.getText());
+			try {
+				source.bindData(statement, values);
+				try (var resultSet = statement.executeQuery()) {
+					return createData(resultSet);
+				}
+			} finally {
+				statement.clearParameters();
+			}
+		}
+	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * <p>
+	 * 準備構文は物理接続毎に保持して再利用します。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文({@code :name}形式の引数を含む)
+	 * @param values 引数情報(名称毎)
+	 * @return 生成情報
+	 * @throws SQLException 抽出処理に失敗した場合
+	 */
+	public static ResultDataModel createData(String parameter, String selectSQL, Map<String, ?> values) throws SQLException {
+		var source = BindTextModel.createData(selectSQL);
+		try (var connection = ConnectPoolModel.borrowData(parameter)) {
+			var statement = connection.prepareStatement(source.getText());
+			try {
+				source.bindData(statement, values);
+				try (var resultSet = statement.executeQuery()) {
+					return createData(resultSet);
+				}
+			} finally {
+				statement.clearParameters();
+			}
 		}
 	}
 	/**
@@ -141,9 +217,10 @@ public final class ResultDataModel implements Serializable {
 	 * @throws SQLException 抽出処理に失敗した場合
 	 */
 	static ResultDataModel[] createList(String parameter, String selectSQL) throws SQLException {
-		try (var connection = DriverManager.getConnection(parameter);
+		try (var connection = ConnectPoolModel.borrowData(parameter);
 				var statement = connection.createStatement()) {
 			var result = new ArrayList<ResultDataModel>();
+			connection.registText(selectSQL);
 			var status = statement.execute(selectSQL);
 			while (true) {
 				if (status) {
@@ -167,12 +244,21 @@ public final class ResultDataModel implements Serializable {
 	 * 
 	 * @param source 読込処理
 	 * @param action 実行処理
+	 * @param phase 工程情報
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
-	private static void invokeData(ResultSet source, ActionDataModel action) throws SQLException {
+	private static void invokeData(ResultSet source, ActionDataModel action, PhaseDataModel phase) throws SQLException {
+		var event = new EventDataModel.FetchData();
+		var count = phase.getRecordSize();
+		var bytes = phase.getByteSize();
+		event.begin();
 		var choose = source.getMetaData();
+		var before = System.nanoTime();
 		ColumnListModel.invokeData(choose, action::updateColumnList);
-		RecordDataModel.invokeList(source, action::registRecordData);
+		phase.appendPublish(before);
+		RecordDataModel.invokeList(source, action::registRecordList, phase, action.isTextCache() && SourceTextModel.isCacheFlag());
+		action.finishRecordList();
+		event.finishData(phase.getRecordSize() - count, choose.getColumnCount(), phase.getByteSize() - bytes);
 	}
 	/**
 	 * 結果情報モデルを生成します。
@@ -181,25 +267,66 @@ public final class ResultDataModel implements Serializable {
 	 * @param offset 実行番号
 	 * @param status 結果種別
 	 * @param action 生成処理
+	 * @param phase 工程情報
 	 * @throws SQLException 読込処理に失敗した場合
 	 */
-	private static void invokeData(Statement source, int offset, boolean status, IntFunction<ActionDataModel> action) throws SQLException {
+	private static void invokeData(Statement source, int offset, boolean status, IntFunction<ActionDataModel> action, PhaseDataModel phase) throws SQLException {
 		if (status) {
 			// 抽出処理の場合
+			phase.appendResult();
+			var before = System.nanoTime();
 			var choose = action.apply(offset);
+			phase.appendPublish(before);
 			try (var result = source.getResultSet()) {
-				invokeData(result, choose);
+				invokeData(result, choose, phase);
 			}
-			invokeData(source, offset + 1, source.getMoreResults(), action);
+			var event = new EventDataModel.InvokeData();
+			event.begin();
+			before = System.nanoTime();
+			var cache1 = source.getMoreResults();
+			phase.appendExecute(before);
+			event.finishData(phase.getInvokeText(), cache1);
+			invokeData(source, offset + 1, cache1, action, phase);
 		} else if (source.getUpdateCount() != -1) {
 			// 実行処理の場合
+			var count = source.getUpdateCount();
+			phase.appendUpdate(count);
+			var before = System.nanoTime();
 			var choose = action.apply(offset);
-			choose.invokeUpdateSize(source.getUpdateCount());
-			invokeData(source, offset + 1, source.getMoreResults(), action);
+			choose.invokeUpdateSize(count);
+			before = phase.appendPublish(before);
+			var event = new EventDataModel.InvokeData();
+			event.begin();
+			var cache1 = source.getMoreResults();
+			phase.appendExecute(before);
+			event.finishData(phase.getInvokeText(), cache1);
+			invokeData(source, offset + 1, cache1, action, phase);
 		} else {
 			// 処理終了の場合
 		}
 	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * 
+	 * @param source 準備構文
+	 * @param action 生成処理
+	 * @param phase 工程情報
+	 */
+	private static void invokeData(PreparedStatement source, IntFunction<ActionDataModel> action, PhaseDataModel phase) {
+		try {
+			var event = new EventDataModel.InvokeData();
+			event.begin();
+			var before = System.nanoTime();
+			var cache1 = source.execute();
+			phase.appendExecute(before);
+			event.finishData(phase.getInvokeText(), cache1);
+			invokeData(source, 0, cache1, action, phase);
+		} catch (Exception errors) {
+			phase.updateError(errors);
+			var choose = action.apply(0);
+			choose.updateRecordList(errors);
+		}
+	}
 	/**
 	 * 結果情報モデルを生成します。
 	 * 
@@ -207,11 +334,19 @@ public final class ResultDataModel implements Serializable {
 	 * @param offset 実行番号
 	 * @param invoke 実行構文
 	 * @param action 生成処理
+	 * @param phase 工程情報
 	 */
-	private static void invokeData(Statement source, int offset, String invoke, IntFunction<ActionDataModel> action) {
+	private static void invokeData(Statement source, int offset, String invoke, IntFunction<ActionDataModel> action, PhaseDataModel phase) {
 		try {
-			invokeData(source, offset, source.execute(invoke), action);
+			var event = new EventDataModel.InvokeData();
+			event.begin();
+			var before = System.nanoTime();
+			var cache1 = source.execute(invoke);
+			phase.appendExecute(before);
+			event.finishData(invoke, cache1);
+			invokeData(source, offset, cache1, action, phase);
 		} catch (Exception errors) {
+			phase.updateError(errors);
 			var choose = action.apply(offset);
 			choose.updateRecordList(errors);
 		}
@@ -225,9 +360,80 @@ public final class ResultDataModel implements Serializable {
 	 * @throws SQLException 実行処理に失敗した場合
 	 */
 	public static void invokeList(String parameters, String invokeText, IntFunction<ActionDataModel> actionHook) throws SQLException {
-		try (var connection = DriverManager.getConnection(parameters);
+		invokeList(parameters, invokeText, new InvokeDataModel(), actionHook);
+	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * <p>
+	 * 実行中の処理は{@link InvokeDataModel#cancel()}で取消できます。
+	 * 実行終了時は工程情報を{@link InvokeDataModel#registListen(PhaseListenModel)}で登録した工程監視へ通知します。
+	 * </p>
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeText 実行情報
+	 * @param invokeData 実行情報
+	 * @param actionHook 実行処理
+	 * @throws SQLException 実行処理に失敗した場合
+	 */
+	public static void invokeList(String parameters, String invokeText, InvokeDataModel invokeData, IntFunction<ActionDataModel> actionHook) throws SQLException {
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		var phase = new PhaseDataModel(invokeText, invokeData.isDetailed());
+		try (var connection = ConnectPoolModel.borrowData(parameters);
 				var statement = connection.createStatement()) {
-			invokeData(statement, 0, invokeText, actionHook);
+			phase.finishConnect();
+			connection.registText(invokeText);
+			invokeData.registData(connection, statement);
+			try {
+				invokeData(statement, 0, invokeText, actionHook, phase);
+			} finally {
+				invokeData.removeData(statement);
+			}
+		} catch (SQLException | RuntimeException errors) {
+			phase.updateError(errors);
+			throw errors;
+		} finally {
+			phase.finishData();
+			CounterDataModel.appendData(parameters, phase);
+			invokeData.notifyData(phase);
+		}
+	}
+	/**
+	 * 結果情報モデルを生成します。
+	 * <p>
+	 * 準備構文は物理接続毎に保持して再利用します。
+	 * 実行中の処理は{@link InvokeDataModel#cancel()}で取消できます。
+	 * 実行終了時は工程情報を{@link InvokeDataModel#registListen(PhaseListenModel)}で登録した工程監視へ通知します。
+	 * </p>
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeText 実行情報({@code :name}形式の引数を含む)
+	 * @param values 引数情報(名称毎)
+	 * @param invokeData 実行情報
+	 * @param actionHook 実行処理
+	 * @throws SQLException 実行処理に失敗した場合
+	 */
+	public static void invokeList(String parameters, String invokeText, Map<String, ?> values, InvokeDataModel invokeData, IntFunction<ActionDataModel> actionHook) throws SQLException {
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		var phase = new PhaseDataModel(invokeText, invokeData.isDetailed());
+		var source = BindTextModel.createData(invokeText);
+		try (var connection = ConnectPoolModel.borrowData(parameters)) {
+			var statement = connection.prepareStatement(source.getText());
+			source.bindData(statement, values);
+			phase.finishConnect();
+			invokeData.registData(connection, statement);
+			try {
+				invokeData(statement, actionHook, phase);
+			} finally {
+				invokeData.removeData(statement);
+				if (!statement.isClosed()) statement.clearParameters();
+			}
+		} catch (SQLException | RuntimeException errors) {
+			phase.updateError(errors);
+			throw errors;
+		} finally {
+			phase.finishData();
+			CounterDataModel.appendData(parameters, phase);
+			invokeData.notifyData(phase);
 		}
 	}
 
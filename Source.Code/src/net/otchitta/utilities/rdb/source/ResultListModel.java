@@ -68,7 +68,7 @@ public final class ResultListModel implements Serializable {
 	 * @throws SQLException 抽出処理に失敗した場合
 	 */
 	public static ResultListModel createData(String parameter, String selectSQL) throws SQLException {
-		var values = ResultDataModel.createList(parameter, selectSQL);
+		var values = ResultCacheModel.createList(parameter, selectSQL);
 		return new ResultListModel(values);
 	}
 }
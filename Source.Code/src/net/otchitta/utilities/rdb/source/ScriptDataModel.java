@@ -0,0 +1,757 @@
+/**
+ * [Source.Code] ScriptDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * 構文一覧モデルクラスです。
+ * <p>
+ * 実行構文を行単独の{@code GO}で一括構文毎に分割し、複数の接続で並列に実行します。
+ * {@code GO n}で回数を指定した一括構文は同一の接続で順番に実行します。
+ * 結果情報は各構文の完了順に関わらず構文順の実行番号で生成処理へ通知します。
+ * 先頭以外の構文の結果情報は先行する構文が完了するまで保持し、要素情報は{@link RecordFileModel}へ退避します。
+ * 保持した結果情報の再生は排他を解放して行います。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class ScriptDataModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 区切構文 */
+	private static final Pattern BATCH_TEXT = Pattern.compile("\\s*(?i:go)(?:\\s+(\\d+))?\\s*(?:--.*)?");
+	/** 再生行数 */
+	private static final int REPLAY_SIZE = 2_048;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 構文一覧モデルを生成します。
+	 */
+	private ScriptDataModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 終端位置を検索します。
+	 * 
+	 * @param source 実行構文
+	 * @param offset 開始位置(開始文字の次)
+	 * @param escape 終端文字
+	 * @return 終端位置(終端文字の次)
+	 */
+	private static int chooseQuote(String source, int offset, char escape) {
+		var index = offset;
+		while (index < source.length()) {
+			if (source.charAt(index) != escape) {
+				index ++;
+			} else if (index + 1 < source.length() && source.charAt(index + 1) == escape) {
+				index += 2;
+			} else {
+				return index + 1;
+			}
+		}
+		return index;
+	}
+	/**
+	 * 注釈終端を検索します。
+	 * 
+	 * @param source 実行構文
+	 * @param offset 開始位置(開始記号の次)
+	 * @return 終端位置(終端記号の次)
+	 */
+	private static int chooseBlock(String source, int offset) {
+		var index = offset;
+		var depth = 1;
+		while (index < source.length() && 0 < depth) {
+			if (source.startsWith("/*", index)) {
+				depth ++;
+				index += 2;
+			} else if (source.startsWith("*/", index)) {
+				depth --;
+				index += 2;
+			} else {
+				index ++;
+			}
+		}
+		return index;
+	}
+	/**
+	 * 構文要素を追加します。
+	 * 
+	 * @param result 構文一覧
+	 * @param source 実行構文
+	 * @param marker 構文位置
+	 * @param index1 開始位置
+	 * @param index2 終了位置
+	 * @param repeat 実行回数
+	 */
+	private static void appendText(List<List<String>> result, String source, BitSet marker, int index1, int index2, int repeat) {
+		var choose = marker.nextSetBit(index1);
+		if (choose < 0 || index2 <= choose || repeat <= 0) return;
+		result.add(Collections.nCopies(repeat, source.substring(index1, index2).strip()));
+	}
+	/**
+	 * 実行構文を分割します。
+	 * 
+	 * @param invokeText 実行構文
+	 * @return 構文一覧(一括構文毎に実行回数分の構文)
+	 */
+	private static List<List<String>> splitData(String invokeText) {
+		if (invokeText == null) throw new IllegalArgumentException("invokeText must be non null.");
+		var marker = new BitSet(invokeText.length());
+		var batchs = new ArrayList<int[]>();
+		var length = invokeText.length();
+		var index = 0;
+		var head = true;
+		while (index < length) {
+			if (head) {
+				// 行頭の場合
+				head = false;
+				var lineEnd = invokeText.indexOf('\n', index);
+				if (lineEnd < 0) lineEnd = length;
+				var choose = BATCH_TEXT.matcher(invokeText.substring(index, lineEnd));
+				if (choose.matches()) {
+					var repeat = choose.group(1) == null? 1: Integer.parseInt(choose.group(1));
+					batchs.add(new int[] {index, lineEnd, repeat});
+					index = lineEnd;
+					continue;
+				}
+			}
+			var value = invokeText.charAt(index);
+			if (value == '\n') {
+				head = true;
+				index ++;
+			} else if (value == '\'' || value == '"' || value == '[') {
+				var escape = value == '['? ']': value;
+				var offset = chooseQuote(invokeText, index + 1, escape);
+				marker.set(index, offset);
+				index = offset;
+			} else if (invokeText.startsWith("--", index)) {
+				var offset = invokeText.indexOf('\n', index);
+				index = offset < 0? length: offset;
+			} else if (invokeText.startsWith("/*", index)) {
+				index = chooseBlock(invokeText, index + 2);
+			} else {
+				if (!Character.isWhitespace(value)) marker.set(index);
+				index ++;
+			}
+		}
+		var result = new ArrayList<List<String>>();
+		var offset = 0;
+		for (var choose : batchs) {
+			appendText(result, invokeText, marker, offset, choose[0], choose[2]);
+			offset = choose[1];
+		}
+		appendText(result, invokeText, marker, offset, length, 1);
+		return result;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 実行構文を分割します。
+	 * <p>
+	 * 行単独の{@code GO}(回数指定可)で分割し、含まない場合は全体を1個の構文とします。
+	 * {@code ;}は一括構文内の区切として扱い、分割しません。
+	 * 文字列・識別子・注釈内の{@code GO}は無視し、注釈だけの構文は除外します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 * @return 構文一覧(回数指定分を展開)
+	 */
+	public static List<String> splitText(String invokeText) {
+		var result = new ArrayList<String>();
+		for (var choose : splitData(invokeText)) {
+			result.addAll(choose);
+		}
+		return result;
+	}
+	/**
+	 * 実行構文を並列に実行します。
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeText 実行構文
+	 * @param parallel 並列数
+	 * @param actionHook 生成処理
+	 * @throws InterruptedException 待機中に割込された場合
+	 */
+	public static void invokeList(String parameters, String invokeText, int parallel, IntFunction<ActionDataModel> actionHook) throws InterruptedException {
+		invokeList(parameters, invokeText, parallel, new InvokeDataModel(), actionHook);
+	}
+	/**
+	 * 実行構文を並列に実行します。
+	 * <p>
+	 * 一括構文毎に接続管理モデルから接続を借用し、最大で並列数分の接続を同時に使用します。
+	 * 並列処理は既定の実行管理モデルの処理経路で実行し、呼出元も一括構文を順番に取出して実行します。
+	 * 実行管理モデルが他の処理で埋まっている場合も、呼出元だけで全ての一括構文を実行して終了します。
+	 * 回数指定した一括構文は並列にせず、同じ処理内で指定回数分を順番に実行します。
+	 * 実行取消を要求した場合は実行中の構文を取消し、未開始の構文は実行しません。
+	 * </p>
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeText 実行構文
+	 * @param parallel 並列数
+	 * @param invokeData 実行情報
+	 * @param actionHook 生成処理
+	 * @throws InterruptedException 待機中に割込された場合
+	 * @see TaskQueueModel#getDefault()
+	 */
+	public static void invokeList(String parameters, String invokeText, int parallel, InvokeDataModel invokeData, IntFunction<ActionDataModel> actionHook) throws InterruptedException {
+		if (parallel <= 0) throw new IllegalArgumentException("parallel must be positive.");
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		if (actionHook == null) throw new IllegalArgumentException("actionHook must be non null.");
+		var values = splitData(invokeText);
+		if (values.isEmpty()) return;
+		var source = new OrderData(values.size(), actionHook);
+		var offset = new AtomicInteger();
+		var finish = new CountDownLatch(values.size());
+		Runnable runner = () -> {
+			for (var index = offset.getAndIncrement(); index < values.size(); index = offset.getAndIncrement()) {
+				try {
+					invokeData(parameters, values.get(index), invokeData, source.getData(index));
+				} finally {
+					finish.countDown();
+				}
+			}
+		};
+		var length = Math.min(parallel, values.size()) - 1;
+		if (0 < length) {
+			var threads = TaskQueueModel.getDefault().createLane("ScriptDataModel", length);
+			for (var index = 0; index < length; index ++) {
+				threads.execute(runner);
+			}
+		}
+		runner.run();
+		try {
+			finish.await();
+		} catch (InterruptedException errors) {
+			invokeData.cancel();
+			throw errors;
+		}
+	}
+	/**
+	 * 実行構文を実行します。
+	 * 
+	 * @param parameters 接続情報
+	 * @param invokeList 実行構文(実行回数分)
+	 * @param invokeData 実行情報
+	 * @param actionHook 生成処理
+	 */
+	private static void invokeData(String parameters, List<String> invokeList, InvokeDataModel invokeData, LaneData actionHook) {
+		try {
+			for (var choose : invokeList) {
+				if (invokeData.isCancelled()) break;
+				ResultDataModel.invokeList(parameters, choose, invokeData, actionHook);
+			}
+		} catch (Exception errors) {
+			actionHook.apply(actionHook.getSize()).updateRecordList(errors);
+		} finally {
+			actionHook.finishData();
+		}
+	}
+
+	/**
+	 * 順序情報クラスです。
+	 * <p>
+	 * 先頭の未完了構文だけを通知可能とし、完了した構文の結果個数分だけ実行番号を進めます。
+	 * 先頭構文を進める処理は同時に1個のスレッドだけが行い、実行中に要求された場合は実行中のスレッドが再度確認します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class OrderData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 構文一覧 */
+		private final LaneData[] laneList;
+		/** 生成処理 */
+		private final IntFunction<ActionDataModel> actionHook;
+		/** 先頭番号 */
+		private int headCode;
+		/** 実行番号 */
+		private int nextCode;
+		/** 進行状態 */
+		private boolean runFlag;
+		/** 再確認状態 */
+		private boolean retryFlag;
+		/** 表示文字(通知先の決定前に使用) */
+		private volatile boolean textFlag;
+
+		// ===================================================================
+		// プロパティー定義
+		// ===================================================================
+		/**
+		 * 構文情報を取得します。
+		 * 
+		 * @param index 構文番号
+		 * @return 構文情報
+		 */
+		public LaneData getData(int index) {
+			return this.laneList[index];
+		}
+		/**
+		 * 表示文字の生成要否を判定します。
+		 * <p>
+		 * 通知先を生成するまでは生成要否を保持の設定({@link SourceTextModel#isCacheFlag()})に委ね、
+		 * 生成後は最後に生成した通知先の判定を使用します。
+		 * </p>
+		 * 
+		 * @return 表示文字を生成する場合は{@code true}
+		 */
+		public boolean isTextCache() {
+			return this.textFlag;
+		}
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 順序情報を生成します。
+		 * 
+		 * @param laneSize 構文個数
+		 * @param actionHook 生成処理
+		 */
+		public OrderData(int laneSize, IntFunction<ActionDataModel> actionHook) {
+			super();
+			this.laneList = new LaneData[laneSize];
+			this.actionHook = actionHook;
+			this.headCode = 0;
+			this.nextCode = 0;
+			this.runFlag = false;
+			this.retryFlag = false;
+			this.textFlag = true;
+			for (var index = 0; index < laneSize; index ++) {
+				this.laneList[index] = new LaneData(this);
+			}
+			advance();
+		}
+
+		// ===================================================================
+		// 公開メソッド定義
+		// ===================================================================
+		/**
+		 * 通知先を生成します。
+		 * 
+		 * @param offset 実行番号
+		 * @return 通知先
+		 */
+		public ActionDataModel createData(int offset) {
+			var result = this.actionHook.apply(offset);
+			this.textFlag = result.isTextCache();
+			return result;
+		}
+		/**
+		 * 先頭構文を進めます。
+		 * <p>
+		 * 保持していた結果情報の再生は排他を解放して行います。
+		 * </p>
+		 */
+		public void advance() {
+			synchronized (this) {
+				if (this.runFlag) {
+					this.retryFlag = true;
+					return;
+				}
+				this.runFlag = true;
+			}
+			while (true) {
+				try {
+					while (this.headCode < this.laneList.length) {
+						var choose = this.laneList[this.headCode];
+						if (!choose.openData(this.nextCode)) break;
+						this.nextCode += choose.getSize();
+						this.headCode ++;
+					}
+				} catch (RuntimeException errors) {
+					synchronized (this) {
+						this.runFlag = false;
+						this.retryFlag = false;
+					}
+					throw errors;
+				}
+				synchronized (this) {
+					if (!this.retryFlag) {
+						this.runFlag = false;
+						return;
+					}
+					this.retryFlag = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 構文情報クラスです。
+	 * <p>
+	 * 通知開始前に生成した結果情報は保持し、通知開始時に順番に通知先を生成して再生します。
+	 * 再生を終えた後に生成した結果情報は生成時に通知先を生成します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class LaneData implements IntFunction<ActionDataModel> {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 順序情報 */
+		private final OrderData orderData;
+		/** 結果一覧 */
+		private final ArrayList<BufferData> bufferList;
+		/** 開始番号 */
+		private int baseCode;
+		/** 再生個数 */
+		private int openCode;
+		/** 通知状態 */
+		private boolean liveFlag;
+		/** 完了状態 */
+		private boolean finishFlag;
+
+		// ===================================================================
+		// プロパティー定義
+		// ===================================================================
+		/**
+		 * 結果個数を取得します。
+		 * 
+		 * @return 結果個数
+		 */
+		public synchronized int getSize() {
+			return this.bufferList.size();
+		}
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 構文情報を生成します。
+		 * 
+		 * @param orderData 順序情報
+		 */
+		public LaneData(OrderData orderData) {
+			super();
+			this.orderData = orderData;
+			this.bufferList = new ArrayList<>();
+			this.baseCode = -1;
+			this.openCode = 0;
+			this.liveFlag = false;
+			this.finishFlag = false;
+		}
+
+		// ===================================================================
+		// 公開メソッド定義
+		// ===================================================================
+		/**
+		 * 通知処理を開始します。
+		 * <p>
+		 * 保持していた結果情報を実行番号順に再生し、以降は直接通知します。
+		 * 再生中に追加された結果情報も続けて再生します。
+		 * </p>
+		 * 
+		 * @param baseCode 開始番号
+		 * @return 構文が完了している場合は{@code true}
+		 */
+		public boolean openData(int baseCode) {
+			while (true) {
+				BufferData choose;
+				int offset;
+				synchronized (this) {
+					if (this.baseCode < 0) this.baseCode = baseCode;
+					if (this.openCode == this.bufferList.size()) {
+						this.liveFlag = true;
+						return this.finishFlag;
+					}
+					choose = this.bufferList.get(this.openCode);
+					offset = this.baseCode + this.openCode;
+					this.openCode ++;
+				}
+				choose.openData(this.orderData.createData(offset));
+			}
+		}
+		/**
+		 * 構文処理を完了します。
+		 */
+		public void finishData() {
+			synchronized (this) {
+				this.finishFlag = true;
+			}
+			this.orderData.advance();
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 結果情報を生成します。
+		 * 
+		 * @param offset 実行番号(構文内)
+		 * @return 結果情報
+		 * @see IntFunction#apply(int)
+		 */
+		@Override
+		public ActionDataModel apply(int offset) {
+			var result = new BufferData(this.orderData);
+			int choose;
+			synchronized (this) {
+				this.bufferList.add(result);
+				if (!this.liveFlag) return result;
+				choose = this.baseCode + this.openCode;
+				this.openCode ++;
+			}
+			result.openData(this.orderData.createData(choose));
+			return result;
+		}
+	}
+
+	/**
+	 * 結果保持クラスです。
+	 * <p>
+	 * 通知先が決定するまで通知内容を保持し、決定後は通知先へ直接通知します。
+	 * 要素情報は{@link RecordFileModel}へ保持し、上限容量を超えた分は一時ファイルへ退避します。
+	 * 再生は再生行数毎に排他を解放して行い、再生中に追加された通知内容も続けて再生します。
+	 * </p>
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class BufferData implements ActionDataModel {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 順序情報 */
+		private final OrderData orderData;
+		/** 通知先 */
+		private volatile ActionDataModel actionData;
+		/** 通知状態 */
+		private boolean liveFlag;
+		/** 要素一覧 */
+		private ColumnListModel columnList;
+		/** 要素退避 */
+		private RecordFileModel recordList;
+		/** 再生行数 */
+		private int recordCode;
+		/** 完了状態 */
+		private boolean finishFlag;
+		/** 処理件数 */
+		private int updateSize;
+		/** 例外情報 */
+		private Exception errorData;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 結果保持を生成します。
+		 * 
+		 * @param orderData 順序情報
+		 */
+		public BufferData(OrderData orderData) {
+			super();
+			this.orderData = orderData;
+			this.actionData = null;
+			this.liveFlag = false;
+			this.columnList = null;
+			this.recordList = null;
+			this.recordCode = 0;
+			this.finishFlag = false;
+			this.updateSize = -1;
+			this.errorData = null;
+		}
+
+		// ===================================================================
+		// 内部メソッド定義
+		// ===================================================================
+		/**
+		 * 次の通知内容を取出します。
+		 * <p>
+		 * 要素一覧・要素情報・完了・処理件数・例外情報の順に取出します。
+		 * </p>
+		 * 
+		 * @return 通知内容(保持していない場合は{@code null})
+		 */
+		private Consumer<ActionDataModel> chooseData() {
+			if (this.columnList != null) {
+				var choose = this.columnList;
+				this.columnList = null;
+				return action -> action.updateColumnList(choose);
+			} else if (this.recordList != null && this.recordCode < this.recordList.getSize()) {
+				var choose = new RecordDataModel[Math.min(REPLAY_SIZE, this.recordList.getSize() - this.recordCode)];
+				for (var index = 0; index < choose.length; index ++) {
+					choose[index] = this.recordList.getData(this.recordCode ++);
+				}
+				return action -> action.registRecordList(choose);
+			} else if (this.finishFlag) {
+				this.finishFlag = false;
+				return ActionDataModel::finishRecordList;
+			} else if (0 <= this.updateSize) {
+				var choose = this.updateSize;
+				this.updateSize = -1;
+				return action -> action.invokeUpdateSize(choose);
+			} else if (this.errorData != null) {
+				var choose = this.errorData;
+				this.errorData = null;
+				return action -> action.updateRecordList(choose);
+			} else {
+				return null;
+			}
+		}
+
+		// ===================================================================
+		// 公開メソッド定義
+		// ===================================================================
+		/**
+		 * 通知先を設定します。
+		 * <p>
+		 * 保持していた通知内容を再生し、再生後は要素退避を解放して直接通知に切替えます。
+		 * </p>
+		 * 
+		 * @param actionData 通知先
+		 */
+		public void openData(ActionDataModel actionData) {
+			this.actionData = actionData;
+			while (true) {
+				Consumer<ActionDataModel> choose;
+				synchronized (this) {
+					choose = chooseData();
+					if (choose == null) {
+						this.liveFlag = true;
+						if (this.recordList != null) {
+							this.recordList.close();
+							this.recordList = null;
+						}
+						return;
+					}
+				}
+				choose.accept(actionData);
+			}
+		}
+
+		// ===================================================================
+		// 実装メソッド定義
+		// ===================================================================
+		/**
+		 * 表示文字の生成要否を判定します。
+		 * 
+		 * @return 表示文字を生成する場合は{@code true}
+		 * @see ActionDataModel#isTextCache()
+		 */
+		@Override
+		public boolean isTextCache() {
+			var choose = this.actionData;
+			return choose == null? this.orderData.isTextCache(): choose.isTextCache();
+		}
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param columnList 要素一覧
+		 * @see ActionDataModel#updateColumnList(ColumnListModel)
+		 */
+		@Override
+		public void updateColumnList(ColumnListModel columnList) {
+			synchronized (this) {
+				if (!this.liveFlag) {
+					this.columnList = columnList;
+					return;
+				}
+			}
+			this.actionData.updateColumnList(columnList);
+		}
+		/**
+		 * 処理件数を実行します。
+		 * 
+		 * @param updateSize 処理件数
+		 * @see ActionDataModel#invokeUpdateSize(int)
+		 */
+		@Override
+		public void invokeUpdateSize(int updateSize) {
+			synchronized (this) {
+				if (!this.liveFlag) {
+					this.updateSize = updateSize;
+					return;
+				}
+			}
+			this.actionData.invokeUpdateSize(updateSize);
+		}
+		/**
+		 * 要素情報を登録します。
+		 * 
+		 * @param recordData 要素情報
+		 * @see ActionDataModel#registRecordData(RecordDataModel)
+		 */
+		@Override
+		public void registRecordData(RecordDataModel recordData) {
+			registRecordList(new RecordDataModel[] {recordData});
+		}
+		/**
+		 * 要素一覧を登録します。
+		 * 
+		 * @param recordList 要素一覧
+		 * @see ActionDataModel#registRecordList(RecordDataModel[])
+		 */
+		@Override
+		public void registRecordList(RecordDataModel[] recordList) {
+			synchronized (this) {
+				if (!this.liveFlag) {
+					if (this.recordList == null) this.recordList = new RecordFileModel();
+					this.recordList.registList(recordList);
+					return;
+				}
+			}
+			this.actionData.registRecordList(recordList);
+		}
+		/**
+		 * 要素一覧を完了します。
+		 * 
+		 * @see ActionDataModel#finishRecordList()
+		 */
+		@Override
+		public void finishRecordList() {
+			synchronized (this) {
+				if (!this.liveFlag) {
+					this.finishFlag = true;
+					return;
+				}
+			}
+			this.actionData.finishRecordList();
+		}
+		/**
+		 * 要素一覧を更新します。
+		 * 
+		 * @param resultData 例外情報
+		 * @see ActionDataModel#updateRecordList(Exception)
+		 */
+		@Override
+		public void updateRecordList(Exception resultData) {
+			synchronized (this) {
+				if (!this.liveFlag) {
+					this.errorData = resultData;
+					return;
+				}
+			}
+			this.actionData.updateRecordList(resultData);
+		}
+	}
+}
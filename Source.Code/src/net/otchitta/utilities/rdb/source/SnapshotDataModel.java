@@ -0,0 +1,453 @@
+/**
+ * [Source.Code] SnapshotDataModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 退避情報モデルクラスです。
+ * <p>
+ * {@link SnapshotFileModel}で書込んだファイルを開き、要素情報を行番号と列番号で読込みます。
+ * 区画は参照した時点でメモリへ対応付けるため、ファイル容量に関わらず直ちに開けます。
+ * 圧縮された区画は参照時に展開し、直近に参照した区画を一定数保持します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class SnapshotDataModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 形式識別子 */
+	public static final String FILE_CODE = "rdbs";
+	/** 区画保持数 */
+	private static final int BLOCK_KEEP = 256;
+	/** 読込行数 */
+	private static final int FETCH_SIZE = 1_000;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 圧縮可否 */
+	private static volatile boolean compressFlag = false;
+	/** 入力経路 */
+	private final FileChannel channel;
+	/** 要素一覧 */
+	private final ColumnListModel columnList;
+	/** 区画行数 */
+	private final int blockSize;
+	/** 要素個数 */
+	private final int recordSize;
+	/** 区画位置 */
+	private final long[] offsetList;
+	/** 格納長 */
+	private final int[] storeList;
+	/** 展開長 */
+	private final int[] totalList;
+	/** 区画形式 */
+	private final byte[] kindList;
+	/** 区画一覧 */
+	private final LinkedHashMap<Integer, ByteBuffer> blockList;
+	/** 展開処理 */
+	private final Inflater inflater;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 圧縮可否を判定します。
+	 * 
+	 * @return 圧縮可否
+	 */
+	public static boolean isCompressed() {
+		return compressFlag;
+	}
+	/**
+	 * 圧縮可否を設定します。
+	 * <p>
+	 * 有効にした場合は以降に書込む退避情報を区画毎に圧縮します。
+	 * ファイル容量は小さくなりますが、参照時に展開処理が必要になります。
+	 * </p>
+	 * 
+	 * @param compressFlag 圧縮可否
+	 */
+	public static void setCompressed(boolean compressFlag) {
+		SnapshotDataModel.compressFlag = compressFlag;
+	}
+	/**
+	 * 要素一覧を取得します。
+	 * 
+	 * @return 要素一覧
+	 */
+	public ColumnListModel getColumnList() {
+		return this.columnList;
+	}
+	/**
+	 * 要素個数を取得します。
+	 * 
+	 * @return 要素個数
+	 */
+	public int getRecordSize() {
+		return this.recordSize;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 退避情報モデルを生成します。
+	 * 
+	 * @param channel 入力経路
+	 * @param columnList 要素一覧
+	 * @param blockSize 区画行数
+	 * @param recordSize 要素個数
+	 * @param compress 圧縮可否
+	 * @param indexData 目次情報
+	 * @param blockCount 区画個数
+	 */
+	private SnapshotDataModel(FileChannel channel, ColumnListModel columnList, int blockSize, int recordSize, boolean compress, ByteBuffer indexData, int blockCount) {
+		super();
+		var length = blockCount * columnList.getSize();
+		this.channel = channel;
+		this.columnList = columnList;
+		this.blockSize = blockSize;
+		this.recordSize = recordSize;
+		this.offsetList = new long[length];
+		this.storeList = new int[length];
+		this.totalList = new int[length];
+		this.kindList = new byte[length];
+		for (var index = 0; index < length; index ++) {
+			this.offsetList[index] = indexData.getLong();
+			this.storeList[index] = indexData.getInt();
+			this.totalList[index] = indexData.getInt();
+			this.kindList[index] = indexData.get();
+		}
+		this.blockList = new LinkedHashMap<>(BLOCK_KEEP, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+				return BLOCK_KEEP < size();
+			}
+		};
+		this.inflater = compress? new Inflater(): null;
+	}
+	/**
+	 * 退避情報を開きます。
+	 * 
+	 * @param source 入力元
+	 * @return 生成情報
+	 * @throws IOException 読込処理に失敗した場合
+	 */
+	public static SnapshotDataModel openData(Path source) throws IOException {
+		var channel = FileChannel.open(source, StandardOpenOption.READ);
+		try {
+			// 末尾読込
+			var length = channel.size();
+			if (length < SnapshotFileModel.FOOTER_SIZE) throw new IOException(String.format("invalid snapshot file.(path=%s)", source));
+			var footer = readData(channel, length - SnapshotFileModel.FOOTER_SIZE, SnapshotFileModel.FOOTER_SIZE);
+			var offset = footer.getLong();
+			if (footer.getInt() != SnapshotFileModel.MAGIC_CODE) throw new IOException(String.format("invalid snapshot file.(path=%s)", source));
+			// 見出読込
+			var reader = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel.position(0L))));
+			if (reader.readInt() != SnapshotFileModel.MAGIC_CODE) throw new IOException(String.format("invalid snapshot file.(path=%s)", source));
+			var version = reader.readShort();
+			if (version != SnapshotFileModel.VERSION_CODE) throw new IOException(String.format("unsupported snapshot version.(version=%d)", Short.valueOf(version)));
+			var compress = reader.readByte() != 0;
+			var blockSize = reader.readInt();
+			var values = new ColumnDataModel[reader.readInt()];
+			for (var index = 0; index < values.length; index ++) {
+				var value1 = reader.readUTF();
+				var value2 = reader.readUTF();
+				var value3 = reader.readInt();
+				values[index] = ColumnDataModel.createData(value1, value2, value3);
+			}
+			// 目次読込
+			var indexData = readData(channel, offset, (int)(length - SnapshotFileModel.FOOTER_SIZE - offset));
+			var blockCount = indexData.getInt();
+			var recordSize = indexData.getInt();
+			return new SnapshotDataModel(channel, ColumnListModel.createData(values), blockSize, recordSize, compress, indexData, blockCount);
+		} catch (IOException | RuntimeException errors) {
+			channel.close();
+			throw errors;
+		}
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 二進情報を読込みます。
+	 * 
+	 * @param channel 入力経路
+	 * @param offset 開始位置
+	 * @param length 読込長
+	 * @return 二進情報
+	 * @throws IOException 読込処理に失敗した場合
+	 */
+	private static ByteBuffer readData(FileChannel channel, long offset, int length) throws IOException {
+		var result = ByteBuffer.allocate(length);
+		while (result.hasRemaining()) {
+			if (channel.read(result, offset + result.position()) < 0) throw new IOException("unexpected end of snapshot file.");
+		}
+		return result.flip();
+	}
+	/**
+	 * 区画情報を取得します。
+	 * 
+	 * @param index 区画番号(区画×列個数＋列番号)
+	 * @return 区画情報
+	 */
+	private ByteBuffer chooseBlock(int index) {
+		var choose = Integer.valueOf(index);
+		var result = this.blockList.get(choose);
+		if (result == null) {
+			try {
+				result = this.channel.map(FileChannel.MapMode.READ_ONLY, this.offsetList[index], this.storeList[index]);
+				if (this.inflater != null) result = expandData(result, this.totalList[index]);
+			} catch (IOException errors) {
+				throw new UncheckedIOException(errors);
+			}
+			this.blockList.put(choose, result);
+		}
+		return result;
+	}
+	/**
+	 * 区画情報を展開します。
+	 * 
+	 * @param source 圧縮情報
+	 * @param length 展開長
+	 * @return 展開情報
+	 * @throws IOException 展開処理に失敗した場合
+	 */
+	private ByteBuffer expandData(ByteBuffer source, int length) throws IOException {
+		var result = ByteBuffer.allocate(length);
+		this.inflater.reset();
+		this.inflater.setInput(source);
+		try {
+			while (result.hasRemaining() && !this.inflater.finished()) {
+				if (this.inflater.inflate(result) == 0 && this.inflater.needsInput()) break;
+			}
+		} catch (DataFormatException errors) {
+			throw new IOException(errors);
+		}
+		if (result.hasRemaining()) throw new IOException("broken snapshot block.");
+		return result.flip();
+	}
+	/**
+	 * 可変長情報を復号します。
+	 * 
+	 * @param values 符号情報
+	 * @return 値情報
+	 */
+	private static Object decodeData(byte[] values) {
+		var source = ByteBuffer.wrap(values, 1, values.length - 1);
+		switch (values[0]) {
+		case SnapshotFileModel.TYPE_DECIMAL:
+			return new BigDecimal(new String(values, 1, values.length - 1, StandardCharsets.UTF_8));
+		case SnapshotFileModel.TYPE_BINARY:
+			return Arrays.copyOfRange(values, 1, values.length);
+		case SnapshotFileModel.TYPE_BOOLEAN:
+			return Boolean.valueOf(source.get() != 0);
+		case SnapshotFileModel.TYPE_INTEGER:
+			return Integer.valueOf(source.getInt());
+		case SnapshotFileModel.TYPE_LONG:
+			return Long.valueOf(source.getLong());
+		case SnapshotFileModel.TYPE_FLOAT:
+			return Float.valueOf(source.getFloat());
+		case SnapshotFileModel.TYPE_DOUBLE:
+			return Double.valueOf(source.getDouble());
+		case SnapshotFileModel.TYPE_DATE:
+			return LocalDate.ofEpochDay(source.getLong());
+		case SnapshotFileModel.TYPE_TIME:
+			return LocalTime.ofNanoOfDay(source.getLong());
+		case SnapshotFileModel.TYPE_DATETIME:
+			return LocalDateTime.ofEpochSecond(source.getLong(), source.getInt(), ZoneOffset.UTC);
+		default:
+			return new String(values, 1, values.length - 1, StandardCharsets.UTF_8);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param record 行番号
+	 * @param column 列番号
+	 * @return 要素情報
+	 */
+	public synchronized Object getData(int record, int column) {
+		if (record < 0 || this.recordSize <= record) throw new IndexOutOfBoundsException(record);
+		if (column < 0 || this.columnList.getSize() <= column) return null;
+		var block = record / this.blockSize;
+		var index = record % this.blockSize;
+		var length = Math.min(this.blockSize, this.recordSize - block * this.blockSize);
+		var choose = block * this.columnList.getSize() + column;
+		var source = chooseBlock(choose);
+		if ((source.getLong((index >>> 6) << 3) & (1L << index)) != 0L) return null;
+		var offset = ((length + 63) >>> 6) << 3;
+		switch (this.kindList[choose]) {
+		case SnapshotFileModel.KIND_INTEGER:
+			return Integer.valueOf(source.getInt(offset + index * 4));
+		case SnapshotFileModel.KIND_LONG:
+			return Long.valueOf(source.getLong(offset + index * 8));
+		case SnapshotFileModel.KIND_FLOAT:
+			return Float.valueOf(source.getFloat(offset + index * 4));
+		case SnapshotFileModel.KIND_DOUBLE:
+			return Double.valueOf(source.getDouble(offset + index * 8));
+		case SnapshotFileModel.KIND_DATE:
+			return LocalDate.ofEpochDay(source.getInt(offset + index * 4));
+		case SnapshotFileModel.KIND_TIME:
+			return LocalTime.ofNanoOfDay(source.getLong(offset + index * 8));
+		case SnapshotFileModel.KIND_DATETIME:
+			return LocalDateTime.ofEpochSecond(source.getLong(offset + index * 8), source.getInt(offset + length * 8 + index * 4), ZoneOffset.UTC);
+		case SnapshotFileModel.KIND_BOOLEAN:
+			return Boolean.valueOf(source.get(offset + index) != 0);
+		default:
+			var value1 = source.getInt(offset + index * 4);
+			var value2 = source.getInt(offset + index * 4 + 4);
+			var values = new byte[value2 - value1];
+			source.get(offset + (length + 1) * 4 + value1, values);
+			if (this.kindList[choose] == SnapshotFileModel.KIND_STRING) {
+				return new String(values, StandardCharsets.UTF_8);
+			} else {
+				return decodeData(values);
+			}
+		}
+	}
+	/**
+	 * 要素情報を取得します。
+	 * 
+	 * @param index 行番号
+	 * @return 要素情報
+	 */
+	public synchronized RecordDataModel getData(int index) {
+		var values = new Object[this.columnList.getSize()];
+		for (var column = 0; column < values.length; column ++) {
+			values[column] = getData(index, column);
+		}
+		return RecordDataModel.createData(values);
+	}
+	/**
+	 * 抽出結果を退避します。
+	 * 
+	 * @param target 出力先
+	 * @param resultData 抽出結果
+	 * @return 出力件数
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public static int writeData(Path target, ResultDataModel resultData) throws IOException {
+		if (resultData == null) throw new IllegalArgumentException("resultData must be non null.");
+		try (var writer = new SnapshotFileModel(target, resultData.getColumnList(), compressFlag)) {
+			for (var index = 0; index < resultData.getRecordSize(); index ++) {
+				writer.writeData(resultData.getRecordData(index));
+			}
+			writer.finishData();
+			return writer.getRecordSize();
+		}
+	}
+	/**
+	 * 抽出結果を退避します。
+	 * <p>
+	 * 結果セットから読込んだ要素情報を順次書込み、全件を保持しません。
+	 * 複数の結果セットを返却する場合は最初の結果セットだけを退避します。
+	 * 取消・制限時間超過・失敗の場合は出力先を作成も変更もしません。
+	 * </p>
+	 * 
+	 * @param parameter 接続引数
+	 * @param selectSQL 抽出構文
+	 * @param target 出力先
+	 * @param invokeData 実行情報
+	 * @return 出力件数
+	 * @throws SQLException 抽出処理に失敗した場合
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public static int exportData(String parameter, String selectSQL, Path target, InvokeDataModel invokeData) throws SQLException, IOException {
+		if (invokeData == null) throw new IllegalArgumentException("invokeData must be non null.");
+		try (var connection = ConnectPoolModel.borrowData(parameter);
+				var statement = connection.createStatement()) {
+			connection.registText(selectSQL);
+			invokeData.registData(connection, statement);
+			try {
+				statement.setFetchSize(FETCH_SIZE);
+				try (var resultSet = statement.executeQuery(selectSQL);
+						var writer = new SnapshotFileModel(target, ColumnListModel.createData(resultSet.getMetaData()), compressFlag)) {
+					RecordDataModel.invokeList(resultSet, values -> {
+						try {
+							writer.writeList(values);
+						} catch (IOException errors) {
+							throw new UncheckedIOException(errors);
+						}
+					});
+					if (invokeData.isCancelled()) throw new SQLException("export cancelled.");
+					writer.finishData();
+					return writer.getRecordSize();
+				}
+			} catch (UncheckedIOException errors) {
+				throw errors.getCause();
+			} finally {
+				invokeData.removeData(statement);
+			}
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 退避情報を閉じます。
+	 * <p>
+	 * 対応付け済の区画はガベージコレクション時に解放されます。
+	 * </p>
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			this.blockList.clear();
+			if (this.inflater != null) this.inflater.end();
+			this.channel.close();
+		} catch (IOException errors) {
+			// 処理なし
+		}
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s, recordSize=%,7d", this.columnList, Integer.valueOf(this.recordSize));
+	}
+}
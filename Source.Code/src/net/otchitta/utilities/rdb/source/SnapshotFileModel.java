@@ -0,0 +1,511 @@
+/**
+ * [Source.Code] SnapshotFileModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * 退避書込モデルクラスです。
+ * <p>
+ * 抽出結果を列指向の二進形式で書込みます。
+ * 要素情報は一定行数毎の区画に分け、区画毎に列単位の型付配列として書込みます。
+ * 区画内の値が全て同じ型である場合は基本型配列、混在する場合は型識別子付の可変長形式を使用します。
+ * 圧縮を指定した場合は区画毎に圧縮します。
+ * </p>
+ * <p>
+ * 書込中は出力先と同じ場所の一時ファイルへ書込み、{@link #finishData()}で目次と末尾を書込んでから出力先へ置換えます。
+ * 完了せずに閉じた場合は一時ファイルを削除し、出力先は変更しません。
+ * </p>
+ * <pre>
+ * 見出: 識別子(int) 版数(short) 圧縮(byte) 区画行数(int) 列個数(int) {種別 名称 桁数}...
+ * 区画: 欠損情報(long[]) 値情報...
+ * 目次: 区画個数(int) 要素個数(int) {位置(long) 格納長(int) 展開長(int) 形式(byte)}...
+ * 末尾: 目次位置(long) 識別子(int)
+ * </pre>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see SnapshotDataModel
+ */
+public final class SnapshotFileModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 識別子 */
+	static final int MAGIC_CODE = 0x52444253;
+	/** 版数 */
+	static final short VERSION_CODE = 1;
+	/** 区画行数 */
+	static final int BLOCK_SIZE = 16_384;
+	/** 末尾容量(バイト) */
+	static final int FOOTER_SIZE = 12;
+	/** 形式(汎用) */
+	static final byte KIND_OBJECT = 0;
+	/** 形式(整数) */
+	static final byte KIND_INTEGER = 1;
+	/** 形式(長整数) */
+	static final byte KIND_LONG = 2;
+	/** 形式(単精度) */
+	static final byte KIND_FLOAT = 3;
+	/** 形式(倍精度) */
+	static final byte KIND_DOUBLE = 4;
+	/** 形式(日付) */
+	static final byte KIND_DATE = 5;
+	/** 形式(時刻) */
+	static final byte KIND_TIME = 6;
+	/** 形式(日時) */
+	static final byte KIND_DATETIME = 7;
+	/** 形式(真偽) */
+	static final byte KIND_BOOLEAN = 8;
+	/** 形式(文字) */
+	static final byte KIND_STRING = 9;
+	/** 値種別(文字) */
+	static final byte TYPE_STRING = 0;
+	/** 値種別(十進) */
+	static final byte TYPE_DECIMAL = 1;
+	/** 値種別(二進) */
+	static final byte TYPE_BINARY = 2;
+	/** 値種別(真偽) */
+	static final byte TYPE_BOOLEAN = 3;
+	/** 値種別(整数) */
+	static final byte TYPE_INTEGER = 4;
+	/** 値種別(長整数) */
+	static final byte TYPE_LONG = 5;
+	/** 値種別(単精度) */
+	static final byte TYPE_FLOAT = 6;
+	/** 値種別(倍精度) */
+	static final byte TYPE_DOUBLE = 7;
+	/** 値種別(日付) */
+	static final byte TYPE_DATE = 8;
+	/** 値種別(時刻) */
+	static final byte TYPE_TIME = 9;
+	/** 値種別(日時) */
+	static final byte TYPE_DATETIME = 10;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 出力先 */
+	private final Path target;
+	/** 一時出力先 */
+	private final Path source;
+	/** 出力経路 */
+	private final FileChannel channel;
+	/** 圧縮可否 */
+	private final boolean compress;
+	/** 列個数 */
+	private final int columnSize;
+	/** 区画情報(列毎) */
+	private final Object[][] blockData;
+	/** 区画行数(書込中) */
+	private int blockSize;
+	/** 目次情報 */
+	private final ByteArrayOutputStream indexData;
+	/** 区画個数 */
+	private int blockCount;
+	/** 要素個数 */
+	private int recordSize;
+	/** 出力容量(バイト) */
+	private long writeSize;
+	/** 圧縮処理 */
+	private final Deflater deflater;
+	/** 終了状態 */
+	private boolean closeFlag;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 要素個数を取得します。
+	 * 
+	 * @return 書込んだ要素個数
+	 */
+	public int getRecordSize() {
+		return this.recordSize;
+	}
+	/**
+	 * 出力容量を取得します。
+	 * 
+	 * @return ファイルへ書込んだ容量(バイト)
+	 */
+	public long getByteSize() {
+		return this.writeSize;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 退避書込モデルを生成します。
+	 * <p>
+	 * 出力先が存在する場合は書込完了時に上書きします。
+	 * </p>
+	 * 
+	 * @param target 出力先
+	 * @param columnList 要素一覧
+	 * @param compress 圧縮可否
+	 * @throws IOException 一時ファイルを開けない場合
+	 */
+	public SnapshotFileModel(Path target, ColumnListModel columnList, boolean compress) throws IOException {
+		super();
+		if (target == null) throw new IllegalArgumentException("target must be non null.");
+		if (columnList == null) throw new IllegalArgumentException("columnList must be non null.");
+		var choose = target.toAbsolutePath();
+		this.target = choose;
+		this.source = Files.createTempFile(choose.getParent(), String.valueOf(choose.getFileName()) + ".", ".tmp");
+		try {
+			this.channel = FileChannel.open(this.source, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		} catch (IOException | RuntimeException errors) {
+			Files.deleteIfExists(this.source);
+			throw errors;
+		}
+		this.compress = compress;
+		this.columnSize = columnList.getSize();
+		this.blockData = new Object[this.columnSize][BLOCK_SIZE];
+		this.blockSize = 0;
+		this.indexData = new ByteArrayOutputStream();
+		this.blockCount = 0;
+		this.recordSize = 0;
+		this.writeSize = 0L;
+		this.deflater = compress? new Deflater(Deflater.BEST_SPEED): null;
+		this.closeFlag = false;
+		try {
+			writeHead(columnList);
+		} catch (IOException | RuntimeException errors) {
+			close();
+			throw errors;
+		}
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 見出情報を書込みます。
+	 * 
+	 * @param columnList 要素一覧
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeHead(ColumnListModel columnList) throws IOException {
+		var buffer = new ByteArrayOutputStream();
+		var writer = new DataOutputStream(buffer);
+		writer.writeInt(MAGIC_CODE);
+		writer.writeShort(VERSION_CODE);
+		writer.writeByte(this.compress? 1: 0);
+		writer.writeInt(BLOCK_SIZE);
+		writer.writeInt(this.columnSize);
+		for (var index = 0; index < this.columnSize; index ++) {
+			var choose = columnList.getData(index);
+			writer.writeUTF(String.valueOf(choose.getCode()));
+			writer.writeUTF(String.valueOf(choose.getName()));
+			writer.writeInt(choose.getSize());
+		}
+		writer.flush();
+		writeData(buffer.toByteArray(), buffer.size());
+	}
+	/**
+	 * 二進情報を書込みます。
+	 * 
+	 * @param values 二進情報
+	 * @param length 書込長
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void writeData(byte[] values, int length) throws IOException {
+		var buffer = ByteBuffer.wrap(values, 0, length);
+		while (buffer.hasRemaining()) {
+			this.writeSize += this.channel.write(buffer);
+		}
+	}
+	/**
+	 * 区画形式を判定します。
+	 * 
+	 * @param values 値一覧
+	 * @param length 値個数
+	 * @return 区画形式
+	 */
+	private static byte chooseKind(Object[] values, int length) {
+		Class<?> result = null;
+		for (var index = 0; index < length; index ++) {
+			if (values[index] == null) continue;
+			if (result == null) {
+				result = values[index].getClass();
+			} else if (result != values[index].getClass()) {
+				return KIND_OBJECT;
+			}
+		}
+		if (result == null || result == Integer.class) return KIND_INTEGER;
+		if (result == Long.class) return KIND_LONG;
+		if (result == Float.class) return KIND_FLOAT;
+		if (result == Double.class) return KIND_DOUBLE;
+		if (result == LocalDate.class) return KIND_DATE;
+		if (result == LocalTime.class) return KIND_TIME;
+		if (result == LocalDateTime.class) return KIND_DATETIME;
+		if (result == Boolean.class) return KIND_BOOLEAN;
+		if (result == String.class) return KIND_STRING;
+		return KIND_OBJECT;
+	}
+	/**
+	 * 可変長情報を符号化します。
+	 * 
+	 * @param value 値情報(非NULL)
+	 * @param kind 区画形式
+	 * @return 符号情報
+	 */
+	private static byte[] encodeData(Object value, byte kind) {
+		if (kind == KIND_STRING) {
+			return ((String)value).getBytes(StandardCharsets.UTF_8);
+		}
+		var buffer = ByteBuffer.allocate(13);
+		if (value instanceof BigDecimal) {
+			var choose = ((BigDecimal)value).toString().getBytes(StandardCharsets.UTF_8);
+			return ByteBuffer.allocate(1 + choose.length).put(TYPE_DECIMAL).put(choose).array();
+		} else if (value instanceof byte[]) {
+			var choose = (byte[])value;
+			return ByteBuffer.allocate(1 + choose.length).put(TYPE_BINARY).put(choose).array();
+		} else if (value instanceof Boolean) {
+			buffer.put(TYPE_BOOLEAN).put((byte)(((Boolean)value).booleanValue()? 1: 0));
+		} else if (value instanceof Integer) {
+			buffer.put(TYPE_INTEGER).putInt(((Integer)value).intValue());
+		} else if (value instanceof Long) {
+			buffer.put(TYPE_LONG).putLong(((Long)value).longValue());
+		} else if (value instanceof Float) {
+			buffer.put(TYPE_FLOAT).putFloat(((Float)value).floatValue());
+		} else if (value instanceof Double) {
+			buffer.put(TYPE_DOUBLE).putDouble(((Double)value).doubleValue());
+		} else if (value instanceof LocalDate) {
+			buffer.put(TYPE_DATE).putLong(((LocalDate)value).toEpochDay());
+		} else if (value instanceof LocalTime) {
+			buffer.put(TYPE_TIME).putLong(((LocalTime)value).toNanoOfDay());
+		} else if (value instanceof LocalDateTime) {
+			var choose = (LocalDateTime)value;
+			buffer.put(TYPE_DATETIME).putLong(choose.toEpochSecond(ZoneOffset.UTC)).putInt(choose.getNano());
+		} else {
+			// その他は文字表記で保持
+			var choose = value.toString().getBytes(StandardCharsets.UTF_8);
+			return ByteBuffer.allocate(1 + choose.length).put(TYPE_STRING).put(choose).array();
+		}
+		return Arrays.copyOf(buffer.array(), buffer.position());
+	}
+	/**
+	 * 列区画を符号化します。
+	 * 
+	 * @param values 値一覧
+	 * @param length 値個数
+	 * @param kind 区画形式
+	 * @return 符号情報
+	 * @throws IOException 符号化に失敗した場合
+	 */
+	private static ByteArrayOutputStream encodeList(Object[] values, int length, byte kind) throws IOException {
+		var result = new ByteArrayOutputStream();
+		var writer = new DataOutputStream(result);
+		var nulls = new long[(length + 63) >>> 6];
+		for (var index = 0; index < length; index ++) {
+			if (values[index] == null) nulls[index >>> 6] |= 1L << index;
+		}
+		for (var choose : nulls) {
+			writer.writeLong(choose);
+		}
+		switch (kind) {
+		case KIND_INTEGER:
+			for (var index = 0; index < length; index ++) writer.writeInt(values[index] == null? 0: ((Integer)values[index]).intValue());
+			break;
+		case KIND_LONG:
+			for (var index = 0; index < length; index ++) writer.writeLong(values[index] == null? 0L: ((Long)values[index]).longValue());
+			break;
+		case KIND_FLOAT:
+			for (var index = 0; index < length; index ++) writer.writeFloat(values[index] == null? 0.0f: ((Float)values[index]).floatValue());
+			break;
+		case KIND_DOUBLE:
+			for (var index = 0; index < length; index ++) writer.writeDouble(values[index] == null? 0.0: ((Double)values[index]).doubleValue());
+			break;
+		case KIND_DATE:
+			for (var index = 0; index < length; index ++) writer.writeInt(values[index] == null? 0: (int)((LocalDate)values[index]).toEpochDay());
+			break;
+		case KIND_TIME:
+			for (var index = 0; index < length; index ++) writer.writeLong(values[index] == null? 0L: ((LocalTime)values[index]).toNanoOfDay());
+			break;
+		case KIND_DATETIME:
+			for (var index = 0; index < length; index ++) writer.writeLong(values[index] == null? 0L: ((LocalDateTime)values[index]).toEpochSecond(ZoneOffset.UTC));
+			for (var index = 0; index < length; index ++) writer.writeInt(values[index] == null? 0: ((LocalDateTime)values[index]).getNano());
+			break;
+		case KIND_BOOLEAN:
+			for (var index = 0; index < length; index ++) writer.writeByte(values[index] == null || !((Boolean)values[index]).booleanValue()? 0: 1);
+			break;
+		default:
+			// 可変長は位置配列の後に値情報を連結
+			var codes = new byte[length][];
+			var offset = 0;
+			writer.writeInt(offset);
+			for (var index = 0; index < length; index ++) {
+				codes[index] = values[index] == null? new byte[0]: encodeData(values[index], kind);
+				offset += codes[index].length;
+				writer.writeInt(offset);
+			}
+			for (var choose : codes) {
+				writer.write(choose);
+			}
+			break;
+		}
+		writer.flush();
+		return result;
+	}
+	/**
+	 * 区画情報を書込みます。
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	private void flushData() throws IOException {
+		if (this.blockSize == 0) return;
+		var writer = new DataOutputStream(this.indexData);
+		for (var column = 0; column < this.columnSize; column ++) {
+			var values = this.blockData[column];
+			var kind = chooseKind(values, this.blockSize);
+			var source = encodeList(values, this.blockSize, kind);
+			var offset = this.writeSize;
+			var length = source.size();
+			if (this.compress) {
+				var result = compressData(source.toByteArray());
+				writeData(result.toByteArray(), result.size());
+			} else {
+				writeData(source.toByteArray(), length);
+			}
+			writer.writeLong(offset);
+			writer.writeInt((int)(this.writeSize - offset));
+			writer.writeInt(length);
+			writer.writeByte(kind);
+			Arrays.fill(values, 0, this.blockSize, null);
+		}
+		writer.flush();
+		this.blockCount ++;
+		this.blockSize = 0;
+	}
+	/**
+	 * 二進情報を圧縮します。
+	 * 
+	 * @param values 二進情報
+	 * @return 圧縮情報
+	 */
+	private ByteArrayOutputStream compressData(byte[] values) {
+		var result = new ByteArrayOutputStream(values.length / 2 + 64);
+		var buffer = new byte[8_192];
+		this.deflater.reset();
+		this.deflater.setInput(values);
+		this.deflater.finish();
+		while (!this.deflater.finished()) {
+			var length = this.deflater.deflate(buffer);
+			result.write(buffer, 0, length);
+		}
+		return result;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 要素情報を追加します。
+	 * 
+	 * @param recordData 要素情報
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public void writeData(RecordDataModel recordData) throws IOException {
+		var length = Math.min(this.columnSize, recordData.getSize());
+		for (var index = 0; index < length; index ++) {
+			this.blockData[index][this.blockSize] = recordData.getData(index);
+		}
+		this.blockSize ++;
+		this.recordSize ++;
+		if (this.blockSize == BLOCK_SIZE) flushData();
+	}
+	/**
+	 * 要素一覧を追加します。
+	 * 
+	 * @param recordList 要素一覧
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public void writeList(RecordDataModel[] recordList) throws IOException {
+		for (var choose : recordList) {
+			writeData(choose);
+		}
+	}
+
+	/**
+	 * 書込を完了します。
+	 * <p>
+	 * 残りの区画と目次・末尾を書込み、一時ファイルを出力先へ置換えます。
+	 * 失敗した場合は一時ファイルを削除します。
+	 * </p>
+	 * 
+	 * @throws IOException 書込処理に失敗した場合
+	 */
+	public void finishData() throws IOException {
+		if (this.closeFlag) throw new IOException("snapshot writer is already closed.");
+		try {
+			flushData();
+			var offset = this.writeSize;
+			var buffer = new ByteArrayOutputStream(8 + this.indexData.size() + FOOTER_SIZE);
+			var writer = new DataOutputStream(buffer);
+			writer.writeInt(this.blockCount);
+			writer.writeInt(this.recordSize);
+			this.indexData.writeTo(writer);
+			writer.writeLong(offset);
+			writer.writeInt(MAGIC_CODE);
+			writer.flush();
+			writeData(buffer.toByteArray(), buffer.size());
+			this.channel.force(false);
+			this.closeFlag = true;
+			if (this.deflater != null) this.deflater.end();
+			this.channel.close();
+			try {
+				Files.move(this.source, this.target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException errors) {
+				Files.move(this.source, this.target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			close();
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * ファイルを閉じます。
+	 * <p>
+	 * 書込を完了していない場合は一時ファイルを削除し、出力先は変更しません。
+	 * </p>
+	 * 
+	 * @throws IOException 削除処理に失敗した場合
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (!this.closeFlag) {
+				this.closeFlag = true;
+				if (this.deflater != null) this.deflater.end();
+				this.channel.close();
+			}
+		} finally {
+			Files.deleteIfExists(this.source);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/**
+ * [Source.Code] SourceMonitorMXBean.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.util.List;
+
+/**
+ * 読込監視インターフェースです。
+ * <p>
+ * {@code net.otchitta.utilities.rdb:type=Source}としてJMXへ公開します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see SourceMonitorModel
+ */
+public interface SourceMonitorMXBean {
+	/**
+	 * 読込件数を取得します。
+	 * 
+	 * @return 全接続で読込んだ行件数
+	 */
+	public long getFetchCount();
+	/**
+	 * 読込速度を取得します。
+	 * 
+	 * @return 直近の計測間隔における毎秒の読込件数
+	 */
+	public double getFetchRate();
+	/**
+	 * 実行数を取得します。
+	 * 
+	 * @return 共有実行処理で実行中の処理数
+	 * @see TaskQueueModel#getRunningSize()
+	 */
+	public int getRunningSize();
+	/**
+	 * 待機数を取得します。
+	 * 
+	 * @return 共有実行処理で待機中の処理数
+	 * @see TaskQueueModel#getQueueSize()
+	 */
+	public int getQueueSize();
+	/**
+	 * 累計一覧を取得します。
+	 * 
+	 * @return 累計一覧(接続引数毎)
+	 */
+	public List<CounterDataModel> getConnectList();
+}
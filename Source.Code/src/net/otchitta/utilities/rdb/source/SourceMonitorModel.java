@@ -0,0 +1,138 @@
+/**
+ * [Source.Code] SourceMonitorModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.lang.System.Logger.Level;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * 読込監視モデルクラスです。
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+public final class SourceMonitorModel implements SourceMonitorMXBean {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(SourceMonitorModel.class.getName());
+	/** 公開名称 */
+	public static final String OBJECT_NAME = "net.otchitta.utilities.rdb:type=Source";
+	/** 計測間隔(ナノ秒) */
+	private static final long SAMPLE_TIME = 1_000_000_000L;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 登録状態 */
+	private static boolean registFlag = false;
+	/** 計測時刻 */
+	private long sampleTime;
+	/** 計測件数 */
+	private long sampleSize;
+	/** 読込速度 */
+	private double fetchRate;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 読込監視モデルを生成します。
+	 */
+	private SourceMonitorModel() {
+		super();
+		this.sampleTime = System.nanoTime();
+		this.sampleSize = CounterDataModel.chooseFetch();
+		this.fetchRate = 0.0;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 読込監視を登録します。
+	 * <p>
+	 * 既に登録済の場合は何もしません。登録に失敗した場合は記録処理へ出力して継続します。
+	 * </p>
+	 */
+	public static synchronized void registData() {
+		if (registFlag) return;
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(new SourceMonitorModel(), new ObjectName(OBJECT_NAME));
+			registFlag = true;
+		} catch (JMException | RuntimeException errors) {
+			LOGGER.log(Level.WARNING, "failed to register monitor.(name=" + OBJECT_NAME + ")", errors);
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 読込件数を取得します。
+	 * 
+	 * @return 全接続で読込んだ行件数
+	 * @see SourceMonitorMXBean#getFetchCount()
+	 */
+	@Override
+	public long getFetchCount() {
+		return CounterDataModel.chooseFetch();
+	}
+	/**
+	 * 読込速度を取得します。
+	 * <p>
+	 * 前回の計測から計測間隔を経過している場合だけ再計測します。
+	 * </p>
+	 * 
+	 * @return 直近の計測間隔における毎秒の読込件数
+	 * @see SourceMonitorMXBean#getFetchRate()
+	 */
+	@Override
+	public synchronized double getFetchRate() {
+		var value1 = System.nanoTime();
+		var value2 = CounterDataModel.chooseFetch();
+		if (SAMPLE_TIME <= value1 - this.sampleTime) {
+			this.fetchRate = (value2 - this.sampleSize) * 1e9 / (value1 - this.sampleTime);
+			this.sampleTime = value1;
+			this.sampleSize = value2;
+		}
+		return this.fetchRate;
+	}
+	/**
+	 * 実行数を取得します。
+	 * 
+	 * @return 共有実行処理で実行中の処理数
+	 * @see SourceMonitorMXBean#getRunningSize()
+	 */
+	@Override
+	public int getRunningSize() {
+		return TaskQueueModel.getDefault().getRunningSize();
+	}
+	/**
+	 * 待機数を取得します。
+	 * 
+	 * @return 共有実行処理で待機中の処理数
+	 * @see SourceMonitorMXBean#getQueueSize()
+	 */
+	@Override
+	public int getQueueSize() {
+		return TaskQueueModel.getDefault().getQueueSize();
+	}
+	/**
+	 * 累計一覧を取得します。
+	 * 
+	 * @return 累計一覧(接続引数毎)
+	 * @see SourceMonitorMXBean#getConnectList()
+	 */
+	@Override
+	public List<CounterDataModel> getConnectList() {
+		return CounterDataModel.chooseList();
+	}
+}
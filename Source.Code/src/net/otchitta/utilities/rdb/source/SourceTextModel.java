@@ -0,0 +1,306 @@
+/**
+ * [Source.Code] SourceTextModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * 表示文字モデルクラスです。
+ * <p>
+ * 要素情報を一覧へ表示する文字列へ変換します。
+ * 表示文字の保持が有効な場合、読込処理は要素情報の生成時に表示文字も生成し、
+ * 描画処理は変換済の文字列を参照します。保持は既定で無効とし、画面の設定で有効にします。
+ * 整数と日時は文字配列へ直接書込み、書式処理の中間情報を生成しません。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see RecordDataModel#getText(int)
+ */
+public final class SourceTextModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 空値表示 */
+	public static final String NULL_TEXT = "NULL";
+	/** 日付書式 */
+	private static final DateTimeFormatter FORMAT1 = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	/** 時刻書式 */
+	private static final DateTimeFormatter FORMAT2 = DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSS");
+	/** 日時書式 */
+	private static final DateTimeFormatter FORMAT3 = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSS");
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 保持状態(既定は描画毎に変換) */
+	private static volatile boolean cacheFlag = false;
+	/** 地域情報 */
+	private static volatile LocaleData localeData = new LocaleData(Locale.getDefault(Locale.Category.FORMAT));
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 保持状態を判定します。
+	 * 
+	 * @return 表示文字を要素情報と共に保持する場合は{@code true}
+	 */
+	public static boolean isCacheFlag() {
+		return cacheFlag;
+	}
+	/**
+	 * 保持状態を設定します。
+	 * <p>
+	 * 無効にした場合、表示文字は描画毎に変換します。以降に読込む要素情報へ適用されます。
+	 * </p>
+	 * 
+	 * @param cacheFlag 表示文字を要素情報と共に保持する場合は{@code true}
+	 */
+	public static void setCacheFlag(boolean cacheFlag) {
+		SourceTextModel.cacheFlag = cacheFlag;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 表示文字モデルを生成します。
+	 */
+	private SourceTextModel() {
+		super();
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 地域情報を取得します。
+	 * 
+	 * @return 地域情報(既定地域の変更時は再生成)
+	 */
+	private static LocaleData chooseLocale() {
+		var choose = Locale.getDefault(Locale.Category.FORMAT);
+		var result = localeData;
+		if (result.locale != choose) {
+			result = new LocaleData(choose);
+			localeData = result;
+		}
+		return result;
+	}
+	/**
+	 * 数値文字を書込みます。
+	 * 
+	 * @param buffer 書込配列
+	 * @param offset 終了位置(この位置の直前まで書込)
+	 * @param values 数値情報(0以上)
+	 * @param length 書込桁数(不足桁は0埋め)
+	 */
+	private static void appendCode(char[] buffer, int offset, int values, int length) {
+		for (var index = offset - 1; offset - length <= index; index --) {
+			buffer[index] = (char)('0' + values % 10);
+			values /= 10;
+		}
+	}
+	/**
+	 * 日付文字を書込みます。
+	 * 
+	 * @param buffer 書込配列
+	 * @param offset 開始位置
+	 * @param values 日付情報
+	 * @return 終了位置
+	 */
+	private static int appendDate(char[] buffer, int offset, LocalDate values) {
+		appendCode(buffer, offset + 4, values.getYear(), 4);
+		buffer[offset + 4] = '-';
+		appendCode(buffer, offset + 7, values.getMonthValue(), 2);
+		buffer[offset + 7] = '-';
+		appendCode(buffer, offset + 10, values.getDayOfMonth(), 2);
+		return offset + 10;
+	}
+	/**
+	 * 時刻文字を書込みます。
+	 * 
+	 * @param buffer 書込配列
+	 * @param offset 開始位置
+	 * @param values 時刻情報
+	 * @return 終了位置
+	 */
+	private static int appendTime(char[] buffer, int offset, LocalTime values) {
+		appendCode(buffer, offset + 2, values.getHour(), 2);
+		buffer[offset + 2] = ':';
+		appendCode(buffer, offset + 5, values.getMinute(), 2);
+		buffer[offset + 5] = ':';
+		appendCode(buffer, offset + 8, values.getSecond(), 2);
+		buffer[offset + 8] = '.';
+		appendCode(buffer, offset + 16, values.getNano() / 100, 7);
+		return offset + 16;
+	}
+	/**
+	 * 表示文字へ変換します。
+	 * <p>
+	 * {@code String.format("%,d", values)}と同じ文字列を生成します。
+	 * 既定地域が桁区切を3桁以外とする場合や、数字に0から9以外を用いる場合は書式処理へ委譲します。
+	 * </p>
+	 * 
+	 * @param values 数値情報
+	 * @return 表示文字
+	 */
+	private static String formatCode(long values) {
+		var choose = chooseLocale();
+		if (!choose.simple) return String.format(choose.locale, "%,d", Long.valueOf(values));
+		var buffer = new char[26];
+		var offset = buffer.length;
+		var remain = values;
+		var digits = 0;
+		do {
+			if (digits == 3) {
+				buffer[-- offset] = choose.separator;
+				digits = 0;
+			}
+			buffer[-- offset] = (char)('0' + Math.abs(remain % 10));
+			remain /= 10;
+			digits ++;
+		} while (remain != 0);
+		if (values < 0) buffer[-- offset] = '-';
+		return new String(buffer, offset, buffer.length - offset);
+	}
+	/**
+	 * 表示文字へ変換します。
+	 * <p>
+	 * 年が1から9999の範囲外となる場合は書式処理へ委譲します。
+	 * </p>
+	 * 
+	 * @param values 日付情報
+	 * @return 表示文字
+	 */
+	private static String formatDate(LocalDate values) {
+		var choose = values.getYear();
+		if (choose < 1 || 9999 < choose) return FORMAT1.format(values);
+		var buffer = new char[10];
+		return new String(buffer, 0, appendDate(buffer, 0, values));
+	}
+	/**
+	 * 表示文字へ変換します。
+	 * 
+	 * @param values 時刻情報
+	 * @return 表示文字
+	 */
+	private static String formatTime(LocalTime values) {
+		var buffer = new char[16];
+		return new String(buffer, 0, appendTime(buffer, 0, values));
+	}
+	/**
+	 * 表示文字へ変換します。
+	 * <p>
+	 * 年が1から9999の範囲外となる場合は書式処理へ委譲します。
+	 * </p>
+	 * 
+	 * @param values 日時情報
+	 * @return 表示文字
+	 */
+	private static String formatDateTime(LocalDateTime values) {
+		var choose = values.getYear();
+		if (choose < 1 || 9999 < choose) return FORMAT3.format(values);
+		var buffer = new char[27];
+		var offset = appendDate(buffer, 0, values.toLocalDate());
+		buffer[offset ++] = ' ';
+		return new String(buffer, 0, appendTime(buffer, offset, values.toLocalTime()));
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 表示文字へ変換します。
+	 * 
+	 * @param values 要素情報
+	 * @return 表示文字
+	 */
+	public static String formatData(Object values) {
+		if (values == null) {
+			return NULL_TEXT;
+		} else if (values instanceof Integer) {
+			return formatCode(((Integer)values).intValue());
+		} else if (values instanceof Long) {
+			return formatCode(((Long)values).longValue());
+		} else if (values instanceof LocalDate) {
+			return formatDate((LocalDate)values);
+		} else if (values instanceof LocalTime) {
+			return formatTime((LocalTime)values);
+		} else if (values instanceof LocalDateTime) {
+			return formatDateTime((LocalDateTime)values);
+		} else {
+			return values.toString();
+		}
+	}
+	/**
+	 * 表示文字へ変換します。
+	 * <p>
+	 * 文字列の要素は変換せずにそのまま参照します。
+	 * </p>
+	 * 
+	 * @param values 要素配列
+	 * @return 表示配列
+	 */
+	public static String[] formatList(Object[] values) {
+		var result = new String[values.length];
+		for (var index = 0; index < values.length; index ++) {
+			var choose = values[index];
+			if (choose instanceof String) {
+				result[index] = (String)choose;
+			} else {
+				result[index] = formatData(choose);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 地域情報クラスです。
+	 * 
+	 * @since   1.0.0
+	 * @version 1.0.0
+	 * @author  o.chikami
+	 */
+	private static final class LocaleData {
+		// ===================================================================
+		// メンバー変数定義
+		// ===================================================================
+		/** 地域情報 */
+		final Locale locale;
+		/** 桁区切 */
+		final char separator;
+		/** 直接変換可否 */
+		final boolean simple;
+
+		// ===================================================================
+		// 生成メソッド定義
+		// ===================================================================
+		/**
+		 * 地域情報を生成します。
+		 * 
+		 * @param locale 地域情報
+		 */
+		LocaleData(Locale locale) {
+			super();
+			var choose = DecimalFormatSymbols.getInstance(locale);
+			var format = NumberFormat.getIntegerInstance(locale);
+			this.locale = locale;
+			this.separator = choose.getGroupingSeparator();
+			this.simple = choose.getZeroDigit() == '0'
+				&& format instanceof DecimalFormat
+				&& format.isGroupingUsed()
+				&& ((DecimalFormat)format).getGroupingSize() == 3;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/**
+ * [Source.Code] StatementCacheModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.lang.System.Logger.Level;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 準備構文保持モデルクラスです。
+ * <p>
+ * 物理接続毎に生成し、実行構文毎の準備構文を最近使用順に保持します。
+ * 上限個数を超えた場合は最も古い準備構文を閉じて破棄します。
+ * 物理接続は同時に一つの貸出先だけが使用するため排他制御は行いません。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ */
+final class StatementCacheModel implements AutoCloseable {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(StatementCacheModel.class.getName());
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 接続情報 */
+	private final Connection connection;
+	/** 保持一覧 */
+	private final LinkedHashMap<String, PreparedStatement> cacheList;
+	/** 上限個数 */
+	private int limitSize;
+	/** 再利用件数 */
+	private final LongAdder hitCount;
+	/** 新規準備件数 */
+	private final LongAdder missCount;
+	/** 破棄件数 */
+	private final LongAdder dropCount;
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 準備構文保持モデルを生成します。
+	 * 
+	 * @param connection 接続情報
+	 * @param limitSize 上限個数
+	 * @param hitCount 再利用件数
+	 * @param missCount 新規準備件数
+	 * @param dropCount 破棄件数
+	 */
+	StatementCacheModel(Connection connection, int limitSize, LongAdder hitCount, LongAdder missCount, LongAdder dropCount) {
+		super();
+		this.connection = connection;
+		this.cacheList = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+				if (size() <= StatementCacheModel.this.limitSize) return false;
+				closeData(eldest.getValue());
+				return true;
+			}
+		};
+		this.limitSize = limitSize;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.dropCount = dropCount;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 準備構文を閉じます。
+	 * 
+	 * @param statement 準備構文
+	 */
+	private void closeData(PreparedStatement statement) {
+		this.dropCount.increment();
+		try {
+			statement.close();
+		} catch (SQLException errors) {
+			LOGGER.log(Level.DEBUG, "close statement failed.", errors);
+		}
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 準備構文を取得します。
+	 * <p>
+	 * 保持済の準備構文が閉じられている場合は新たに準備します。
+	 * </p>
+	 * 
+	 * @param invokeText 実行構文
+	 * @param limitSize 上限個数
+	 * @return 準備構文
+	 * @throws SQLException 準備処理に失敗した場合
+	 */
+	PreparedStatement chooseData(String invokeText, int limitSize) throws SQLException {
+		this.limitSize = limitSize;
+		var result = this.cacheList.get(invokeText);
+		if (result != null && !result.isClosed()) {
+			this.hitCount.increment();
+			return result;
+		} else {
+			this.missCount.increment();
+			result = this.connection.prepareStatement(invokeText);
+			this.cacheList.put(invokeText, result);
+			return result;
+		}
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 保持している準備構文を全て閉じます。
+	 * 
+	 * @see AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		for (var choose : this.cacheList.values()) {
+			closeData(choose);
+		}
+		this.cacheList.clear();
+	}
+}
@@ -0,0 +1,216 @@
+/**
+ * [Source.Code] TaskLaneModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * 処理経路モデルクラスです。
+ * <p>
+ * 画面等の利用者毎に生成し、投入した処理を経路の同時実行数の範囲で実行します。
+ * 同じ優先度の処理は投入順に実行します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see TaskQueueModel#createLane(String, int)
+ */
+public final class TaskLaneModel implements Executor {
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 管理情報 */
+	private final TaskQueueModel owner;
+	/** 経路名称 */
+	private final String laneName;
+	/** 待機一覧(優先度毎) */
+	private final ArrayDeque<Runnable>[] queueList;
+	/** 同時実行数 */
+	private int limitSize;
+	/** 実行個数 */
+	private int runningSize;
+	/** 待機個数 */
+	private int queueSize;
+	/** 登録状態 */
+	private boolean listed;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 経路名称を取得します。
+	 * 
+	 * @return 経路名称
+	 */
+	public String getLaneName() {
+		return this.laneName;
+	}
+	/**
+	 * 同時実行数を取得します。
+	 * 
+	 * @return 同時実行数
+	 */
+	public int getLimitSize() {
+		synchronized (this.owner) {
+			return this.limitSize;
+		}
+	}
+	/**
+	 * 同時実行数を設定します。
+	 * 
+	 * @param limitSize 同時実行数
+	 */
+	public void setLimitSize(int limitSize) {
+		if (limitSize <= 0) throw new IllegalArgumentException("limitSize must be positive.");
+		synchronized (this.owner) {
+			this.limitSize = limitSize;
+			this.owner.invokeData();
+		}
+	}
+	/**
+	 * 実行個数を取得します。
+	 * 
+	 * @return 実行個数
+	 */
+	public int getRunningSize() {
+		synchronized (this.owner) {
+			return this.runningSize;
+		}
+	}
+	/**
+	 * 待機個数を取得します。
+	 * 
+	 * @return 待機個数
+	 */
+	public int getQueueSize() {
+		synchronized (this.owner) {
+			return this.queueSize;
+		}
+	}
+	/**
+	 * 登録状態を判定します。
+	 * 
+	 * @return 管理情報の待機経路に登録済である場合は{@code true}
+	 */
+	boolean isListed() {
+		return this.listed;
+	}
+	/**
+	 * 登録状態を設定します。
+	 * 
+	 * @param listed 登録状態
+	 */
+	void setListed(boolean listed) {
+		this.listed = listed;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 処理経路モデルを生成します。
+	 * 
+	 * @param owner 管理情報
+	 * @param laneName 経路名称
+	 * @param limitSize 同時実行数
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	TaskLaneModel(TaskQueueModel owner, String laneName, int limitSize) {
+		super();
+		if (limitSize <= 0) throw new IllegalArgumentException("limitSize must be positive.");
+		this.owner = owner;
+		this.laneName = laneName;
+		this.queueList = new ArrayDeque[TaskQueueModel.LEVEL_SIZE];
+		this.limitSize = limitSize;
+		this.runningSize = 0;
+		this.queueSize = 0;
+		this.listed = false;
+		for (var index = 0; index < this.queueList.length; index ++) {
+			this.queueList[index] = new ArrayDeque<>();
+		}
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 処理情報を登録します。
+	 * 
+	 * @param priority 優先度
+	 * @param runner 処理情報
+	 */
+	void registData(int priority, Runnable runner) {
+		this.queueList[priority].addLast(runner);
+		this.queueSize ++;
+	}
+	/**
+	 * 処理情報を取出します。
+	 * 
+	 * @param priority 優先度
+	 * @return 処理情報(同時実行数に達している場合や該当処理がない場合は{@code null})
+	 */
+	Runnable pollData(int priority) {
+		if (this.limitSize <= this.runningSize) return null;
+		var result = this.queueList[priority].pollFirst();
+		if (result != null) {
+			this.queueSize --;
+			this.runningSize ++;
+		}
+		return result;
+	}
+	/**
+	 * 処理終了を記録します。
+	 */
+	void finishData() {
+		this.runningSize --;
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 処理情報を実行します。
+	 * 
+	 * @param priority 優先度({@link TaskQueueModel#INTERACTIVE}等)
+	 * @param runner 処理情報
+	 */
+	public void execute(int priority, Runnable runner) {
+		if (priority < 0 || TaskQueueModel.LEVEL_SIZE <= priority) throw new IllegalArgumentException("priority is out of range.");
+		if (runner == null) throw new IllegalArgumentException("runner must be non null.");
+		this.owner.registData(this, priority, runner);
+	}
+
+	// ===================================================================
+	// 実装メソッド定義
+	// ===================================================================
+	/**
+	 * 処理情報を対話処理の優先度で実行します。
+	 * 
+	 * @param runner 処理情報
+	 * @see Executor#execute(Runnable)
+	 */
+	@Override
+	public void execute(Runnable runner) {
+		execute(TaskQueueModel.INTERACTIVE, runner);
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		synchronized (this.owner) {
+			return String.format("TaskLaneModel[name=%s, limit=%d, running=%d, queue=%d]",
+				this.laneName, Integer.valueOf(this.limitSize), Integer.valueOf(this.runningSize), Integer.valueOf(this.queueSize));
+		}
+	}
+}
@@ -0,0 +1,353 @@
+/**
+ * [Source.Code] TaskQueueModel.java
+ */
+package net.otchitta.utilities.rdb.source;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 実行管理モデルクラスです。
+ * <p>
+ * 処理経路({@link TaskLaneModel})毎に投入された処理を全体の同時実行数の範囲で実行します。
+ * 処理経路毎に同時実行数を制限し、優先度の高い処理から処理経路間で順番に実行します。
+ * 仮想スレッドが利用可能な環境(Java 21以降)では処理毎に仮想スレッドで実行し、
+ * 利用できない環境では同時実行数を上限とするデーモンスレッドを再利用して実行します。
+ * </p>
+ * 
+ * @since   1.0.0
+ * @version 1.0.0
+ * @author  o.chikami
+ * @see TaskLaneModel
+ */
+public final class TaskQueueModel {
+	// ===================================================================
+	// メンバー定数定義
+	// ===================================================================
+	/** 優先度：対話処理 */
+	public static final int INTERACTIVE = 0;
+	/** 優先度：出力処理 */
+	public static final int EXPORT = 1;
+	/** 優先度個数 */
+	static final int LEVEL_SIZE = 2;
+	/** 記録処理 */
+	private static final System.Logger LOGGER = System.getLogger(TaskQueueModel.class.getName());
+	/** 同時実行数(仮想スレッド) */
+	private static final int VIRTUAL_SIZE = 1024;
+	/** 同時実行数(デーモンスレッド) */
+	private static final int DAEMON_SIZE = 64;
+	/** 待機時間(再利用スレッドの終了までの秒数) */
+	private static final long KEEP_TIME = 60L;
+
+	// ===================================================================
+	// メンバー変数定義
+	// ===================================================================
+	/** 既定情報 */
+	private static TaskQueueModel defaultData = null;
+	/** 実行処理 */
+	private final Executor executor;
+	/** 同時実行数 */
+	private final int parallel;
+	/** 待機経路 */
+	private final ArrayDeque<TaskLaneModel> laneList;
+	/** 実行個数 */
+	private int runningSize;
+	/** 待機個数 */
+	private int queueSize;
+	/** 完了件数 */
+	private long finishCount;
+	/** 待機時間(ナノ秒) */
+	private long waitTime;
+	/** 最大待機時間(ナノ秒) */
+	private long waitMax;
+
+	// ===================================================================
+	// プロパティー定義
+	// ===================================================================
+	/**
+	 * 既定情報を取得します。
+	 * <p>
+	 * 未設定の場合は{@link #createData()}で生成します。
+	 * </p>
+	 * 
+	 * @return 既定情報
+	 */
+	public static synchronized TaskQueueModel getDefault() {
+		if (defaultData == null) defaultData = createData();
+		return defaultData;
+	}
+	/**
+	 * 既定情報を設定します。
+	 * <p>
+	 * 設定前に生成した処理経路は設定前の実行管理モデルで実行します。
+	 * </p>
+	 * 
+	 * @param defaultData 既定情報
+	 */
+	public static synchronized void setDefault(TaskQueueModel defaultData) {
+		if (defaultData == null) throw new IllegalArgumentException("defaultData must be non null.");
+		TaskQueueModel.defaultData = defaultData;
+	}
+	/**
+	 * 同時実行数を取得します。
+	 * 
+	 * @return 同時実行数
+	 */
+	public int getParallelSize() {
+		return this.parallel;
+	}
+	/**
+	 * 実行個数を取得します。
+	 * 
+	 * @return 実行個数
+	 */
+	public synchronized int getRunningSize() {
+		return this.runningSize;
+	}
+	/**
+	 * 待機個数を取得します。
+	 * 
+	 * @return 待機個数
+	 */
+	public synchronized int getQueueSize() {
+		return this.queueSize;
+	}
+	/**
+	 * 完了件数を取得します。
+	 * 
+	 * @return 完了件数
+	 */
+	public synchronized long getFinishCount() {
+		return this.finishCount;
+	}
+	/**
+	 * 待機時間を取得します。
+	 * 
+	 * @return 開始済処理の待機時間合計(ナノ秒)
+	 */
+	public synchronized long getWaitTime() {
+		return this.waitTime;
+	}
+	/**
+	 * 最大待機時間を取得します。
+	 * 
+	 * @return 開始済処理の最大待機時間(ナノ秒)
+	 */
+	public synchronized long getWaitMax() {
+		return this.waitMax;
+	}
+
+	// ===================================================================
+	// 生成メソッド定義
+	// ===================================================================
+	/**
+	 * 実行管理モデルを生成します。
+	 * 
+	 * @param parallel 同時実行数
+	 * @param executor 実行処理
+	 */
+	private TaskQueueModel(int parallel, Executor executor) {
+		super();
+		this.executor = executor;
+		this.parallel = parallel;
+		this.laneList = new ArrayDeque<>();
+		this.runningSize = 0;
+		this.queueSize = 0;
+		this.finishCount = 0L;
+		this.waitTime = 0L;
+		this.waitMax = 0L;
+	}
+	/**
+	 * 実行管理モデルを生成します。
+	 * <p>
+	 * 生成処理のスレッドは同時実行数を上限として再利用し、一定時間待機したスレッドは終了します。
+	 * </p>
+	 * 
+	 * @param parallel 同時実行数
+	 * @param factory 生成処理
+	 */
+	public TaskQueueModel(int parallel, ThreadFactory factory) {
+		this(parallel, createPool(parallel, factory));
+	}
+	/**
+	 * 実行管理モデルを生成します。
+	 * <p>
+	 * 仮想スレッドが利用可能な場合は処理毎に仮想スレッドで実行し、
+	 * 利用できない場合はデーモンスレッドを再利用して実行します。
+	 * </p>
+	 * 
+	 * @return 生成情報
+	 */
+	public static TaskQueueModel createData() {
+		var choose = createVirtual();
+		if (choose != null) {
+			return new TaskQueueModel(VIRTUAL_SIZE, (Executor)runner -> choose.newThread(runner).start());
+		} else {
+			return new TaskQueueModel(DAEMON_SIZE, createDaemon());
+		}
+	}
+	/**
+	 * 仮想スレッドの生成処理を生成します。
+	 * 
+	 * @return 生成処理(利用できない場合は{@code null})
+	 */
+	private static ThreadFactory createVirtual() {
+		try {
+			var cache1 = Thread.class.getMethod("ofVirtual").invoke(null);
+			var cache2 = Class.forName("java.lang.Thread$Builder");
+			var cache3 = cache2.getMethod("name", String.class, long.class).invoke(cache1, "TaskQueueModel-virtual-", Long.valueOf(1L));
+			return (ThreadFactory)cache2.getMethod("factory").invoke(cache3);
+		} catch (ReflectiveOperationException | RuntimeException errors) {
+			return null;
+		}
+	}
+	/**
+	 * デーモンスレッドの生成処理を生成します。
+	 * 
+	 * @return 生成処理
+	 */
+	private static ThreadFactory createDaemon() {
+		var counter = new AtomicInteger();
+		return runner -> {
+			var result = new Thread(runner, "TaskQueueModel-worker-" + counter.incrementAndGet());
+			result.setDaemon(true);
+			return result;
+		};
+	}
+	/**
+	 * 再利用スレッドの実行処理を生成します。
+	 * <p>
+	 * 処理の開始は同時実行数の範囲に限るため、待機列に処理が滞留することはありません。
+	 * </p>
+	 * 
+	 * @param parallel 同時実行数
+	 * @param factory 生成処理
+	 * @return 実行処理
+	 */
+	private static Executor createPool(int parallel, ThreadFactory factory) {
+		if (parallel <= 0) throw new IllegalArgumentException("parallel must be positive.");
+		if (factory == null) throw new IllegalArgumentException("factory must be non null.");
+		var result = new ThreadPoolExecutor(parallel, parallel, KEEP_TIME, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+		result.allowCoreThreadTimeOut(true);
+		return result;
+	}
+
+	// ===================================================================
+	// 内部メソッド定義
+	// ===================================================================
+	/**
+	 * 次の処理を選択します。
+	 * 
+	 * @return 処理情報(実行可能な処理がない場合は{@code null})
+	 */
+	private Runnable chooseData() {
+		for (var level = 0; level < LEVEL_SIZE; level ++) {
+			for (var count = this.laneList.size(); 0 < count; count --) {
+				var choose = this.laneList.pollFirst();
+				var result = choose.pollData(level);
+				if (choose.getQueueSize() <= 0) {
+					choose.setListed(false);
+				} else {
+					this.laneList.addLast(choose);
+				}
+				if (result != null) return result;
+			}
+		}
+		return null;
+	}
+	/**
+	 * 実行可能な処理を開始します。
+	 */
+	synchronized void invokeData() {
+		while (this.runningSize < this.parallel) {
+			var choose = chooseData();
+			if (choose == null) break;
+			this.queueSize --;
+			this.runningSize ++;
+			this.executor.execute(choose);
+		}
+	}
+	/**
+	 * 処理情報を登録します。
+	 * 
+	 * @param laneData 処理経路
+	 * @param priority 優先度
+	 * @param runner 処理情報
+	 */
+	synchronized void registData(TaskLaneModel laneData, int priority, Runnable runner) {
+		var registTime = System.nanoTime();
+		laneData.registData(priority, () -> {
+			startData(registTime);
+			try {
+				runner.run();
+			} catch (RuntimeException | Error errors) {
+				LOGGER.log(Level.WARNING, "task is failed.", errors);
+			} finally {
+				finishData(laneData);
+			}
+		});
+		this.queueSize ++;
+		if (!laneData.isListed()) {
+			laneData.setListed(true);
+			this.laneList.addLast(laneData);
+		}
+		invokeData();
+	}
+	/**
+	 * 処理開始を記録します。
+	 * 
+	 * @param registTime 登録時刻(System#nanoTime)
+	 */
+	private synchronized void startData(long registTime) {
+		var choose = System.nanoTime() - registTime;
+		this.waitTime += choose;
+		this.waitMax = Math.max(this.waitMax, choose);
+	}
+	/**
+	 * 処理終了を記録します。
+	 * 
+	 * @param laneData 処理経路
+	 */
+	private synchronized void finishData(TaskLaneModel laneData) {
+		laneData.finishData();
+		this.runningSize --;
+		this.finishCount ++;
+		invokeData();
+	}
+
+	// ===================================================================
+	// 公開メソッド定義
+	// ===================================================================
+	/**
+	 * 処理経路を生成します。
+	 * 
+	 * @param laneName 経路名称
+	 * @param limitSize 同時実行数
+	 * @return 処理経路
+	 */
+	public TaskLaneModel createLane(String laneName, int limitSize) {
+		return new TaskLaneModel(this, laneName, limitSize);
+	}
+
+	// ===================================================================
+	// 継承メソッド定義
+	// ===================================================================
+	/**
+	 * 当該情報を表現文字列へ変換します。
+	 * 
+	 * @return 表現文字列
+	 * @see Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return String.format("TaskQueueModel[parallel=%d, running=%d, queue=%d, finish=%d, waitMax=%dms]",
+			Integer.valueOf(this.parallel), Integer.valueOf(this.runningSize), Integer.valueOf(this.queueSize),
+			Long.valueOf(this.finishCount), Long.valueOf(this.waitMax / 1_000_000L));
+	}
+}